@@ -0,0 +1,57 @@
+package com.fullcycle.catalogo.application.bulk;
+
+import com.fullcycle.catalogo.domain.bulk.BulkResult;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The items of a batch, some turned down before the bulk request and the rest
+ * sent with it, put back together in the order they came in.
+ */
+public final class BulkBatch<T> {
+
+    private final BulkItemOutput[] outputs;
+    private final List<Integer> positions;
+    private final List<T> accepted;
+
+    private BulkBatch(final int aSize) {
+        this.outputs = new BulkItemOutput[aSize];
+        this.positions = new ArrayList<>(aSize);
+        this.accepted = new ArrayList<>(aSize);
+    }
+
+    public static <T> BulkBatch<T> of(final int aSize) {
+        return new BulkBatch<>(aSize);
+    }
+
+    public void accept(final int aPosition, final T anItem) {
+        this.positions.add(aPosition);
+        this.accepted.add(anItem);
+    }
+
+    public void reject(final int aPosition, final BulkItemOutput anOutput) {
+        this.outputs[aPosition] = anOutput;
+    }
+
+    public boolean hasAccepted() {
+        return !this.accepted.isEmpty();
+    }
+
+    public List<T> accepted() {
+        return this.accepted;
+    }
+
+    /**
+     * One output per item, {@code aResult} holding those of the accepted items in
+     * the order they were sent.
+     */
+    public List<BulkItemOutput> complete(final BulkResult aResult) {
+        final var items = aResult.items();
+        for (int i = 0; i < this.positions.size(); i++) {
+            this.outputs[this.positions.get(i)] = BulkItemOutput.from(items.get(i));
+        }
+        return Arrays.asList(this.outputs);
+    }
+}
@@ -0,0 +1,30 @@
+package com.fullcycle.catalogo.application.bulk;
+
+import com.fullcycle.catalogo.domain.bulk.BulkItem;
+import com.fullcycle.catalogo.domain.bulk.BulkStatus;
+import com.fullcycle.catalogo.domain.validation.Error;
+import com.fullcycle.catalogo.domain.validation.ValidationHandler;
+
+import java.util.List;
+
+public record BulkItemOutput(
+        String id,
+        BulkStatus status,
+        List<String> errors
+) {
+
+    public static BulkItemOutput from(final BulkItem anItem) {
+        final var errors = anItem.error() == null ? List.<String>of() : List.of(anItem.error().message());
+        return new BulkItemOutput(anItem.id(), anItem.status(), errors);
+    }
+
+    /**
+     * An item turned down before the bulk request, it never reached the index.
+     */
+    public static BulkItemOutput invalid(final String anId, final ValidationHandler aHandler) {
+        final var errors = aHandler.getErrors().stream()
+                .map(Error::message)
+                .toList();
+        return new BulkItemOutput(anId, BulkStatus.FAILED, errors);
+    }
+}
@@ -0,0 +1,43 @@
+package com.fullcycle.catalogo.application.category;
+
+import com.fullcycle.catalogo.domain.bulk.BulkResult;
+import com.fullcycle.catalogo.domain.category.Category;
+import com.fullcycle.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.catalogo.domain.category.CategoryView;
+import com.fullcycle.catalogo.domain.consistency.WriteConsistency;
+import com.fullcycle.catalogo.domain.pagination.Pagination;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * {@link CategoryGateway} for callers that must not block while the store
+ * answers. Nothing happens until the returned publisher is subscribed to.
+ * <p>
+ * Lives next to the reactive use cases rather than in the domain, which stays
+ * free of Reactor.
+ */
+public interface ReactiveCategoryGateway {
+
+    Mono<Category> save(Category aCategory, WriteConsistency aConsistency);
+
+    Mono<BulkResult> saveAll(List<Category> aCategories);
+
+    Mono<BulkResult> deleteAllById(List<String> anIds);
+
+    /**
+     * Completes empty when there is no category with {@code anId}.
+     */
+    Mono<Category> findById(String anId);
+
+    /**
+     * Looks every id up in a single round trip. Ids without a category are left
+     * out, the order of the rest is not guaranteed.
+     */
+    Flux<Category> findAllByIds(Collection<String> anIds);
+
+    Mono<Pagination<CategoryView>> findAll(CategorySearchQuery aQuery);
+}
@@ -0,0 +1,49 @@
+package com.fullcycle.catalogo.application.category.delete;
+
+import com.fullcycle.catalogo.application.UseCase;
+import com.fullcycle.catalogo.application.bulk.BulkBatch;
+import com.fullcycle.catalogo.application.bulk.BulkItemOutput;
+import com.fullcycle.catalogo.domain.bulk.BulkResult;
+import com.fullcycle.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.catalogo.domain.validation.Error;
+import com.fullcycle.catalogo.domain.validation.handler.Notification;
+
+import java.util.List;
+import java.util.Objects;
+
+public class DeleteCategoriesUseCase extends UseCase<List<String>, List<BulkItemOutput>> {
+
+    private final CategoryGateway categoryGateway;
+
+    public DeleteCategoriesUseCase(final CategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    /**
+     * Blank ids are turned down, the others are deleted with a single bulk
+     * request. There is one output per id, in the same order; deleting a missing
+     * category succeeds.
+     */
+    @Override
+    public List<BulkItemOutput> execute(final List<String> anIds) {
+        if (anIds == null || anIds.isEmpty()) {
+            return List.of();
+        }
+        final var aBatch = validate(anIds);
+        return aBatch.complete(aBatch.hasAccepted() ? this.categoryGateway.deleteAllById(aBatch.accepted()) : BulkResult.empty());
+    }
+
+    static BulkBatch<String> validate(final List<String> anIds) {
+        final var aBatch = BulkBatch.<String>of(anIds.size());
+        for (int i = 0; i < anIds.size(); i++) {
+            final var anId = anIds.get(i);
+            if (anId == null || anId.isBlank()) {
+                final var anError = new Error(anId == null ? "'id' should not be null" : "'id' should not be empty");
+                aBatch.reject(i, BulkItemOutput.invalid(anId, Notification.create(anError)));
+                continue;
+            }
+            aBatch.accept(i, anId);
+        }
+        return aBatch;
+    }
+}
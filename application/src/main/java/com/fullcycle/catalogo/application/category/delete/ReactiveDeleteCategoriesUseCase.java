@@ -0,0 +1,35 @@
+package com.fullcycle.catalogo.application.category.delete;
+
+import com.fullcycle.catalogo.application.UseCase;
+import com.fullcycle.catalogo.application.bulk.BulkItemOutput;
+import com.fullcycle.catalogo.application.category.ReactiveCategoryGateway;
+import com.fullcycle.catalogo.domain.bulk.BulkResult;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Objects;
+
+public class ReactiveDeleteCategoriesUseCase extends UseCase<List<String>, Mono<List<BulkItemOutput>>> {
+
+    private final ReactiveCategoryGateway categoryGateway;
+
+    public ReactiveDeleteCategoriesUseCase(final ReactiveCategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    /**
+     * Validates like {@link DeleteCategoriesUseCase}, one output per id in the
+     * same order.
+     */
+    @Override
+    public Mono<List<BulkItemOutput>> execute(final List<String> anIds) {
+        if (anIds == null || anIds.isEmpty()) {
+            return Mono.just(List.of());
+        }
+        final var aBatch = DeleteCategoriesUseCase.validate(anIds);
+        final var aResult = aBatch.hasAccepted()
+                ? this.categoryGateway.deleteAllById(aBatch.accepted())
+                : Mono.just(BulkResult.empty());
+        return aResult.map(aBatch::complete);
+    }
+}
@@ -0,0 +1,39 @@
+package com.fullcycle.catalogo.application.category.get;
+
+import com.fullcycle.catalogo.application.UseCase;
+import com.fullcycle.catalogo.domain.category.CategoryGateway;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+public class GetCategoriesByIdUseCase extends UseCase<Collection<String>, List<GetCategoryOutput>> {
+
+    private final CategoryGateway categoryGateway;
+
+    public GetCategoriesByIdUseCase(final CategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    /**
+     * Blank and repeated ids are dropped before the lookup, ids without a
+     * category are left out of the output.
+     */
+    @Override
+    public List<GetCategoryOutput> execute(final Collection<String> anIds) {
+        if (anIds == null || anIds.isEmpty()) {
+            return List.of();
+        }
+        final Set<String> ids = anIds.stream()
+                .filter(anId -> anId != null && !anId.isBlank())
+                .collect(Collectors.toSet());
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return this.categoryGateway.findAllByIds(ids).stream()
+                .map(GetCategoryOutput::from)
+                .toList();
+    }
+}
@@ -0,0 +1,14 @@
+package com.fullcycle.catalogo.application.category.get;
+
+import com.fullcycle.catalogo.domain.category.Category;
+
+public record GetCategoryOutput(
+        String id,
+        String name,
+        String description
+) {
+
+    public static GetCategoryOutput from(final Category aCategory) {
+        return new GetCategoryOutput(aCategory.id(), aCategory.name(), aCategory.description());
+    }
+}
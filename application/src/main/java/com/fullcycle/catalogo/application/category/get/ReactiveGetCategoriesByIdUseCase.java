@@ -0,0 +1,38 @@
+package com.fullcycle.catalogo.application.category.get;
+
+import com.fullcycle.catalogo.application.UseCase;
+import com.fullcycle.catalogo.application.category.ReactiveCategoryGateway;
+import reactor.core.publisher.Flux;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+public class ReactiveGetCategoriesByIdUseCase extends UseCase<Collection<String>, Flux<GetCategoryOutput>> {
+
+    private final ReactiveCategoryGateway categoryGateway;
+
+    public ReactiveGetCategoriesByIdUseCase(final ReactiveCategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    /**
+     * Blank and repeated ids are dropped before the lookup, ids without a
+     * category are left out of the output.
+     */
+    @Override
+    public Flux<GetCategoryOutput> execute(final Collection<String> anIds) {
+        if (anIds == null || anIds.isEmpty()) {
+            return Flux.empty();
+        }
+        final Set<String> ids = anIds.stream()
+                .filter(anId -> anId != null && !anId.isBlank())
+                .collect(Collectors.toSet());
+        if (ids.isEmpty()) {
+            return Flux.empty();
+        }
+        return this.categoryGateway.findAllByIds(ids)
+                .map(GetCategoryOutput::from);
+    }
+}
@@ -1,13 +1,27 @@
 package com.fullcycle.catalogo.application.category.list;
 
 import com.fullcycle.catalogo.domain.category.Category;
+import com.fullcycle.catalogo.domain.category.CategoryField;
+import com.fullcycle.catalogo.domain.category.CategoryView;
+
+import java.util.Set;
 
 public record ListCategoryOutput(
         String id,
-        String name
+        String name,
+        String description
 ) {
 
+    /**
+     * What a listing reads of every category, and nothing more.
+     */
+    public static final Set<CategoryField> FIELDS = Set.of(CategoryField.ID, CategoryField.NAME, CategoryField.DESCRIPTION);
+
     public static ListCategoryOutput from(final Category aCategory) {
-        return new ListCategoryOutput(aCategory.id(), aCategory.name());
+        return new ListCategoryOutput(aCategory.id(), aCategory.name(), aCategory.description());
+    }
+
+    public static ListCategoryOutput from(final CategoryView aCategory) {
+        return new ListCategoryOutput(aCategory.id(), aCategory.name(), aCategory.description());
     }
 }
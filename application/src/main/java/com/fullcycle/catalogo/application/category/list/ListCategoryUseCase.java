@@ -17,7 +17,8 @@ public class ListCategoryUseCase extends UseCase<CategorySearchQuery, Pagination
 
     @Override
     public Pagination<ListCategoryOutput> execute(final CategorySearchQuery aQuery) {
-        return this.categoryGateway.findAll(aQuery)
+        final var aProjectedQuery = aQuery.isProjected() ? aQuery : aQuery.withFields(ListCategoryOutput.FIELDS);
+        return this.categoryGateway.findAll(aProjectedQuery)
                 .map(ListCategoryOutput::from);
     }
 }
@@ -0,0 +1,25 @@
+package com.fullcycle.catalogo.application.category.list;
+
+import com.fullcycle.catalogo.application.UseCase;
+import com.fullcycle.catalogo.application.category.ReactiveCategoryGateway;
+import com.fullcycle.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.catalogo.domain.pagination.Pagination;
+import reactor.core.publisher.Mono;
+
+import java.util.Objects;
+
+public class ReactiveListCategoryUseCase extends UseCase<CategorySearchQuery, Mono<Pagination<ListCategoryOutput>>> {
+
+    private final ReactiveCategoryGateway categoryGateway;
+
+    public ReactiveListCategoryUseCase(final ReactiveCategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public Mono<Pagination<ListCategoryOutput>> execute(final CategorySearchQuery aQuery) {
+        final var aProjectedQuery = aQuery.isProjected() ? aQuery : aQuery.withFields(ListCategoryOutput.FIELDS);
+        return this.categoryGateway.findAll(aProjectedQuery)
+                .map(aPage -> aPage.map(ListCategoryOutput::from));
+    }
+}
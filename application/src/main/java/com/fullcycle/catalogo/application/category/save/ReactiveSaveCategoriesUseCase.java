@@ -0,0 +1,35 @@
+package com.fullcycle.catalogo.application.category.save;
+
+import com.fullcycle.catalogo.application.UseCase;
+import com.fullcycle.catalogo.application.bulk.BulkItemOutput;
+import com.fullcycle.catalogo.application.category.ReactiveCategoryGateway;
+import com.fullcycle.catalogo.domain.bulk.BulkResult;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Objects;
+
+public class ReactiveSaveCategoriesUseCase extends UseCase<List<SaveCategoryCommand>, Mono<List<BulkItemOutput>>> {
+
+    private final ReactiveCategoryGateway categoryGateway;
+
+    public ReactiveSaveCategoriesUseCase(final ReactiveCategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    /**
+     * Validates like {@link SaveCategoriesUseCase}, one output per command in the
+     * same order.
+     */
+    @Override
+    public Mono<List<BulkItemOutput>> execute(final List<SaveCategoryCommand> aCommands) {
+        if (aCommands == null || aCommands.isEmpty()) {
+            return Mono.just(List.of());
+        }
+        final var aBatch = SaveCategoriesUseCase.validate(aCommands);
+        final var aResult = aBatch.hasAccepted()
+                ? this.categoryGateway.saveAll(aBatch.accepted())
+                : Mono.just(BulkResult.empty());
+        return aResult.map(aBatch::complete);
+    }
+}
@@ -0,0 +1,42 @@
+package com.fullcycle.catalogo.application.category.save;
+
+import com.fullcycle.catalogo.application.UseCase;
+import com.fullcycle.catalogo.application.category.ReactiveCategoryGateway;
+import com.fullcycle.catalogo.domain.category.Category;
+import com.fullcycle.catalogo.domain.consistency.WriteConsistency;
+import com.fullcycle.catalogo.domain.exceptions.NotificationException;
+import com.fullcycle.catalogo.domain.validation.Error;
+import com.fullcycle.catalogo.domain.validation.handler.Notification;
+import reactor.core.publisher.Mono;
+
+import java.util.Objects;
+
+public class ReactiveSaveCategoryUseCase extends UseCase<Category, Mono<Category>> {
+
+    private final ReactiveCategoryGateway categoryGateway;
+
+    public ReactiveSaveCategoryUseCase(final ReactiveCategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public Mono<Category> execute(final Category aCategory) {
+        return execute(aCategory, WriteConsistency.SYNC);
+    }
+
+    /**
+     * An invalid category fails the returned {@link Mono} with a
+     * {@link NotificationException}, nothing is saved.
+     */
+    public Mono<Category> execute(final Category aCategory, final WriteConsistency aConsistency) {
+        if (aCategory == null) {
+            return Mono.error(NotificationException.with(new Error("'aCategory' should not be null")));
+        }
+        final var aNotification = Notification.create();
+        aCategory.validate(aNotification);
+        if (aNotification.hasErrors()) {
+            return Mono.error(NotificationException.with("Invalid category", aNotification));
+        }
+        return this.categoryGateway.save(aCategory, aConsistency == null ? WriteConsistency.SYNC : aConsistency);
+    }
+}
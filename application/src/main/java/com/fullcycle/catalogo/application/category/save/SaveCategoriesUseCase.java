@@ -0,0 +1,55 @@
+package com.fullcycle.catalogo.application.category.save;
+
+import com.fullcycle.catalogo.application.UseCase;
+import com.fullcycle.catalogo.application.bulk.BulkBatch;
+import com.fullcycle.catalogo.application.bulk.BulkItemOutput;
+import com.fullcycle.catalogo.domain.bulk.BulkResult;
+import com.fullcycle.catalogo.domain.category.Category;
+import com.fullcycle.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.catalogo.domain.validation.Error;
+import com.fullcycle.catalogo.domain.validation.handler.Notification;
+
+import java.util.List;
+import java.util.Objects;
+
+public class SaveCategoriesUseCase extends UseCase<List<SaveCategoryCommand>, List<BulkItemOutput>> {
+
+    private final CategoryGateway categoryGateway;
+
+    public SaveCategoriesUseCase(final CategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    /**
+     * Every command is validated on its own, the valid ones are saved with a
+     * single bulk request. There is one output per command, in the same order,
+     * so an invalid or failed item does not fail the others.
+     */
+    @Override
+    public List<BulkItemOutput> execute(final List<SaveCategoryCommand> aCommands) {
+        if (aCommands == null || aCommands.isEmpty()) {
+            return List.of();
+        }
+        final var aBatch = validate(aCommands);
+        return aBatch.complete(aBatch.hasAccepted() ? this.categoryGateway.saveAll(aBatch.accepted()) : BulkResult.empty());
+    }
+
+    static BulkBatch<Category> validate(final List<SaveCategoryCommand> aCommands) {
+        final var aBatch = BulkBatch.<Category>of(aCommands.size());
+        for (int i = 0; i < aCommands.size(); i++) {
+            final var aCommand = aCommands.get(i);
+            if (aCommand == null) {
+                aBatch.reject(i, BulkItemOutput.invalid(null, Notification.create(new Error("'aCategory' should not be null"))));
+                continue;
+            }
+            final var aNotification = Notification.create();
+            final var aCategory = aNotification.validate(aCommand::toCategory);
+            if (aNotification.hasErrors()) {
+                aBatch.reject(i, BulkItemOutput.invalid(aCommand.id(), aNotification));
+                continue;
+            }
+            aBatch.accept(i, aCategory);
+        }
+        return aBatch;
+    }
+}
@@ -0,0 +1,29 @@
+package com.fullcycle.catalogo.application.category.save;
+
+import com.fullcycle.catalogo.domain.category.ActivationStatus;
+import com.fullcycle.catalogo.domain.category.Category;
+
+import java.time.Instant;
+
+public record SaveCategoryCommand(
+        String id,
+        String name,
+        String description,
+        Boolean active,
+        Instant createdAt,
+        Instant updatedAt,
+        Instant deletedAt
+) {
+
+    public Category toCategory() {
+        return Category.with(
+                id(),
+                name(),
+                description(),
+                Boolean.FALSE.equals(active()) ? ActivationStatus.INACTIVE : ActivationStatus.ACTIVE,
+                createdAt(),
+                updatedAt(),
+                deletedAt()
+        );
+    }
+}
@@ -3,6 +3,7 @@ package com.fullcycle.catalogo.application.category.save;
 import com.fullcycle.catalogo.application.UseCase;
 import com.fullcycle.catalogo.domain.category.Category;
 import com.fullcycle.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.catalogo.domain.consistency.WriteConsistency;
 import com.fullcycle.catalogo.domain.exceptions.NotificationException;
 import com.fullcycle.catalogo.domain.validation.Error;
 import com.fullcycle.catalogo.domain.validation.handler.Notification;
@@ -19,6 +20,16 @@ public class SaveCategoryUseCase extends UseCase<Category, Category> {
 
     @Override
     public Category execute(final Category aCategory) {
+        validate(aCategory);
+        return this.categoryGateway.save(aCategory);
+    }
+
+    public Category execute(final Category aCategory, final WriteConsistency aConsistency) {
+        validate(aCategory);
+        return this.categoryGateway.save(aCategory, aConsistency == null ? WriteConsistency.SYNC : aConsistency);
+    }
+
+    private static void validate(final Category aCategory) {
         if (aCategory == null) {
             throw NotificationException.with(new Error("'aCategory' should not be null"));
         }
@@ -27,6 +38,5 @@ public class SaveCategoryUseCase extends UseCase<Category, Category> {
         if (aNotification.hasErrors()) {
             throw NotificationException.with("Invalid category", aNotification);
         }
-        return this.categoryGateway.save(aCategory);
     }
 }
@@ -0,0 +1,70 @@
+package com.fullcycle.catalogo.application.category.delete;
+
+import com.fullcycle.catalogo.application.UseCaseTest;
+import com.fullcycle.catalogo.domain.bulk.BulkItem;
+import com.fullcycle.catalogo.domain.bulk.BulkResult;
+import com.fullcycle.catalogo.domain.bulk.BulkStatus;
+import com.fullcycle.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.catalogo.domain.category.Fixture;
+import com.fullcycle.catalogo.domain.validation.Error;
+import org.junit.jupiter.api.*;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+public class DeleteCategoriesUseCaseTest extends UseCaseTest {
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @InjectMocks
+    private DeleteCategoriesUseCase deleteCategoriesUseCase;
+
+    @Nested
+    @DisplayName("Delete many with valid identifiers")
+    class DeleteManyWithValidIdentifiers {
+
+        @Test
+        void Given_valid_and_blank_identifiers_When_calls_delete_categories_Then_should_delete_the_valid_ones_at_once() {
+            // Given
+            final var aulas = Fixture.Categories.aulas().id();
+            final var lives = Fixture.Categories.lives().id();
+
+            when(categoryGateway.deleteAllById(List.of(aulas, lives))).thenReturn(BulkResult.of(List.of(
+                    BulkItem.succeeded(aulas),
+                    BulkItem.rejected(lives, new Error("es_rejected_execution_exception"))
+            )));
+
+            // When
+            final var actualOutputs = deleteCategoriesUseCase.execute(Arrays.asList(aulas, " ", null, lives));
+
+            // Then
+            assertEquals(4, actualOutputs.size());
+            assertEquals(BulkStatus.SUCCEEDED, actualOutputs.get(0).status());
+            assertEquals(List.of("'id' should not be empty"), actualOutputs.get(1).errors());
+            assertEquals(List.of("'id' should not be null"), actualOutputs.get(2).errors());
+            assertEquals(BulkStatus.FAILED, actualOutputs.get(2).status());
+            assertEquals(lives, actualOutputs.get(3).id());
+            assertEquals(BulkStatus.REJECTED, actualOutputs.get(3).status());
+            verify(categoryGateway, times(1)).deleteAllById(List.of(aulas, lives));
+        }
+
+        @Test
+        void Given_no_identifiers_When_calls_delete_categories_Then_should_not_delete() {
+            // When
+            final var actualOutputs = deleteCategoriesUseCase.execute(List.of());
+
+            // Then
+            assertTrue(actualOutputs.isEmpty());
+            verify(categoryGateway, never()).deleteAllById(any());
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.fullcycle.catalogo.application.category.get;
+
+import com.fullcycle.catalogo.application.UseCaseTest;
+import com.fullcycle.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.catalogo.domain.category.Fixture;
+import org.junit.jupiter.api.*;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+public class GetCategoriesByIdUseCaseTest extends UseCaseTest {
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @InjectMocks
+    private GetCategoriesByIdUseCase getCategoriesByIdUseCase;
+
+    @Nested
+    @DisplayName("Get categories with valid identifiers")
+    class GetWithValidIdentifiers {
+
+        @Test
+        void Given_valid_identifiers_When_calls_get_categories_Then_should_look_them_up_at_once() {
+            // Given
+            final var aulas = Fixture.Categories.aulas();
+            final var lives = Fixture.Categories.lives();
+            final var expectedOutputs = List.of(GetCategoryOutput.from(aulas), GetCategoryOutput.from(lives));
+
+            when(categoryGateway.findAllByIds(anyCollection())).thenReturn(List.of(aulas, lives));
+
+            // When
+            final var actualOutputs = getCategoriesByIdUseCase.execute(List.of(aulas.id(), lives.id(), aulas.id(), "missing"));
+
+            // Then
+            assertEquals(expectedOutputs, actualOutputs);
+            verify(categoryGateway, times(1)).findAllByIds(Set.of(aulas.id(), lives.id(), "missing"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Get categories with invalid identifiers")
+    class GetWithInvalidIdentifiers {
+
+        @Test
+        void Given_only_blank_identifiers_When_calls_get_categories_Then_should_not_look_anything_up() {
+            // When
+            final var actualOutputs = getCategoriesByIdUseCase.execute(Arrays.asList(" ", null, ""));
+
+            // Then
+            assertTrue(actualOutputs.isEmpty());
+            verify(categoryGateway, never()).findAllByIds(anyCollection());
+        }
+    }
+}
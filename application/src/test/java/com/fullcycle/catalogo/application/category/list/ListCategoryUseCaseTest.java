@@ -1,19 +1,25 @@
 package com.fullcycle.catalogo.application.category.list;
 
 import com.fullcycle.catalogo.application.UseCaseTest;
+import com.fullcycle.catalogo.domain.category.CategoryField;
 import com.fullcycle.catalogo.domain.category.CategoryGateway;
 import com.fullcycle.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.catalogo.domain.category.CategoryView;
 import com.fullcycle.catalogo.domain.category.Fixture;
 import com.fullcycle.catalogo.domain.pagination.Pagination;
 import org.junit.jupiter.api.*;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 
 import java.util.List;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
@@ -50,8 +56,8 @@ public class ListCategoryUseCaseTest extends UseCaseTest {
             final var aQuery = new CategorySearchQuery(
                     expectedPage, expectedPerPage, expectedTerms, expectedSort, expectedDirection);
 
-            final var aPagination =
-                    new Pagination<>(expectedPage, expectedPerPage, categories.size(), categories);
+            final var aPagination = new Pagination<>(expectedPage, expectedPerPage, categories.size(),
+                    categories.stream().map(CategoryView::from).toList());
 
             when(categoryGateway.findAll(any())).thenReturn(aPagination);
 
@@ -65,5 +71,41 @@ public class ListCategoryUseCaseTest extends UseCaseTest {
             assertTrue(expectedItems.size() == actualOutput.data().size()
                     && expectedItems.containsAll(actualOutput.data()));
         }
+
+        @Test
+        void Given_a_query_without_fields_When_calls_list_categories_Then_should_read_only_the_output_fields() {
+            // Given
+            final var expectedFields = Set.of(CategoryField.ID, CategoryField.NAME, CategoryField.DESCRIPTION);
+
+            final var aQuery = new CategorySearchQuery(0, 10, "", "name", "asc");
+
+            when(categoryGateway.findAll(any())).thenReturn(new Pagination<>(0, 10, 0, List.of()));
+
+            // when
+            listCategoryUseCase.execute(aQuery);
+
+            // then
+            final var captor = ArgumentCaptor.forClass(CategorySearchQuery.class);
+            verify(categoryGateway, times(1)).findAll(captor.capture());
+            assertEquals(expectedFields, captor.getValue().fields());
+        }
+
+        @Test
+        void Given_a_projected_query_When_calls_list_categories_Then_should_keep_its_fields() {
+            // Given
+            final var expectedFields = Set.of(CategoryField.ID);
+
+            final var aQuery = new CategorySearchQuery(0, 10, "", "name", "asc").withFields(expectedFields);
+
+            when(categoryGateway.findAll(any())).thenReturn(new Pagination<>(0, 10, 0, List.of()));
+
+            // when
+            listCategoryUseCase.execute(aQuery);
+
+            // then
+            final var captor = ArgumentCaptor.forClass(CategorySearchQuery.class);
+            verify(categoryGateway, times(1)).findAll(captor.capture());
+            assertEquals(expectedFields, captor.getValue().fields());
+        }
     }
 }
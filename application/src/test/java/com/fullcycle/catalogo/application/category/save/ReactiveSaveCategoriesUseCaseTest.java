@@ -0,0 +1,94 @@
+package com.fullcycle.catalogo.application.category.save;
+
+import com.fullcycle.catalogo.application.UseCaseTest;
+import com.fullcycle.catalogo.application.bulk.BulkItemOutput;
+import com.fullcycle.catalogo.application.category.ReactiveCategoryGateway;
+import com.fullcycle.catalogo.domain.bulk.BulkItem;
+import com.fullcycle.catalogo.domain.bulk.BulkResult;
+import com.fullcycle.catalogo.domain.bulk.BulkStatus;
+import com.fullcycle.catalogo.domain.category.ActivationStatus;
+import com.fullcycle.catalogo.domain.category.Category;
+import com.fullcycle.catalogo.domain.category.Fixture;
+import org.junit.jupiter.api.*;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+public class ReactiveSaveCategoriesUseCaseTest extends UseCaseTest {
+
+    @Mock
+    private ReactiveCategoryGateway categoryGateway;
+
+    @InjectMocks
+    private ReactiveSaveCategoriesUseCase saveCategoriesUseCase;
+
+    @Nested
+    @DisplayName("Save many with an invalid command")
+    class SaveManyWithAnInvalidCommand {
+
+        @Test
+        @SuppressWarnings("unchecked")
+        void Given_an_invalid_command_among_valid_ones_When_calls_save_categories_Then_should_persist_the_others_in_order() {
+            // Given
+            final var aulas = Fixture.Categories.aulas();
+            final var lives = Fixture.Categories.lives();
+            final var anInvalid = new SaveCategoryCommand(
+                    "123", " ", null, true, aulas.createdAt(), aulas.updatedAt(), null);
+
+            when(categoryGateway.saveAll(any())).thenReturn(Mono.just(BulkResult.of(List.of(
+                    BulkItem.succeeded(aulas.id()),
+                    BulkItem.succeeded(lives.id())
+            ))));
+
+            // When
+            final var actualOutputs = saveCategoriesUseCase.execute(
+                    List.of(commandOf(aulas), anInvalid, commandOf(lives))).block();
+
+            // Then
+            assertEquals(List.of(aulas.id(), "123", lives.id()), actualOutputs.stream().map(BulkItemOutput::id).toList());
+            assertEquals(BulkStatus.SUCCEEDED, actualOutputs.get(0).status());
+            assertEquals(BulkStatus.FAILED, actualOutputs.get(1).status());
+            assertEquals(List.of("'name' should not be empty"), actualOutputs.get(1).errors());
+            assertEquals(BulkStatus.SUCCEEDED, actualOutputs.get(2).status());
+
+            final ArgumentCaptor<List<Category>> captor = ArgumentCaptor.forClass(List.class);
+            verify(categoryGateway, times(1)).saveAll(captor.capture());
+            assertEquals(List.of(aulas.id(), lives.id()), captor.getValue().stream().map(Category::id).toList());
+        }
+
+        @Test
+        void Given_only_invalid_commands_When_calls_save_categories_Then_should_not_persist() {
+            // Given
+            final var aulas = Fixture.Categories.aulas();
+            final var anInvalid = new SaveCategoryCommand(
+                    " ", aulas.name(), null, true, aulas.createdAt(), aulas.updatedAt(), null);
+
+            // When
+            final var actualOutputs = saveCategoriesUseCase.execute(List.of(anInvalid)).block();
+
+            // Then
+            assertEquals(List.of("'id' should not be empty"), actualOutputs.get(0).errors());
+            verify(categoryGateway, never()).saveAll(any());
+        }
+    }
+
+    private static SaveCategoryCommand commandOf(final Category aCategory) {
+        return new SaveCategoryCommand(
+                aCategory.id(),
+                aCategory.name(),
+                aCategory.description(),
+                ActivationStatus.ACTIVE == aCategory.activationStatus(),
+                aCategory.createdAt(),
+                aCategory.updatedAt(),
+                aCategory.deletedAt()
+        );
+    }
+}
@@ -0,0 +1,79 @@
+package com.fullcycle.catalogo.application.category.save;
+
+import com.fullcycle.catalogo.application.UseCaseTest;
+import com.fullcycle.catalogo.application.category.ReactiveCategoryGateway;
+import com.fullcycle.catalogo.domain.category.ActivationStatus;
+import com.fullcycle.catalogo.domain.category.Category;
+import com.fullcycle.catalogo.domain.category.Fixture;
+import com.fullcycle.catalogo.domain.consistency.WriteConsistency;
+import com.fullcycle.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.catalogo.domain.utils.InstantUtils;
+import org.junit.jupiter.api.*;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+public class ReactiveSaveCategoryUseCaseTest extends UseCaseTest {
+
+    @Mock
+    private ReactiveCategoryGateway categoryGateway;
+
+    @InjectMocks
+    private ReactiveSaveCategoryUseCase saveCategoryUseCase;
+
+    @Nested
+    @DisplayName("Save with valid command")
+    class SaveWithValidCommand {
+
+        @Test
+        void Given_a_valid_command_When_calls_save_category_Then_should_persist_it_on_subscription() {
+            // Given
+            final var aCategory = Fixture.Categories.aulas();
+
+            when(categoryGateway.save(aCategory, WriteConsistency.SYNC)).thenReturn(Mono.just(aCategory));
+
+            // When
+            final var actualCategory = saveCategoryUseCase.execute(aCategory, null).block();
+
+            // Then
+            assertSame(aCategory, actualCategory);
+            verify(categoryGateway, times(1)).save(aCategory, WriteConsistency.SYNC);
+        }
+    }
+
+    @Nested
+    @DisplayName("Save with invalid command")
+    class SaveWithInvalidCommand {
+
+        @Test
+        void Given_an_invalid_name_When_calls_save_category_Then_should_fail_without_persisting() {
+            // Given
+            final var expectedErrorMessage = "'name' should not be empty";
+            final var anInvalid = Category.with(
+                    UUID.randomUUID().toString().replace("-", ""),
+                    " ",
+                    "Conteúdo gravado",
+                    ActivationStatus.ACTIVE,
+                    InstantUtils.now(),
+                    InstantUtils.now()
+            );
+
+            // When
+            final var aSave = saveCategoryUseCase.execute(anInvalid, WriteConsistency.WAIT_FOR);
+            final var actualException = assertThrows(DomainException.class, aSave::block);
+
+            // Then
+            assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+            verify(categoryGateway, never()).save(any(), any());
+        }
+    }
+}
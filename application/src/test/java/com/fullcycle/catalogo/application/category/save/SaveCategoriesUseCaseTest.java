@@ -0,0 +1,141 @@
+package com.fullcycle.catalogo.application.category.save;
+
+import com.fullcycle.catalogo.application.UseCaseTest;
+import com.fullcycle.catalogo.domain.bulk.BulkItem;
+import com.fullcycle.catalogo.domain.bulk.BulkResult;
+import com.fullcycle.catalogo.domain.bulk.BulkStatus;
+import com.fullcycle.catalogo.domain.category.ActivationStatus;
+import com.fullcycle.catalogo.domain.category.Category;
+import com.fullcycle.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.catalogo.domain.category.Fixture;
+import com.fullcycle.catalogo.domain.validation.Error;
+import org.junit.jupiter.api.*;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+public class SaveCategoriesUseCaseTest extends UseCaseTest {
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @InjectMocks
+    private SaveCategoriesUseCase saveCategoriesUseCase;
+
+    @Nested
+    @DisplayName("Save many with valid commands")
+    class SaveManyWithValidCommands {
+
+        @Test
+        @SuppressWarnings("unchecked")
+        void Given_valid_commands_When_calls_save_categories_Then_should_persist_them_at_once() {
+            // Given
+            final var aulas = Fixture.Categories.aulas();
+            final var lives = Fixture.Categories.lives();
+
+            when(categoryGateway.saveAll(any())).thenReturn(BulkResult.of(List.of(
+                    BulkItem.succeeded(aulas.id()),
+                    BulkItem.skipped(lives.id(), new Error("version conflict"))
+            )));
+
+            // When
+            final var actualOutputs = saveCategoriesUseCase.execute(List.of(commandOf(aulas), commandOf(lives)));
+
+            // Then
+            assertEquals(2, actualOutputs.size());
+            assertEquals(aulas.id(), actualOutputs.get(0).id());
+            assertEquals(BulkStatus.SUCCEEDED, actualOutputs.get(0).status());
+            assertTrue(actualOutputs.get(0).errors().isEmpty());
+            assertEquals(BulkStatus.SKIPPED, actualOutputs.get(1).status());
+            assertEquals(List.of("version conflict"), actualOutputs.get(1).errors());
+
+            final ArgumentCaptor<List<Category>> captor = ArgumentCaptor.forClass(List.class);
+            verify(categoryGateway, times(1)).saveAll(captor.capture());
+            assertEquals(List.of(aulas.id(), lives.id()), captor.getValue().stream().map(Category::id).toList());
+        }
+
+        @Test
+        void Given_no_commands_When_calls_save_categories_Then_should_not_persist() {
+            // When
+            final var actualOutputs = saveCategoriesUseCase.execute(List.of());
+
+            // Then
+            assertTrue(actualOutputs.isEmpty());
+            verify(categoryGateway, never()).saveAll(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("Save many with invalid commands")
+    class SaveManyWithInvalidCommands {
+
+        @Test
+        @SuppressWarnings("unchecked")
+        void Given_an_invalid_command_among_valid_ones_When_calls_save_categories_Then_should_persist_the_others() {
+            // Given
+            final var aulas = Fixture.Categories.aulas();
+            final var lives = Fixture.Categories.lives();
+            final var anInvalid = new SaveCategoryCommand(
+                    "123", " ", null, true, aulas.createdAt(), aulas.updatedAt(), null);
+
+            when(categoryGateway.saveAll(any())).thenReturn(BulkResult.of(List.of(
+                    BulkItem.succeeded(aulas.id()),
+                    BulkItem.failed(lives.id(), new Error("mapper_parsing_exception"))
+            )));
+
+            // When
+            final var actualOutputs = saveCategoriesUseCase.execute(
+                    Arrays.asList(commandOf(aulas), anInvalid, null, commandOf(lives)));
+
+            // Then
+            assertEquals(4, actualOutputs.size());
+            assertEquals(BulkStatus.SUCCEEDED, actualOutputs.get(0).status());
+            assertEquals("123", actualOutputs.get(1).id());
+            assertEquals(BulkStatus.FAILED, actualOutputs.get(1).status());
+            assertEquals(List.of("'name' should not be empty"), actualOutputs.get(1).errors());
+            assertEquals(List.of("'aCategory' should not be null"), actualOutputs.get(2).errors());
+            assertEquals(lives.id(), actualOutputs.get(3).id());
+            assertEquals(List.of("mapper_parsing_exception"), actualOutputs.get(3).errors());
+
+            final ArgumentCaptor<List<Category>> captor = ArgumentCaptor.forClass(List.class);
+            verify(categoryGateway, times(1)).saveAll(captor.capture());
+            assertEquals(List.of(aulas.id(), lives.id()), captor.getValue().stream().map(Category::id).toList());
+        }
+
+        @Test
+        void Given_only_invalid_commands_When_calls_save_categories_Then_should_not_persist() {
+            // Given
+            final var aulas = Fixture.Categories.aulas();
+            final var anInvalid = new SaveCategoryCommand(
+                    " ", aulas.name(), null, true, aulas.createdAt(), aulas.updatedAt(), null);
+
+            // When
+            final var actualOutputs = saveCategoriesUseCase.execute(List.of(anInvalid));
+
+            // Then
+            assertEquals(List.of("'id' should not be empty"), actualOutputs.get(0).errors());
+            verify(categoryGateway, never()).saveAll(any());
+        }
+    }
+
+    private static SaveCategoryCommand commandOf(final Category aCategory) {
+        return new SaveCategoryCommand(
+                aCategory.id(),
+                aCategory.name(),
+                aCategory.description(),
+                ActivationStatus.ACTIVE == aCategory.activationStatus(),
+                aCategory.createdAt(),
+                aCategory.updatedAt(),
+                aCategory.deletedAt()
+        );
+    }
+}
@@ -5,6 +5,7 @@ import com.fullcycle.catalogo.domain.category.ActivationStatus;
 import com.fullcycle.catalogo.domain.category.Category;
 import com.fullcycle.catalogo.domain.category.CategoryGateway;
 import com.fullcycle.catalogo.domain.category.Fixture;
+import com.fullcycle.catalogo.domain.consistency.WriteConsistency;
 import com.fullcycle.catalogo.domain.exceptions.DomainException;
 import com.fullcycle.catalogo.domain.utils.InstantUtils;
 import org.junit.jupiter.api.*;
@@ -45,6 +46,34 @@ public class SaveCategoryUseCaseTest extends UseCaseTest {
             // then
             verify(categoryGateway, times(1)).save(aCategory);
         }
+
+        @Test
+        void Given_a_write_consistency_When_calls_save_category_Then_should_persist_it_with_that_consistency() {
+            // given
+            final var aCategory = Fixture.Categories.aulas();
+
+            when(categoryGateway.save(Mockito.any(), Mockito.any())).thenAnswer(returnsFirstArg());
+
+            // when
+            saveCategoryUseCase.execute(aCategory, WriteConsistency.WAIT_FOR);
+
+            // then
+            verify(categoryGateway, times(1)).save(aCategory, WriteConsistency.WAIT_FOR);
+        }
+
+        @Test
+        void Given_no_write_consistency_When_calls_save_category_Then_should_persist_it_synchronously() {
+            // given
+            final var aCategory = Fixture.Categories.aulas();
+
+            when(categoryGateway.save(Mockito.any(), Mockito.any())).thenAnswer(returnsFirstArg());
+
+            // when
+            saveCategoryUseCase.execute(aCategory, null);
+
+            // then
+            verify(categoryGateway, times(1)).save(aCategory, WriteConsistency.SYNC);
+        }
     }
 
     @Nested
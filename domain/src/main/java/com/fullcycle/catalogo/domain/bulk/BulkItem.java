@@ -0,0 +1,46 @@
+package com.fullcycle.catalogo.domain.bulk;
+
+import com.fullcycle.catalogo.domain.validation.Error;
+
+public record BulkItem(
+        String id,
+        BulkStatus status,
+        Error error
+) {
+
+    public static BulkItem succeeded(final String anId) {
+        return new BulkItem(anId, BulkStatus.SUCCEEDED, null);
+    }
+
+    public static BulkItem skipped(final String anId, final Error aReason) {
+        return new BulkItem(anId, BulkStatus.SKIPPED, aReason);
+    }
+
+    /**
+     * Transient failure, such as Elasticsearch pushing back, that may succeed
+     * when retried.
+     */
+    public static BulkItem rejected(final String anId, final Error aReason) {
+        return new BulkItem(anId, BulkStatus.REJECTED, aReason);
+    }
+
+    public static BulkItem failed(final String anId, final Error anError) {
+        return new BulkItem(anId, BulkStatus.FAILED, anError);
+    }
+
+    public boolean isSkipped() {
+        return BulkStatus.SKIPPED.equals(status);
+    }
+
+    public boolean isRejected() {
+        return BulkStatus.REJECTED.equals(status);
+    }
+
+    public boolean isFailed() {
+        return BulkStatus.FAILED.equals(status);
+    }
+
+    public boolean isApplied() {
+        return !isRejected() && !isFailed();
+    }
+}
@@ -0,0 +1,33 @@
+package com.fullcycle.catalogo.domain.bulk;
+
+import java.util.List;
+
+public record BulkResult(List<BulkItem> items) {
+
+    public static BulkResult of(final List<BulkItem> items) {
+        return new BulkResult(List.copyOf(items));
+    }
+
+    public static BulkResult empty() {
+        return new BulkResult(List.of());
+    }
+
+    public boolean hasFailures() {
+        return items.stream().anyMatch(item -> !item.isApplied());
+    }
+
+    public List<BulkItem> skipped() {
+        return items.stream()
+                .filter(BulkItem::isSkipped)
+                .toList();
+    }
+
+    /**
+     * Rejected and failed items, everything that did not reach the index.
+     */
+    public List<BulkItem> failures() {
+        return items.stream()
+                .filter(item -> !item.isApplied())
+                .toList();
+    }
+}
@@ -0,0 +1,6 @@
+package com.fullcycle.catalogo.domain.bulk;
+
+public enum BulkStatus {
+
+    SUCCEEDED, SKIPPED, REJECTED, FAILED
+}
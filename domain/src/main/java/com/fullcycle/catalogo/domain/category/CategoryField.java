@@ -0,0 +1,14 @@
+package com.fullcycle.catalogo.domain.category;
+
+/**
+ * The fields of a {@link Category} a search can be narrowed down to.
+ */
+public enum CategoryField {
+    ID,
+    NAME,
+    DESCRIPTION,
+    ACTIVE,
+    CREATED_AT,
+    UPDATED_AT,
+    DELETED_AT
+}
@@ -0,0 +1,28 @@
+package com.fullcycle.catalogo.domain.category;
+
+import java.time.Instant;
+
+/**
+ * Predicates every listed category must meet, unscored. A {@code null}
+ * predicate does not filter: {@code active} keeps only active or inactive
+ * categories, {@code deleted} only soft-deleted or live ones, and
+ * {@code createdFrom} (inclusive) and {@code createdTo} (exclusive) bound the
+ * creation date.
+ */
+public record CategoryFilter(
+        Boolean active,
+        Boolean deleted,
+        Instant createdFrom,
+        Instant createdTo
+) {
+
+    private static final CategoryFilter NONE = new CategoryFilter(null, null, null, null);
+
+    public static CategoryFilter none() {
+        return NONE;
+    }
+
+    public boolean isEmpty() {
+        return NONE.equals(this);
+    }
+}
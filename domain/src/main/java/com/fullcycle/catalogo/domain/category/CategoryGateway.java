@@ -1,16 +1,35 @@
 package com.fullcycle.catalogo.domain.category;
 
+import com.fullcycle.catalogo.domain.bulk.BulkResult;
+import com.fullcycle.catalogo.domain.consistency.WriteConsistency;
 import com.fullcycle.catalogo.domain.pagination.Pagination;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface CategoryGateway {
 
+    /**
+     * Returns once the category is stored, as {@link WriteConsistency#SYNC}.
+     */
     Category save(Category aCategory);
 
+    Category save(Category aCategory, WriteConsistency aConsistency);
+
+    BulkResult saveAll(List<Category> aCategories);
+
     void deleteById(String anId);
 
+    BulkResult deleteAllById(List<String> anIds);
+
     Optional<Category> findById(String anId);
 
-    Pagination<Category> findAll(CategorySearchQuery aQuery);
+    /**
+     * Looks every id up in a single round trip. Ids without a category are left
+     * out, the order of the rest is not guaranteed.
+     */
+    List<Category> findAllByIds(Collection<String> anIds);
+
+    Pagination<CategoryView> findAll(CategorySearchQuery aQuery);
 }
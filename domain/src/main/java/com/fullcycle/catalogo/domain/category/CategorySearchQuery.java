@@ -1,10 +1,90 @@
 package com.fullcycle.catalogo.domain.category;
 
+import com.fullcycle.catalogo.domain.pagination.TotalCount;
+
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Pages either by offset, from {@code page}, or from the opaque {@code cursor}
+ * of a previous page's {@link com.fullcycle.catalogo.domain.pagination.Metadata#nextCursor()},
+ * which takes precedence and keeps deep pages as cheap as the first one.
+ * <p>
+ * {@code fields} narrows down what is read for every hit, all of them when
+ * empty. Matches are counted exactly unless {@code totalCount} says otherwise,
+ * and only categories meeting {@code filter} match at all.
+ */
 public record CategorySearchQuery(
         int page,
         int perPage,
         String terms,
         String sort,
-        String direction
+        String direction,
+        String cursor,
+        Set<CategoryField> fields,
+        TotalCount totalCount,
+        CategoryFilter filter
 ) {
+
+    public static final String DEFAULT_SORT = "name";
+    public static final String DEFAULT_DIRECTION = "asc";
+
+    public CategorySearchQuery {
+        fields = fields == null ? Set.of() : Set.copyOf(fields);
+        totalCount = totalCount == null ? TotalCount.exact() : totalCount;
+        filter = filter == null ? CategoryFilter.none() : filter;
+    }
+
+    public CategorySearchQuery(
+            final int page,
+            final int perPage,
+            final String terms,
+            final String sort,
+            final String direction,
+            final String cursor) {
+        this(page, perPage, terms, sort, direction, cursor, Set.of(), TotalCount.exact(), CategoryFilter.none());
+    }
+
+    public CategorySearchQuery(
+            final int page,
+            final int perPage,
+            final String terms,
+            final String sort,
+            final String direction) {
+        this(page, perPage, terms, sort, direction, null);
+    }
+
+    public CategorySearchQuery withFields(final Set<CategoryField> aFields) {
+        return new CategorySearchQuery(page, perPage, terms, sort, direction, cursor, aFields, totalCount, filter);
+    }
+
+    public CategorySearchQuery withTotalCount(final TotalCount aTotalCount) {
+        return new CategorySearchQuery(page, perPage, terms, sort, direction, cursor, fields, aTotalCount, filter);
+    }
+
+    public CategorySearchQuery withFilter(final CategoryFilter aFilter) {
+        return new CategorySearchQuery(page, perPage, terms, sort, direction, cursor, fields, totalCount, aFilter);
+    }
+
+    /**
+     * Returns an equal query for every way of asking the same thing: terms
+     * trimmed and lowercased, as the analyzer reads them anyway, and {@code null}
+     * when blank; sort and direction defaulted, the direction lowercased.
+     */
+    public CategorySearchQuery normalized() {
+        final var aTerms = terms == null || terms.isBlank() ? null : terms.trim().toLowerCase(Locale.ROOT);
+        final var aSort = sort == null || sort.isBlank() ? DEFAULT_SORT : sort.trim();
+        final var aDirection = direction == null || direction.isBlank()
+                ? DEFAULT_DIRECTION
+                : direction.trim().toLowerCase(Locale.ROOT);
+        return new CategorySearchQuery(page, perPage, aTerms, aSort, aDirection, cursor, fields, totalCount, filter);
+    }
+
+    public boolean hasCursor() {
+        return cursor != null && !cursor.isBlank();
+    }
+
+    public boolean isProjected() {
+        return !fields.isEmpty();
+    }
 }
@@ -0,0 +1,31 @@
+package com.fullcycle.catalogo.domain.category;
+
+import java.time.Instant;
+
+/**
+ * A category as read by a search, holding only the {@link CategoryField}s that
+ * were asked for; the others are {@code null}. Unlike {@link Category} it is
+ * never validated, it only ever comes from an index that was.
+ */
+public record CategoryView(
+        String id,
+        String name,
+        String description,
+        ActivationStatus activationStatus,
+        Instant createdAt,
+        Instant updatedAt,
+        Instant deletedAt
+) {
+
+    public static CategoryView from(final Category aCategory) {
+        return new CategoryView(
+                aCategory.id(),
+                aCategory.name(),
+                aCategory.description(),
+                aCategory.activationStatus(),
+                aCategory.createdAt(),
+                aCategory.updatedAt(),
+                aCategory.deletedAt()
+        );
+    }
+}
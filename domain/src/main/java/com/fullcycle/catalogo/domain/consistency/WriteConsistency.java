@@ -0,0 +1,14 @@
+package com.fullcycle.catalogo.domain.consistency;
+
+/**
+ * When a write returns to its caller.
+ * <p>
+ * {@code WAIT_FOR} once searches see it, {@code SYNC} once it is stored,
+ * readable by id but not yet searchable, and {@code ASYNC} as soon as it is
+ * queued, before it is stored at all.
+ */
+public enum WriteConsistency {
+    WAIT_FOR,
+    SYNC,
+    ASYNC
+}
@@ -0,0 +1,20 @@
+package com.fullcycle.catalogo.domain.exceptions;
+
+import com.fullcycle.catalogo.domain.validation.Error;
+
+import java.util.List;
+
+/**
+ * A write that was not applied because the stored state is newer than the one
+ * it carries.
+ */
+public class ConflictException extends DomainException {
+
+    protected ConflictException(final String aMessage, final List<Error> anErrors) {
+        super(aMessage, anErrors);
+    }
+
+    public static ConflictException with(final Error anError) {
+        return new ConflictException(anError.message(), List.of(anError));
+    }
+}
@@ -1,8 +1,23 @@
 package com.fullcycle.catalogo.domain.pagination;
 
+/**
+ * {@code nextCursor} resumes right after the last item of this page, or is
+ * {@code null} when there is nothing left to read. {@code total} is exact, a
+ * lower bound or was not counted at all, as {@code totalRelation} tells.
+ */
 public record Metadata(
         int currentPage,
         int perPage,
-        long total
+        long total,
+        String nextCursor,
+        TotalRelation totalRelation
 ) {
+
+    public Metadata(final int currentPage, final int perPage, final long total, final String nextCursor) {
+        this(currentPage, perPage, total, nextCursor, TotalRelation.EXACT);
+    }
+
+    public Metadata(final int currentPage, final int perPage, final long total) {
+        this(currentPage, perPage, total, null);
+    }
 }
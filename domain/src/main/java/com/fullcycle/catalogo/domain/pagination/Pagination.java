@@ -15,6 +15,14 @@ public record Pagination<T>(
         this(new Metadata(currentPage, perPage, total), data);
     }
 
+    public Pagination(int currentPage,
+                      int perPage,
+                      long total,
+                      String nextCursor,
+                      List<T> data) {
+        this(new Metadata(currentPage, perPage, total, nextCursor), data);
+    }
+
     public <R> Pagination<R> map(final Function<T, R> mapper) {
         final List<R> aNewList = this.data.stream()
                 .map(mapper)
@@ -0,0 +1,27 @@
+package com.fullcycle.catalogo.domain.pagination;
+
+/**
+ * How far a search counts its matches. Counting exactly visits every match;
+ * a capped count stops at the threshold and no count lets the search stop as
+ * soon as the page is full.
+ */
+public record TotalCount(Mode mode, int threshold) {
+
+    public enum Mode {
+        EXACT,
+        CAPPED,
+        NONE
+    }
+
+    public static TotalCount exact() {
+        return new TotalCount(Mode.EXACT, 0);
+    }
+
+    public static TotalCount upTo(final int aThreshold) {
+        return new TotalCount(Mode.CAPPED, aThreshold);
+    }
+
+    public static TotalCount none() {
+        return new TotalCount(Mode.NONE, 0);
+    }
+}
@@ -0,0 +1,11 @@
+package com.fullcycle.catalogo.domain.pagination;
+
+/**
+ * What {@link Metadata#total()} means, depending on the {@link TotalCount}
+ * the search asked for.
+ */
+public enum TotalRelation {
+    EXACT,
+    AT_LEAST,
+    NONE
+}
@@ -0,0 +1,48 @@
+package com.fullcycle.catalogo.domain.category;
+
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class CategorySearchQueryTest extends UnitTest {
+
+    @Nested
+    class Normalized {
+
+        @Test
+        void Given_two_spellings_of_the_same_query_When_call_normalized_Then_should_be_equal() {
+            // given
+            final var aQuery = new CategorySearchQuery(0, 10, "  Aulas ao VIVO ", null, "DESC");
+            final var anotherQuery = new CategorySearchQuery(0, 10, "aulas ao vivo", "name", "desc");
+
+            // when
+            final var actualQuery = aQuery.normalized();
+
+            // then
+            assertEquals(anotherQuery.normalized(), actualQuery);
+            assertEquals("aulas ao vivo", actualQuery.terms());
+            assertEquals(CategorySearchQuery.DEFAULT_SORT, actualQuery.sort());
+            assertEquals("desc", actualQuery.direction());
+        }
+
+        @Test
+        void Given_blank_terms_sort_and_direction_When_call_normalized_Then_should_fill_in_the_defaults() {
+            // given
+            final var aQuery = new CategorySearchQuery(1, 25, "   ", " ", "");
+
+            // when
+            final var actualQuery = aQuery.normalized();
+
+            // then
+            assertNull(actualQuery.terms());
+            assertEquals(CategorySearchQuery.DEFAULT_SORT, actualQuery.sort());
+            assertEquals(CategorySearchQuery.DEFAULT_DIRECTION, actualQuery.direction());
+            assertEquals(aQuery.page(), actualQuery.page());
+            assertEquals(aQuery.perPage(), actualQuery.perPage());
+        }
+    }
+}
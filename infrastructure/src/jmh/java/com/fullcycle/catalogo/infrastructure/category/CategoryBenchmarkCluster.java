@@ -0,0 +1,192 @@
+package com.fullcycle.catalogo.infrastructure.category;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.VersionType;
+import co.elastic.clients.elasticsearch.core.bulk.BulkOperation;
+import co.elastic.clients.json.jackson.JacksonJsonpMapper;
+import co.elastic.clients.transport.rest_client.RestClientTransport;
+import com.fullcycle.catalogo.domain.category.ActivationStatus;
+import com.fullcycle.catalogo.domain.category.Category;
+import com.fullcycle.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.catalogo.domain.utils.IdUtils;
+import com.fullcycle.catalogo.domain.utils.InstantUtils;
+import com.fullcycle.catalogo.infrastructure.category.persistence.CategoryDocument;
+import com.fullcycle.catalogo.infrastructure.category.persistence.CategoryRepository;
+import com.fullcycle.catalogo.infrastructure.configuration.properties.CategoryIndexProperties;
+import com.fullcycle.catalogo.infrastructure.configuration.properties.CategoryMultiSearchProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.http.HttpHost;
+import org.apache.http.auth.AuthScope;
+import org.apache.http.auth.UsernamePasswordCredentials;
+import org.apache.http.impl.client.BasicCredentialsProvider;
+import org.elasticsearch.client.RestClient;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchTemplate;
+import org.springframework.data.elasticsearch.client.elc.ReactiveElasticsearchClient;
+import org.springframework.data.elasticsearch.client.elc.ReactiveElasticsearchTemplate;
+import org.springframework.data.elasticsearch.repository.support.ElasticsearchRepositoryFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Connection to the cluster a category benchmark owns, and the categories it
+ * generates there.
+ * <p>
+ * Names and descriptions are made of words built from {@link #SYLLABLES}, which
+ * gives a term dictionary in the hundreds of thousands, like a real catalog
+ * rather than a handful of repeated words. One in ten categories is inactive,
+ * one in twenty deleted, and creation dates spread over the last year.
+ */
+final class CategoryBenchmarkCluster implements Closeable {
+
+    static final List<String> SYLLABLES = List.of(
+            "ca", "so", "ma", "te", "ri", "al", "li", "ve", "au", "la",
+            "to", "pe", "de", "si", "no", "mu", "ra", "co", "vi", "da",
+            "ba", "le", "mi", "ro", "tu", "ne", "fa", "go", "ze", "xi");
+    static final int CREATION_SPREAD_DAYS = 365;
+
+    private static final int BATCH = 5_000;
+
+    private final RestClient restClient;
+    private final ElasticsearchClient elasticsearchClient;
+    private final ElasticsearchTemplate elasticsearchOperations;
+    private final ReactiveElasticsearchTemplate reactiveElasticsearchOperations;
+    private final Random random = new Random(42);
+
+    CategoryBenchmarkCluster(final String uris, final String username, final String password) {
+        final var credentials = new BasicCredentialsProvider();
+        credentials.setCredentials(AuthScope.ANY, new UsernamePasswordCredentials(username, password));
+        this.restClient = RestClient.builder(HttpHost.create(uris))
+                .setHttpClientConfigCallback(http -> http.setDefaultCredentialsProvider(credentials))
+                .build();
+        final var aTransport = new RestClientTransport(restClient, new JacksonJsonpMapper());
+        this.elasticsearchClient = new ElasticsearchClient(aTransport);
+        this.elasticsearchOperations = new ElasticsearchTemplate(elasticsearchClient);
+        this.reactiveElasticsearchOperations = new ReactiveElasticsearchTemplate(new ReactiveElasticsearchClient(aTransport));
+    }
+
+    static CategoryIndexProperties indexProperties(final boolean isBulkLoad) {
+        final var indexProperties = new CategoryIndexProperties();
+        indexProperties.setShards(1);
+        indexProperties.setReplicas(1);
+        indexProperties.setRefreshInterval(Duration.ofSeconds(1));
+        indexProperties.setBulkLoad(isBulkLoad);
+        indexProperties.setCursorKeepAlive(Duration.ofMinutes(1));
+        indexProperties.setRebuildCheckInterval(Duration.ofSeconds(1));
+        return indexProperties;
+    }
+
+    /**
+     * Searches are batched into {@code _msearch} when {@code aWindow} is given.
+     */
+    static CategoryMultiSearchProperties multiSearchProperties(final Duration aWindow) {
+        final var multiSearchProperties = new CategoryMultiSearchProperties();
+        multiSearchProperties.setEnabled(aWindow != null);
+        multiSearchProperties.setWindow(aWindow);
+        multiSearchProperties.setMaxBatch(32);
+        multiSearchProperties.setConcurrency(4);
+        return multiSearchProperties;
+    }
+
+    CategoryElasticsearchGateway gateway(
+            final CategoryElasticsearchIndex anIndex,
+            final CategoryIndexProperties indexProperties) {
+        return gateway(anIndex, indexProperties, new CategorySearchDispatcher(
+                elasticsearchOperations, multiSearchProperties(null), new SimpleMeterRegistry()));
+    }
+
+    CategoryElasticsearchGateway gateway(
+            final CategoryElasticsearchIndex anIndex,
+            final CategoryIndexProperties indexProperties,
+            final CategorySearchDispatcher aDispatcher) {
+        return new CategoryElasticsearchGateway(
+                new ElasticsearchRepositoryFactory(elasticsearchOperations).getRepository(CategoryRepository.class),
+                elasticsearchOperations,
+                elasticsearchClient,
+                anIndex,
+                indexProperties,
+                aDispatcher
+        );
+    }
+
+    /**
+     * Reads through the reactive client, writes through {@code aWriter}.
+     */
+    ReactiveCategoryElasticsearchGateway reactiveGateway(
+            final CategoryGateway aWriter,
+            final CategoryElasticsearchIndex anIndex,
+            final CategoryIndexProperties indexProperties) {
+        return new ReactiveCategoryElasticsearchGateway(reactiveElasticsearchOperations, aWriter, anIndex, indexProperties);
+    }
+
+    ElasticsearchClient client() {
+        return elasticsearchClient;
+    }
+
+    ElasticsearchTemplate operations() {
+        return elasticsearchOperations;
+    }
+
+    /**
+     * Generates categories into the index until it holds {@code aCount} of them.
+     */
+    void fill(final String anIndex, final long aCount) throws IOException {
+        final var missing = aCount - this.elasticsearchClient.count(c -> c.index(anIndex)).count();
+        final var operations = new ArrayList<BulkOperation>(BATCH);
+        for (long i = 0; i < missing; i++) {
+            final var aCategory = category();
+            final var aSource = new HashMap<String, Object>(
+                    this.elasticsearchOperations.getElasticsearchConverter().mapObject(CategoryDocument.from(aCategory)));
+            operations.add(BulkOperation.of(op -> op.index(idx -> idx
+                    .index(anIndex)
+                    .id(aCategory.id())
+                    .version(aCategory.updatedAt().toEpochMilli())
+                    .versionType(VersionType.External)
+                    .document(aSource))));
+            if (operations.size() == BATCH || i == missing - 1) {
+                final var batch = new ArrayList<>(operations);
+                this.elasticsearchClient.bulk(b -> b.operations(batch));
+                operations.clear();
+            }
+        }
+        this.elasticsearchClient.indices().refresh(r -> r.index(anIndex));
+    }
+
+    /**
+     * A new category, with an id of its own.
+     */
+    Category category() {
+        final var now = InstantUtils.now();
+        final var aCreatedAt = now.minus(random.nextInt(CREATION_SPREAD_DAYS), ChronoUnit.DAYS);
+        return Category.with(
+                IdUtils.uuid(),
+                words(2),
+                words(6),
+                random.nextInt(10) == 0 ? ActivationStatus.INACTIVE : ActivationStatus.ACTIVE,
+                aCreatedAt,
+                now,
+                random.nextInt(20) == 0 ? now : null
+        );
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.restClient.close();
+    }
+
+    private String words(final int aCount) {
+        return IntStream.range(0, aCount)
+                .mapToObj(i -> IntStream.range(0, 2 + random.nextInt(3))
+                        .mapToObj(syllable -> SYLLABLES.get(random.nextInt(SYLLABLES.size())))
+                        .collect(Collectors.joining()))
+                .collect(Collectors.joining(" "));
+    }
+}
@@ -0,0 +1,103 @@
+package com.fullcycle.catalogo.infrastructure.category;
+
+import co.elastic.clients.elasticsearch.indices.IndicesStatsResponse;
+import com.fullcycle.catalogo.domain.category.CategoryFilter;
+import com.fullcycle.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.catalogo.domain.utils.InstantUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Samples the latency of {@code findAll} with each kind of filter over
+ * {@code categories} generated categories, and prints how many node query
+ * cache lookups the filters hit and missed over the whole trial.
+ * <p>
+ * Elasticsearch only caches filters on segments of at least 10k documents
+ * that were used a few times, so the first iterations miss and the rest hit.
+ * The creation range is bound to a day boundary for the same reason: a range
+ * moving with {@code now} would never hit.
+ * <p>
+ * Needs a dedicated cluster, it owns the {@code categories} alias:
+ * {@code ./gradlew :infrastructure:jmh -PjmhIncludes=CategoryFilterBenchmark},
+ * passing {@code uris}, {@code username} and {@code password} as JMH params when
+ * the defaults do not apply.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class CategoryFilterBenchmark {
+
+    private static final int PER_PAGE = 10;
+    private static final int LAST_MONTH_DAYS = 30;
+
+    @Param("1000000")
+    public long categories;
+
+    @Param({"none", "active", "live", "last_month"})
+    public String filter;
+
+    @Param({"", "ma"})
+    public String terms;
+
+    @Param("http://localhost:9200")
+    public String uris;
+
+    @Param("elastic")
+    public String username;
+
+    @Param("elastic")
+    public String password;
+
+    private CategoryBenchmarkCluster cluster;
+    private CategoryElasticsearchGateway categoryGateway;
+    private String alias;
+    private CategorySearchQuery aQuery;
+    private IndicesStatsResponse statsBefore;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        this.cluster = new CategoryBenchmarkCluster(uris, username, password);
+        final var indexProperties = CategoryBenchmarkCluster.indexProperties(true);
+        final var categoryIndex = new CategoryElasticsearchIndex(cluster.client(), cluster.operations(), indexProperties);
+        categoryIndex.afterPropertiesSet();
+        this.alias = categoryIndex.alias();
+        this.cluster.fill(alias, categories);
+
+        this.categoryGateway = this.cluster.gateway(categoryIndex, indexProperties);
+        this.aQuery = new CategorySearchQuery(0, PER_PAGE, terms, "name", "asc").withFilter(categoryFilter());
+        this.statsBefore = queryCacheStats();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        final var before = this.statsBefore.all().total().queryCache();
+        final var after = queryCacheStats().all().total().queryCache();
+        final var hits = after.hitCount() - before.hitCount();
+        final var misses = after.missCount() - before.missCount();
+        System.out.printf("%nquery_cache filter=%s terms='%s': %d hits, %d misses, %.1f%% hit ratio%n",
+                filter, terms, hits, misses, hits + misses == 0 ? 0.0 : 100.0 * hits / (hits + misses));
+        this.cluster.close();
+    }
+
+    @Benchmark
+    public Object search() {
+        return this.categoryGateway.findAll(aQuery);
+    }
+
+    private CategoryFilter categoryFilter() {
+        final var today = InstantUtils.now().truncatedTo(ChronoUnit.DAYS);
+        return switch (filter) {
+            case "active" -> new CategoryFilter(true, null, null, null);
+            case "live" -> new CategoryFilter(true, false, null, null);
+            case "last_month" -> new CategoryFilter(null, false, today.minus(LAST_MONTH_DAYS, ChronoUnit.DAYS), null);
+            default -> CategoryFilter.none();
+        };
+    }
+
+    private IndicesStatsResponse queryCacheStats() throws IOException {
+        return this.cluster.client().indices().stats(s -> s.index(alias).metric("query_cache"));
+    }
+}
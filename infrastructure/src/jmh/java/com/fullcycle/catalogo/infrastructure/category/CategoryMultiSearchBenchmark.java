@@ -0,0 +1,88 @@
+package com.fullcycle.catalogo.infrastructure.category;
+
+import com.fullcycle.catalogo.domain.category.CategorySearchQuery;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs {@code findAll} from as many threads as Undertow has workers, each
+ * searching for a random syllable, with searches sent one by one ({@code off})
+ * and batched into {@code _msearch} over windows of growing length. Throughput
+ * shows what batching saves the cluster, the sampled latency what each search
+ * pays for it.
+ * <p>
+ * Needs a dedicated cluster, it owns the {@code categories} alias:
+ * {@code ./gradlew :infrastructure:jmh -PjmhIncludes=CategoryMultiSearchBenchmark},
+ * passing {@code uris}, {@code username} and {@code password} as JMH params when
+ * the defaults do not apply.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(CategoryMultiSearchBenchmark.WORKERS)
+@State(Scope.Benchmark)
+public class CategoryMultiSearchBenchmark {
+
+    static final int WORKERS = 64;
+
+    private static final int PER_PAGE = 10;
+
+    @Param("1000000")
+    public long categories;
+
+    @Param({"off", "100us", "500us", "2ms"})
+    public String window;
+
+    @Param("http://localhost:9200")
+    public String uris;
+
+    @Param("elastic")
+    public String username;
+
+    @Param("elastic")
+    public String password;
+
+    private CategoryBenchmarkCluster cluster;
+    private CategorySearchDispatcher searchDispatcher;
+    private CategoryElasticsearchGateway categoryGateway;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        this.cluster = new CategoryBenchmarkCluster(uris, username, password);
+        final var indexProperties = CategoryBenchmarkCluster.indexProperties(true);
+        final var categoryIndex = new CategoryElasticsearchIndex(cluster.client(), cluster.operations(), indexProperties);
+        categoryIndex.afterPropertiesSet();
+        this.cluster.fill(categoryIndex.alias(), categories);
+
+        this.searchDispatcher = new CategorySearchDispatcher(
+                cluster.operations(),
+                CategoryBenchmarkCluster.multiSearchProperties("off".equals(window) ? null : parse(window)),
+                new SimpleMeterRegistry()
+        );
+        this.categoryGateway = this.cluster.gateway(categoryIndex, indexProperties, searchDispatcher);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        this.searchDispatcher.close();
+        this.cluster.close();
+    }
+
+    @Benchmark
+    public Object search() {
+        final var syllables = CategoryBenchmarkCluster.SYLLABLES;
+        final var terms = syllables.get(ThreadLocalRandom.current().nextInt(syllables.size()));
+        return this.categoryGateway.findAll(new CategorySearchQuery(0, PER_PAGE, terms, "name", "asc"));
+    }
+
+    private static Duration parse(final String aWindow) {
+        if (aWindow.endsWith("us")) {
+            return Duration.ofNanos(TimeUnit.MICROSECONDS.toNanos(Long.parseLong(aWindow.replace("us", ""))));
+        }
+        return Duration.ofMillis(Long.parseLong(aWindow.replace("ms", "")));
+    }
+}
@@ -0,0 +1,100 @@
+package com.fullcycle.catalogo.infrastructure.category;
+
+import com.fullcycle.catalogo.domain.category.CategorySearchQuery;
+import org.openjdk.jmh.annotations.*;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Loads the blocking and the reactive gateway with bursts of {@code inFlight}
+ * concurrent searches, each for a random syllable. The blocking gateway gets as
+ * many threads as Undertow has workers, like a request does, so searches past
+ * that queue for a thread; the reactive one keeps them all in flight without a
+ * thread each. Throughput is in bursts, the sampled latency is that of a whole
+ * burst, and the gc profiler shows what either path allocates for it.
+ * <p>
+ * Both go through the same low-level REST client and its connection pool, so
+ * what is compared is how the process waits on Elasticsearch, not the cluster.
+ * <p>
+ * Needs a dedicated cluster, it owns the {@code categories} alias:
+ * {@code ./gradlew :infrastructure:jmh -PjmhIncludes=CategoryReactiveLoadBenchmark},
+ * passing {@code uris}, {@code username} and {@code password} as JMH params when
+ * the defaults do not apply.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class CategoryReactiveLoadBenchmark {
+
+    private static final int WORKERS = 64;
+    private static final int PER_PAGE = 10;
+
+    @Param("1000000")
+    public long categories;
+
+    @Param({"blocking", "reactive"})
+    public String mode;
+
+    @Param({"64", "256", "1024"})
+    public int inFlight;
+
+    @Param("http://localhost:9200")
+    public String uris;
+
+    @Param("elastic")
+    public String username;
+
+    @Param("elastic")
+    public String password;
+
+    private CategoryBenchmarkCluster cluster;
+    private CategoryElasticsearchGateway categoryGateway;
+    private ReactiveCategoryElasticsearchGateway reactiveCategoryGateway;
+    private ExecutorService workers;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        this.cluster = new CategoryBenchmarkCluster(uris, username, password);
+        final var indexProperties = CategoryBenchmarkCluster.indexProperties(true);
+        final var categoryIndex = new CategoryElasticsearchIndex(cluster.client(), cluster.operations(), indexProperties);
+        categoryIndex.afterPropertiesSet();
+        this.cluster.fill(categoryIndex.alias(), categories);
+
+        this.categoryGateway = this.cluster.gateway(categoryIndex, indexProperties);
+        this.reactiveCategoryGateway = this.cluster.reactiveGateway(categoryGateway, categoryIndex, indexProperties);
+        this.workers = Executors.newFixedThreadPool(WORKERS);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        this.workers.shutdownNow();
+        this.cluster.close();
+    }
+
+    @Benchmark
+    public Object burst() {
+        if ("reactive".equals(mode)) {
+            return Flux.range(0, inFlight)
+                    .flatMap(i -> this.reactiveCategoryGateway.findAll(aQuery()), inFlight)
+                    .count()
+                    .block();
+        }
+        final var searches = IntStream.range(0, inFlight)
+                .mapToObj(i -> CompletableFuture.supplyAsync(() -> this.categoryGateway.findAll(aQuery()), workers))
+                .toArray(CompletableFuture[]::new);
+        return CompletableFuture.allOf(searches).join();
+    }
+
+    private static CategorySearchQuery aQuery() {
+        final var syllables = CategoryBenchmarkCluster.SYLLABLES;
+        final var terms = syllables.get(ThreadLocalRandom.current().nextInt(syllables.size()));
+        return new CategorySearchQuery(0, PER_PAGE, terms, "name", "asc");
+    }
+}
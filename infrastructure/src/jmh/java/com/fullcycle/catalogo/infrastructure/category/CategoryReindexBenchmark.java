@@ -0,0 +1,62 @@
+package com.fullcycle.catalogo.infrastructure.category;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reindexes {@value #CATEGORIES} generated categories with and without
+ * {@code bulk-load} mode, reporting the time per category.
+ * <p>
+ * Needs a dedicated cluster, it owns the {@code categories} alias and its
+ * indices. With a single node replicas stay unassigned and only the refresh
+ * part of the difference shows, so run it against at least two data nodes:
+ * {@code ./gradlew :infrastructure:jmh -PjmhIncludes=CategoryReindexBenchmark},
+ * passing {@code uris}, {@code username} and {@code password} as JMH params when
+ * the defaults do not apply.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@OperationsPerInvocation(CategoryReindexBenchmark.CATEGORIES)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@State(Scope.Benchmark)
+public class CategoryReindexBenchmark {
+
+    static final int CATEGORIES = 1_000_000;
+
+    @Param({"true", "false"})
+    public boolean bulkLoad;
+
+    @Param("http://localhost:9200")
+    public String uris;
+
+    @Param("elastic")
+    public String username;
+
+    @Param("elastic")
+    public String password;
+
+    private CategoryBenchmarkCluster cluster;
+    private CategoryElasticsearchIndex categoryIndex;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        this.cluster = new CategoryBenchmarkCluster(uris, username, password);
+        this.categoryIndex = new CategoryElasticsearchIndex(
+                cluster.client(), cluster.operations(), CategoryBenchmarkCluster.indexProperties(bulkLoad));
+        this.categoryIndex.afterPropertiesSet();
+        this.cluster.fill(this.categoryIndex.alias(), CATEGORIES);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        this.cluster.close();
+    }
+
+    @Benchmark
+    public String reindex() {
+        return this.categoryIndex.reindex();
+    }
+}
@@ -0,0 +1,84 @@
+package com.fullcycle.catalogo.infrastructure.category;
+
+import com.fullcycle.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.catalogo.infrastructure.category.persistence.CategoryDocument;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.elasticsearch.core.query.CriteriaQuery;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.data.elasticsearch.core.query.Criteria.where;
+
+/**
+ * Compares the search of {@code findAll} with the {@code *term*} wildcards it
+ * used to run, over {@code categories} generated categories, sampling the
+ * latency so percentiles show in the report.
+ * <p>
+ * Needs a dedicated cluster, it owns the {@code categories} alias. An alias
+ * left by an older build lacks the {@code index_prefixes} mapping, call the
+ * {@code reindex} endpoint or drop it first:
+ * {@code ./gradlew :infrastructure:jmh -PjmhIncludes=CategorySearchBenchmark},
+ * passing {@code uris}, {@code username} and {@code password} as JMH params when
+ * the defaults do not apply.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class CategorySearchBenchmark {
+
+    private static final int PER_PAGE = 10;
+
+    @Param("1000000")
+    public long categories;
+
+    @Param({"wildcard", "multi_match"})
+    public String strategy;
+
+    @Param({"ma", "mate", "mate ri"})
+    public String terms;
+
+    @Param("http://localhost:9200")
+    public String uris;
+
+    @Param("elastic")
+    public String username;
+
+    @Param("elastic")
+    public String password;
+
+    private CategoryBenchmarkCluster cluster;
+    private CategoryElasticsearchGateway categoryGateway;
+    private CategorySearchQuery aQuery;
+    private CriteriaQuery aWildcardQuery;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        this.cluster = new CategoryBenchmarkCluster(uris, username, password);
+        final var indexProperties = CategoryBenchmarkCluster.indexProperties(true);
+        final var categoryIndex = new CategoryElasticsearchIndex(cluster.client(), cluster.operations(), indexProperties);
+        categoryIndex.afterPropertiesSet();
+        this.cluster.fill(categoryIndex.alias(), categories);
+
+        this.categoryGateway = this.cluster.gateway(categoryIndex, indexProperties);
+        this.aQuery = new CategorySearchQuery(0, PER_PAGE, terms, "name", "asc");
+        this.aWildcardQuery = new CriteriaQuery(
+                where("name").contains(terms).or(where("description").contains(terms)),
+                PageRequest.of(0, PER_PAGE, Sort.by("name.keyword")));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        this.cluster.close();
+    }
+
+    @Benchmark
+    public Object search() {
+        if ("wildcard".equals(strategy)) {
+            return this.cluster.operations().search(aWildcardQuery, CategoryDocument.class);
+        }
+        return this.categoryGateway.findAll(aQuery);
+    }
+}
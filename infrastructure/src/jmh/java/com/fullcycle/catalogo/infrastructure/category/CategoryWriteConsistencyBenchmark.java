@@ -0,0 +1,71 @@
+package com.fullcycle.catalogo.infrastructure.category;
+
+import com.fullcycle.catalogo.domain.consistency.WriteConsistency;
+import com.fullcycle.catalogo.infrastructure.configuration.properties.CategoryWriteBehindProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Saves new categories with every {@link WriteConsistency}, reporting the
+ * latency a caller sees. {@code WAIT_FOR} pays for the next refresh, up to the
+ * refresh interval of one second; {@code SYNC} for the index request alone;
+ * {@code ASYNC} only for the enqueue, as long as the writer keeps up and the
+ * queue never fills.
+ * <p>
+ * Needs a dedicated cluster, it owns the {@code categories} alias:
+ * {@code ./gradlew :infrastructure:jmh -PjmhIncludes=CategoryWriteConsistencyBenchmark},
+ * passing {@code uris}, {@code username} and {@code password} as JMH params when
+ * the defaults do not apply.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(8)
+@State(Scope.Benchmark)
+public class CategoryWriteConsistencyBenchmark {
+
+    @Param({"WAIT_FOR", "SYNC", "ASYNC"})
+    public WriteConsistency consistency;
+
+    @Param("http://localhost:9200")
+    public String uris;
+
+    @Param("elastic")
+    public String username;
+
+    @Param("elastic")
+    public String password;
+
+    private CategoryBenchmarkCluster cluster;
+    private WriteBehindCategoryGateway categoryGateway;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        this.cluster = new CategoryBenchmarkCluster(uris, username, password);
+        final var indexProperties = CategoryBenchmarkCluster.indexProperties(true);
+        final var categoryIndex = new CategoryElasticsearchIndex(cluster.client(), cluster.operations(), indexProperties);
+        categoryIndex.afterPropertiesSet();
+
+        final var writeBehindProperties = new CategoryWriteBehindProperties();
+        writeBehindProperties.setCapacity(1_000_000);
+        writeBehindProperties.setMaxBatch(500);
+        this.categoryGateway = new WriteBehindCategoryGateway(
+                this.cluster.gateway(categoryIndex, indexProperties),
+                writeBehindProperties,
+                new SimpleMeterRegistry()
+        );
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        this.categoryGateway.close();
+        this.cluster.close();
+    }
+
+    @Benchmark
+    public Object save() {
+        return this.categoryGateway.save(this.cluster.category(), consistency);
+    }
+}
@@ -0,0 +1,133 @@
+package com.fullcycle.catalogo.infrastructure.configuration;
+
+import io.undertow.Undertow;
+import io.undertow.servlet.Servlets;
+import io.undertow.servlet.api.DeploymentManager;
+import io.undertow.servlet.util.ImmediateInstanceFactory;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Sends bursts of {@code inFlight} concurrent requests to an Undertow server
+ * whose servlet waits out a fixed Elasticsearch latency, handled by a pool of as
+ * many workers as the application has ({@code platform}) or by a virtual thread
+ * each ({@code virtual}), the two modes of {@code web.threads.virtual}.
+ * <p>
+ * A platform burst takes about {@code inFlight / 64} round trips, the requests
+ * past the workers queue for one; a virtual burst about one round trip for as
+ * long as the server keeps up, which is how many requests it holds in flight.
+ * <p>
+ * Needs no cluster: {@code ./gradlew :infrastructure:jmh -PjmhIncludes=WebServerThreadsBenchmark}.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class WebServerThreadsBenchmark {
+
+    private static final int WORKERS = 64;
+    private static final int IO_THREADS = 4;
+
+    @Param({"platform", "virtual"})
+    public String threads;
+
+    @Param({"64", "256", "1024"})
+    public int inFlight;
+
+    @Param("20")
+    public long latencyMillis;
+
+    private Undertow server;
+    private DeploymentManager deploymentManager;
+    private ExecutorService clientThreads;
+    private HttpClient client;
+    private URI uri;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        final var deployment = Servlets.deployment()
+                .setClassLoader(WebServerThreadsBenchmark.class.getClassLoader())
+                .setContextPath("/")
+                .setDeploymentName("categories")
+                .addServlet(Servlets.servlet("categories", SearchServlet.class,
+                                new ImmediateInstanceFactory<>(new SearchServlet(latencyMillis)))
+                        .addMapping("/categories"));
+        if ("virtual".equals(threads)) {
+            deployment.setExecutor(Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("undertow-", 0).factory()));
+        }
+        this.deploymentManager = Servlets.defaultContainer().addDeployment(deployment);
+        this.deploymentManager.deploy();
+
+        this.server = Undertow.builder()
+                .setWorkerThreads(WORKERS)
+                .setIoThreads(IO_THREADS)
+                .addHttpListener(0, "localhost")
+                .setHandler(this.deploymentManager.start())
+                .build();
+        this.server.start();
+        final var address = (InetSocketAddress) this.server.getListenerInfo().get(0).getAddress();
+        this.uri = URI.create("http://localhost:" + address.getPort() + "/categories");
+
+        this.clientThreads = Executors.newVirtualThreadPerTaskExecutor();
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(clientThreads)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        this.server.stop();
+        this.deploymentManager.stop();
+        this.deploymentManager.undeploy();
+        this.clientThreads.shutdownNow();
+    }
+
+    @Benchmark
+    public Object burst() {
+        final var request = HttpRequest.newBuilder(uri).GET().build();
+        final var requests = IntStream.range(0, inFlight)
+                .mapToObj(i -> this.client.sendAsync(request, HttpResponse.BodyHandlers.discarding()))
+                .toArray(CompletableFuture[]::new);
+        return CompletableFuture.allOf(requests).join();
+    }
+
+    /**
+     * Stands for a category search: the request thread blocks for one
+     * Elasticsearch round trip, then answers.
+     */
+    public static class SearchServlet extends HttpServlet {
+
+        private final long latencyMillis;
+
+        public SearchServlet(final long latencyMillis) {
+            this.latencyMillis = latencyMillis;
+        }
+
+        @Override
+        protected void doGet(final HttpServletRequest request, final HttpServletResponse response) throws IOException {
+            try {
+                Thread.sleep(latencyMillis);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            response.setContentType("application/json");
+            response.getWriter().write("{\"data\":[]}");
+        }
+    }
+}
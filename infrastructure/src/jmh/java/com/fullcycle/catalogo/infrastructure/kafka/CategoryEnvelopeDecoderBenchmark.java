@@ -0,0 +1,142 @@
+package com.fullcycle.catalogo.infrastructure.kafka;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fullcycle.catalogo.domain.category.ActivationStatus;
+import com.fullcycle.catalogo.domain.category.Category;
+import com.fullcycle.catalogo.infrastructure.configuration.json.Json;
+import com.fullcycle.catalogo.infrastructure.kafka.models.connect.Operation;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the streaming {@link CategoryEnvelopeDecoder} with binding the whole
+ * envelope through {@link Json#readValue(String, TypeReference)}, as the listener
+ * used to; the records it bound to are kept below as that baseline. Payloads are update events with schemas enabled, the heaviest shape
+ * the connector emits for categories.
+ * <p>
+ * Run with {@code ./gradlew :infrastructure:jmh}; the gc profiler reports the
+ * allocation rate per operation next to the throughput.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class CategoryEnvelopeDecoderBenchmark {
+
+    private static final TypeReference<MessageValue<CategoryEvent>> CATEGORY_MESSAGE = new TypeReference<>() {
+    };
+
+    private static final String SCHEMA = """
+            {"type":"struct","fields":[\
+            {"type":"struct","fields":[{"type":"string","optional":false,"field":"id"},\
+            {"type":"string","optional":false,"field":"name"},{"type":"string","optional":true,"field":"description"},\
+            {"type":"int16","optional":false,"field":"active"},\
+            {"type":"int64","optional":false,"name":"io.debezium.time.MicroTimestamp","version":1,"field":"created_at"},\
+            {"type":"int64","optional":false,"name":"io.debezium.time.MicroTimestamp","version":1,"field":"updated_at"},\
+            {"type":"int64","optional":true,"name":"io.debezium.time.MicroTimestamp","version":1,"field":"deleted_at"}],\
+            "optional":true,"name":"adm_videos_mysql.adm_videos.categories.Value","field":"before"},\
+            {"type":"struct","fields":[{"type":"string","optional":false,"field":"id"},\
+            {"type":"string","optional":false,"field":"name"},{"type":"string","optional":true,"field":"description"},\
+            {"type":"int16","optional":false,"field":"active"},\
+            {"type":"int64","optional":false,"name":"io.debezium.time.MicroTimestamp","version":1,"field":"created_at"},\
+            {"type":"int64","optional":false,"name":"io.debezium.time.MicroTimestamp","version":1,"field":"updated_at"},\
+            {"type":"int64","optional":true,"name":"io.debezium.time.MicroTimestamp","version":1,"field":"deleted_at"}],\
+            "optional":true,"name":"adm_videos_mysql.adm_videos.categories.Value","field":"after"},\
+            {"type":"struct","fields":[{"type":"string","optional":false,"field":"version"},\
+            {"type":"string","optional":false,"field":"connector"},{"type":"string","optional":false,"field":"name"},\
+            {"type":"int64","optional":false,"field":"ts_ms"},{"type":"string","optional":true,"field":"db"},\
+            {"type":"string","optional":true,"field":"table"},{"type":"int64","optional":false,"field":"server_id"},\
+            {"type":"string","optional":false,"field":"file"},{"type":"int64","optional":false,"field":"pos"}],\
+            "optional":false,"name":"io.debezium.connector.mysql.Source","field":"source"},\
+            {"type":"string","optional":false,"field":"op"},{"type":"int64","optional":true,"field":"ts_ms"}],\
+            "optional":false,"name":"adm_videos_mysql.adm_videos.categories.Envelope"}""";
+
+    private static final String SOURCE = """
+            {"version":"1.2.2.Final","connector":"mysql","name":"adm_videos_mysql","ts_ms":1694131200000,\
+            "snapshot":"false","db":"adm_videos","table":"categories","server_id":1,"gtid":null,\
+            "file":"mysql-bin.000003","pos":1543,"row":0,"thread":12,"query":null}""";
+
+    private static final String ROW = """
+            {"id":"%s","name":"%s","description":"%s","active":1,\
+            "created_at":1694131200123456,"updated_at":%d,"deleted_at":null}""";
+
+    private byte[] bytes;
+
+    @Setup
+    public void setUp() {
+        final var anId = UUID.randomUUID().toString().replace("-", "");
+        final var aBefore = ROW.formatted(anId, "Aulas", "Conteúdo gravado", 1694131200123456L);
+        final var anAfter = ROW.formatted(anId, "Aulas ao vivo", "Conteúdo gravado e transmitido ao vivo", 1694131260654321L);
+        final var aMessage = """
+                {"schema":%s,"payload":{"before":%s,"after":%s,"source":%s,"op":"u","ts_ms":1694131260700,"transaction":null}}"""
+                .formatted(SCHEMA, aBefore, anAfter, SOURCE);
+        this.bytes = aMessage.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public CategoryChange objectMapper() {
+        // The listener received the value as a String, so decoding it is part of the cost
+        final var aPayload = Json.readValue(new String(this.bytes, StandardCharsets.UTF_8), CATEGORY_MESSAGE).payload();
+        if (Operation.isDelete(aPayload.operation())) {
+            return CategoryChange.delete(aPayload.before().id(), null);
+        }
+        return CategoryChange.upsert(aPayload.after().toCategory(), null);
+    }
+
+    @Benchmark
+    public CategoryChange streamingDecoder() throws IOException {
+        return CategoryEnvelopeDecoder.decode(this.bytes, null);
+    }
+
+    record MessageValue<T>(
+            @JsonProperty("payload") ValuePayload<T> payload
+    ) {
+    }
+
+    record ValuePayload<T>(
+            @JsonProperty("before") T before,
+            @JsonProperty("after") T after,
+            @JsonProperty("op") Operation operation
+    ) {
+    }
+
+    /**
+     * Row image of the Admin {@code categories} table, {@code DATETIME(6)}
+     * columns in epoch microseconds.
+     */
+    record CategoryEvent(
+            @JsonProperty("id") String id,
+            @JsonProperty("name") String name,
+            @JsonProperty("description") String description,
+            @JsonProperty("active") Boolean active,
+            @JsonProperty("created_at") Long createdAt,
+            @JsonProperty("updated_at") Long updatedAt,
+            @JsonProperty("deleted_at") Long deletedAt
+    ) {
+
+        Category toCategory() {
+            return Category.with(
+                    id(),
+                    name(),
+                    description(),
+                    Boolean.FALSE.equals(active()) ? ActivationStatus.INACTIVE : ActivationStatus.ACTIVE,
+                    fromMicros(createdAt()),
+                    fromMicros(updatedAt()),
+                    fromMicros(deletedAt())
+            );
+        }
+
+        private static Instant fromMicros(final Long micros) {
+            if (micros == null) {
+                return null;
+            }
+            return Instant.EPOCH.plus(micros, ChronoUnit.MICROS).truncatedTo(ChronoUnit.MILLIS);
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package com.fullcycle.catalogo.infrastructure.category;
+
+import com.fullcycle.catalogo.domain.bulk.BulkItem;
+import com.fullcycle.catalogo.domain.bulk.BulkResult;
+import com.fullcycle.catalogo.domain.category.Category;
+import com.fullcycle.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.catalogo.domain.category.CategoryView;
+import com.fullcycle.catalogo.domain.consistency.WriteConsistency;
+import com.fullcycle.catalogo.domain.exceptions.InternalErrorException;
+import com.fullcycle.catalogo.domain.pagination.Pagination;
+import com.fullcycle.catalogo.infrastructure.configuration.properties.CategoryCacheProperties;
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.ExecutionError;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps the categories read by id in memory, bounded by count and age. Misses
+ * are cached too, as an empty {@link Optional}. Everything else goes straight to
+ * the decorated gateway.
+ * <p>
+ * An entry is dropped when this instance writes the category and when the CDC
+ * stream reports a change to it. A change may reach this instance before the
+ * index has it, so besides dropping the entry the version it brought is
+ * remembered: a category read back older than that version, or present after a
+ * delete, is returned but not cached, until the index catches up or the mark
+ * expires with the TTL. Ids are never reused after a delete.
+ * <p>
+ * Every such write also bumps the {@link CategoryGeneration} cached listings are
+ * checked against.
+ */
+public class CachedCategoryGateway implements CategoryGateway {
+
+    private static final String GETS_METRIC = "catalogo.cache.categories.gets";
+    private static final String HIT_RATIO_METRIC = "catalogo.cache.categories.hit.ratio";
+    private static final String EVICTIONS_METRIC = "catalogo.cache.categories.evictions";
+    private static final String SIZE_METRIC = "catalogo.cache.categories.size";
+    private static final String LOAD_METRIC = "catalogo.cache.categories.load";
+    private static final long DELETED = Long.MAX_VALUE;
+
+    private final CategoryGateway categoryGateway;
+    private final CategoryGeneration generation;
+    private final Cache<String, Optional<Category>> categories;
+    private final Cache<String, Long> expectedVersions;
+    private final Timer loadLatency;
+
+    public CachedCategoryGateway(
+            final CategoryGateway categoryGateway,
+            final CategoryGeneration generation,
+            final CategoryCacheProperties cacheProperties,
+            final MeterRegistry meterRegistry) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.generation = Objects.requireNonNull(generation);
+        this.categories = CacheBuilder.newBuilder()
+                .maximumSize(cacheProperties.getMaxSize())
+                .expireAfterWrite(cacheProperties.getTtl())
+                .recordStats()
+                .build();
+        this.expectedVersions = CacheBuilder.newBuilder()
+                .maximumSize(cacheProperties.getMaxSize())
+                .expireAfterWrite(cacheProperties.getTtl())
+                .build();
+
+        FunctionCounter.builder(GETS_METRIC, this.categories, it -> it.stats().hitCount())
+                .description("Category lookups by id served from memory")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        FunctionCounter.builder(GETS_METRIC, this.categories, it -> it.stats().missCount())
+                .description("Category lookups by id that went to Elasticsearch")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder(HIT_RATIO_METRIC, this.categories, it -> it.stats().hitRate())
+                .description("Share of category lookups by id served from memory")
+                .register(meterRegistry);
+        FunctionCounter.builder(EVICTIONS_METRIC, this.categories, it -> it.stats().evictionCount())
+                .description("Cached categories dropped for size or age, not counting invalidations")
+                .register(meterRegistry);
+        Gauge.builder(SIZE_METRIC, this.categories, Cache::size)
+                .description("Categories, and misses, held in memory")
+                .register(meterRegistry);
+        this.loadLatency = Timer.builder(LOAD_METRIC)
+                .description("Time to read a category missing from memory from Elasticsearch")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Category save(final Category aCategory) {
+        final var saved = this.categoryGateway.save(aCategory);
+        changed(aCategory, true);
+        return saved;
+    }
+
+    @Override
+    public Category save(final Category aCategory, final WriteConsistency aConsistency) {
+        final var saved = this.categoryGateway.save(aCategory, aConsistency);
+        changed(aCategory, WriteConsistency.WAIT_FOR.equals(aConsistency));
+        return saved;
+    }
+
+    @Override
+    public BulkResult saveAll(final List<Category> aCategories) {
+        final var result = this.categoryGateway.saveAll(aCategories);
+        if (aCategories != null && !result.items().isEmpty()) {
+            final var byId = aCategories.stream()
+                    .collect(Collectors.toMap(Category::id, Function.identity(), CachedCategoryGateway::latest));
+            result.items().stream()
+                    .filter(BulkItem::isApplied)
+                    .map(anItem -> byId.get(anItem.id()))
+                    .filter(Objects::nonNull)
+                    .forEach(this::changed);
+        }
+        return result;
+    }
+
+    @Override
+    public void deleteById(final String anId) {
+        this.categoryGateway.deleteById(anId);
+        deleted(anId);
+    }
+
+    @Override
+    public BulkResult deleteAllById(final List<String> anIds) {
+        final var result = this.categoryGateway.deleteAllById(anIds);
+        result.items().stream()
+                .filter(BulkItem::isApplied)
+                .map(BulkItem::id)
+                .forEach(this::deleted);
+        return result;
+    }
+
+    @Override
+    public Optional<Category> findById(final String anId) {
+        final Optional<Category> aCategory;
+        try {
+            aCategory = this.categories.get(anId, () -> this.loadLatency.record(() -> this.categoryGateway.findById(anId)));
+        } catch (final ExecutionException | UncheckedExecutionException | ExecutionError e) {
+            Throwables.throwIfUnchecked(e.getCause());
+            throw InternalErrorException.with("Read of category %s has failed".formatted(anId), e.getCause());
+        }
+        settle(anId, aCategory);
+        return aCategory;
+    }
+
+    /**
+     * Categories held in memory are served from it, the rest are read in a single
+     * call to the decorated gateway and cached, misses included.
+     */
+    @Override
+    public List<Category> findAllByIds(final Collection<String> anIds) {
+        if (anIds == null || anIds.isEmpty()) {
+            return List.of();
+        }
+        final var found = new ArrayList<Category>(anIds.size());
+        final var missing = new LinkedHashSet<String>();
+        for (final var anId : anIds) {
+            final var aCached = this.categories.getIfPresent(anId);
+            if (aCached == null) {
+                missing.add(anId);
+            } else {
+                aCached.ifPresent(found::add);
+            }
+        }
+        if (missing.isEmpty()) {
+            return found;
+        }
+        final var loaded = this.loadLatency.record(() -> this.categoryGateway.findAllByIds(missing)).stream()
+                .collect(Collectors.toMap(Category::id, Function.identity(), CachedCategoryGateway::latest));
+        for (final var anId : missing) {
+            final var aCategory = Optional.ofNullable(loaded.get(anId));
+            this.categories.put(anId, aCategory);
+            settle(anId, aCategory);
+            aCategory.ifPresent(found::add);
+        }
+        return found;
+    }
+
+    @Override
+    public Pagination<CategoryView> findAll(final CategorySearchQuery aQuery) {
+        return this.categoryGateway.findAll(aQuery);
+    }
+
+    /**
+     * Called for every category upsert on the CDC stream, whoever wrote it.
+     */
+    public void changed(final Category aCategory) {
+        changed(aCategory, false);
+    }
+
+    /**
+     * Called for every category delete on the CDC stream, whoever wrote it.
+     */
+    public void deleted(final String anId) {
+        this.expectedVersions.put(anId, DELETED);
+        this.categories.invalidate(anId);
+        this.generation.bump();
+    }
+
+    private void changed(final Category aCategory, final boolean searchable) {
+        this.expectedVersions.asMap().merge(aCategory.id(), versionOf(aCategory), Math::max);
+        this.categories.invalidate(aCategory.id());
+        if (searchable) {
+            this.generation.bumpSearchable();
+        } else {
+            this.generation.bump();
+        }
+    }
+
+    private void settle(final String anId, final Optional<Category> aCategory) {
+        final var expected = this.expectedVersions.getIfPresent(anId);
+        if (expected != null) {
+            if (isAtLeast(aCategory, expected)) {
+                this.expectedVersions.asMap().remove(anId, expected);
+            } else {
+                this.categories.asMap().remove(anId, aCategory);
+            }
+        }
+    }
+
+    private static boolean isAtLeast(final Optional<Category> aCategory, final long anExpectedVersion) {
+        if (anExpectedVersion == DELETED) {
+            return aCategory.isEmpty();
+        }
+        return aCategory.map(it -> versionOf(it) >= anExpectedVersion).orElse(false);
+    }
+
+    private static Category latest(final Category aCategory, final Category anOther) {
+        return versionOf(aCategory) >= versionOf(anOther) ? aCategory : anOther;
+    }
+
+    private static long versionOf(final Category aCategory) {
+        return aCategory.updatedAt().toEpochMilli();
+    }
+}
@@ -0,0 +1,164 @@
+package com.fullcycle.catalogo.infrastructure.category;
+
+import com.fullcycle.catalogo.application.category.list.ListCategoryOutput;
+import com.fullcycle.catalogo.application.category.list.ListCategoryUseCase;
+import com.fullcycle.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.catalogo.domain.exceptions.InternalErrorException;
+import com.fullcycle.catalogo.domain.pagination.Pagination;
+import com.fullcycle.catalogo.infrastructure.configuration.properties.CategoryListingCacheProperties;
+import com.fullcycle.catalogo.infrastructure.utils.ThreadUtils;
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.ExecutionError;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Keeps the pages of category listings in memory, keyed by the
+ * {@link CategorySearchQuery#normalized() normalized} query, so every spelling of
+ * the same listing shares one entry.
+ * <p>
+ * A page is fresh for {@code fresh-for} unless a category was written since it
+ * was read, see {@link CategoryGeneration}. Past that it is still served, for up
+ * to {@code stale-for} more, while a background read replaces it; callers only
+ * wait for Elasticsearch on a listing not in memory at all, or read before a
+ * {@code WAIT_FOR} write: its caller expects to find it in the next listing.
+ * <p>
+ * Pages resumed from a cursor read a point in time of their own and are never
+ * cached.
+ */
+public class CachedListCategoryUseCase extends ListCategoryUseCase implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(CachedListCategoryUseCase.class);
+
+    private static final String GETS_METRIC = "catalogo.cache.categories.listings.gets";
+    private static final String SIZE_METRIC = "catalogo.cache.categories.listings.size";
+    private static final int REVALIDATORS = 2;
+
+    private final CategoryGeneration generation;
+    private final Cache<CategorySearchQuery, Listing> listings;
+    private final Set<CategorySearchQuery> revalidating = ConcurrentHashMap.newKeySet();
+    private final ExecutorService revalidator;
+    private final long freshForNanos;
+    private final Counter freshHits;
+    private final Counter staleHits;
+    private final Counter misses;
+
+    public CachedListCategoryUseCase(
+            final CategoryGateway categoryGateway,
+            final CategoryGeneration generation,
+            final CategoryListingCacheProperties cacheProperties,
+            final MeterRegistry meterRegistry) {
+        super(categoryGateway);
+        this.generation = Objects.requireNonNull(generation);
+        this.freshForNanos = cacheProperties.getFreshFor().toNanos();
+        this.listings = CacheBuilder.newBuilder()
+                .maximumSize(cacheProperties.getMaxSize())
+                .expireAfterWrite(cacheProperties.getFreshFor().plus(cacheProperties.getStaleFor()))
+                .build();
+        this.revalidator = Executors.newFixedThreadPool(REVALIDATORS, ThreadUtils.daemonThreadFactory("category-listing-revalidator-"));
+
+        this.freshHits = Counter.builder(GETS_METRIC)
+                .description("Category listings served from memory while fresh")
+                .tag("result", "fresh")
+                .register(meterRegistry);
+        this.staleHits = Counter.builder(GETS_METRIC)
+                .description("Category listings served from memory while read again in the background")
+                .tag("result", "stale")
+                .register(meterRegistry);
+        this.misses = Counter.builder(GETS_METRIC)
+                .description("Category listings read from Elasticsearch while the caller waited")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder(SIZE_METRIC, this.listings, Cache::size)
+                .description("Category listings held in memory")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Pagination<ListCategoryOutput> execute(final CategorySearchQuery aQuery) {
+        if (aQuery.hasCursor()) {
+            return super.execute(aQuery);
+        }
+        final var aKey = aQuery.normalized();
+        final var aListing = this.listings.getIfPresent(aKey);
+        if (aListing == null) {
+            this.misses.increment();
+            return load(aKey).page();
+        }
+        if (isFresh(aListing)) {
+            this.freshHits.increment();
+        } else if (!this.generation.isServable(aListing.stamp())) {
+            this.misses.increment();
+            this.listings.asMap().remove(aKey, aListing);
+            return load(aKey).page();
+        } else {
+            this.staleHits.increment();
+            revalidate(aKey);
+        }
+        return aListing.page();
+    }
+
+    @Override
+    public void close() {
+        this.revalidator.shutdownNow();
+    }
+
+    /**
+     * Concurrent misses on the same listing wait for a single read.
+     */
+    private Listing load(final CategorySearchQuery aKey) {
+        try {
+            return this.listings.get(aKey, () -> read(aKey));
+        } catch (final ExecutionException | UncheckedExecutionException | ExecutionError e) {
+            Throwables.throwIfUnchecked(e.getCause());
+            throw InternalErrorException.with("Listing of categories has failed", e.getCause());
+        }
+    }
+
+    private void revalidate(final CategorySearchQuery aKey) {
+        if (!this.revalidating.add(aKey)) {
+            return;
+        }
+        try {
+            this.revalidator.execute(() -> {
+                try {
+                    this.listings.put(aKey, read(aKey));
+                } catch (final RuntimeException e) {
+                    log.warn("Keeping a stale category listing, reading it again has failed", e);
+                } finally {
+                    this.revalidating.remove(aKey);
+                }
+            });
+        } catch (final RejectedExecutionException e) {
+            this.revalidating.remove(aKey);
+        }
+    }
+
+    private Listing read(final CategorySearchQuery aKey) {
+        final var aStamp = this.generation.stamp();
+        return new Listing(super.execute(aKey), aStamp);
+    }
+
+    private boolean isFresh(final Listing aListing) {
+        return System.nanoTime() - aListing.stamp().nanos() < this.freshForNanos
+                && this.generation.isCurrent(aListing.stamp());
+    }
+
+    private record Listing(Pagination<ListCategoryOutput> page, CategoryGeneration.Stamp stamp) {
+    }
+}
@@ -0,0 +1,40 @@
+package com.fullcycle.catalogo.infrastructure.category;
+
+import com.fullcycle.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.catalogo.domain.validation.Error;
+import com.fullcycle.catalogo.infrastructure.configuration.json.Json;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Where a page of categories ended: the sort values of its last hit and the
+ * point in time it was read from. Clients only ever see it encoded.
+ * <p>
+ * {@code pit} is {@code null} when the page was read by offset; the point in
+ * time is opened by the first page that resumes from it.
+ */
+record CategoryCursor(String pit, List<Object> after) {
+
+    private static final Error INVALID = new Error("'cursor' is invalid");
+
+    static CategoryCursor decode(final String aCursor) {
+        final CategoryCursor decoded;
+        try {
+            decoded = Json.readValue(
+                    new String(Base64.getUrlDecoder().decode(aCursor), StandardCharsets.UTF_8), CategoryCursor.class);
+        } catch (final RuntimeException e) {
+            throw DomainException.with(INVALID);
+        }
+        if (decoded == null || decoded.after() == null || decoded.after().isEmpty()) {
+            throw DomainException.with(INVALID);
+        }
+        return decoded;
+    }
+
+    String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(Json.writeValueAsString(this).getBytes(StandardCharsets.UTF_8));
+    }
+}
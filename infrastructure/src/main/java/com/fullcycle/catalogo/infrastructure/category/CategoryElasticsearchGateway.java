@@ -1,49 +1,183 @@
 package com.fullcycle.catalogo.infrastructure.category;
 
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.ElasticsearchException;
+import co.elastic.clients.elasticsearch._types.ErrorCause;
+import co.elastic.clients.elasticsearch._types.Refresh;
+import co.elastic.clients.elasticsearch._types.VersionType;
+import co.elastic.clients.elasticsearch.core.bulk.BulkOperation;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
+import com.fullcycle.catalogo.domain.bulk.BulkItem;
+import com.fullcycle.catalogo.domain.bulk.BulkResult;
+import com.fullcycle.catalogo.domain.bulk.BulkStatus;
 import com.fullcycle.catalogo.domain.category.Category;
 import com.fullcycle.catalogo.domain.category.CategoryGateway;
 import com.fullcycle.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.catalogo.domain.category.CategoryView;
+import com.fullcycle.catalogo.domain.consistency.WriteConsistency;
+import com.fullcycle.catalogo.domain.exceptions.ConflictException;
+import com.fullcycle.catalogo.domain.exceptions.InternalErrorException;
+import com.fullcycle.catalogo.domain.pagination.Metadata;
 import com.fullcycle.catalogo.domain.pagination.Pagination;
+import com.fullcycle.catalogo.domain.utils.InstantUtils;
+import com.fullcycle.catalogo.domain.validation.Error;
 import com.fullcycle.catalogo.infrastructure.category.persistence.CategoryDocument;
 import com.fullcycle.catalogo.infrastructure.category.persistence.CategoryRepository;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
+import com.fullcycle.catalogo.infrastructure.configuration.properties.CategoryIndexProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
 import org.springframework.data.elasticsearch.core.SearchHit;
-import org.springframework.data.elasticsearch.core.SearchOperations;
-import org.springframework.data.elasticsearch.core.query.Criteria;
-import org.springframework.data.elasticsearch.core.query.CriteriaQuery;
-import org.springframework.data.elasticsearch.core.query.Query;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.Query.PointInTime;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.StreamSupport;
 
-import static org.springframework.data.elasticsearch.core.query.Criteria.where;
-
+/**
+ * Category writes are versioned externally by {@link Category#updatedAt()}, so
+ * Elasticsearch itself rejects a write older than the indexed document. Replays
+ * and late CDC events are dropped without a read-before-write; such conflicts are
+ * reported as {@link BulkStatus#SKIPPED} by bulk writes, and thrown as a
+ * {@link ConflictException} by a single save, whose caller expects the category
+ * it passed to be stored.
+ * <p>
+ * Deletes carry no version of their own and are versioned by the time they are
+ * made: one the index refuses because the category was updated since is not
+ * applied, and reported as {@link BulkStatus#FAILED} or thrown as a
+ * {@link ConflictException} in turn, never passed off as a stale write.
+ * <p>
+ * Single-document writes without a {@link WriteConsistency} refresh right
+ * away, as the repository they replaced did after every write.
+ * <p>
+ * Reads go through the {@code categories} alias; writes go wherever
+ * {@link CategoryElasticsearchIndex} says, which is also the index being built
+ * while a reindex runs.
+ */
 @Component
 public class CategoryElasticsearchGateway implements CategoryGateway {
 
-    private static final String NAME_PROP = "name";
-    private static final String KEYWORD = ".keyword";
+    private static final Logger log = LoggerFactory.getLogger(CategoryElasticsearchGateway.class);
+
+    private static final String VERSION_CONFLICT = "version_conflict_engine_exception";
+    private static final String NOT_DELETED = "Category %s was not deleted, it was updated at or after the delete";
+    private static final Refresh IMMEDIATE = Refresh.True;
+    private static final List<BulkStatus> SEVERITY =
+            List.of(BulkStatus.SKIPPED, BulkStatus.SUCCEEDED, BulkStatus.REJECTED, BulkStatus.FAILED);
     private final CategoryRepository categoryRepository;
-    private final SearchOperations searchOperations;
+    private final ElasticsearchOperations elasticsearchOperations;
+    private final ElasticsearchClient elasticsearchClient;
+    private final CategoryElasticsearchIndex categoryIndex;
+    private final CategoryIndexProperties indexProperties;
+    private final CategorySearchDispatcher searchDispatcher;
 
     public CategoryElasticsearchGateway(
             final CategoryRepository categoryRepository,
-            final SearchOperations searchOperations) {
+            final ElasticsearchOperations elasticsearchOperations,
+            final ElasticsearchClient elasticsearchClient,
+            final CategoryElasticsearchIndex categoryIndex,
+            final CategoryIndexProperties indexProperties,
+            final CategorySearchDispatcher searchDispatcher) {
         this.categoryRepository = Objects.requireNonNull(categoryRepository);
-        this.searchOperations = Objects.requireNonNull(searchOperations);
+        this.elasticsearchOperations = Objects.requireNonNull(elasticsearchOperations);
+        this.elasticsearchClient = Objects.requireNonNull(elasticsearchClient);
+        this.categoryIndex = Objects.requireNonNull(categoryIndex);
+        this.indexProperties = Objects.requireNonNull(indexProperties);
+        this.searchDispatcher = Objects.requireNonNull(searchDispatcher);
     }
 
+    /**
+     * Searchable on return, as when the repository refreshed after every save:
+     * {@link WriteConsistency#SYNC} only promises the category is stored.
+     *
+     * @throws ConflictException when the index already holds this version of the
+     *                           category or a newer one
+     */
     @Override
     public Category save(final Category aCategory) {
-        this.categoryRepository.save(CategoryDocument.from(aCategory));
-        return aCategory;
+        return save(aCategory, IMMEDIATE);
+    }
+
+    /**
+     * {@code WAIT_FOR} holds the response until the next refresh makes the
+     * category searchable, without forcing one. There is no queue at this level,
+     * {@code ASYNC} is indexed like {@code SYNC}; {@link WriteBehindCategoryGateway}
+     * is what acknowledges it early.
+     *
+     * @throws ConflictException when the index already holds this version of the
+     *                           category or a newer one
+     */
+    @Override
+    public Category save(final Category aCategory, final WriteConsistency aConsistency) {
+        return save(aCategory, WriteConsistency.WAIT_FOR.equals(aConsistency) ? Refresh.WaitFor : Refresh.False);
+    }
+
+    private Category save(final Category aCategory, final Refresh aRefresh) {
+        final var aSource = toSource(CategoryDocument.from(aCategory));
+        return this.categoryIndex.write(targets -> {
+            targets.forEach(anIndex -> index(anIndex, aCategory, aSource, aRefresh));
+            return aCategory;
+        });
     }
 
+    @Override
+    public BulkResult saveAll(final List<Category> aCategories) {
+        if (aCategories == null || aCategories.isEmpty()) {
+            return BulkResult.empty();
+        }
+        return this.categoryIndex.write(targets -> {
+            final var operations = targets.stream()
+                    .flatMap(anIndex -> aCategories.stream().map(aCategory -> indexOperation(anIndex, aCategory)))
+                    .toList();
+            return bulk(operations, targets.size(), null, CategoryElasticsearchGateway::toBulkItem);
+        });
+    }
+
+    /**
+     * @throws ConflictException when the category was updated at or after the
+     *                           delete, it is kept
+     */
     @Override
     public void deleteById(final String anId) {
-        this.categoryRepository.deleteById(anId);
+        final var aVersion = InstantUtils.now().toEpochMilli();
+        final var result = this.categoryIndex.write(targets -> {
+            final var operations = targets.stream()
+                    .map(anIndex -> deleteOperation(anIndex, anId, aVersion))
+                    .toList();
+            return bulk(operations, targets.size(), IMMEDIATE, CategoryElasticsearchGateway::toDeleteItem);
+        });
+        final var aNotDeleted = new Error(NOT_DELETED.formatted(anId));
+        if (result.failures().stream().anyMatch(it -> aNotDeleted.equals(it.error()))) {
+            throw ConflictException.with(aNotDeleted);
+        }
+        if (result.hasFailures()) {
+            throw InternalErrorException.with("Delete of category %s has failed: %s"
+                    .formatted(anId, result.failures()), null);
+        }
+    }
+
+    @Override
+    public BulkResult deleteAllById(final List<String> anIds) {
+        if (anIds == null || anIds.isEmpty()) {
+            return BulkResult.empty();
+        }
+        final var aVersion = InstantUtils.now().toEpochMilli();
+        return this.categoryIndex.write(targets -> {
+            final var operations = targets.stream()
+                    .flatMap(anIndex -> anIds.stream().map(anId -> deleteOperation(anIndex, anId, aVersion)))
+                    .toList();
+            return bulk(operations, targets.size(), null, CategoryElasticsearchGateway::toDeleteItem);
+        });
     }
 
     @Override
@@ -52,37 +186,228 @@ public class CategoryElasticsearchGateway implements CategoryGateway {
                 .map(CategoryDocument::toCategory);
     }
 
+    /**
+     * A single {@code _mget}, served in real time like {@link #findById(String)}
+     * rather than from the last refresh.
+     */
+    @Override
+    public List<Category> findAllByIds(final Collection<String> anIds) {
+        if (anIds == null || anIds.isEmpty()) {
+            return List.of();
+        }
+        return StreamSupport.stream(this.categoryRepository.findAllById(anIds).spliterator(), false)
+                .map(CategoryDocument::toCategory)
+                .toList();
+    }
+
+    /**
+     * Hits are sorted by the requested field with the id as tie-breaker, so every
+     * page ends at a unique position that the next one resumes from with
+     * {@code search_after}, without the offset that makes deep pages slow and
+     * fails past {@code max_result_window}. Resumed pages read a point in time,
+     * opened by the first of them and closed with the last, so writes in between
+     * neither skip nor repeat categories.
+     * <p>
+     * Matches are counted as far as the query asks: a capped or disabled count
+     * lets shards stop collecting once the page is full.
+     * <p>
+     * A projected query only fetches its fields from {@code _source}, and hits
+     * map straight to views instead of validated categories.
+     * <p>
+     * First pages go through {@link CategorySearchDispatcher}, which may batch
+     * them with other searches; resumed pages read their own point in time.
+     */
     @Override
-    public Pagination<Category> findAll(final CategorySearchQuery aQuery) {
-        final var terms = aQuery.terms();
+    public Pagination<CategoryView> findAll(final CategorySearchQuery aQuery) {
         final var currentPage = aQuery.page();
         final var perPage = aQuery.perPage();
+        final var aCursor = aQuery.hasCursor() ? CategoryCursor.decode(aQuery.cursor()) : null;
 
-        final var sort = Sort.by(Sort.Direction.fromString(aQuery.direction()), buildSort(aQuery.sort()));
-        final var pageRequest = PageRequest.of(currentPage, perPage, sort);
-
-        final Query query;
-        if (terms != null && !terms.isBlank()) {
-            final var criteria = where("name").contains(terms)
-                    .or(where("description").contains(terms));
-            query = new CriteriaQuery(criteria, pageRequest);
-        } else {
-            query = Query.findAll().setPageable(pageRequest);
+        final var builder = CategoryQueries.searchOf(aQuery, aCursor, this.categoryIndex.idSortField());
+        if (aCursor != null) {
+            final var aPit = aCursor.pit() != null ? aCursor.pit() : openPointInTime();
+            builder.withPointInTime(new PointInTime(aPit, this.indexProperties.getCursorKeepAlive()));
         }
 
-        final var result = this.searchOperations.search(query, CategoryDocument.class);
-        final var total = result.getTotalHits();
+        final var result = aCursor != null
+                ? this.elasticsearchOperations.search(builder.build(), CategoryDocument.class)
+                : this.searchDispatcher.search(builder.build());
+        final var aMetadata = new Metadata(
+                currentPage,
+                perPage,
+                result.getTotalHits(),
+                nextCursor(aCursor, result, perPage),
+                CategoryQueries.totalRelationOf(result.getTotalHitsRelation())
+        );
         final var categories = result.stream()
                 .map(SearchHit::getContent)
-                .map(CategoryDocument::toCategory)
+                .map(aDocument -> aDocument.toView(aQuery.fields()))
                 .toList();
-        return new Pagination<>(currentPage, perPage, total, categories);
+        return new Pagination<>(aMetadata, categories);
+    }
+
+    private String openPointInTime() {
+        return this.elasticsearchOperations.openPointInTime(
+                IndexCoordinates.of(this.categoryIndex.alias()), this.indexProperties.getCursorKeepAlive());
+    }
+
+    /**
+     * A short page is the last one: its point in time is released right away
+     * instead of waiting out the keep-alive.
+     */
+    private String nextCursor(final CategoryCursor aCursor, final SearchHits<?> aResult, final int perPage) {
+        final var aPit = aResult.getPointInTimeId();
+        if (CategoryQueries.isLastPage(aResult.getSearchHits().size(), perPage)) {
+            if (aCursor != null && aPit != null) {
+                closePointInTime(aPit);
+            }
+            return null;
+        }
+        final var aLastHit = aResult.getSearchHit(aResult.getSearchHits().size() - 1);
+        return new CategoryCursor(aCursor != null ? aPit : null, aLastHit.getSortValues()).encode();
+    }
+
+    private void closePointInTime(final String aPit) {
+        try {
+            this.elasticsearchOperations.closePointInTime(aPit);
+        } catch (final RuntimeException e) {
+            log.warn("Could not close the category point in time, it expires on its own", e);
+        }
     }
 
-    private String buildSort(final String sort) {
-        if (NAME_PROP.equals(sort)) {
-            return sort.concat(KEYWORD);
+    private void index(
+            final String anIndex,
+            final Category aCategory,
+            final Map<String, Object> aSource,
+            final Refresh aRefresh) {
+        try {
+            this.elasticsearchClient.index(idx -> idx
+                    .index(anIndex)
+                    .id(aCategory.id())
+                    .version(versionOf(aCategory))
+                    .versionType(VersionType.External)
+                    .refresh(aRefresh)
+                    .document(aSource));
+        } catch (final ElasticsearchException e) {
+            if (!isVersionConflict(e.error())) {
+                throw e;
+            }
+            if (this.categoryIndex.alias().equals(anIndex)) {
+                throw ConflictException.with(new Error("Category %s was not saved, version %s is not newer than the indexed one"
+                        .formatted(aCategory.id(), aCategory.updatedAt())));
+            }
+            // The index being built may already have it from the copy
+            log.debug("Category {} was not saved to {}, a newer version is already indexed", aCategory.id(), anIndex);
+        } catch (final IOException e) {
+            throw InternalErrorException.with("Index request to Elasticsearch has failed", e);
         }
-        return sort;
+    }
+
+    private BulkOperation indexOperation(final String anIndex, final Category aCategory) {
+        final var aSource = toSource(CategoryDocument.from(aCategory));
+        return BulkOperation.of(op -> op.index(idx -> idx
+                .index(anIndex)
+                .id(aCategory.id())
+                .version(versionOf(aCategory))
+                .versionType(VersionType.External)
+                .document(aSource)));
+    }
+
+    /**
+     * Versioned by the time of the delete, so its tombstone rejects any write of
+     * a category last updated before it, such as a reindex copy made earlier; a
+     * category updated at or after it is kept and the delete refused.
+     */
+    private BulkOperation deleteOperation(final String anIndex, final String anId, final long aVersion) {
+        return BulkOperation.of(op -> op.delete(del -> del
+                .index(anIndex)
+                .id(anId)
+                .version(aVersion)
+                .versionType(VersionType.ExternalGte)));
+    }
+
+    /**
+     * Operations are laid out target by target, so the same item of every target
+     * is {@code items / targets} apart. Each change is reported once, with its
+     * worst outcome across targets.
+     */
+    private BulkResult bulk(
+            final List<BulkOperation> operations,
+            final int aTargets,
+            final Refresh aRefresh,
+            final Function<BulkResponseItem, BulkItem> anItemMapper) {
+        try {
+            final var response = this.elasticsearchClient.bulk(req -> req.operations(operations).refresh(aRefresh));
+            final var items = response.items().stream()
+                    .map(anItemMapper)
+                    .toList();
+            if (aTargets == 1) {
+                return BulkResult.of(items);
+            }
+            final var perTarget = items.size() / aTargets;
+            final var merged = new ArrayList<BulkItem>(perTarget);
+            for (int i = 0; i < perTarget; i++) {
+                var aWorst = items.get(i);
+                for (int target = 1; target < aTargets; target++) {
+                    aWorst = worst(aWorst, items.get(i + target * perTarget));
+                }
+                merged.add(aWorst);
+            }
+            return BulkResult.of(merged);
+        } catch (final IOException e) {
+            throw InternalErrorException.with("Bulk request to Elasticsearch has failed", e);
+        }
+    }
+
+    private static BulkItem worst(final BulkItem anItem, final BulkItem anOther) {
+        return SEVERITY.indexOf(anOther.status()) > SEVERITY.indexOf(anItem.status()) ? anOther : anItem;
+    }
+
+    private static BulkItem toBulkItem(final BulkResponseItem anItem) {
+        if (isVersionConflict(anItem.error())) {
+            return BulkItem.skipped(anItem.id(), new Error(anItem.error().reason()));
+        }
+        if (anItem.error() != null && isTransient(anItem.status())) {
+            return BulkItem.rejected(anItem.id(), new Error(anItem.error().reason()));
+        }
+        if (anItem.error() != null) {
+            return BulkItem.failed(anItem.id(), new Error(anItem.error().reason()));
+        }
+        return BulkItem.succeeded(anItem.id());
+    }
+
+    /**
+     * A delete refused for its version was not applied, unlike a stale upsert:
+     * the category it should have removed is still served.
+     */
+    private static BulkItem toDeleteItem(final BulkResponseItem anItem) {
+        if (isVersionConflict(anItem.error())) {
+            return BulkItem.failed(anItem.id(), new Error(NOT_DELETED.formatted(anItem.id())));
+        }
+        return toBulkItem(anItem);
+    }
+
+    private static boolean isVersionConflict(final ErrorCause anError) {
+        return anError != null && VERSION_CONFLICT.equals(anError.type());
+    }
+
+    /**
+     * 429 is returned for {@code es_rejected_execution_exception}, 5xx while shards
+     * are unavailable; anything else in the 4xx range will not heal by retrying.
+     */
+    private static boolean isTransient(final int aStatus) {
+        return aStatus == 429 || aStatus >= 500;
+    }
+
+    private static long versionOf(final Category aCategory) {
+        return aCategory.updatedAt().toEpochMilli();
+    }
+
+    /**
+     * Maps the document through the Spring Data converter, so the raw client
+     * writes the same field names and date formats as {@link CategoryRepository}.
+     */
+    private Map<String, Object> toSource(final CategoryDocument aDocument) {
+        return new HashMap<>(this.elasticsearchOperations.getElasticsearchConverter().mapObject(aDocument));
     }
 }
@@ -0,0 +1,484 @@
+package com.fullcycle.catalogo.infrastructure.category;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.Conflicts;
+import co.elastic.clients.elasticsearch._types.ElasticsearchException;
+import co.elastic.clients.elasticsearch._types.SlicesCalculation;
+import co.elastic.clients.elasticsearch._types.VersionType;
+import co.elastic.clients.elasticsearch._types.mapping.TypeMapping;
+import co.elastic.clients.elasticsearch.indices.IndexSettings;
+import co.elastic.clients.elasticsearch.indices.update_aliases.Action;
+import com.fullcycle.catalogo.domain.exceptions.InternalErrorException;
+import com.fullcycle.catalogo.infrastructure.category.persistence.CategoryDocument;
+import com.fullcycle.catalogo.infrastructure.configuration.properties.CategoryIndexProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+/**
+ * Owns the physical indices behind the {@code categories} alias. Reads and writes
+ * only ever address the alias, which points at one versioned index,
+ * {@code categories_vN}.
+ * <p>
+ * {@link #reindex()} builds {@code categories_vN+1} from the current mapping and
+ * {@link CategoryIndexProperties}, fills it with a sliced {@code _reindex} that
+ * keeps every document's external version, and swaps the alias atomically once
+ * the copy is complete, so reads never see a half-built index. In
+ * {@code bulk-load} mode the new index has no replicas and no refreshes while
+ * it is filled; the configured values are restored after a force-merge, right
+ * before the swap.
+ * <p>
+ * While it runs, writes go to both indices. The index being built is published
+ * as the {@code categories_building} alias, so that every instance does, not
+ * only the one running the reindex: a write checks the alias again once what it
+ * knows is older than {@code rebuild-check-interval}, and the reindex waits twice
+ * that long before copying and before dropping a failed index. Versioning lets
+ * the copy and the live writes land in any order: whichever is older is
+ * rejected as a conflict. Deletes are versioned too, and the new index keeps
+ * their tombstones until it is complete, so the copy cannot bring back a
+ * category it read before it was deleted.
+ * <p>
+ * The previous index is kept for rollback; anything older is dropped.
+ */
+@Component
+public class CategoryElasticsearchIndex implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(CategoryElasticsearchIndex.class);
+
+    private static final String ID_FIELD = "id";
+    private static final String LEGACY_ID_FIELD = ID_FIELD + ".keyword";
+    private static final String VERSION_SEPARATOR = "_v";
+    private static final Pattern VERSIONED = Pattern.compile(".*" + VERSION_SEPARATOR + "(\\d+)$");
+    private static final String ALREADY_EXISTS = "resource_already_exists_exception";
+    private static final String REFRESH_DISABLED = "-1";
+    private static final String BUILDING_SUFFIX = "_building";
+    // Outlives any copy, restored to the Elasticsearch default once it is done
+    private static final String BUILDING_GC_DELETES = "1d";
+    private static final String GC_DELETES = "60s";
+    private static final Duration TASK_POLL_INTERVAL = Duration.ofSeconds(1);
+
+    private final ElasticsearchClient elasticsearchClient;
+    private final ElasticsearchOperations elasticsearchOperations;
+    private final CategoryIndexProperties indexProperties;
+    private final String alias;
+    private final String buildingAlias;
+
+    private final ReadWriteLock targetsLock = new ReentrantReadWriteLock();
+    private final AtomicBoolean reindexing = new AtomicBoolean();
+    private volatile boolean initialized;
+    private volatile String building;
+    private volatile long buildingCheckedAt;
+    private volatile String idSortField;
+
+    public CategoryElasticsearchIndex(
+            final ElasticsearchClient elasticsearchClient,
+            final ElasticsearchOperations elasticsearchOperations,
+            final CategoryIndexProperties indexProperties) {
+        this.elasticsearchClient = Objects.requireNonNull(elasticsearchClient);
+        this.elasticsearchOperations = Objects.requireNonNull(elasticsearchOperations);
+        this.indexProperties = Objects.requireNonNull(indexProperties);
+        this.alias = elasticsearchOperations.getIndexCoordinatesFor(CategoryDocument.class).getIndexName();
+        this.buildingAlias = this.alias + BUILDING_SUFFIX;
+        this.buildingCheckedAt = System.nanoTime() - indexProperties.getRebuildCheckInterval().toNanos();
+    }
+
+    /**
+     * The alias must exist before the first write, or Elasticsearch would create
+     * a concrete index with its name and dynamic mappings. If the cluster is not
+     * reachable yet, the first write tries again.
+     */
+    @Override
+    public void afterPropertiesSet() {
+        try {
+            initialize();
+        } catch (final Exception e) {
+            log.warn("Could not prepare the {} index yet, it will be created on the first write", alias, e);
+        }
+    }
+
+    public String alias() {
+        return alias;
+    }
+
+    /**
+     * The field ids are sorted by, the tie-breaker of every search: {@code id},
+     * or its {@code keyword} sub-field on an index created before aliases were
+     * introduced, whose dynamic mapping made {@code id} a text field that cannot
+     * be sorted on. Read from the mapping on first use and again once a reindex
+     * replaced the index, on this instance or another one.
+     */
+    public String idSortField() {
+        final var aField = this.idSortField;
+        if (aField != null) {
+            return aField;
+        }
+        initialize();
+        try {
+            final var mappings = this.elasticsearchClient.indices()
+                    .getFieldMapping(f -> f.index(alias).fields(ID_FIELD))
+                    .result();
+            final var isKeyword = mappings.values().stream()
+                    .map(anIndex -> anIndex.mappings().get(ID_FIELD))
+                    .allMatch(aMapping -> aMapping != null
+                            && aMapping.mapping().containsKey(ID_FIELD)
+                            && aMapping.mapping().get(ID_FIELD).isKeyword());
+            final var aSortField = isKeyword ? ID_FIELD : LEGACY_ID_FIELD;
+            this.idSortField = aSortField;
+            return aSortField;
+        } catch (final IOException e) {
+            throw InternalErrorException.with("Could not read the mapping of " + alias, e);
+        }
+    }
+
+    /**
+     * Runs a write against every index that must receive it: the alias, plus the
+     * index being built while a reindex runs, on this instance or another one.
+     * Targets stay stable until the write returns, so none straddles the start or
+     * the end of a reindex run by this instance.
+     */
+    public <T> T write(final Function<List<String>, T> aWrite) {
+        initialize();
+        final var lock = this.targetsLock.readLock();
+        lock.lock();
+        try {
+            final var aBuilding = building();
+            return aWrite.apply(aBuilding == null ? List.of(alias) : List.of(alias, aBuilding));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Rebuilds the categories into a new versioned index and points the alias at
+     * it. Blocks until the alias was swapped and returns the new index name.
+     */
+    public String reindex() {
+        if (!this.reindexing.compareAndSet(false, true)) {
+            throw new IllegalStateException("A reindex of " + alias + " is already running");
+        }
+        try {
+            initialize();
+            return rebuild();
+        } catch (final IOException e) {
+            throw InternalErrorException.with("Reindex of " + alias + " has failed", e);
+        } finally {
+            this.reindexing.set(false);
+        }
+    }
+
+    private void initialize() {
+        if (this.initialized) {
+            return;
+        }
+        synchronized (this) {
+            if (this.initialized) {
+                return;
+            }
+            try {
+                if (!this.elasticsearchClient.indices().exists(e -> e.index(alias)).value()) {
+                    createIndex(versioned(1), liveSettings(), true);
+                }
+            } catch (final IOException e) {
+                throw InternalErrorException.with("Could not create the " + alias + " index", e);
+            }
+            this.initialized = true;
+        }
+    }
+
+    /**
+     * The index being built, as last read from the building alias. Read again
+     * once older than {@code rebuild-check-interval}; concurrent writers may both
+     * read it, which is harmless.
+     */
+    private String building() {
+        final var aCheckInterval = this.indexProperties.getRebuildCheckInterval().toNanos();
+        if (System.nanoTime() - this.buildingCheckedAt < aCheckInterval) {
+            return this.building;
+        }
+        try {
+            String aBuilding = null;
+            if (this.elasticsearchClient.indices().existsAlias(e -> e.name(buildingAlias)).value()) {
+                aBuilding = this.elasticsearchClient.indices().getAlias(g -> g.name(buildingAlias))
+                        .result().keySet().stream()
+                        .findFirst()
+                        .orElse(null);
+            }
+            if (this.building != null && aBuilding == null) {
+                // The index may have been replaced
+                this.idSortField = null;
+            }
+            this.building = aBuilding;
+            this.buildingCheckedAt = System.nanoTime();
+            return aBuilding;
+        } catch (final IOException e) {
+            throw InternalErrorException.with("Could not read the " + buildingAlias + " alias", e);
+        }
+    }
+
+    private String rebuild() throws IOException {
+        final var aLive = liveIndex();
+        final var aNext = versioned(versionOf(aLive) + 1);
+        createIndex(aNext, buildSettings(), false);
+        log.info("Rebuilding {} into {}", aLive, aNext);
+
+        try {
+            startBuilding(aNext);
+            // Every instance must be writing to both indices before the copy reads the live one
+            awaitOtherInstances();
+            // Writes acknowledged before dual writing started must be visible to the copy
+            this.elasticsearchClient.indices().refresh(r -> r.index(aLive));
+            copy(aLive, aNext);
+            this.elasticsearchClient.indices().refresh(r -> r.index(aNext));
+            forceMerge(aNext);
+            this.elasticsearchClient.indices().putSettings(p -> p.index(aNext).settings(dynamicSettings()));
+            promote(aLive, aNext);
+        } catch (final IOException | RuntimeException e) {
+            stopBuilding(aNext);
+            deleteIndices(List.of(aNext));
+            throw e;
+        }
+
+        log.info("The {} alias now points at {}", alias, aNext);
+        prune(versionOf(aLive));
+        return aNext;
+    }
+
+    private void startBuilding(final String anIndex) throws IOException {
+        final var lock = this.targetsLock.writeLock();
+        lock.lock();
+        try {
+            this.elasticsearchClient.indices().updateAliases(u -> u.actions(Action.of(a -> a
+                    .add(add -> add.index(anIndex).alias(buildingAlias)))));
+            this.building = anIndex;
+            this.buildingCheckedAt = System.nanoTime();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Unpublishes a failed index, then waits for other instances to stop writing
+     * to it, as a write to a deleted index would create it again.
+     */
+    private void stopBuilding(final String anIndex) {
+        final var lock = this.targetsLock.writeLock();
+        lock.lock();
+        try {
+            this.elasticsearchClient.indices().updateAliases(u -> u.actions(Action.of(a -> a
+                    .remove(r -> r.index(anIndex).alias(buildingAlias)))));
+        } catch (final IOException | ElasticsearchException e) {
+            log.warn("Could not remove the {} alias from {}", buildingAlias, anIndex, e);
+        } finally {
+            this.building = null;
+            this.buildingCheckedAt = System.nanoTime();
+            lock.unlock();
+        }
+        awaitOtherInstances();
+    }
+
+    /**
+     * Another instance reads the building alias again at most
+     * {@code rebuild-check-interval} after it changed; the margin covers writes
+     * it already had in flight.
+     */
+    private void awaitOtherInstances() {
+        try {
+            Thread.sleep(this.indexProperties.getRebuildCheckInterval().multipliedBy(2).toMillis());
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw InternalErrorException.with("Reindex of " + alias + " was interrupted", e);
+        }
+    }
+
+    private void copy(final String aSource, final String aDestination) throws IOException {
+        final var aTask = this.elasticsearchClient.reindex(r -> r
+                .source(s -> s.index(aSource))
+                .dest(d -> d.index(aDestination).versionType(VersionType.External))
+                .conflicts(Conflicts.Proceed)
+                .slices(s -> s.computed(SlicesCalculation.Auto))
+                .waitForCompletion(false)
+        ).task();
+        awaitTask(aTask, "Reindex into " + aDestination);
+    }
+
+    /**
+     * Merges the freshly loaded index down to one segment per shard before
+     * replicas copy it and searches hit it.
+     */
+    private void forceMerge(final String anIndex) throws IOException {
+        if (!this.indexProperties.isBulkLoad()) {
+            return;
+        }
+        final var aTask = this.elasticsearchClient.indices().forcemerge(f -> f
+                .index(anIndex)
+                .maxNumSegments(1L)
+                .waitForCompletion(false)
+        ).task();
+        awaitTask(aTask, "Force merge of " + anIndex);
+    }
+
+    /**
+     * Polled, a blocking wait would outlast the client's socket timeout. A task
+     * that was canceled, or could not write every document, has failed as well:
+     * neither lands in its error, and promoting a partial copy would lose them.
+     */
+    private void awaitTask(final String aTask, final String aDescription) throws IOException {
+        while (true) {
+            final var aStatus = this.elasticsearchClient.tasks().get(t -> t.taskId(aTask));
+            if (aStatus.completed()) {
+                if (aStatus.error() != null) {
+                    throw InternalErrorException.with("%s has failed: %s"
+                            .formatted(aDescription, aStatus.error().reason()), null);
+                }
+                final var aResponse = aStatus.response();
+                if (aResponse != null && aResponse.canceled() != null) {
+                    throw InternalErrorException.with("%s was canceled: %s"
+                            .formatted(aDescription, aResponse.canceled()), null);
+                }
+                if (aResponse != null && !aResponse.failures().isEmpty()) {
+                    final var aFailure = aResponse.failures().get(0);
+                    throw InternalErrorException.with("%s has failed for %d documents, %s first: %s"
+                            .formatted(aDescription, aResponse.failures().size(), aFailure.id(), aFailure.cause().reason()), null);
+                }
+                return;
+            }
+            try {
+                Thread.sleep(TASK_POLL_INTERVAL.toMillis());
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw InternalErrorException.with(aDescription + " was interrupted", e);
+            }
+        }
+    }
+
+    /**
+     * Swaps the alias and unpublishes the building one in a single update, with
+     * writes of this instance held back. Another instance may still write to
+     * both for a while, which then address the same index and are versioned.
+     */
+    private void promote(final String aLive, final String aNext) throws IOException {
+        final var lock = this.targetsLock.writeLock();
+        lock.lock();
+        try {
+            final var aRemove = aLive.equals(alias)
+                    // An index created before aliases were introduced holds the alias name itself
+                    ? Action.of(a -> a.removeIndex(r -> r.index(aLive)))
+                    : Action.of(a -> a.remove(r -> r.index(aLive).alias(alias)));
+            final var anAdd = Action.of(a -> a.add(add -> add.index(aNext).alias(alias).isWriteIndex(true)));
+            final var anUnpublish = Action.of(a -> a.remove(r -> r.index(aNext).alias(buildingAlias)));
+            this.elasticsearchClient.indices().updateAliases(u -> u.actions(aRemove, anAdd, anUnpublish));
+            this.building = null;
+            this.buildingCheckedAt = System.nanoTime();
+            this.idSortField = null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void prune(final long aKeptVersion) throws IOException {
+        final var older = this.elasticsearchClient.indices().get(g -> g.index(alias + VERSION_SEPARATOR + "*"))
+                .result().keySet().stream()
+                .filter(anIndex -> versionOf(anIndex) < aKeptVersion)
+                .toList();
+        deleteIndices(older);
+    }
+
+    private void deleteIndices(final List<String> anIndices) {
+        if (anIndices.isEmpty()) {
+            return;
+        }
+        try {
+            this.elasticsearchClient.indices().delete(d -> d.index(anIndices));
+            log.info("Deleted {}", anIndices);
+        } catch (final IOException | ElasticsearchException e) {
+            log.warn("Could not delete {}", anIndices, e);
+        }
+    }
+
+    private void createIndex(final String anIndex, final IndexSettings aSettings, final boolean isAliased) throws IOException {
+        final var aMapping = TypeMapping.of(m -> m.withJson(new StringReader(
+                this.elasticsearchOperations.indexOps(CategoryDocument.class).createMapping().toJson())));
+        try {
+            this.elasticsearchClient.indices().create(c -> {
+                c.index(anIndex).settings(aSettings).mappings(aMapping);
+                if (isAliased) {
+                    c.aliases(alias, a -> a.isWriteIndex(true));
+                }
+                return c;
+            });
+            log.info("Created {}", anIndex);
+        } catch (final ElasticsearchException e) {
+            // Another instance got there first
+            if (!isAliased || e.error() == null || !ALREADY_EXISTS.equals(e.error().type())) {
+                throw e;
+            }
+        }
+    }
+
+    private String liveIndex() throws IOException {
+        if (!this.elasticsearchClient.indices().existsAlias(e -> e.name(alias)).value()) {
+            return alias;
+        }
+        return this.elasticsearchClient.indices().getAlias(g -> g.name(alias))
+                .result().keySet().stream()
+                .max(Comparator.comparingLong(CategoryElasticsearchIndex::versionOf))
+                .orElse(alias);
+    }
+
+    private IndexSettings liveSettings() {
+        return IndexSettings.of(s -> s
+                .numberOfShards(String.valueOf(this.indexProperties.getShards()))
+                .numberOfReplicas(String.valueOf(this.indexProperties.getReplicas()))
+                .refreshInterval(t -> t.time(toTime(this.indexProperties.getRefreshInterval()))));
+    }
+
+    /**
+     * In bulk-load mode the index is built without replicas and periodic
+     * refreshes. Tombstones of deletes are kept until the copy is done either
+     * way; everything is restored once it is.
+     */
+    private IndexSettings buildSettings() {
+        final var isBulkLoad = this.indexProperties.isBulkLoad();
+        return IndexSettings.of(s -> s
+                .numberOfShards(String.valueOf(this.indexProperties.getShards()))
+                .numberOfReplicas(isBulkLoad ? "0" : String.valueOf(this.indexProperties.getReplicas()))
+                .refreshInterval(t -> t.time(isBulkLoad
+                        ? REFRESH_DISABLED
+                        : toTime(this.indexProperties.getRefreshInterval())))
+                .gcDeletes(t -> t.time(BUILDING_GC_DELETES)));
+    }
+
+    private IndexSettings dynamicSettings() {
+        return IndexSettings.of(s -> s
+                .numberOfReplicas(String.valueOf(this.indexProperties.getReplicas()))
+                .refreshInterval(t -> t.time(toTime(this.indexProperties.getRefreshInterval())))
+                .gcDeletes(t -> t.time(GC_DELETES)));
+    }
+
+    private String versioned(final long aVersion) {
+        return alias + VERSION_SEPARATOR + aVersion;
+    }
+
+    private static long versionOf(final String anIndex) {
+        final var aMatcher = VERSIONED.matcher(anIndex);
+        return aMatcher.matches() ? Long.parseLong(aMatcher.group(1)) : 0;
+    }
+
+    private static String toTime(final Duration aDuration) {
+        return aDuration.toMillis() + "ms";
+    }
+}
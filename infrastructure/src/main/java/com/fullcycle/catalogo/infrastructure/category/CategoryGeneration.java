@@ -0,0 +1,58 @@
+package com.fullcycle.catalogo.infrastructure.category;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counts category writes, made here or seen on the CDC stream, so results read
+ * before the latest of them can be told apart from current ones.
+ * <p>
+ * A write only shows in searches once the bulk writer flushed it and the index
+ * refreshed, so results read less than {@code settle} after it are not current
+ * either, although they carry its generation.
+ * <p>
+ * A write made searchable before it returned, {@code WAIT_FOR}, is expected in
+ * the very next search by its caller: results read before it are not
+ * {@link #isServable(Stamp) servable} at all anymore.
+ */
+public class CategoryGeneration {
+
+    private final AtomicLong generation = new AtomicLong();
+    private final AtomicLong servableFrom = new AtomicLong();
+    private final long settleNanos;
+    private volatile long lastWriteNanos;
+
+    public CategoryGeneration(final Duration settle) {
+        this.settleNanos = settle.toNanos();
+        this.lastWriteNanos = System.nanoTime() - this.settleNanos;
+    }
+
+    public void bump() {
+        this.lastWriteNanos = System.nanoTime();
+        this.generation.incrementAndGet();
+    }
+
+    public void bumpSearchable() {
+        this.lastWriteNanos = System.nanoTime();
+        this.servableFrom.accumulateAndGet(this.generation.incrementAndGet(), Math::max);
+    }
+
+    /**
+     * Taken before reading, so a write racing the read makes it stale.
+     */
+    public Stamp stamp() {
+        return new Stamp(this.generation.get(), System.nanoTime());
+    }
+
+    public boolean isCurrent(final Stamp aStamp) {
+        return aStamp.generation() == this.generation.get()
+                && aStamp.nanos() - this.lastWriteNanos >= this.settleNanos;
+    }
+
+    public boolean isServable(final Stamp aStamp) {
+        return aStamp.generation() >= this.servableFrom.get();
+    }
+
+    public record Stamp(long generation, long nanos) {
+    }
+}
@@ -0,0 +1,153 @@
+package com.fullcycle.catalogo.infrastructure.category;
+
+import co.elastic.clients.elasticsearch._types.query_dsl.Operator;
+import co.elastic.clients.elasticsearch._types.query_dsl.Query;
+import co.elastic.clients.elasticsearch._types.query_dsl.TextQueryType;
+import co.elastic.clients.json.JsonData;
+import com.fullcycle.catalogo.domain.category.CategoryField;
+import com.fullcycle.catalogo.domain.category.CategoryFilter;
+import com.fullcycle.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.catalogo.domain.pagination.TotalRelation;
+import com.fullcycle.catalogo.infrastructure.category.persistence.CategoryDocument;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.client.elc.NativeQueryBuilder;
+import org.springframework.data.elasticsearch.core.TotalHitsRelation;
+import org.springframework.data.elasticsearch.core.query.FetchSourceFilterBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Builds the Elasticsearch search of a {@link CategorySearchQuery}, shared by the
+ * blocking and the reactive gateway so both answer a query with the same hits.
+ * The point in time of a cursor is left to the caller, which owns opening and
+ * closing it.
+ */
+final class CategoryQueries {
+
+    private static final String NAME_PROP = "name";
+    private static final String KEYWORD = ".keyword";
+    private static final String ID_PROP = "id";
+    private static final List<String> SEARCH_FIELDS = List.of(NAME_PROP, "description");
+    private static final float WORD_BOOST = 2.0f;
+
+    private CategoryQueries() {
+    }
+
+    /**
+     * {@code anIdField} is where the index sorts ids, see
+     * {@link CategoryElasticsearchIndex#idSortField()}.
+     */
+    static NativeQueryBuilder searchOf(final CategorySearchQuery aQuery, final CategoryCursor aCursor, final String anIdField) {
+        final var sort = buildSort(aQuery.sort(), Sort.Direction.fromString(aQuery.direction()), anIdField);
+        final var pageRequest = PageRequest.of(aCursor == null ? aQuery.page() : 0, aQuery.perPage(), sort);
+
+        final var builder = NativeQuery.builder()
+                .withQuery(buildQuery(aQuery.terms(), aQuery.filter()))
+                .withPageable(pageRequest);
+        switch (aQuery.totalCount().mode()) {
+            case EXACT -> builder.withTrackTotalHits(true);
+            case CAPPED -> builder.withTrackTotalHitsUpTo(aQuery.totalCount().threshold());
+            case NONE -> builder.withTrackTotalHits(false);
+        }
+        if (aQuery.isProjected()) {
+            builder.withSourceFilter(new FetchSourceFilterBuilder()
+                    .withIncludes(aQuery.fields().stream().map(CategoryDocument::fieldOf).toArray(String[]::new))
+                    .build());
+        }
+        if (aCursor != null) {
+            builder.withSearchAfter(aCursor.after());
+        }
+        return builder;
+    }
+
+    static boolean isLastPage(final int aHits, final int perPage) {
+        return aHits < perPage || perPage == 0;
+    }
+
+    static TotalRelation totalRelationOf(final TotalHitsRelation aRelation) {
+        return switch (aRelation) {
+            case EQUAL_TO -> TotalRelation.EXACT;
+            case GREATER_THAN_OR_EQUAL_TO -> TotalRelation.AT_LEAST;
+            case OFF -> TotalRelation.NONE;
+        };
+    }
+
+    /**
+     * Filters run in filter context, next to the text query: they are not scored
+     * and Elasticsearch caches them per segment, so the same active, deleted or
+     * creation-range filter is answered from the node query cache as long as the
+     * segment lives. Ranges are bound to instants, never to {@code now}, which
+     * would make them uncacheable.
+     */
+    private static Query buildQuery(final String terms, final CategoryFilter aFilter) {
+        final var aTextQuery = buildTextQuery(terms);
+        if (aFilter.isEmpty()) {
+            return aTextQuery;
+        }
+        final var filters = new ArrayList<Query>();
+        final var exclusions = new ArrayList<Query>();
+        if (aFilter.active() != null) {
+            filters.add(Query.of(q -> q.term(t -> t
+                    .field(CategoryDocument.fieldOf(CategoryField.ACTIVE))
+                    .value(aFilter.active()))));
+        }
+        if (aFilter.deleted() != null) {
+            final var isDeleted = Query.of(q -> q.exists(e -> e
+                    .field(CategoryDocument.fieldOf(CategoryField.DELETED_AT))));
+            (aFilter.deleted() ? filters : exclusions).add(isDeleted);
+        }
+        if (aFilter.createdFrom() != null || aFilter.createdTo() != null) {
+            filters.add(Query.of(q -> q.range(r -> {
+                r.field(CategoryDocument.fieldOf(CategoryField.CREATED_AT));
+                if (aFilter.createdFrom() != null) {
+                    r.gte(JsonData.of(aFilter.createdFrom().toString()));
+                }
+                if (aFilter.createdTo() != null) {
+                    r.lt(JsonData.of(aFilter.createdTo().toString()));
+                }
+                return r;
+            })));
+        }
+        return Query.of(q -> q.bool(b -> b
+                .must(aTextQuery)
+                .filter(filters)
+                .mustNot(exclusions)));
+    }
+
+    /**
+     * Terms are matched on the analyzed {@code name} and {@code description}
+     * rather than as {@code *term*} wildcards, which scan the whole term
+     * dictionary. Every term must match, the last one possibly as a prefix, which
+     * the {@code index_prefixes} of both fields answer from a single term lookup;
+     * whole-word matches are boosted above prefix ones.
+     */
+    private static Query buildTextQuery(final String terms) {
+        if (terms == null || terms.isBlank()) {
+            return Query.of(q -> q.matchAll(m -> m));
+        }
+        return Query.of(q -> q.bool(b -> b
+                .should(s -> s.multiMatch(m -> m
+                        .query(terms)
+                        .fields(SEARCH_FIELDS)
+                        .type(TextQueryType.BestFields)
+                        .operator(Operator.And)
+                        .boost(WORD_BOOST)))
+                .should(s -> s.multiMatch(m -> m
+                        .query(terms)
+                        .fields(SEARCH_FIELDS)
+                        .type(TextQueryType.BoolPrefix)
+                        .operator(Operator.And)))
+                .minimumShouldMatch("1")));
+    }
+
+    private static Sort buildSort(final String sort, final Sort.Direction aDirection, final String anIdField) {
+        if (ID_PROP.equals(sort)) {
+            return Sort.by(aDirection, anIdField);
+        }
+        final var aSort = Sort.by(aDirection, NAME_PROP.equals(sort) ? sort.concat(KEYWORD) : sort);
+        return aSort.and(Sort.by(Sort.Direction.ASC, anIdField));
+    }
+}
@@ -0,0 +1,100 @@
+package com.fullcycle.catalogo.infrastructure.category;
+
+import com.fullcycle.catalogo.domain.utils.InstantUtils;
+import com.fullcycle.catalogo.infrastructure.utils.ThreadUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * {@code POST /actuator/reindex} rebuilds the categories into a new versioned
+ * index and swaps the alias once it is complete, e.g. after a mapping change.
+ * <p>
+ * A rebuild outlasts any HTTP timeout, so it runs in the background: the
+ * request is answered {@code 202} with the run it started, or {@code 409} with
+ * the one already running. {@code GET /actuator/reindex} reports the latest run.
+ */
+@Component
+@WebEndpoint(id = "reindex")
+public class CategoryReindexEndpoint {
+
+    private static final Logger log = LoggerFactory.getLogger(CategoryReindexEndpoint.class);
+
+    private static final int STATUS_ACCEPTED = 202;
+    private static final int STATUS_CONFLICT = 409;
+
+    private final CategoryElasticsearchIndex categoryIndex;
+    private final ThreadFactory threadFactory = ThreadUtils.daemonThreadFactory("category-reindex-");
+    private final AtomicReference<ReindexOutput> latest = new AtomicReference<>();
+
+    public CategoryReindexEndpoint(final CategoryElasticsearchIndex categoryIndex) {
+        this.categoryIndex = Objects.requireNonNull(categoryIndex);
+    }
+
+    @WriteOperation
+    public WebEndpointResponse<ReindexOutput> reindex() {
+        final var aRun = ReindexOutput.running(this.categoryIndex.alias());
+        final var aPrevious = this.latest.get();
+        if ((aPrevious != null && aPrevious.isRunning()) || !this.latest.compareAndSet(aPrevious, aRun)) {
+            return new WebEndpointResponse<>(this.latest.get(), STATUS_CONFLICT);
+        }
+        this.threadFactory.newThread(() -> rebuild(aRun)).start();
+        return new WebEndpointResponse<>(aRun, STATUS_ACCEPTED);
+    }
+
+    @ReadOperation
+    public WebEndpointResponse<ReindexOutput> status() {
+        final var aRun = this.latest.get();
+        return aRun != null
+                ? new WebEndpointResponse<>(aRun)
+                : new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+    }
+
+    private void rebuild(final ReindexOutput aRun) {
+        try {
+            this.latest.set(aRun.succeeded(this.categoryIndex.reindex()));
+        } catch (final RuntimeException e) {
+            log.error("Reindex of {} has failed", aRun.alias(), e);
+            this.latest.set(aRun.failed(String.valueOf(e.getMessage())));
+        }
+    }
+
+    public enum ReindexStatus {
+        RUNNING, SUCCEEDED, FAILED
+    }
+
+    public record ReindexOutput(
+            String alias,
+            ReindexStatus status,
+            String index,
+            String error,
+            Instant startedAt,
+            Instant finishedAt
+    ) {
+
+        private static ReindexOutput running(final String anAlias) {
+            return new ReindexOutput(anAlias, ReindexStatus.RUNNING, null, null, InstantUtils.now(), null);
+        }
+
+        private ReindexOutput succeeded(final String anIndex) {
+            return new ReindexOutput(alias, ReindexStatus.SUCCEEDED, anIndex, null, startedAt, InstantUtils.now());
+        }
+
+        private ReindexOutput failed(final String anError) {
+            return new ReindexOutput(alias, ReindexStatus.FAILED, null, anError, startedAt, InstantUtils.now());
+        }
+
+        private boolean isRunning() {
+            return ReindexStatus.RUNNING.equals(status);
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.fullcycle.catalogo.infrastructure.category;
+
+import com.fullcycle.catalogo.domain.exceptions.InternalErrorException;
+import com.fullcycle.catalogo.infrastructure.category.persistence.CategoryDocument;
+import com.fullcycle.catalogo.infrastructure.configuration.properties.CategoryMultiSearchProperties;
+import com.fullcycle.catalogo.infrastructure.utils.ThreadUtils;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHits;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Runs category searches, one request each unless {@code msearch} is enabled.
+ * <p>
+ * When it is, a collector thread gathers the searches arriving within
+ * {@code window} of the first one, up to {@code max-batch}, and sends them as a
+ * single {@code _msearch}; callers block until their own response is split
+ * back out. Every search pays up to one window of latency, in exchange for far
+ * fewer, larger requests when many workers search at once. Up to
+ * {@code concurrency} batches are in flight, searches arriving meanwhile make up
+ * the next batch.
+ * <p>
+ * Should the {@code _msearch} fail as a whole, its searches are sent one by one,
+ * so every caller gets the outcome of its own search.
+ */
+public class CategorySearchDispatcher implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(CategorySearchDispatcher.class);
+
+    private static final String BATCH_SIZE_METRIC = "catalogo.search.categories.msearch.batch.size";
+    private static final Duration IDLE_POLL = Duration.ofMillis(100);
+
+    private final ElasticsearchOperations elasticsearchOperations;
+    private final CategoryMultiSearchProperties multiSearchProperties;
+    private final BlockingQueue<PendingSearch> queue = new LinkedBlockingQueue<>();
+    private final DistributionSummary batchSize;
+    private final ExecutorService senders;
+    private final Thread collector;
+    private volatile boolean running = true;
+
+    public CategorySearchDispatcher(
+            final ElasticsearchOperations elasticsearchOperations,
+            final CategoryMultiSearchProperties multiSearchProperties,
+            final MeterRegistry meterRegistry) {
+        this.elasticsearchOperations = Objects.requireNonNull(elasticsearchOperations);
+        this.multiSearchProperties = Objects.requireNonNull(multiSearchProperties);
+        this.batchSize = DistributionSummary.builder(BATCH_SIZE_METRIC)
+                .description("Category searches sent in a single _msearch")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        if (multiSearchProperties.isEnabled()) {
+            this.senders = Executors.newFixedThreadPool(multiSearchProperties.getConcurrency(), ThreadUtils.daemonThreadFactory("category-msearch-sender-"));
+            this.collector = ThreadUtils.daemonThreadFactory("category-msearch-collector-").newThread(this::collect);
+            this.collector.start();
+        } else {
+            this.senders = null;
+            this.collector = null;
+        }
+    }
+
+    public SearchHits<CategoryDocument> search(final NativeQuery aQuery) {
+        if (this.collector == null) {
+            return this.elasticsearchOperations.search(aQuery, CategoryDocument.class);
+        }
+        final var aSearch = new PendingSearch(aQuery, new CompletableFuture<>());
+        if (!this.running || !this.queue.offer(aSearch)) {
+            return this.elasticsearchOperations.search(aQuery, CategoryDocument.class);
+        }
+        try {
+            return aSearch.result().join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof RuntimeException aCause) {
+                throw aCause;
+            }
+            throw InternalErrorException.with("Search of categories has failed", e.getCause());
+        }
+    }
+
+    @Override
+    public void close() {
+        if (this.collector == null) {
+            return;
+        }
+        this.running = false;
+        this.collector.interrupt();
+        this.senders.shutdown();
+        final var pending = new ArrayList<PendingSearch>();
+        this.queue.drainTo(pending);
+        pending.forEach(this::sendOne);
+    }
+
+    private void collect() {
+        final var window = this.multiSearchProperties.getWindow();
+        final var maxBatch = this.multiSearchProperties.getMaxBatch();
+        while (this.running) {
+            try {
+                final var batch = ThreadUtils.pollBatch(this.queue, maxBatch, IDLE_POLL, window);
+                if (!batch.isEmpty()) {
+                    dispatch(batch);
+                }
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void dispatch(final List<PendingSearch> batch) {
+        try {
+            this.senders.execute(() -> send(batch));
+        } catch (final RejectedExecutionException e) {
+            batch.forEach(this::sendOne);
+        }
+    }
+
+    private void send(final List<PendingSearch> batch) {
+        this.batchSize.record(batch.size());
+        if (batch.size() == 1) {
+            sendOne(batch.get(0));
+            return;
+        }
+        final List<SearchHits<CategoryDocument>> results;
+        try {
+            results = this.elasticsearchOperations.multiSearch(
+                    batch.stream().map(PendingSearch::query).toList(), CategoryDocument.class);
+        } catch (final RuntimeException e) {
+            log.warn("Category _msearch of {} searches has failed, sending them one by one", batch.size(), e);
+            batch.forEach(this::sendOne);
+            return;
+        }
+        for (int i = 0; i < batch.size(); i++) {
+            batch.get(i).result().complete(results.get(i));
+        }
+    }
+
+    private void sendOne(final PendingSearch aSearch) {
+        try {
+            aSearch.result().complete(this.elasticsearchOperations.search(aSearch.query(), CategoryDocument.class));
+        } catch (final RuntimeException e) {
+            aSearch.result().completeExceptionally(e);
+        }
+    }
+
+    private record PendingSearch(NativeQuery query, CompletableFuture<SearchHits<CategoryDocument>> result) {
+    }
+}
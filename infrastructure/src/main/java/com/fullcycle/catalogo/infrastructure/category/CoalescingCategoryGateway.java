@@ -0,0 +1,120 @@
+package com.fullcycle.catalogo.infrastructure.category;
+
+import com.fullcycle.catalogo.domain.bulk.BulkResult;
+import com.fullcycle.catalogo.domain.category.Category;
+import com.fullcycle.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.catalogo.domain.category.CategoryView;
+import com.fullcycle.catalogo.domain.consistency.WriteConsistency;
+import com.fullcycle.catalogo.domain.pagination.Pagination;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Lets concurrent callers searching with an equal {@link CategorySearchQuery}
+ * share a single search: the first one runs it, the others wait for its page, or
+ * its exception. A caller arriving once the search returned runs a new one,
+ * nothing is kept past that.
+ * <p>
+ * Waiting parks on a {@link CompletableFuture} and no lock is held around the
+ * search, so waiting virtual threads do not pin their carrier.
+ */
+public class CoalescingCategoryGateway implements CategoryGateway {
+
+    private static final String COALESCED_METRIC = "catalogo.search.categories.coalesced";
+    private static final String IN_FLIGHT_METRIC = "catalogo.search.categories.in.flight";
+
+    private final CategoryGateway categoryGateway;
+    private final ConcurrentMap<CategorySearchQuery, CompletableFuture<Pagination<CategoryView>>> inFlight =
+            new ConcurrentHashMap<>();
+    private final Counter coalesced;
+
+    public CoalescingCategoryGateway(final CategoryGateway categoryGateway, final MeterRegistry meterRegistry) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.coalesced = Counter.builder(COALESCED_METRIC)
+                .description("Category searches that waited for an equal search already running")
+                .register(meterRegistry);
+        Gauge.builder(IN_FLIGHT_METRIC, this.inFlight, ConcurrentMap::size)
+                .description("Distinct category searches running")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Category save(final Category aCategory) {
+        return this.categoryGateway.save(aCategory);
+    }
+
+    @Override
+    public Category save(final Category aCategory, final WriteConsistency aConsistency) {
+        return this.categoryGateway.save(aCategory, aConsistency);
+    }
+
+    @Override
+    public BulkResult saveAll(final List<Category> aCategories) {
+        return this.categoryGateway.saveAll(aCategories);
+    }
+
+    @Override
+    public void deleteById(final String anId) {
+        this.categoryGateway.deleteById(anId);
+    }
+
+    @Override
+    public BulkResult deleteAllById(final List<String> anIds) {
+        return this.categoryGateway.deleteAllById(anIds);
+    }
+
+    @Override
+    public Optional<Category> findById(final String anId) {
+        return this.categoryGateway.findById(anId);
+    }
+
+    @Override
+    public List<Category> findAllByIds(final Collection<String> anIds) {
+        return this.categoryGateway.findAllByIds(anIds);
+    }
+
+    @Override
+    public Pagination<CategoryView> findAll(final CategorySearchQuery aQuery) {
+        final var aFlight = new CompletableFuture<Pagination<CategoryView>>();
+        final var aRunningFlight = this.inFlight.putIfAbsent(aQuery, aFlight);
+        if (aRunningFlight != null) {
+            this.coalesced.increment();
+            return await(aRunningFlight);
+        }
+        try {
+            final var aPage = this.categoryGateway.findAll(aQuery);
+            aFlight.complete(aPage);
+            return aPage;
+        } catch (final RuntimeException | Error e) {
+            aFlight.completeExceptionally(e);
+            throw e;
+        } finally {
+            this.inFlight.remove(aQuery, aFlight);
+        }
+    }
+
+    private static Pagination<CategoryView> await(final CompletableFuture<Pagination<CategoryView>> aFlight) {
+        try {
+            return aFlight.join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof RuntimeException aCause) {
+                throw aCause;
+            }
+            if (e.getCause() instanceof Error aCause) {
+                throw aCause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.fullcycle.catalogo.infrastructure.category;
+
+import com.fullcycle.catalogo.application.category.ReactiveCategoryGateway;
+import com.fullcycle.catalogo.domain.bulk.BulkResult;
+import com.fullcycle.catalogo.domain.category.Category;
+import com.fullcycle.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.catalogo.domain.category.CategoryView;
+import com.fullcycle.catalogo.domain.consistency.WriteConsistency;
+import com.fullcycle.catalogo.domain.pagination.Metadata;
+import com.fullcycle.catalogo.domain.pagination.Pagination;
+import com.fullcycle.catalogo.infrastructure.category.persistence.CategoryDocument;
+import com.fullcycle.catalogo.infrastructure.configuration.properties.CategoryIndexProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.core.MultiGetItem;
+import org.springframework.data.elasticsearch.core.ReactiveElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.ReactiveSearchHits;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.Query.PointInTime;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+
+/**
+ * Reads categories without blocking: lookups and searches go through the
+ * {@code categories} alias on the reactive client, built by
+ * {@link CategoryQueries} like the blocking ones, and their callers are released
+ * while Elasticsearch answers. These reads bypass the category caches and search
+ * coalescing, each of them is a round trip.
+ * <p>
+ * Writes are handed to the blocking {@link CategoryGateway} on the bounded
+ * elastic scheduler: {@link CategoryElasticsearchIndex} holds a thread-owned lock
+ * for the duration of a write, so a reindex can tell which writes to mirror, and
+ * the cached gateway evicts what they change.
+ */
+@Component
+@Profile("reactive")
+public class ReactiveCategoryElasticsearchGateway implements ReactiveCategoryGateway {
+
+    private static final Logger log = LoggerFactory.getLogger(ReactiveCategoryElasticsearchGateway.class);
+
+    private final ReactiveElasticsearchOperations elasticsearchOperations;
+    private final CategoryGateway categoryGateway;
+    private final CategoryElasticsearchIndex categoryIndex;
+    private final CategoryIndexProperties indexProperties;
+
+    public ReactiveCategoryElasticsearchGateway(
+            final ReactiveElasticsearchOperations elasticsearchOperations,
+            final CategoryGateway categoryGateway,
+            final CategoryElasticsearchIndex categoryIndex,
+            final CategoryIndexProperties indexProperties) {
+        this.elasticsearchOperations = Objects.requireNonNull(elasticsearchOperations);
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.categoryIndex = Objects.requireNonNull(categoryIndex);
+        this.indexProperties = Objects.requireNonNull(indexProperties);
+    }
+
+    @Override
+    public Mono<Category> save(final Category aCategory, final WriteConsistency aConsistency) {
+        return offload(() -> this.categoryGateway.save(aCategory, aConsistency));
+    }
+
+    @Override
+    public Mono<BulkResult> saveAll(final List<Category> aCategories) {
+        return offload(() -> this.categoryGateway.saveAll(aCategories));
+    }
+
+    @Override
+    public Mono<BulkResult> deleteAllById(final List<String> anIds) {
+        return offload(() -> this.categoryGateway.deleteAllById(anIds));
+    }
+
+    @Override
+    public Mono<Category> findById(final String anId) {
+        return this.elasticsearchOperations.get(anId, CategoryDocument.class)
+                .map(CategoryDocument::toCategory);
+    }
+
+    @Override
+    public Flux<Category> findAllByIds(final Collection<String> anIds) {
+        if (anIds == null || anIds.isEmpty()) {
+            return Flux.empty();
+        }
+        return this.elasticsearchOperations.multiGet(NativeQuery.builder().withIds(anIds).build(), CategoryDocument.class)
+                .filter(MultiGetItem::hasItem)
+                .map(anItem -> anItem.getItem().toCategory());
+    }
+
+    /**
+     * Pages like {@link CategoryElasticsearchGateway#findAll(CategorySearchQuery)}:
+     * resumed pages read a point in time, opened by the first of them and closed
+     * once a short page comes back.
+     */
+    @Override
+    public Mono<Pagination<CategoryView>> findAll(final CategorySearchQuery aQuery) {
+        final var aCursor = aQuery.hasCursor() ? CategoryCursor.decode(aQuery.cursor()) : null;
+        final var builder = CategoryQueries.searchOf(aQuery, aCursor, this.categoryIndex.idSortField());
+        if (aCursor == null) {
+            return search(aQuery, builder.build(), null, null);
+        }
+        return pointInTimeOf(aCursor).flatMap(aPit -> {
+            builder.withPointInTime(new PointInTime(aPit, this.indexProperties.getCursorKeepAlive()));
+            return search(aQuery, builder.build(), aCursor, aPit);
+        });
+    }
+
+    private Mono<Pagination<CategoryView>> search(
+            final CategorySearchQuery aQuery,
+            final NativeQuery aSearch,
+            final CategoryCursor aCursor,
+            final String aPit) {
+        return this.elasticsearchOperations.searchForHits(aSearch, CategoryDocument.class)
+                .flatMap(aResult -> aResult.getSearchHits().collectList()
+                        .flatMap(hits -> toPage(aQuery, aResult, hits, aCursor, aPit)));
+    }
+
+    private Mono<Pagination<CategoryView>> toPage(
+            final CategorySearchQuery aQuery,
+            final ReactiveSearchHits<CategoryDocument> aResult,
+            final List<SearchHit<CategoryDocument>> hits,
+            final CategoryCursor aCursor,
+            final String aPit) {
+        final var isLastPage = CategoryQueries.isLastPage(hits.size(), aQuery.perPage());
+        final var aNextCursor = isLastPage
+                ? null
+                : new CategoryCursor(aPit, hits.get(hits.size() - 1).getSortValues()).encode();
+        final var aMetadata = new Metadata(
+                aQuery.page(),
+                aQuery.perPage(),
+                aResult.getTotalHits(),
+                aNextCursor,
+                CategoryQueries.totalRelationOf(aResult.getTotalHitsRelation())
+        );
+        final var aPage = new Pagination<>(aMetadata, hits.stream()
+                .map(SearchHit::getContent)
+                .map(aDocument -> aDocument.toView(aQuery.fields()))
+                .toList());
+        if (isLastPage && aCursor != null) {
+            return closePointInTime(aPit).thenReturn(aPage);
+        }
+        return Mono.just(aPage);
+    }
+
+    private Mono<String> pointInTimeOf(final CategoryCursor aCursor) {
+        if (aCursor.pit() != null) {
+            return Mono.just(aCursor.pit());
+        }
+        return this.elasticsearchOperations.openPointInTime(
+                IndexCoordinates.of(this.categoryIndex.alias()), this.indexProperties.getCursorKeepAlive());
+    }
+
+    private Mono<Boolean> closePointInTime(final String aPit) {
+        return this.elasticsearchOperations.closePointInTime(aPit)
+                .onErrorResume(e -> {
+                    log.warn("Could not close the category point in time, it expires on its own", e);
+                    return Mono.just(false);
+                });
+    }
+
+    private static <T> Mono<T> offload(final Callable<T> aWrite) {
+        return Mono.fromCallable(aWrite).subscribeOn(Schedulers.boundedElastic());
+    }
+}
@@ -0,0 +1,206 @@
+package com.fullcycle.catalogo.infrastructure.category;
+
+import com.fullcycle.catalogo.domain.bulk.BulkItem;
+import com.fullcycle.catalogo.domain.bulk.BulkResult;
+import com.fullcycle.catalogo.domain.category.Category;
+import com.fullcycle.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.catalogo.domain.category.CategoryView;
+import com.fullcycle.catalogo.domain.consistency.WriteConsistency;
+import com.fullcycle.catalogo.domain.pagination.Pagination;
+import com.fullcycle.catalogo.infrastructure.configuration.properties.CategoryWriteBehindProperties;
+import com.fullcycle.catalogo.infrastructure.utils.ThreadUtils;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Acknowledges {@link WriteConsistency#ASYNC} saves as soon as they are queued.
+ * A writer thread drains the queue into bulk requests of up to
+ * {@code max-batch} categories, so a burst of saves costs a few requests
+ * instead of one each. Every other call goes straight to the decorated gateway.
+ * <p>
+ * Writes are versioned by {@link Category#updatedAt()}, so a queued save that
+ * lands after a newer synchronous one is skipped by the index. A delete drops
+ * the queued saves of its ids, they must not bring the category back, and waits
+ * for a batch already drained from the queue to be sent before it is sent itself,
+ * so it is never overtaken by one of them.
+ * <p>
+ * A full queue makes the save synchronous. An item the bulk request fails or
+ * rejects is logged and counted, not retried: callers that need to know use
+ * {@code SYNC} or {@code WAIT_FOR}. Saves still queued are written on close.
+ */
+public class WriteBehindCategoryGateway implements CategoryGateway, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(WriteBehindCategoryGateway.class);
+
+    private static final String QUEUED_METRIC = "catalogo.write.categories.queued";
+    private static final String BATCH_SIZE_METRIC = "catalogo.write.categories.batch.size";
+    private static final String FAILURES_METRIC = "catalogo.write.categories.async.failures";
+    private static final Duration IDLE_POLL = Duration.ofMillis(100);
+
+    private final CategoryGateway categoryGateway;
+    private final CategoryWriteBehindProperties writeBehindProperties;
+    private final BlockingQueue<Category> queue;
+    private final Semaphore offered = new Semaphore(0);
+    private final Lock sending = new ReentrantLock();
+    private final DistributionSummary batchSize;
+    private final Counter failures;
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    public WriteBehindCategoryGateway(
+            final CategoryGateway categoryGateway,
+            final CategoryWriteBehindProperties writeBehindProperties,
+            final MeterRegistry meterRegistry) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.writeBehindProperties = Objects.requireNonNull(writeBehindProperties);
+        this.queue = new LinkedBlockingQueue<>(writeBehindProperties.getCapacity());
+        Gauge.builder(QUEUED_METRIC, this.queue, BlockingQueue::size)
+                .description("Category saves acknowledged but not yet sent to Elasticsearch")
+                .register(meterRegistry);
+        this.batchSize = DistributionSummary.builder(BATCH_SIZE_METRIC)
+                .description("Queued category saves sent in a single bulk request")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.failures = Counter.builder(FAILURES_METRIC)
+                .description("Queued category saves Elasticsearch failed or rejected")
+                .register(meterRegistry);
+        this.writer = ThreadUtils.daemonThreadFactory("category-write-behind-").newThread(this::write);
+        this.writer.start();
+    }
+
+    @Override
+    public Category save(final Category aCategory) {
+        return this.categoryGateway.save(aCategory);
+    }
+
+    @Override
+    public Category save(final Category aCategory, final WriteConsistency aConsistency) {
+        if (WriteConsistency.ASYNC.equals(aConsistency) && this.running && this.queue.offer(aCategory)) {
+            this.offered.release();
+            return aCategory;
+        }
+        return this.categoryGateway.save(aCategory, aConsistency);
+    }
+
+    @Override
+    public BulkResult saveAll(final List<Category> aCategories) {
+        return this.categoryGateway.saveAll(aCategories);
+    }
+
+    @Override
+    public void deleteById(final String anId) {
+        this.queue.removeIf(aCategory -> aCategory.id().equals(anId));
+        this.sending.lock();
+        try {
+            this.categoryGateway.deleteById(anId);
+        } finally {
+            this.sending.unlock();
+        }
+    }
+
+    @Override
+    public BulkResult deleteAllById(final List<String> anIds) {
+        if (anIds != null && !anIds.isEmpty()) {
+            final var ids = new HashSet<>(anIds);
+            this.queue.removeIf(aCategory -> ids.contains(aCategory.id()));
+        }
+        this.sending.lock();
+        try {
+            return this.categoryGateway.deleteAllById(anIds);
+        } finally {
+            this.sending.unlock();
+        }
+    }
+
+    @Override
+    public Optional<Category> findById(final String anId) {
+        return this.categoryGateway.findById(anId);
+    }
+
+    @Override
+    public List<Category> findAllByIds(final Collection<String> anIds) {
+        return this.categoryGateway.findAllByIds(anIds);
+    }
+
+    @Override
+    public Pagination<CategoryView> findAll(final CategorySearchQuery aQuery) {
+        return this.categoryGateway.findAll(aQuery);
+    }
+
+    @Override
+    public void close() {
+        this.running = false;
+        try {
+            this.writer.join();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        while (!this.queue.isEmpty()) {
+            sendQueued();
+        }
+    }
+
+    /**
+     * Waits for a save to be queued without taking it: saves are only taken
+     * from the queue with the lock deletes wait for held.
+     */
+    private void write() {
+        while (this.running) {
+            try {
+                if (this.offered.tryAcquire(IDLE_POLL.toNanos(), TimeUnit.NANOSECONDS)) {
+                    sendQueued();
+                }
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void sendQueued() {
+        final var maxBatch = this.writeBehindProperties.getMaxBatch();
+        this.sending.lock();
+        try {
+            final var batch = new ArrayList<Category>(maxBatch);
+            this.queue.drainTo(batch, maxBatch);
+            if (!batch.isEmpty()) {
+                send(batch);
+            }
+        } finally {
+            this.sending.unlock();
+        }
+    }
+
+    private void send(final List<Category> batch) {
+        this.batchSize.record(batch.size());
+        try {
+            final var failed = this.categoryGateway.saveAll(batch).failures();
+            if (!failed.isEmpty()) {
+                this.failures.increment(failed.size());
+                log.warn("Queued categories were not saved: {}", failed.stream().map(BulkItem::id).toList());
+            }
+        } catch (final RuntimeException e) {
+            this.failures.increment(batch.size());
+            log.error("Queued categories were not saved: {}", batch.stream().map(Category::id).toList(), e);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.fullcycle.catalogo.infrastructure.category.models;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fullcycle.catalogo.application.category.save.SaveCategoryCommand;
 import com.fullcycle.catalogo.domain.category.ActivationStatus;
 import com.fullcycle.catalogo.domain.category.Category;
 
@@ -28,6 +29,18 @@ public record CategoryDTO(
         );
     }
 
+    public SaveCategoryCommand toCommand() {
+        return new SaveCategoryCommand(
+                id(),
+                name(),
+                description(),
+                active(),
+                createdAt(),
+                updatedAt(),
+                deletedAt()
+        );
+    }
+
     private ActivationStatus isActive() {
         if (active() != null) {
             return Boolean.TRUE.equals(active) ? ActivationStatus.ACTIVE : ActivationStatus.INACTIVE;
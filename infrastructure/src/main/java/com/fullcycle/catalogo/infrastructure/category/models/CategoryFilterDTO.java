@@ -0,0 +1,20 @@
+package com.fullcycle.catalogo.infrastructure.category.models;
+
+import com.fullcycle.catalogo.domain.category.CategoryFilter;
+
+import java.time.Instant;
+
+public record CategoryFilterDTO(
+        Boolean active,
+        Boolean deleted,
+        Instant createdFrom,
+        Instant createdTo
+) {
+
+    public static CategoryFilter toFilter(final CategoryFilterDTO aFilter) {
+        if (aFilter == null) {
+            return CategoryFilter.none();
+        }
+        return new CategoryFilter(aFilter.active(), aFilter.deleted(), aFilter.createdFrom(), aFilter.createdTo());
+    }
+}
@@ -2,24 +2,35 @@ package com.fullcycle.catalogo.infrastructure.category.persistence;
 
 import com.fullcycle.catalogo.domain.category.ActivationStatus;
 import com.fullcycle.catalogo.domain.category.Category;
+import com.fullcycle.catalogo.domain.category.CategoryField;
+import com.fullcycle.catalogo.domain.category.CategoryView;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.elasticsearch.annotations.*;
 
 import java.time.Instant;
-
-@Document(indexName = "categories")
+import java.util.Set;
+
+/**
+ * {@code categories} is an alias over versioned indices, created and swapped by
+ * {@link com.fullcycle.catalogo.infrastructure.category.CategoryElasticsearchIndex}.
+ * <p>
+ * {@code name} and {@code description} also index their 2 to 5 character
+ * prefixes, so searches as you type stay term lookups.
+ */
+@Document(indexName = "categories", createIndex = false)
 public class CategoryDocument {
 
     @Id
+    @Field(type = FieldType.Keyword, name = "id")
     private String id;
 
     @MultiField(
-            mainField = @Field(type = FieldType.Text, name = "name"),
+            mainField = @Field(type = FieldType.Text, name = "name", indexPrefixes = @IndexPrefixes),
             otherFields = @InnerField(suffix = "keyword", type = FieldType.Keyword)
     )
     private String name;
 
-    @Field(type = FieldType.Text, name = "description")
+    @Field(type = FieldType.Text, name = "description", indexPrefixes = @IndexPrefixes)
     private String description;
 
     @Field(type = FieldType.Boolean, name = "active")
@@ -75,6 +86,35 @@ public class CategoryDocument {
         );
     }
 
+    /**
+     * Only the fields that were read are set: the id always comes with the hit,
+     * the rest are {@code null} unless they are in {@code aFields}, or it is empty.
+     */
+    public CategoryView toView(final Set<CategoryField> aFields) {
+        final var isActiveRead = aFields.isEmpty() || aFields.contains(CategoryField.ACTIVE);
+        return new CategoryView(
+                id,
+                name,
+                description,
+                isActiveRead ? isActiveStatus() : null,
+                createdAt,
+                updatedAt,
+                deletedAt
+        );
+    }
+
+    public static String fieldOf(final CategoryField aField) {
+        return switch (aField) {
+            case ID -> "id";
+            case NAME -> "name";
+            case DESCRIPTION -> "description";
+            case ACTIVE -> "active";
+            case CREATED_AT -> "created_at";
+            case UPDATED_AT -> "updated_at";
+            case DELETED_AT -> "deleted_at";
+        };
+    }
+
     private ActivationStatus isActiveStatus() {
         return active ? ActivationStatus.ACTIVE : ActivationStatus.INACTIVE;
     }
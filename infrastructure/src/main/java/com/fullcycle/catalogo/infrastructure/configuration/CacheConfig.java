@@ -0,0 +1,58 @@
+package com.fullcycle.catalogo.infrastructure.configuration;
+
+import com.fullcycle.catalogo.infrastructure.category.CachedCategoryGateway;
+import com.fullcycle.catalogo.infrastructure.category.CategoryGeneration;
+import com.fullcycle.catalogo.infrastructure.category.CoalescingCategoryGateway;
+import com.fullcycle.catalogo.infrastructure.category.WriteBehindCategoryGateway;
+import com.fullcycle.catalogo.infrastructure.configuration.properties.CategoryCacheProperties;
+import com.fullcycle.catalogo.infrastructure.configuration.properties.CategoryListingCacheProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+@Configuration(proxyBeanMethods = false)
+public class CacheConfig {
+
+    @Bean
+    @ConfigurationProperties("cache.categories")
+    public CategoryCacheProperties categoryCacheProperties() {
+        return new CategoryCacheProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties("cache.category-listings")
+    public CategoryListingCacheProperties categoryListingCacheProperties() {
+        return new CategoryListingCacheProperties();
+    }
+
+    @Bean
+    public CategoryGeneration categoryGeneration(final CategoryListingCacheProperties categoryListingCacheProperties) {
+        return new CategoryGeneration(categoryListingCacheProperties.getWriteSettle());
+    }
+
+    /**
+     * Takes the place of the Elasticsearch gateway wherever a {@code CategoryGateway}
+     * is injected, so the use cases and the CDC writers all go through the cache.
+     * Searches the cache lets through are coalesced before reaching Elasticsearch,
+     * asynchronous saves are queued.
+     */
+    @Bean
+    @Primary
+    public CachedCategoryGateway cachedCategoryGateway(
+            final WriteBehindCategoryGateway writeBehindCategoryGateway,
+            final CategoryGeneration categoryGeneration,
+            final CategoryCacheProperties categoryCacheProperties,
+            final ObjectProvider<MeterRegistry> meterRegistry) {
+        final var aMeterRegistry = meterRegistry.getIfAvailable(SimpleMeterRegistry::new);
+        return new CachedCategoryGateway(
+                new CoalescingCategoryGateway(writeBehindCategoryGateway, aMeterRegistry),
+                categoryGeneration,
+                categoryCacheProperties,
+                aMeterRegistry
+        );
+    }
+}
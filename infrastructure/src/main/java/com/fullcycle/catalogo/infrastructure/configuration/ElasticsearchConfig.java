@@ -0,0 +1,61 @@
+package com.fullcycle.catalogo.infrastructure.configuration;
+
+import com.fullcycle.catalogo.infrastructure.category.CategoryElasticsearchGateway;
+import com.fullcycle.catalogo.infrastructure.category.CategorySearchDispatcher;
+import com.fullcycle.catalogo.infrastructure.category.WriteBehindCategoryGateway;
+import com.fullcycle.catalogo.infrastructure.configuration.properties.CategoryIndexProperties;
+import com.fullcycle.catalogo.infrastructure.configuration.properties.CategoryMultiSearchProperties;
+import com.fullcycle.catalogo.infrastructure.configuration.properties.CategoryWriteBehindProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+
+@Configuration(proxyBeanMethods = false)
+public class ElasticsearchConfig {
+
+    @Bean
+    @ConfigurationProperties("elasticsearch.indices.categories")
+    public CategoryIndexProperties categoryIndexProperties() {
+        return new CategoryIndexProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties("elasticsearch.msearch.categories")
+    public CategoryMultiSearchProperties categoryMultiSearchProperties() {
+        return new CategoryMultiSearchProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties("elasticsearch.write-behind.categories")
+    public CategoryWriteBehindProperties categoryWriteBehindProperties() {
+        return new CategoryWriteBehindProperties();
+    }
+
+    @Bean
+    public CategorySearchDispatcher categorySearchDispatcher(
+            final ElasticsearchOperations elasticsearchOperations,
+            final CategoryMultiSearchProperties categoryMultiSearchProperties,
+            final ObjectProvider<MeterRegistry> meterRegistry) {
+        return new CategorySearchDispatcher(
+                elasticsearchOperations,
+                categoryMultiSearchProperties,
+                meterRegistry.getIfAvailable(SimpleMeterRegistry::new)
+        );
+    }
+
+    @Bean
+    public WriteBehindCategoryGateway writeBehindCategoryGateway(
+            final CategoryElasticsearchGateway categoryElasticsearchGateway,
+            final CategoryWriteBehindProperties categoryWriteBehindProperties,
+            final ObjectProvider<MeterRegistry> meterRegistry) {
+        return new WriteBehindCategoryGateway(
+                categoryElasticsearchGateway,
+                categoryWriteBehindProperties,
+                meterRegistry.getIfAvailable(SimpleMeterRegistry::new)
+        );
+    }
+}
@@ -0,0 +1,246 @@
+package com.fullcycle.catalogo.infrastructure.configuration;
+
+import com.fullcycle.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.catalogo.infrastructure.configuration.properties.CategoryBackpressureProperties;
+import com.fullcycle.catalogo.infrastructure.configuration.properties.CategoryBootstrapProperties;
+import com.fullcycle.catalogo.infrastructure.configuration.properties.CategoryBulkProperties;
+import com.fullcycle.catalogo.infrastructure.configuration.properties.CategoryLanesProperties;
+import com.fullcycle.catalogo.infrastructure.configuration.properties.CategoryRetryProperties;
+import com.fullcycle.catalogo.infrastructure.kafka.CategoryBackpressure;
+import com.fullcycle.catalogo.infrastructure.kafka.CategoryBootstrap;
+import com.fullcycle.catalogo.infrastructure.kafka.CategoryBulkWriter;
+import com.fullcycle.catalogo.infrastructure.kafka.CategoryDeadLetterPublisher;
+import com.fullcycle.catalogo.infrastructure.kafka.CategoryLanes;
+import com.fullcycle.catalogo.infrastructure.kafka.CategoryRetryAcknowledgments;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.kafka.ConcurrentKafkaListenerContainerFactoryConfigurer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.annotation.EnableKafka;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaAdmin;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.ConsumerAwareRebalanceListener;
+import org.springframework.kafka.listener.ContainerProperties;
+
+import java.util.Collection;
+import java.util.List;
+
+@Configuration(proxyBeanMethods = false)
+@EnableKafka
+public class KafkaConfig {
+
+    @Bean
+    @ConfigurationProperties("kafka.consumers.categories.bulk")
+    public CategoryBulkProperties categoryBulkProperties() {
+        return new CategoryBulkProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties("kafka.consumers.categories.lanes")
+    public CategoryLanesProperties categoryLanesProperties() {
+        return new CategoryLanesProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties("kafka.consumers.categories.retry")
+    public CategoryRetryProperties categoryRetryProperties() {
+        return new CategoryRetryProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties("kafka.consumers.categories.backpressure")
+    public CategoryBackpressureProperties categoryBackpressureProperties() {
+        return new CategoryBackpressureProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties("kafka.consumers.categories.bootstrap")
+    public CategoryBootstrapProperties categoryBootstrapProperties() {
+        return new CategoryBootstrapProperties();
+    }
+
+    @Bean
+    public CategoryBackpressure categoryBackpressure(
+            final CategoryBulkProperties categoryBulkProperties,
+            final CategoryBackpressureProperties categoryBackpressureProperties,
+            final ObjectProvider<MeterRegistry> meterRegistry) {
+        return new CategoryBackpressure(
+                categoryBulkProperties,
+                categoryBackpressureProperties,
+                meterRegistry.getIfAvailable(SimpleMeterRegistry::new)
+        );
+    }
+
+    @Bean
+    public CategoryDeadLetterPublisher categoryDeadLetterPublisher(
+            final KafkaTemplate<String, String> kafkaTemplate,
+            final CategoryRetryProperties categoryRetryProperties,
+            final ObjectProvider<MeterRegistry> meterRegistry) {
+        return new CategoryDeadLetterPublisher(
+                kafkaTemplate,
+                categoryRetryProperties,
+                meterRegistry.getIfAvailable(SimpleMeterRegistry::new)
+        );
+    }
+
+    @Bean
+    public CategoryRetryAcknowledgments categoryRetryAcknowledgments() {
+        return new CategoryRetryAcknowledgments();
+    }
+
+    @Bean
+    public CategoryLanes categoryLanes(
+            final CategoryGateway categoryGateway,
+            final CategoryDeadLetterPublisher categoryDeadLetterPublisher,
+            final CategoryBackpressure categoryBackpressure,
+            final CategoryBulkProperties categoryBulkProperties,
+            final CategoryRetryProperties categoryRetryProperties,
+            final CategoryLanesProperties categoryLanesProperties,
+            final ObjectProvider<MeterRegistry> meterRegistry) {
+        return new CategoryLanes(
+                categoryGateway,
+                categoryDeadLetterPublisher,
+                categoryBackpressure,
+                categoryBulkProperties,
+                categoryRetryProperties,
+                categoryLanesProperties,
+                meterRegistry.getIfAvailable(SimpleMeterRegistry::new)
+        );
+    }
+
+    @Bean
+    public CategoryBootstrap categoryBootstrap(
+            final ConsumerFactory<Object, Object> consumerFactory,
+            final KafkaAdmin kafkaAdmin,
+            final CategoryGateway categoryGateway,
+            final CategoryDeadLetterPublisher categoryDeadLetterPublisher,
+            final CategoryBackpressure categoryBackpressure,
+            final CategoryBulkProperties categoryBulkProperties,
+            final CategoryRetryProperties categoryRetryProperties,
+            final CategoryBootstrapProperties categoryBootstrapProperties,
+            final KafkaListenerEndpointRegistry kafkaListenerEndpointRegistry,
+            final ApplicationEventPublisher applicationEventPublisher,
+            @Value("${kafka.consumers.categories.group-id}") final String groupId,
+            @Value("${kafka.consumers.categories.topics}") final List<String> topics,
+            @Value("${kafka.consumers.categories.id}") final String listenerId) {
+        return new CategoryBootstrap(
+                consumerFactory,
+                () -> Admin.create(kafkaAdmin.getConfigurationProperties()),
+                () -> new CategoryBulkWriter(
+                        categoryGateway,
+                        categoryBulkProperties,
+                        categoryRetryProperties,
+                        categoryDeadLetterPublisher,
+                        categoryBackpressure
+                ),
+                categoryDeadLetterPublisher,
+                kafkaListenerEndpointRegistry,
+                applicationEventPublisher,
+                categoryBootstrapProperties,
+                groupId,
+                topics,
+                listenerId
+        );
+    }
+
+    /**
+     * Changes are acknowledged by the bulk writer once Elasticsearch accepted them,
+     * so acks may arrive off the consumer thread. Async acks make the container
+     * commit only the contiguous acknowledged range of each partition.
+     * <p>
+     * Idle events, also published while paused, give the listener a chance to
+     * resume once Elasticsearch recovered.
+     * <p>
+     * The lanes forget which ids they sent to the retry topic once partitions
+     * were revoked, see {@link CategoryLanes#forgetRetries()}.
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<Object, Object> kafkaListenerFactory(
+            final ConcurrentKafkaListenerContainerFactoryConfigurer configurer,
+            final ConsumerFactory<Object, Object> consumerFactory,
+            final CategoryBackpressureProperties categoryBackpressureProperties,
+            final CategoryLanes categoryLanes) {
+        final var factory = new ConcurrentKafkaListenerContainerFactory<Object, Object>();
+        configurer.configure(factory, consumerFactory);
+        final var containerProperties = factory.getContainerProperties();
+        containerProperties.setAckMode(ContainerProperties.AckMode.MANUAL);
+        containerProperties.setAsyncAcks(true);
+        containerProperties.setIdleEventInterval(categoryBackpressureProperties.getProbeInterval().toMillis());
+        containerProperties.setConsumerRebalanceListener(new ConsumerAwareRebalanceListener() {
+
+            @Override
+            public void onPartitionsRevokedAfterCommit(final Consumer<?, ?> aConsumer, final Collection<TopicPartition> aPartitions) {
+                if (!aPartitions.isEmpty()) {
+                    categoryLanes.forgetRetries();
+                }
+            }
+
+            @Override
+            public void onPartitionsLost(final Consumer<?, ?> aConsumer, final Collection<TopicPartition> aPartitions) {
+                categoryLanes.forgetRetries();
+            }
+        });
+        return factory;
+    }
+
+    /**
+     * The cache invalidation consumer never acknowledges, so it never commits:
+     * every instance joins with a group of its own and starts at the latest offset.
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<Object, Object> categoryCacheListenerFactory(
+            final ConcurrentKafkaListenerContainerFactoryConfigurer configurer,
+            final ConsumerFactory<Object, Object> consumerFactory) {
+        final var factory = new ConcurrentKafkaListenerContainerFactory<Object, Object>();
+        configurer.configure(factory, consumerFactory);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+        return factory;
+    }
+
+    /**
+     * Retries not due yet are negatively acknowledged, which async acks do not
+     * allow: {@link CategoryRetryAcknowledgments} orders the acks instead, and
+     * forgets a partition once it was revoked, after the container committed it.
+     * The lanes forget their retries along with it.
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<Object, Object> categoryRetryListenerFactory(
+            final ConcurrentKafkaListenerContainerFactoryConfigurer configurer,
+            final ConsumerFactory<Object, Object> consumerFactory,
+            final CategoryRetryAcknowledgments categoryRetryAcknowledgments,
+            final CategoryLanes categoryLanes) {
+        final var factory = new ConcurrentKafkaListenerContainerFactory<Object, Object>();
+        configurer.configure(factory, consumerFactory);
+        final var containerProperties = factory.getContainerProperties();
+        containerProperties.setAckMode(ContainerProperties.AckMode.MANUAL);
+        containerProperties.setAsyncAcks(false);
+        containerProperties.setConsumerRebalanceListener(new ConsumerAwareRebalanceListener() {
+
+            @Override
+            public void onPartitionsRevokedAfterCommit(final Consumer<?, ?> aConsumer, final Collection<TopicPartition> aPartitions) {
+                categoryRetryAcknowledgments.revoke(aPartitions);
+                if (!aPartitions.isEmpty()) {
+                    categoryLanes.forgetRetries();
+                }
+            }
+
+            @Override
+            public void onPartitionsLost(final Consumer<?, ?> aConsumer, final Collection<TopicPartition> aPartitions) {
+                categoryRetryAcknowledgments.revoke(aPartitions);
+                categoryLanes.forgetRetries();
+            }
+        });
+        return factory;
+    }
+}
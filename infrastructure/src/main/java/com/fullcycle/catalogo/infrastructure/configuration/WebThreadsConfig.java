@@ -0,0 +1,64 @@
+package com.fullcycle.catalogo.infrastructure.configuration;
+
+import com.fullcycle.catalogo.infrastructure.configuration.properties.WebThreadsProperties;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.web.embedded.undertow.UndertowDeploymentInfoCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.graphql.data.method.annotation.support.AnnotatedControllerConfigurer;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+@Configuration(proxyBeanMethods = false)
+public class WebThreadsConfig {
+
+    @Bean
+    @ConfigurationProperties("web.threads")
+    public WebThreadsProperties webThreadsProperties() {
+        return new WebThreadsProperties();
+    }
+
+    /**
+     * With virtual threads, every servlet request runs on a thread of its own
+     * instead of one of the {@code server.undertow.threads.worker}: a request
+     * waiting on Elasticsearch parks without holding a worker, so the number of
+     * requests in flight is no longer capped by the size of the pool.
+     */
+    @Bean
+    public UndertowDeploymentInfoCustomizer virtualThreadsDeploymentInfoCustomizer(
+            final WebThreadsProperties webThreadsProperties) {
+        return deploymentInfo -> {
+            if (webThreadsProperties.isVirtual()) {
+                deploymentInfo.setExecutor(virtualThreads("undertow-"));
+                deploymentInfo.setAsyncExecutor(virtualThreads("undertow-async-"));
+            }
+        };
+    }
+
+    /**
+     * GraphQL data fetchers run on the thread executing the request, a virtual
+     * one as well with virtual threads; those returning a {@code Callable} run on
+     * a virtual thread of their own. Only registered in that mode, the post
+     * processor is created before any other bean and must not touch them.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "web.threads.virtual", havingValue = "true")
+    public static BeanPostProcessor virtualThreadsGraphQlExecutor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(final Object bean, final String beanName) {
+                if (bean instanceof AnnotatedControllerConfigurer aConfigurer) {
+                    aConfigurer.setExecutor(virtualThreads("graphql-"));
+                }
+                return bean;
+            }
+        };
+    }
+
+    private static Executor virtualThreads(final String aPrefix) {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(aPrefix, 0).factory());
+    }
+}
@@ -0,0 +1,77 @@
+package com.fullcycle.catalogo.infrastructure.configuration.properties;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.time.Duration;
+
+public class CategoryBackpressureProperties implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(CategoryBackpressureProperties.class);
+
+    private Duration targetLatency;
+    private Duration latencyCeiling;
+    private int minActions;
+    private double maxRejectionRate;
+    private Duration probeInterval;
+
+    public CategoryBackpressureProperties() {
+    }
+
+    public Duration getTargetLatency() {
+        return targetLatency;
+    }
+
+    public void setTargetLatency(final Duration targetLatency) {
+        this.targetLatency = targetLatency;
+    }
+
+    public Duration getLatencyCeiling() {
+        return latencyCeiling;
+    }
+
+    public void setLatencyCeiling(final Duration latencyCeiling) {
+        this.latencyCeiling = latencyCeiling;
+    }
+
+    public int getMinActions() {
+        return minActions;
+    }
+
+    public void setMinActions(final int minActions) {
+        this.minActions = minActions;
+    }
+
+    public double getMaxRejectionRate() {
+        return maxRejectionRate;
+    }
+
+    public void setMaxRejectionRate(final double maxRejectionRate) {
+        this.maxRejectionRate = maxRejectionRate;
+    }
+
+    public Duration getProbeInterval() {
+        return probeInterval;
+    }
+
+    public void setProbeInterval(final Duration probeInterval) {
+        this.probeInterval = probeInterval;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        log.debug(toString());
+    }
+
+    @Override
+    public String toString() {
+        return "CategoryBackpressureProperties{" +
+                "targetLatency=" + targetLatency +
+                ", latencyCeiling=" + latencyCeiling +
+                ", minActions=" + minActions +
+                ", maxRejectionRate=" + maxRejectionRate +
+                ", probeInterval=" + probeInterval +
+                '}';
+    }
+}
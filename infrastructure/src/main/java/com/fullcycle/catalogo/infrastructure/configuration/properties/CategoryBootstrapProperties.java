@@ -0,0 +1,67 @@
+package com.fullcycle.catalogo.infrastructure.configuration.properties;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.time.Duration;
+
+public class CategoryBootstrapProperties implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(CategoryBootstrapProperties.class);
+
+    private boolean enabled;
+    private int concurrency;
+    private Duration pollTimeout;
+    private Duration drainTimeout;
+
+    public CategoryBootstrapProperties() {
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(final boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    public void setConcurrency(final int concurrency) {
+        this.concurrency = concurrency;
+    }
+
+    public Duration getPollTimeout() {
+        return pollTimeout;
+    }
+
+    public void setPollTimeout(final Duration pollTimeout) {
+        this.pollTimeout = pollTimeout;
+    }
+
+    public Duration getDrainTimeout() {
+        return drainTimeout;
+    }
+
+    public void setDrainTimeout(final Duration drainTimeout) {
+        this.drainTimeout = drainTimeout;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        log.debug(toString());
+    }
+
+    @Override
+    public String toString() {
+        return "CategoryBootstrapProperties{" +
+                "enabled=" + enabled +
+                ", concurrency=" + concurrency +
+                ", pollTimeout=" + pollTimeout +
+                ", drainTimeout=" + drainTimeout +
+                '}';
+    }
+}
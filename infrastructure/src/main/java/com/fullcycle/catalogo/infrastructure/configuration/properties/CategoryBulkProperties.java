@@ -0,0 +1,57 @@
+package com.fullcycle.catalogo.infrastructure.configuration.properties;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.time.Duration;
+
+public class CategoryBulkProperties implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(CategoryBulkProperties.class);
+
+    private int maxActions;
+    private long maxBytes;
+    private Duration linger;
+
+    public CategoryBulkProperties() {
+    }
+
+    public int getMaxActions() {
+        return maxActions;
+    }
+
+    public void setMaxActions(final int maxActions) {
+        this.maxActions = maxActions;
+    }
+
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    public void setMaxBytes(final long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    public Duration getLinger() {
+        return linger;
+    }
+
+    public void setLinger(final Duration linger) {
+        this.linger = linger;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        log.debug(toString());
+    }
+
+    @Override
+    public String toString() {
+        return "CategoryBulkProperties{" +
+                "maxActions=" + maxActions +
+                ", maxBytes=" + maxBytes +
+                ", linger=" + linger +
+                '}';
+    }
+}
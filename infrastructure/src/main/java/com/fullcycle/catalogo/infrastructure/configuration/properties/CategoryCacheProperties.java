@@ -0,0 +1,47 @@
+package com.fullcycle.catalogo.infrastructure.configuration.properties;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.time.Duration;
+
+public class CategoryCacheProperties implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(CategoryCacheProperties.class);
+
+    private long maxSize;
+    private Duration ttl;
+
+    public CategoryCacheProperties() {
+    }
+
+    public long getMaxSize() {
+        return maxSize;
+    }
+
+    public void setMaxSize(final long maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    public void setTtl(final Duration ttl) {
+        this.ttl = ttl;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        log.debug(toString());
+    }
+
+    @Override
+    public String toString() {
+        return "CategoryCacheProperties{" +
+                "maxSize=" + maxSize +
+                ", ttl=" + ttl +
+                '}';
+    }
+}
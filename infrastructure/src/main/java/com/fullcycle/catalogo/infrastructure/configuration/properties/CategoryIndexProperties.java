@@ -0,0 +1,87 @@
+package com.fullcycle.catalogo.infrastructure.configuration.properties;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.time.Duration;
+
+public class CategoryIndexProperties implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(CategoryIndexProperties.class);
+
+    private int shards;
+    private int replicas;
+    private Duration refreshInterval;
+    private boolean bulkLoad;
+    private Duration cursorKeepAlive;
+    private Duration rebuildCheckInterval;
+
+    public CategoryIndexProperties() {
+    }
+
+    public int getShards() {
+        return shards;
+    }
+
+    public void setShards(final int shards) {
+        this.shards = shards;
+    }
+
+    public int getReplicas() {
+        return replicas;
+    }
+
+    public void setReplicas(final int replicas) {
+        this.replicas = replicas;
+    }
+
+    public Duration getRefreshInterval() {
+        return refreshInterval;
+    }
+
+    public void setRefreshInterval(final Duration refreshInterval) {
+        this.refreshInterval = refreshInterval;
+    }
+
+    public boolean isBulkLoad() {
+        return bulkLoad;
+    }
+
+    public void setBulkLoad(final boolean bulkLoad) {
+        this.bulkLoad = bulkLoad;
+    }
+
+    public Duration getCursorKeepAlive() {
+        return cursorKeepAlive;
+    }
+
+    public void setCursorKeepAlive(final Duration cursorKeepAlive) {
+        this.cursorKeepAlive = cursorKeepAlive;
+    }
+
+    public Duration getRebuildCheckInterval() {
+        return rebuildCheckInterval;
+    }
+
+    public void setRebuildCheckInterval(final Duration rebuildCheckInterval) {
+        this.rebuildCheckInterval = rebuildCheckInterval;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        log.debug(toString());
+    }
+
+    @Override
+    public String toString() {
+        return "CategoryIndexProperties{" +
+                "shards=" + shards +
+                ", replicas=" + replicas +
+                ", refreshInterval=" + refreshInterval +
+                ", bulkLoad=" + bulkLoad +
+                ", cursorKeepAlive=" + cursorKeepAlive +
+                ", rebuildCheckInterval=" + rebuildCheckInterval +
+                '}';
+    }
+}
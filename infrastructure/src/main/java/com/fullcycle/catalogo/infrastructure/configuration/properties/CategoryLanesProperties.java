@@ -0,0 +1,45 @@
+package com.fullcycle.catalogo.infrastructure.configuration.properties;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+public class CategoryLanesProperties implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(CategoryLanesProperties.class);
+
+    private int count;
+    private int capacity;
+
+    public CategoryLanesProperties() {
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public void setCount(final int count) {
+        this.count = count;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public void setCapacity(final int capacity) {
+        this.capacity = capacity;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        log.debug(toString());
+    }
+
+    @Override
+    public String toString() {
+        return "CategoryLanesProperties{" +
+                "count=" + count +
+                ", capacity=" + capacity +
+                '}';
+    }
+}
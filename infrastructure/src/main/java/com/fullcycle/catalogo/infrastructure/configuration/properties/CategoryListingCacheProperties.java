@@ -0,0 +1,67 @@
+package com.fullcycle.catalogo.infrastructure.configuration.properties;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.time.Duration;
+
+public class CategoryListingCacheProperties implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(CategoryListingCacheProperties.class);
+
+    private long maxSize;
+    private Duration freshFor;
+    private Duration staleFor;
+    private Duration writeSettle;
+
+    public CategoryListingCacheProperties() {
+    }
+
+    public long getMaxSize() {
+        return maxSize;
+    }
+
+    public void setMaxSize(final long maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    public Duration getFreshFor() {
+        return freshFor;
+    }
+
+    public void setFreshFor(final Duration freshFor) {
+        this.freshFor = freshFor;
+    }
+
+    public Duration getStaleFor() {
+        return staleFor;
+    }
+
+    public void setStaleFor(final Duration staleFor) {
+        this.staleFor = staleFor;
+    }
+
+    public Duration getWriteSettle() {
+        return writeSettle;
+    }
+
+    public void setWriteSettle(final Duration writeSettle) {
+        this.writeSettle = writeSettle;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        log.debug(toString());
+    }
+
+    @Override
+    public String toString() {
+        return "CategoryListingCacheProperties{" +
+                "maxSize=" + maxSize +
+                ", freshFor=" + freshFor +
+                ", staleFor=" + staleFor +
+                ", writeSettle=" + writeSettle +
+                '}';
+    }
+}
@@ -0,0 +1,67 @@
+package com.fullcycle.catalogo.infrastructure.configuration.properties;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.time.Duration;
+
+public class CategoryMultiSearchProperties implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(CategoryMultiSearchProperties.class);
+
+    private boolean enabled;
+    private Duration window;
+    private int maxBatch;
+    private int concurrency;
+
+    public CategoryMultiSearchProperties() {
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(final boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Duration getWindow() {
+        return window;
+    }
+
+    public void setWindow(final Duration window) {
+        this.window = window;
+    }
+
+    public int getMaxBatch() {
+        return maxBatch;
+    }
+
+    public void setMaxBatch(final int maxBatch) {
+        this.maxBatch = maxBatch;
+    }
+
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    public void setConcurrency(final int concurrency) {
+        this.concurrency = concurrency;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        log.debug(toString());
+    }
+
+    @Override
+    public String toString() {
+        return "CategoryMultiSearchProperties{" +
+                "enabled=" + enabled +
+                ", window=" + window +
+                ", maxBatch=" + maxBatch +
+                ", concurrency=" + concurrency +
+                '}';
+    }
+}
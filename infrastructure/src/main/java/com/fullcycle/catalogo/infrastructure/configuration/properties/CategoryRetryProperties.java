@@ -0,0 +1,87 @@
+package com.fullcycle.catalogo.infrastructure.configuration.properties;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.time.Duration;
+
+public class CategoryRetryProperties implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(CategoryRetryProperties.class);
+
+    private int maxAttempts;
+    private Duration initialInterval;
+    private Duration maxInterval;
+    private String retryTopic;
+    private String deadLetterTopic;
+    private int maxPendingSends;
+
+    public CategoryRetryProperties() {
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public void setMaxAttempts(final int maxAttempts) {
+        this.maxAttempts = maxAttempts;
+    }
+
+    public Duration getInitialInterval() {
+        return initialInterval;
+    }
+
+    public void setInitialInterval(final Duration initialInterval) {
+        this.initialInterval = initialInterval;
+    }
+
+    public Duration getMaxInterval() {
+        return maxInterval;
+    }
+
+    public void setMaxInterval(final Duration maxInterval) {
+        this.maxInterval = maxInterval;
+    }
+
+    public String getRetryTopic() {
+        return retryTopic;
+    }
+
+    public void setRetryTopic(final String retryTopic) {
+        this.retryTopic = retryTopic;
+    }
+
+    public String getDeadLetterTopic() {
+        return deadLetterTopic;
+    }
+
+    public void setDeadLetterTopic(final String deadLetterTopic) {
+        this.deadLetterTopic = deadLetterTopic;
+    }
+
+    public int getMaxPendingSends() {
+        return maxPendingSends;
+    }
+
+    public void setMaxPendingSends(final int maxPendingSends) {
+        this.maxPendingSends = maxPendingSends;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        log.debug(toString());
+    }
+
+    @Override
+    public String toString() {
+        return "CategoryRetryProperties{" +
+                "maxAttempts=" + maxAttempts +
+                ", initialInterval=" + initialInterval +
+                ", maxInterval=" + maxInterval +
+                ", retryTopic='" + retryTopic + '\'' +
+                ", deadLetterTopic='" + deadLetterTopic + '\'' +
+                ", maxPendingSends=" + maxPendingSends +
+                '}';
+    }
+}
@@ -0,0 +1,45 @@
+package com.fullcycle.catalogo.infrastructure.configuration.properties;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+public class CategoryWriteBehindProperties implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(CategoryWriteBehindProperties.class);
+
+    private int capacity;
+    private int maxBatch;
+
+    public CategoryWriteBehindProperties() {
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public void setCapacity(final int capacity) {
+        this.capacity = capacity;
+    }
+
+    public int getMaxBatch() {
+        return maxBatch;
+    }
+
+    public void setMaxBatch(final int maxBatch) {
+        this.maxBatch = maxBatch;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        log.debug(toString());
+    }
+
+    @Override
+    public String toString() {
+        return "CategoryWriteBehindProperties{" +
+                "capacity=" + capacity +
+                ", maxBatch=" + maxBatch +
+                '}';
+    }
+}
@@ -0,0 +1,35 @@
+package com.fullcycle.catalogo.infrastructure.configuration.properties;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+public class WebThreadsProperties implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(WebThreadsProperties.class);
+
+    private boolean virtual;
+
+    public WebThreadsProperties() {
+    }
+
+    public boolean isVirtual() {
+        return virtual;
+    }
+
+    public void setVirtual(final boolean virtual) {
+        this.virtual = virtual;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        log.debug(toString());
+    }
+
+    @Override
+    public String toString() {
+        return "WebThreadsProperties{" +
+                "virtual=" + virtual +
+                '}';
+    }
+}
@@ -1,30 +1,79 @@
 package com.fullcycle.catalogo.infrastructure.graphql;
 
+import com.fullcycle.catalogo.application.bulk.BulkItemOutput;
+import com.fullcycle.catalogo.application.category.delete.DeleteCategoriesUseCase;
+import com.fullcycle.catalogo.application.category.get.GetCategoriesByIdUseCase;
+import com.fullcycle.catalogo.application.category.get.GetCategoryOutput;
 import com.fullcycle.catalogo.application.category.list.ListCategoryOutput;
 import com.fullcycle.catalogo.application.category.list.ListCategoryUseCase;
+import com.fullcycle.catalogo.application.category.save.SaveCategoriesUseCase;
 import com.fullcycle.catalogo.application.category.save.SaveCategoryUseCase;
 import com.fullcycle.catalogo.domain.category.Category;
 import com.fullcycle.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.catalogo.domain.consistency.WriteConsistency;
+import com.fullcycle.catalogo.domain.pagination.Pagination;
+import com.fullcycle.catalogo.domain.pagination.TotalCount;
 import com.fullcycle.catalogo.infrastructure.category.models.CategoryDTO;
+import com.fullcycle.catalogo.infrastructure.category.models.CategoryFilterDTO;
+import graphql.schema.DataFetchingFieldSelectionSet;
+import org.dataloader.DataLoader;
+import org.springframework.context.annotation.Profile;
 import org.springframework.graphql.data.method.annotation.Argument;
 import org.springframework.graphql.data.method.annotation.MutationMapping;
 import org.springframework.graphql.data.method.annotation.QueryMapping;
+import org.springframework.graphql.execution.BatchLoaderRegistry;
 import org.springframework.stereotype.Controller;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+/**
+ * Serves categories from the blocking use cases, unless the {@code reactive}
+ * profile is active and {@link ReactiveCategoryGraphQLController} does.
+ */
 @Controller
+@Profile("!reactive")
 public class CategoryGraphQLController {
 
     private final ListCategoryUseCase listCategoryUseCase;
     private final SaveCategoryUseCase saveCategoryUseCase;
+    private final SaveCategoriesUseCase saveCategoriesUseCase;
+    private final DeleteCategoriesUseCase deleteCategoriesUseCase;
+    private final GetCategoriesByIdUseCase getCategoriesByIdUseCase;
 
     public CategoryGraphQLController(
             final ListCategoryUseCase listCategoryUseCase,
-            final SaveCategoryUseCase saveCategoryUseCase) {
+            final SaveCategoryUseCase saveCategoryUseCase,
+            final SaveCategoriesUseCase saveCategoriesUseCase,
+            final DeleteCategoriesUseCase deleteCategoriesUseCase,
+            final GetCategoriesByIdUseCase getCategoriesByIdUseCase,
+            final BatchLoaderRegistry batchLoaderRegistry) {
         this.listCategoryUseCase = Objects.requireNonNull(listCategoryUseCase);
         this.saveCategoryUseCase = Objects.requireNonNull(saveCategoryUseCase);
+        this.saveCategoriesUseCase = Objects.requireNonNull(saveCategoriesUseCase);
+        this.deleteCategoriesUseCase = Objects.requireNonNull(deleteCategoriesUseCase);
+        this.getCategoriesByIdUseCase = Objects.requireNonNull(getCategoriesByIdUseCase);
+
+        batchLoaderRegistry.forTypePair(String.class, GetCategoryOutput.class)
+                .registerMappedBatchLoader((ids, env) -> Mono.fromCallable(() -> categoriesById(ids)));
+    }
+
+    /**
+     * Every category a request resolves by id, however many fields ask for one,
+     * is read in a single lookup once the request has been walked.
+     */
+    @QueryMapping
+    public CompletableFuture<GetCategoryOutput> category(
+            @Argument final String id,
+            final DataLoader<String, GetCategoryOutput> categoryLoader
+    ) {
+        return categoryLoader.load(id);
     }
 
     @QueryMapping
@@ -33,19 +82,60 @@ public class CategoryGraphQLController {
             @Argument final int page,
             @Argument final int perPage,
             @Argument final String sort,
-            @Argument final String direction
+            @Argument final String direction,
+            @Argument final CategoryFilterDTO filter,
+            final DataFetchingFieldSelectionSet selection
     ) {
         final var aQuery =
-                new CategorySearchQuery(page, perPage, search, sort, direction);
+                new CategorySearchQuery(page, perPage, search, sort, direction)
+                        .withFields(CategorySelections.fieldsOf(selection, ""))
+                        .withTotalCount(TotalCount.none())
+                        .withFilter(CategoryFilterDTO.toFilter(filter));
 
         return this.listCategoryUseCase.execute(aQuery)
                 .data();
     }
 
+    @QueryMapping
+    public Pagination<ListCategoryOutput> categoriesPage(
+            @Argument final String search,
+            @Argument final int page,
+            @Argument final int perPage,
+            @Argument final String sort,
+            @Argument final String direction,
+            @Argument final String after,
+            @Argument final Integer countUpTo,
+            @Argument final CategoryFilterDTO filter,
+            final DataFetchingFieldSelectionSet selection
+    ) {
+        final var aQuery =
+                new CategorySearchQuery(page, perPage, search, sort, direction, after)
+                        .withFields(CategorySelections.fieldsOf(selection, "data/"))
+                        .withTotalCount(CategorySelections.totalCountOf(selection, countUpTo))
+                        .withFilter(CategoryFilterDTO.toFilter(filter));
+
+        return this.listCategoryUseCase.execute(aQuery);
+    }
+
     @MutationMapping
-    public Category saveCategory(@Argument final CategoryDTO input) {
+    public Category saveCategory(@Argument final CategoryDTO input, @Argument final WriteConsistency consistency) {
         final var aCategory = input.toCategory();
-        this.saveCategoryUseCase.execute(aCategory);
+        this.saveCategoryUseCase.execute(aCategory, consistency);
         return aCategory;
     }
+
+    @MutationMapping
+    public List<BulkItemOutput> saveCategories(@Argument final List<CategoryDTO> input) {
+        return this.saveCategoriesUseCase.execute(input.stream().map(CategoryDTO::toCommand).toList());
+    }
+
+    @MutationMapping
+    public List<BulkItemOutput> deleteCategories(@Argument final List<String> ids) {
+        return this.deleteCategoriesUseCase.execute(ids);
+    }
+
+    private Map<String, GetCategoryOutput> categoriesById(final Set<String> ids) {
+        return this.getCategoriesByIdUseCase.execute(ids).stream()
+                .collect(Collectors.toMap(GetCategoryOutput::id, Function.identity()));
+    }
 }
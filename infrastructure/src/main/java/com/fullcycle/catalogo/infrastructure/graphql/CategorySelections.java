@@ -0,0 +1,50 @@
+package com.fullcycle.catalogo.infrastructure.graphql;
+
+import com.fullcycle.catalogo.domain.category.CategoryField;
+import com.fullcycle.catalogo.domain.pagination.TotalCount;
+import graphql.schema.DataFetchingFieldSelectionSet;
+
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * What a category query reads, given what its client selected. Shared by the
+ * blocking and the reactive controller.
+ */
+final class CategorySelections {
+
+    private static final Map<String, CategoryField> SELECTABLE_FIELDS = Map.of(
+            "name", CategoryField.NAME,
+            "description", CategoryField.DESCRIPTION
+    );
+
+    private CategorySelections() {
+    }
+
+    /**
+     * The category fields a client selected, under {@code aPath}. The id is
+     * always read: it comes with every hit and keeps the projection non-empty
+     * when nothing else is selected.
+     */
+    static Set<CategoryField> fieldsOf(final DataFetchingFieldSelectionSet aSelection, final String aPath) {
+        final var fields = EnumSet.of(CategoryField.ID);
+        SELECTABLE_FIELDS.forEach((aName, aField) -> {
+            if (aSelection.contains(aPath + aName)) {
+                fields.add(aField);
+            }
+        });
+        return fields;
+    }
+
+    /**
+     * Matches are only counted when a client selects the total, exactly unless
+     * it caps the count.
+     */
+    static TotalCount totalCountOf(final DataFetchingFieldSelectionSet aSelection, final Integer aCountUpTo) {
+        if (!aSelection.contains("meta/total")) {
+            return TotalCount.none();
+        }
+        return aCountUpTo == null ? TotalCount.exact() : TotalCount.upTo(aCountUpTo);
+    }
+}
@@ -0,0 +1,28 @@
+package com.fullcycle.catalogo.infrastructure.graphql;
+
+import com.fullcycle.catalogo.domain.exceptions.DomainException;
+import graphql.GraphQLError;
+import graphql.GraphqlErrorBuilder;
+import graphql.schema.DataFetchingEnvironment;
+import org.springframework.graphql.execution.DataFetcherExceptionResolverAdapter;
+import org.springframework.graphql.execution.ErrorType;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reports domain exceptions, such as a stale save or an invalid cursor, as
+ * client errors with their message, instead of an opaque internal error.
+ */
+@Component
+public class DomainExceptionResolver extends DataFetcherExceptionResolverAdapter {
+
+    @Override
+    protected GraphQLError resolveToSingleError(final Throwable ex, final DataFetchingEnvironment env) {
+        if (!(ex instanceof DomainException aDomainException)) {
+            return null;
+        }
+        return GraphqlErrorBuilder.newError(env)
+                .errorType(ErrorType.BAD_REQUEST)
+                .message(aDomainException.getMessage())
+                .build();
+    }
+}
@@ -0,0 +1,128 @@
+package com.fullcycle.catalogo.infrastructure.graphql;
+
+import com.fullcycle.catalogo.application.bulk.BulkItemOutput;
+import com.fullcycle.catalogo.application.category.delete.ReactiveDeleteCategoriesUseCase;
+import com.fullcycle.catalogo.application.category.get.GetCategoryOutput;
+import com.fullcycle.catalogo.application.category.get.ReactiveGetCategoriesByIdUseCase;
+import com.fullcycle.catalogo.application.category.list.ListCategoryOutput;
+import com.fullcycle.catalogo.application.category.list.ReactiveListCategoryUseCase;
+import com.fullcycle.catalogo.application.category.save.ReactiveSaveCategoriesUseCase;
+import com.fullcycle.catalogo.application.category.save.ReactiveSaveCategoryUseCase;
+import com.fullcycle.catalogo.domain.category.Category;
+import com.fullcycle.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.catalogo.domain.consistency.WriteConsistency;
+import com.fullcycle.catalogo.domain.pagination.Pagination;
+import com.fullcycle.catalogo.domain.pagination.TotalCount;
+import com.fullcycle.catalogo.infrastructure.category.models.CategoryDTO;
+import com.fullcycle.catalogo.infrastructure.category.models.CategoryFilterDTO;
+import graphql.schema.DataFetchingFieldSelectionSet;
+import org.dataloader.DataLoader;
+import org.springframework.context.annotation.Profile;
+import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.MutationMapping;
+import org.springframework.graphql.data.method.annotation.QueryMapping;
+import org.springframework.graphql.execution.BatchLoaderRegistry;
+import org.springframework.stereotype.Controller;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Serves the same schema as {@link CategoryGraphQLController} when the
+ * {@code reactive} profile is active, returning publishers of the reactive use
+ * cases: the request thread is released while Elasticsearch answers, and the
+ * response is written once they complete.
+ */
+@Controller
+@Profile("reactive")
+public class ReactiveCategoryGraphQLController {
+
+    private final ReactiveListCategoryUseCase listCategoryUseCase;
+    private final ReactiveSaveCategoryUseCase saveCategoryUseCase;
+    private final ReactiveSaveCategoriesUseCase saveCategoriesUseCase;
+    private final ReactiveDeleteCategoriesUseCase deleteCategoriesUseCase;
+
+    public ReactiveCategoryGraphQLController(
+            final ReactiveListCategoryUseCase listCategoryUseCase,
+            final ReactiveSaveCategoryUseCase saveCategoryUseCase,
+            final ReactiveSaveCategoriesUseCase saveCategoriesUseCase,
+            final ReactiveDeleteCategoriesUseCase deleteCategoriesUseCase,
+            final ReactiveGetCategoriesByIdUseCase getCategoriesByIdUseCase,
+            final BatchLoaderRegistry batchLoaderRegistry) {
+        this.listCategoryUseCase = Objects.requireNonNull(listCategoryUseCase);
+        this.saveCategoryUseCase = Objects.requireNonNull(saveCategoryUseCase);
+        this.saveCategoriesUseCase = Objects.requireNonNull(saveCategoriesUseCase);
+        this.deleteCategoriesUseCase = Objects.requireNonNull(deleteCategoriesUseCase);
+        Objects.requireNonNull(getCategoriesByIdUseCase);
+
+        batchLoaderRegistry.forTypePair(String.class, GetCategoryOutput.class)
+                .registerMappedBatchLoader((ids, env) -> getCategoriesByIdUseCase.execute(ids)
+                        .collectMap(GetCategoryOutput::id));
+    }
+
+    @QueryMapping
+    public CompletableFuture<GetCategoryOutput> category(
+            @Argument final String id,
+            final DataLoader<String, GetCategoryOutput> categoryLoader
+    ) {
+        return categoryLoader.load(id);
+    }
+
+    @QueryMapping
+    public Mono<List<ListCategoryOutput>> categories(
+            @Argument final String search,
+            @Argument final int page,
+            @Argument final int perPage,
+            @Argument final String sort,
+            @Argument final String direction,
+            @Argument final CategoryFilterDTO filter,
+            final DataFetchingFieldSelectionSet selection
+    ) {
+        final var aQuery =
+                new CategorySearchQuery(page, perPage, search, sort, direction)
+                        .withFields(CategorySelections.fieldsOf(selection, ""))
+                        .withTotalCount(TotalCount.none())
+                        .withFilter(CategoryFilterDTO.toFilter(filter));
+
+        return this.listCategoryUseCase.execute(aQuery)
+                .map(Pagination::data);
+    }
+
+    @QueryMapping
+    public Mono<Pagination<ListCategoryOutput>> categoriesPage(
+            @Argument final String search,
+            @Argument final int page,
+            @Argument final int perPage,
+            @Argument final String sort,
+            @Argument final String direction,
+            @Argument final String after,
+            @Argument final Integer countUpTo,
+            @Argument final CategoryFilterDTO filter,
+            final DataFetchingFieldSelectionSet selection
+    ) {
+        final var aQuery =
+                new CategorySearchQuery(page, perPage, search, sort, direction, after)
+                        .withFields(CategorySelections.fieldsOf(selection, "data/"))
+                        .withTotalCount(CategorySelections.totalCountOf(selection, countUpTo))
+                        .withFilter(CategoryFilterDTO.toFilter(filter));
+
+        return this.listCategoryUseCase.execute(aQuery);
+    }
+
+    @MutationMapping
+    public Mono<Category> saveCategory(@Argument final CategoryDTO input, @Argument final WriteConsistency consistency) {
+        return this.saveCategoryUseCase.execute(input.toCategory(), consistency);
+    }
+
+    @MutationMapping
+    public Mono<List<BulkItemOutput>> saveCategories(@Argument final List<CategoryDTO> input) {
+        return this.saveCategoriesUseCase.execute(input.stream().map(CategoryDTO::toCommand).toList());
+    }
+
+    @MutationMapping
+    public Mono<List<BulkItemOutput>> deleteCategories(@Argument final List<String> ids) {
+        return this.deleteCategoriesUseCase.execute(ids);
+    }
+}
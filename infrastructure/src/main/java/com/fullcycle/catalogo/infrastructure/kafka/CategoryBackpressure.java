@@ -0,0 +1,126 @@
+package com.fullcycle.catalogo.infrastructure.kafka;
+
+import com.fullcycle.catalogo.infrastructure.configuration.properties.CategoryBackpressureProperties;
+import com.fullcycle.catalogo.infrastructure.configuration.properties.CategoryBulkProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Feedback loop between the bulk writers and the Kafka consumer. Every bulk
+ * round trip reports its latency and how many items Elasticsearch rejected.
+ * <p>
+ * Batches are resized additive-increase/multiplicative-decrease: halved, down to
+ * {@code min-actions}, whenever a round trip exceeds {@code target-latency} or
+ * has rejections, and grown by a tenth of {@code max-actions} otherwise.
+ * <p>
+ * When the smoothed latency reaches {@code latency-ceiling}, the Elasticsearch
+ * socket timeout, or the smoothed rejection rate reaches
+ * {@code max-rejection-rate}, the consumer is told to pause. It may resume once
+ * latency is back under target and rejections under half the limit, or once no
+ * round trip was measured for a whole ceiling, so a drained pipeline probes
+ * again instead of staying paused on stale samples.
+ */
+public class CategoryBackpressure {
+
+    private static final Logger log = LoggerFactory.getLogger(CategoryBackpressure.class);
+
+    private static final String BATCH_LIMIT_METRIC = "catalogo.cdc.categories.bulk.limit";
+    private static final String BULK_LATENCY_METRIC = "catalogo.cdc.categories.bulk.latency";
+    private static final String REJECTION_RATE_METRIC = "catalogo.cdc.categories.bulk.rejection.rate";
+    private static final String OVERLOADED_METRIC = "catalogo.cdc.categories.overloaded";
+    private static final double SMOOTHING = 0.3;
+
+    private final int minActions;
+    private final int maxActions;
+    private final int increment;
+    private final long targetLatencyNanos;
+    private final long latencyCeilingNanos;
+    private final double maxRejectionRate;
+    private final Timer bulkLatency;
+
+    private volatile int batchLimit;
+    private volatile boolean overloaded;
+    private double smoothedLatencyNanos;
+    private double smoothedRejectionRate;
+    private long lastSampleAt;
+
+    public CategoryBackpressure(
+            final CategoryBulkProperties bulkProperties,
+            final CategoryBackpressureProperties backpressureProperties,
+            final MeterRegistry meterRegistry) {
+        this.maxActions = bulkProperties.getMaxActions();
+        this.minActions = Math.min(backpressureProperties.getMinActions(), this.maxActions);
+        this.increment = Math.max(1, this.maxActions / 10);
+        this.targetLatencyNanos = backpressureProperties.getTargetLatency().toNanos();
+        this.latencyCeilingNanos = backpressureProperties.getLatencyCeiling().toNanos();
+        this.maxRejectionRate = backpressureProperties.getMaxRejectionRate();
+        this.batchLimit = this.maxActions;
+
+        Gauge.builder(BATCH_LIMIT_METRIC, this, CategoryBackpressure::batchLimit)
+                .description("Items per bulk request currently allowed by the feedback loop")
+                .register(meterRegistry);
+        Gauge.builder(REJECTION_RATE_METRIC, this, it -> it.smoothedRejectionRate)
+                .description("Smoothed share of bulk items rejected by Elasticsearch")
+                .register(meterRegistry);
+        Gauge.builder(OVERLOADED_METRIC, this, it -> it.isOverloaded() ? 1 : 0)
+                .description("Whether category consumption is paused to let Elasticsearch recover")
+                .register(meterRegistry);
+        this.bulkLatency = Timer.builder(BULK_LATENCY_METRIC)
+                .description("Round trip time of category bulk requests")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+    public synchronized void onBulk(final long aLatencyNanos, final int anItems, final int aRejected) {
+        this.bulkLatency.record(aLatencyNanos, TimeUnit.NANOSECONDS);
+        final var aRejectionRate = anItems == 0 ? 0.0 : (double) aRejected / anItems;
+        if (this.lastSampleAt == 0) {
+            this.smoothedLatencyNanos = aLatencyNanos;
+            this.smoothedRejectionRate = aRejectionRate;
+        } else {
+            this.smoothedLatencyNanos = SMOOTHING * aLatencyNanos + (1 - SMOOTHING) * this.smoothedLatencyNanos;
+            this.smoothedRejectionRate = SMOOTHING * aRejectionRate + (1 - SMOOTHING) * this.smoothedRejectionRate;
+        }
+        this.lastSampleAt = System.nanoTime();
+
+        if (aRejected > 0 || aLatencyNanos > targetLatencyNanos) {
+            this.batchLimit = Math.max(minActions, this.batchLimit / 2);
+        } else {
+            this.batchLimit = Math.min(maxActions, this.batchLimit + increment);
+        }
+
+        final var wasOverloaded = this.overloaded;
+        if (this.smoothedLatencyNanos >= latencyCeilingNanos || this.smoothedRejectionRate >= maxRejectionRate) {
+            this.overloaded = true;
+        } else if (this.smoothedLatencyNanos <= targetLatencyNanos && this.smoothedRejectionRate < maxRejectionRate / 2) {
+            this.overloaded = false;
+        }
+        if (wasOverloaded != this.overloaded) {
+            log.info("Elasticsearch indexing is {}: latency {}ms, rejection rate {}, batch limit {}",
+                    this.overloaded ? "overloaded" : "healthy again",
+                    TimeUnit.NANOSECONDS.toMillis((long) this.smoothedLatencyNanos),
+                    this.smoothedRejectionRate,
+                    this.batchLimit);
+        }
+    }
+
+    /**
+     * Items a bulk request may carry right now, never above {@code max-actions}.
+     */
+    public int batchLimit() {
+        return this.batchLimit;
+    }
+
+    public synchronized boolean isOverloaded() {
+        if (this.overloaded && System.nanoTime() - this.lastSampleAt >= latencyCeilingNanos) {
+            // Nothing in flight reported back for a while, let some traffic through to measure again
+            this.overloaded = false;
+        }
+        return this.overloaded;
+    }
+}
@@ -0,0 +1,367 @@
+package com.fullcycle.catalogo.infrastructure.kafka;
+
+import com.fullcycle.catalogo.domain.exceptions.InternalErrorException;
+import com.fullcycle.catalogo.infrastructure.configuration.properties.CategoryBootstrapProperties;
+import com.fullcycle.catalogo.infrastructure.utils.ThreadUtils;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.UnknownMemberIdException;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.listener.AbstractMessageListenerContainer;
+import org.springframework.kafka.listener.MessageListenerContainer;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Catches a fresh consumer group up from the connector's snapshot phase before
+ * the ordered listener starts.
+ * <p>
+ * Snapshot rows, {@code op = r}, hold one row per id and never conflict, so
+ * every partition is read from the beginning in parallel and written in bulk
+ * without lanes. A partition is done at its first non-snapshot record, or at
+ * the end offset seen on startup. Once every row was indexed, those offsets
+ * are seeded for the listener's group, which picks up from there in order.
+ * <p>
+ * Instances of a new group started together each bootstrap, the writes are
+ * versioned and idempotent, but only the first to finish seeds the group: the
+ * others find offsets committed and leave them be. Seeding goes through the
+ * admin API, which the broker only accepts while the group has no members, so
+ * it never rewinds a listener already consuming.
+ * <p>
+ * Runs only when enabled and the group has no committed offsets yet, in the
+ * background so startup is not held up: the ordered listener is only started
+ * once it is done, and readiness refuses traffic until then. Rows that cannot be
+ * decoded go to the dead-letter topic. If it fails nothing is committed and the
+ * ordered listener starts from its {@code auto-offset-reset} instead, the start
+ * of the topics by default, which only takes longer.
+ */
+public class CategoryBootstrap implements SmartLifecycle, ApplicationListener<AvailabilityChangeEvent<ReadinessState>> {
+
+    private static final Logger log = LoggerFactory.getLogger(CategoryBootstrap.class);
+
+    private static final int PHASE = AbstractMessageListenerContainer.DEFAULT_PHASE - 100;
+    private static final long DRAIN_POLL_MILLIS = 50;
+
+    private final ConsumerFactory<Object, Object> consumerFactory;
+    private final Supplier<Admin> adminFactory;
+    private final Supplier<CategoryBulkWriter> writerFactory;
+    private final CategoryDeadLetterPublisher deadLetterPublisher;
+    private final KafkaListenerEndpointRegistry listenerRegistry;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CategoryBootstrapProperties bootstrapProperties;
+    private final String groupId;
+    private final List<String> topics;
+    private final String listenerId;
+    private volatile boolean running;
+    private volatile boolean bootstrapping;
+
+    public CategoryBootstrap(
+            final ConsumerFactory<Object, Object> consumerFactory,
+            final Supplier<Admin> adminFactory,
+            final Supplier<CategoryBulkWriter> writerFactory,
+            final CategoryDeadLetterPublisher deadLetterPublisher,
+            final KafkaListenerEndpointRegistry listenerRegistry,
+            final ApplicationEventPublisher eventPublisher,
+            final CategoryBootstrapProperties bootstrapProperties,
+            final String groupId,
+            final List<String> topics,
+            final String listenerId) {
+        this.consumerFactory = Objects.requireNonNull(consumerFactory);
+        this.adminFactory = Objects.requireNonNull(adminFactory);
+        this.writerFactory = Objects.requireNonNull(writerFactory);
+        this.deadLetterPublisher = Objects.requireNonNull(deadLetterPublisher);
+        this.listenerRegistry = Objects.requireNonNull(listenerRegistry);
+        this.eventPublisher = Objects.requireNonNull(eventPublisher);
+        this.bootstrapProperties = Objects.requireNonNull(bootstrapProperties);
+        this.groupId = Objects.requireNonNull(groupId);
+        this.topics = List.copyOf(topics);
+        this.listenerId = Objects.requireNonNull(listenerId);
+    }
+
+    /**
+     * Holds the ordered listener back, it is started in a later phase, and
+     * bootstraps on a thread of its own.
+     */
+    @Override
+    public void start() {
+        this.running = true;
+        if (!this.bootstrapProperties.isEnabled()) {
+            return;
+        }
+        final var aContainer = this.listenerRegistry.getListenerContainer(this.listenerId);
+        final var isAutoStartup = aContainer != null && aContainer.isAutoStartup();
+        if (aContainer != null) {
+            aContainer.setAutoStartup(false);
+        }
+        this.bootstrapping = true;
+        AvailabilityChangeEvent.publish(this.eventPublisher, this, ReadinessState.REFUSING_TRAFFIC);
+        ThreadUtils.daemonThreadFactory("category-bootstrap-main-")
+                .newThread(() -> run(isAutoStartup ? aContainer : null))
+                .start();
+    }
+
+    @Override
+    public void stop() {
+        this.running = false;
+    }
+
+    /**
+     * Startup reports the application ready once the context is refreshed, which
+     * does not wait for the bootstrap: readiness is refused again until it is done.
+     */
+    @Override
+    public void onApplicationEvent(final AvailabilityChangeEvent<ReadinessState> anEvent) {
+        if (this.bootstrapping && anEvent.getState() == ReadinessState.ACCEPTING_TRAFFIC) {
+            AvailabilityChangeEvent.publish(this.eventPublisher, this, ReadinessState.REFUSING_TRAFFIC);
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return this.running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    private void run(final MessageListenerContainer aListener) {
+        try {
+            final var partitions = freshPartitions();
+            if (!partitions.isEmpty()) {
+                final var startedAt = System.nanoTime();
+                final var indexed = new AtomicLong();
+                final var handover = bootstrap(partitions, indexed);
+                if (seed(handover)) {
+                    log.info("Bootstrapped {} categories from the snapshot of {} partitions in {}ms, handing over at {}",
+                            indexed.get(), partitions.size(), Duration.ofNanos(System.nanoTime() - startedAt).toMillis(), handover);
+                }
+            }
+        } catch (final Exception e) {
+            log.error("Category snapshot bootstrap has failed, the listener reads the topics from the start instead", e);
+        } finally {
+            this.bootstrapping = false;
+        }
+        if (!this.running) {
+            return;
+        }
+        if (aListener != null) {
+            aListener.start();
+        }
+        AvailabilityChangeEvent.publish(this.eventPublisher, this, ReadinessState.ACCEPTING_TRAFFIC);
+    }
+
+    /**
+     * Partitions of the category topics, or none when the group already
+     * committed offsets and thus is not fresh.
+     */
+    private List<TopicPartition> freshPartitions() {
+        try (final var aConsumer = createConsumer("discovery")) {
+            final var partitions = this.topics.stream()
+                    .flatMap(aTopic -> aConsumer.partitionsFor(aTopic).stream())
+                    .map(aPartition -> new TopicPartition(aPartition.topic(), aPartition.partition()))
+                    .toList();
+            final var committed = aConsumer.committed(new HashSet<>(partitions));
+            if (committed.values().stream().anyMatch(Objects::nonNull)) {
+                log.info("Consumer group {} already has committed offsets, skipping the snapshot bootstrap", groupId);
+                return List.of();
+            }
+            return partitions;
+        }
+    }
+
+    private Map<TopicPartition, Long> bootstrap(final List<TopicPartition> partitions, final AtomicLong indexed) {
+        final var workers = Math.max(1, Math.min(this.bootstrapProperties.getConcurrency(), partitions.size()));
+        final var assignments = IntStream.range(0, workers)
+                .mapToObj(worker -> IntStream.range(0, partitions.size())
+                        .filter(index -> index % workers == worker)
+                        .mapToObj(partitions::get)
+                        .toList())
+                .toList();
+
+        final var executor = Executors.newFixedThreadPool(workers, ThreadUtils.daemonThreadFactory("category-bootstrap-"));
+        try {
+            final var futures = assignments.stream()
+                    .map(anAssignment -> CompletableFuture.supplyAsync(() -> load(anAssignment, indexed), executor))
+                    .toList();
+            final var handover = new HashMap<TopicPartition, Long>();
+            futures.forEach(aFuture -> handover.putAll(aFuture.join()));
+            return handover;
+        } catch (final CompletionException e) {
+            throw InternalErrorException.with("Category snapshot bootstrap has failed", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Reads the snapshot rows of a set of partitions and returns, per partition,
+     * the offset the ordered listener must resume from.
+     */
+    private Map<TopicPartition, Long> load(final List<TopicPartition> partitions, final AtomicLong indexed) {
+        final var handover = new HashMap<TopicPartition, Long>();
+        final var outstanding = new AtomicLong();
+        try (final var aConsumer = createConsumer("loader-" + partitions.get(0).partition()); final var aWriter = this.writerFactory.get()) {
+            aConsumer.assign(partitions);
+            aConsumer.seekToBeginning(partitions);
+            final var endOffsets = aConsumer.endOffsets(partitions);
+            final var remaining = new HashSet<>(partitions);
+            completeReachedEnds(aConsumer, remaining, endOffsets, handover);
+
+            while (!remaining.isEmpty()) {
+                if (!this.running) {
+                    throw InternalErrorException.with("Stopped before the category snapshot was read", null);
+                }
+                final var records = aConsumer.poll(this.bootstrapProperties.getPollTimeout());
+                for (final var aPartition : records.partitions()) {
+                    if (!remaining.contains(aPartition)) {
+                        continue;
+                    }
+                    for (final var aRecord : records.records(aPartition)) {
+                        final CategoryChange aChange;
+                        try {
+                            aChange = CategoryEnvelopeDecoder.decodeSnapshot((byte[]) aRecord.value(), outstanding::decrementAndGet);
+                        } catch (final Exception e) {
+                            deadLetter(aRecord, outstanding, e);
+                            continue;
+                        }
+                        if (aChange == null) {
+                            complete(aConsumer, aPartition, aRecord.offset(), remaining, handover);
+                            break;
+                        }
+                        outstanding.incrementAndGet();
+                        indexed.incrementAndGet();
+                        aWriter.add(aChange);
+                    }
+                }
+                completeReachedEnds(aConsumer, remaining, endOffsets, handover);
+                aWriter.flushIfLingering();
+            }
+
+            aWriter.flush();
+            drain(aWriter, outstanding);
+        }
+        return handover;
+    }
+
+    private void completeReachedEnds(
+            final Consumer<Object, Object> aConsumer,
+            final Set<TopicPartition> remaining,
+            final Map<TopicPartition, Long> endOffsets,
+            final Map<TopicPartition, Long> handover) {
+        for (final var aPartition : List.copyOf(remaining)) {
+            final var aPosition = aConsumer.position(aPartition);
+            if (aPosition >= endOffsets.get(aPartition)) {
+                complete(aConsumer, aPartition, aPosition, remaining, handover);
+            }
+        }
+    }
+
+    private static void complete(
+            final Consumer<Object, Object> aConsumer,
+            final TopicPartition aPartition,
+            final long anOffset,
+            final Set<TopicPartition> remaining,
+            final Map<TopicPartition, Long> handover) {
+        remaining.remove(aPartition);
+        handover.put(aPartition, anOffset);
+        aConsumer.pause(List.of(aPartition));
+    }
+
+    /**
+     * Counted as outstanding until the dead-letter topic has it, like a change the
+     * bulk writer gave up on, so the handover never skips it.
+     */
+    @SuppressWarnings("unchecked")
+    private void deadLetter(final ConsumerRecord<Object, Object> aRecord, final AtomicLong outstanding, final Exception anError) {
+        log.error("Sending undecodable category message at {}-{}@{} to the dead-letter topic",
+                aRecord.topic(), aRecord.partition(), aRecord.offset(), anError);
+        outstanding.incrementAndGet();
+        this.deadLetterPublisher.publishUndecodable((ConsumerRecord<?, byte[]>) (ConsumerRecord<?, ?>) aRecord, anError)
+                .thenRun(outstanding::decrementAndGet);
+    }
+
+    /**
+     * Waits for retries and dead letters to be published; every change was
+     * handed over once each acknowledgment came back.
+     */
+    private void drain(final CategoryBulkWriter aWriter, final AtomicLong outstanding) {
+        final var deadline = System.nanoTime() + this.bootstrapProperties.getDrainTimeout().toNanos();
+        while (outstanding.get() > 0) {
+            if (System.nanoTime() - deadline >= 0) {
+                throw InternalErrorException.with(
+                        "%d snapshot categories were not indexed in time".formatted(outstanding.get()), null);
+            }
+            aWriter.flushIfLingering();
+            try {
+                Thread.sleep(DRAIN_POLL_MILLIS);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw InternalErrorException.with("Interrupted while draining the category snapshot", e);
+            }
+        }
+    }
+
+    /**
+     * Returns {@code false} when another instance handed over first, its offsets
+     * are kept.
+     */
+    private boolean seed(final Map<TopicPartition, Long> handover) {
+        final var offsets = handover.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, anEntry -> new OffsetAndMetadata(anEntry.getValue())));
+        try (final var anAdmin = this.adminFactory.get()) {
+            final var committed = anAdmin.listConsumerGroupOffsets(groupId).partitionsToOffsetAndMetadata().get();
+            if (committed.values().stream().anyMatch(Objects::nonNull)) {
+                log.info("Consumer group {} was seeded by another instance meanwhile, keeping its offsets", groupId);
+                return false;
+            }
+            anAdmin.alterConsumerGroupOffsets(groupId, offsets).all().get();
+            return true;
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof UnknownMemberIdException) {
+                log.info("Consumer group {} already has members, keeping their offsets", groupId);
+                return false;
+            }
+            throw InternalErrorException.with("Could not seed the offsets of consumer group " + groupId, e.getCause());
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw InternalErrorException.with("Interrupted while seeding consumer group " + groupId, e);
+        }
+    }
+
+    private Consumer<Object, Object> createConsumer(final String aSuffix) {
+        final var overrides = new Properties();
+        overrides.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class.getName());
+        overrides.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, "false");
+        return this.consumerFactory.createConsumer(groupId, "category-bootstrap", "-" + aSuffix, overrides);
+    }
+}
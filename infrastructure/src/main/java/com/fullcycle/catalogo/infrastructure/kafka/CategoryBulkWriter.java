@@ -0,0 +1,341 @@
+package com.fullcycle.catalogo.infrastructure.kafka;
+
+import com.fullcycle.catalogo.domain.bulk.BulkItem;
+import com.fullcycle.catalogo.domain.bulk.BulkResult;
+import com.fullcycle.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.catalogo.domain.utils.InstantUtils;
+import com.fullcycle.catalogo.infrastructure.configuration.properties.CategoryBulkProperties;
+import com.fullcycle.catalogo.infrastructure.configuration.properties.CategoryRetryProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Buffers CDC changes and writes them through {@link CategoryGateway} as
+ * {@code _bulk} requests. A batch is flushed when it reaches the item limit set by
+ * {@link CategoryBackpressure}, at most {@code max-actions}, {@code max-bytes} of
+ * estimated payload, or when its oldest change has waited longer than
+ * {@code linger}. Every round trip is reported back to the backpressure loop.
+ * <p>
+ * The buffer coalesces changes by category id: within a batch window only the
+ * last change to an id is written, so a delete supersedes a pending upsert and a
+ * burst of edits becomes a single bulk item. Superseded changes are acknowledged
+ * together with the change that replaced them.
+ * <p>
+ * The writer owns no threads: whoever feeds it must also call
+ * {@link #flushIfLingering()} periodically, see {@link CategoryLanes}. It flushes
+ * holding a {@link ReentrantLock} rather than its monitor, so a virtual thread
+ * waiting on Elasticsearch unmounts from its carrier.
+ * <p>
+ * Changes are acknowledged only after Elasticsearch accepted them, so offsets are
+ * never committed ahead of the index. Items Elasticsearch rejected are published
+ * to the retry topic, due after a jittered exponential backoff, and acknowledged
+ * once it has them: the container acknowledges asynchronously and stops fetching
+ * until a poll is acknowledged, so nothing may wait in memory for its backoff.
+ * They come back through {@link CategoryListener} as retries; a newer change to
+ * the same id makes its retry moot. Items that fail permanently, or are still
+ * rejected after {@code max-attempts}, are published to the dead-letter topic.
+ * Items Elasticsearch skipped because the index already holds a newer version are
+ * stale replays: they are acknowledged and counted, never retried.
+ */
+public class CategoryBulkWriter implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(CategoryBulkWriter.class);
+
+    private final CategoryGateway categoryGateway;
+    private final CategoryDeadLetterPublisher deadLetterPublisher;
+    private final CategoryBackpressure backpressure;
+    private final long maxBytes;
+    private final long lingerNanos;
+    private final int maxAttempts;
+    private final long initialIntervalNanos;
+    private final long maxIntervalNanos;
+    private final Lock lock = new ReentrantLock();
+
+    private Map<String, CategoryChange> pending = new LinkedHashMap<>();
+    private long pendingBytes;
+    private long oldestPendingAt;
+    private volatile int pendingCount;
+    private final Set<String> retrying = new HashSet<>();
+    private final Set<String> superseded = new HashSet<>();
+    private final LongAdder receivedCount = new LongAdder();
+    private final LongAdder coalescedCount = new LongAdder();
+    private final LongAdder skippedCount = new LongAdder();
+    private final LongAdder retriedCount = new LongAdder();
+    private final LongAdder deadLetteredCount = new LongAdder();
+
+    public CategoryBulkWriter(
+            final CategoryGateway categoryGateway,
+            final CategoryBulkProperties bulkProperties,
+            final CategoryRetryProperties retryProperties,
+            final CategoryDeadLetterPublisher deadLetterPublisher,
+            final CategoryBackpressure backpressure) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.deadLetterPublisher = Objects.requireNonNull(deadLetterPublisher);
+        this.backpressure = Objects.requireNonNull(backpressure);
+        this.maxBytes = bulkProperties.getMaxBytes();
+        this.lingerNanos = bulkProperties.getLinger().toNanos();
+        this.maxAttempts = retryProperties.getMaxAttempts();
+        this.initialIntervalNanos = retryProperties.getInitialInterval().toNanos();
+        this.maxIntervalNanos = retryProperties.getMaxInterval().toNanos();
+    }
+
+    public void add(final CategoryChange aChange) {
+        this.lock.lock();
+        try {
+            buffer(aChange);
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    public void flush() {
+        this.lock.lock();
+        try {
+            flushPending();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Flushes the buffer once its oldest change has lingered long enough.
+     */
+    public void flushIfLingering() {
+        this.lock.lock();
+        try {
+            if (!this.pending.isEmpty() && System.nanoTime() - this.oldestPendingAt >= lingerNanos) {
+                flushPending();
+            }
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Buffered changes. Lock-free so metrics can read it while a flush is in
+     * progress.
+     */
+    public int pendingCount() {
+        return this.pendingCount;
+    }
+
+    public long receivedCount() {
+        return this.receivedCount.sum();
+    }
+
+    /**
+     * Changes that never reached Elasticsearch because a later change to the same
+     * id replaced them in the buffer.
+     */
+    public long coalescedCount() {
+        return this.coalescedCount.sum();
+    }
+
+    /**
+     * Changes acknowledged without being applied because they were older than the
+     * indexed document.
+     */
+    public long skippedCount() {
+        return this.skippedCount.sum();
+    }
+
+    public long retriedCount() {
+        return this.retriedCount.sum();
+    }
+
+    public long deadLetteredCount() {
+        return this.deadLetteredCount.sum();
+    }
+
+    /**
+     * Called once partitions were revoked: the retries of their ids are now read
+     * by whichever instance took them over, so an id marked superseded here
+     * would never have its mark cleared. Letting a stale retry through is safe,
+     * it is older than the indexed category and skipped.
+     */
+    public void forgetRetries() {
+        this.lock.lock();
+        try {
+            this.retrying.clear();
+            this.superseded.clear();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    public long lingerNanos() {
+        return lingerNanos;
+    }
+
+    @Override
+    public void close() {
+        flush();
+    }
+
+    private void buffer(final CategoryChange aChange) {
+        if (this.pending.isEmpty()) {
+            this.oldestPendingAt = System.nanoTime();
+        }
+        this.receivedCount.increment();
+
+        if (aChange.isRetry()) {
+            this.retrying.remove(aChange.id());
+            // A newer change to the id was read after it went to the retry topic
+            if (this.superseded.remove(aChange.id())) {
+                this.coalescedCount.increment();
+                aChange.acknowledge();
+                return;
+            }
+        } else if (this.retrying.remove(aChange.id())) {
+            this.superseded.add(aChange.id());
+        }
+
+        if (coalesce(aChange)) {
+            this.coalescedCount.increment();
+        }
+        updatePendingCount();
+        if (this.pending.size() >= this.backpressure.batchLimit() || this.pendingBytes >= maxBytes) {
+            flushPending();
+        }
+    }
+
+    private void flushPending() {
+        if (this.pending.isEmpty()) {
+            return;
+        }
+        final var batch = this.pending.values();
+        this.pending = new LinkedHashMap<>();
+        this.pendingBytes = 0;
+
+        write(batch.stream().filter(aChange -> !aChange.isDelete()).toList(), false);
+        write(batch.stream().filter(CategoryChange::isDelete).toList(), true);
+        updatePendingCount();
+    }
+
+    /**
+     * Keeps only the latest change per id. Returns whether an older pending
+     * change was superseded. A retry is older than whatever is pending for its
+     * id, so it is the one superseded there.
+     */
+    private boolean coalesce(final CategoryChange aChange) {
+        final var anOlder = this.pending.get(aChange.id());
+        if (anOlder == null) {
+            this.pending.put(aChange.id(), aChange);
+            this.pendingBytes += aChange.size();
+            return false;
+        }
+        if (aChange.isRetry()) {
+            this.pending.put(aChange.id(), anOlder.supersede(aChange));
+            return true;
+        }
+        this.pending.put(aChange.id(), aChange.supersede(anOlder));
+        this.pendingBytes += aChange.size() - anOlder.size();
+        return true;
+    }
+
+    /**
+     * Writes a run of upserts or deletes. Ids are unique within a coalesced batch,
+     * so the two runs are independent and each item's outcome is handled on its own.
+     */
+    private void write(final List<CategoryChange> run, final boolean isDelete) {
+        if (run.isEmpty()) {
+            return;
+        }
+        final BulkResult result;
+        final var startedAt = System.nanoTime();
+        try {
+            result = isDelete
+                    ? this.categoryGateway.deleteAllById(run.stream().map(CategoryChange::id).toList())
+                    : this.categoryGateway.saveAll(run.stream().map(CategoryChange::category).toList());
+        } catch (final Exception e) {
+            this.backpressure.onBulk(System.nanoTime() - startedAt, run.size(), run.size());
+            log.warn("Bulk write of {} category changes has failed, retrying with backoff", run.size(), e);
+            run.forEach(aChange -> retry(aChange, String.valueOf(e.getMessage())));
+            return;
+        }
+
+        final var rejected = (int) result.items().stream().filter(BulkItem::isRejected).count();
+        this.backpressure.onBulk(System.nanoTime() - startedAt, run.size(), rejected);
+
+        if (!result.skipped().isEmpty()) {
+            log.debug("{} stale category changes were skipped: {}", result.skipped().size(), result.skipped());
+            this.skippedCount.add(result.skipped().size());
+        }
+
+        final var failures = result.failures().stream()
+                .collect(Collectors.toMap(BulkItem::id, Function.identity(), (first, second) -> second));
+        if (!failures.isEmpty()) {
+            log.warn("{} category changes were not indexed: {}", failures.size(), failures.values());
+        }
+        for (final var aChange : run) {
+            final var aFailure = failures.get(aChange.id());
+            if (aFailure == null) {
+                aChange.acknowledge();
+            } else if (aFailure.isRejected()) {
+                retry(aChange, reasonOf(aFailure));
+            } else {
+                deadLetter(aChange, aChange.attempts() + 1, reasonOf(aFailure));
+            }
+        }
+    }
+
+    /**
+     * The change is acknowledged once the retry topic has it; the publisher keeps
+     * trying until it does.
+     */
+    private void retry(final CategoryChange aChange, final String aReason) {
+        final var attempt = aChange.attempts() + 1;
+        if (attempt >= maxAttempts) {
+            deadLetter(aChange, attempt, aReason);
+            return;
+        }
+        this.retriedCount.increment();
+        this.retrying.add(aChange.id());
+        final var aRetryAt = InstantUtils.now().plus(Duration.ofNanos(backoffNanos(attempt)));
+        this.deadLetterPublisher.publishRetry(aChange, attempt, aReason, aRetryAt)
+                .thenRun(aChange::acknowledge);
+    }
+
+    /**
+     * The change is acknowledged once the dead-letter topic has it; the publisher
+     * keeps trying until it does.
+     */
+    private void deadLetter(final CategoryChange aChange, final int anAttempts, final String aReason) {
+        this.deadLetteredCount.increment();
+        log.error("Category change {} has failed after {} attempts, sending it to the dead-letter topic: {}",
+                aChange.id(), anAttempts, aReason);
+        this.deadLetterPublisher.publish(aChange, anAttempts, aReason)
+                .thenRun(aChange::acknowledge);
+    }
+
+    /**
+     * Exponential backoff with equal jitter: half of the interval is fixed and the
+     * other half random, so items rejected by the same failed batch spread out.
+     */
+    private long backoffNanos(final int anAttempt) {
+        final var exponential = (long) Math.min(maxIntervalNanos, initialIntervalNanos * Math.pow(2, anAttempt - 1));
+        return exponential / 2 + ThreadLocalRandom.current().nextLong(exponential / 2 + 1);
+    }
+
+    private void updatePendingCount() {
+        this.pendingCount = this.pending.size();
+    }
+
+    private static String reasonOf(final BulkItem anItem) {
+        return anItem.error() != null ? anItem.error().message() : anItem.status().name();
+    }
+}
@@ -0,0 +1,57 @@
+package com.fullcycle.catalogo.infrastructure.kafka;
+
+import com.fullcycle.catalogo.infrastructure.category.CachedCategoryGateway;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+
+/**
+ * Drops the cached categories the CDC stream reports as changed. Unlike
+ * {@link CategoryListener}, every instance reads every change: the group id is
+ * unique per instance, starts at the latest offset and never commits.
+ */
+@Component
+public class CategoryCacheInvalidator {
+
+    private static final Logger log = LoggerFactory.getLogger(CategoryCacheInvalidator.class);
+
+    private final CachedCategoryGateway categoryGateway;
+
+    public CategoryCacheInvalidator(final CachedCategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @KafkaListener(
+            containerFactory = "categoryCacheListenerFactory",
+            topics = "${kafka.consumers.categories.topics}",
+            groupId = "${kafka.consumers.category-cache.group-id}",
+            id = "${kafka.consumers.category-cache.id}",
+            autoStartup = "${kafka.consumers.category-cache.auto-startup}",
+            properties = {
+                    "auto.offset.reset=latest",
+                    "value.deserializer=org.apache.kafka.common.serialization.ByteArrayDeserializer"
+            }
+    )
+    public void onMessage(final ConsumerRecord<String, byte[]> aRecord) {
+        final CategoryChange aChange;
+        try {
+            aChange = CategoryEnvelopeDecoder.decode(aRecord.value(), null);
+        } catch (final Exception e) {
+            log.error("Skipping undecodable category message at {}-{}@{}",
+                    aRecord.topic(), aRecord.partition(), aRecord.offset(), e);
+            return;
+        }
+        if (aChange == null) {
+            return;
+        }
+        if (aChange.isDelete()) {
+            this.categoryGateway.deleted(aChange.id());
+        } else {
+            this.categoryGateway.changed(aChange.category());
+        }
+    }
+}
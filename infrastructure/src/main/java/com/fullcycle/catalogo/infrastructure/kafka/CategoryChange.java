@@ -0,0 +1,86 @@
+package com.fullcycle.catalogo.infrastructure.kafka;
+
+import com.fullcycle.catalogo.domain.category.Category;
+import org.springframework.kafka.support.Acknowledgment;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A single decoded CDC change waiting to be written to Elasticsearch.
+ * {@code category} is {@code null} for deletes. {@code acks} holds the
+ * acknowledgments of the changes it superseded followed by its own, oldest
+ * first, flat however many there were. {@code attempts} counts the writes
+ * Elasticsearch already rejected, none for a change read from the CDC topic.
+ */
+public record CategoryChange(
+        String id,
+        Category category,
+        int size,
+        List<Acknowledgment> acks,
+        int attempts
+) {
+
+    private static final int ACTION_OVERHEAD = 128;
+
+    public static CategoryChange upsert(final Category aCategory, final Acknowledgment anAck) {
+        return new CategoryChange(aCategory.id(), aCategory, estimateSize(aCategory), acksOf(anAck), 0);
+    }
+
+    public static CategoryChange delete(final String anId, final Acknowledgment anAck) {
+        return new CategoryChange(anId, null, ACTION_OVERHEAD + anId.length(), acksOf(anAck), 0);
+    }
+
+    /**
+     * Returns this change acknowledged through {@code anAck} alone, which is then
+     * responsible for acknowledging it.
+     */
+    public CategoryChange withAck(final Acknowledgment anAck) {
+        return new CategoryChange(id, category, size, acksOf(anAck), attempts);
+    }
+
+    public CategoryChange withAttempts(final int anAttempts) {
+        return new CategoryChange(id, category, size, acks, anAttempts);
+    }
+
+    /**
+     * Returns this change standing in for an older change to the same id.
+     * Acknowledging it acknowledges both, oldest first. The older change hands
+     * its acknowledgments over, so it must not be acknowledged on its own
+     * afterwards; that keeps a hot id superseded over and over linear, instead of
+     * copying or nesting what it gathered on every change.
+     */
+    public CategoryChange supersede(final CategoryChange anOlder) {
+        final var merged = anOlder.acks();
+        merged.addAll(acks);
+        return new CategoryChange(id, category, size, merged, attempts);
+    }
+
+    public boolean isRetry() {
+        return attempts > 0;
+    }
+
+    public boolean isDelete() {
+        return category == null;
+    }
+
+    public void acknowledge() {
+        acks.forEach(Acknowledgment::acknowledge);
+    }
+
+    private static List<Acknowledgment> acksOf(final Acknowledgment anAck) {
+        final var acks = new ArrayList<Acknowledgment>();
+        if (anAck != null) {
+            acks.add(anAck);
+        }
+        return acks;
+    }
+
+    private static int estimateSize(final Category aCategory) {
+        final var aDescription = aCategory.description();
+        return ACTION_OVERHEAD
+                + aCategory.id().length()
+                + aCategory.name().length()
+                + (aDescription != null ? aDescription.length() : 0);
+    }
+}
@@ -0,0 +1,152 @@
+package com.fullcycle.catalogo.infrastructure.kafka;
+
+import com.fullcycle.catalogo.domain.exceptions.InternalErrorException;
+import com.fullcycle.catalogo.infrastructure.configuration.json.Json;
+import com.fullcycle.catalogo.infrastructure.configuration.properties.CategoryRetryProperties;
+import com.fullcycle.catalogo.infrastructure.kafka.models.CategoryDeadLetter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Publishes category changes that exhausted their retries, keyed by category id,
+ * and the records that could not be decoded at all. Changes Elasticsearch
+ * rejected go to the retry topic instead, until they are due again.
+ * <p>
+ * A send that fails is tried again after a capped exponential backoff until
+ * the broker is back: the returned future only completes once it has the
+ * message, so a change acknowledged on it is never lost, and one whose send
+ * failed is not left unacknowledged for good.
+ * <p>
+ * Sends waiting for the broker are capped at {@code max-pending-sends}. Past it
+ * a message is refused at once, with an error and a failed future: its change
+ * stays unacknowledged, holding its partition's commits back until a restart
+ * reads it again, rather than piling up in memory while the broker is away.
+ */
+public class CategoryDeadLetterPublisher {
+
+    private static final Logger log = LoggerFactory.getLogger(CategoryDeadLetterPublisher.class);
+
+    private static final String PENDING_METRIC = "catalogo.cdc.categories.dead.letters.pending";
+    private static final String REFUSED_METRIC = "catalogo.cdc.categories.dead.letters.refused";
+
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final String retryTopic;
+    private final String deadLetterTopic;
+    private final Duration initialInterval;
+    private final Duration maxInterval;
+    private final int maxPendingSends;
+    private final AtomicInteger pendingSends = new AtomicInteger();
+    private final Counter refused;
+
+    public CategoryDeadLetterPublisher(
+            final KafkaTemplate<String, String> kafkaTemplate,
+            final CategoryRetryProperties retryProperties,
+            final MeterRegistry meterRegistry) {
+        this.kafkaTemplate = Objects.requireNonNull(kafkaTemplate);
+        this.retryTopic = Objects.requireNonNull(retryProperties.getRetryTopic());
+        this.deadLetterTopic = Objects.requireNonNull(retryProperties.getDeadLetterTopic());
+        this.initialInterval = Objects.requireNonNull(retryProperties.getInitialInterval());
+        this.maxInterval = Objects.requireNonNull(retryProperties.getMaxInterval());
+        this.maxPendingSends = retryProperties.getMaxPendingSends();
+
+        Gauge.builder(PENDING_METRIC, this.pendingSends, AtomicInteger::get)
+                .description("Retry and dead-letter messages waiting for the broker")
+                .register(meterRegistry);
+        this.refused = Counter.builder(REFUSED_METRIC)
+                .description("Retry and dead-letter messages refused because too many were waiting for the broker")
+                .register(meterRegistry);
+    }
+
+    public int pendingSends() {
+        return this.pendingSends.get();
+    }
+
+    public CompletableFuture<?> publish(final CategoryChange aChange, final int attempts, final String aReason) {
+        final var aMessage = Json.writeValueAsString(CategoryDeadLetter.from(aChange, attempts, aReason));
+        return send(this.deadLetterTopic, aChange.id(), aMessage);
+    }
+
+    /**
+     * Publishes a change Elasticsearch rejected, to be written again once
+     * {@code aRetryAt} has passed.
+     */
+    public CompletableFuture<?> publishRetry(
+            final CategoryChange aChange,
+            final int attempts,
+            final String aReason,
+            final Instant aRetryAt) {
+        final var aMessage = Json.writeValueAsString(CategoryDeadLetter.retry(aChange, attempts, aReason, aRetryAt));
+        return send(this.retryTopic, aChange.id(), aMessage);
+    }
+
+    /**
+     * Publishes a record that could not be decoded into a change, with its
+     * value as it was read and keyed like the original.
+     */
+    public CompletableFuture<?> publishUndecodable(final ConsumerRecord<?, byte[]> aRecord, final Exception anError) {
+        final var aKey = aRecord.key() != null ? aRecord.key().toString() : null;
+        final var aSource = "%s-%d@%d".formatted(aRecord.topic(), aRecord.partition(), aRecord.offset());
+        final var aPayload = aRecord.value() != null ? new String(aRecord.value(), StandardCharsets.UTF_8) : null;
+        final var aMessage = Json.writeValueAsString(
+                CategoryDeadLetter.undecodable(aKey, aSource, aPayload, String.valueOf(anError.getMessage())));
+        return send(this.deadLetterTopic, aKey, aMessage);
+    }
+
+    private CompletableFuture<?> send(final String aTopic, final String aKey, final String aMessage) {
+        if (this.pendingSends.incrementAndGet() > this.maxPendingSends) {
+            this.pendingSends.decrementAndGet();
+            this.refused.increment();
+            log.error("{} category messages are already waiting for the broker, refusing {} to {}: it stays unacknowledged",
+                    this.maxPendingSends, aKey, aTopic);
+            return CompletableFuture.failedFuture(InternalErrorException.with(
+                    "Too many category messages are waiting for the broker to publish %s to %s".formatted(aKey, aTopic), null));
+        }
+        final var aSent = new CompletableFuture<>();
+        aSent.whenComplete((result, e) -> this.pendingSends.decrementAndGet());
+        send(aTopic, aKey, aMessage, aSent, 1);
+        return aSent;
+    }
+
+    private void send(
+            final String aTopic,
+            final String aKey,
+            final String aMessage,
+            final CompletableFuture<Object> aSent,
+            final int anAttempt) {
+        CompletableFuture<?> aSend;
+        try {
+            aSend = this.kafkaTemplate.send(aTopic, aKey, aMessage);
+        } catch (final RuntimeException e) {
+            aSend = CompletableFuture.failedFuture(e);
+        }
+        aSend.whenComplete((result, e) -> {
+            if (e == null) {
+                aSent.complete(result);
+                return;
+            }
+            final var aDelay = backoff(anAttempt);
+            log.error("Could not publish category message {} to {} after {} attempts, trying again in {}",
+                    aKey, aTopic, anAttempt, aDelay, e);
+            CompletableFuture.delayedExecutor(aDelay.toMillis(), TimeUnit.MILLISECONDS)
+                    .execute(() -> send(aTopic, aKey, aMessage, aSent, anAttempt + 1));
+        });
+    }
+
+    private Duration backoff(final int anAttempt) {
+        final var anExponential = this.initialInterval.multipliedBy(1L << Math.min(anAttempt - 1, 20));
+        return anExponential.compareTo(this.maxInterval) > 0 ? this.maxInterval : anExponential;
+    }
+}
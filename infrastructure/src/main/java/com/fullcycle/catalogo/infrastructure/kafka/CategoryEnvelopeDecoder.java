@@ -0,0 +1,301 @@
+package com.fullcycle.catalogo.infrastructure.kafka;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fullcycle.catalogo.domain.category.ActivationStatus;
+import com.fullcycle.catalogo.domain.category.Category;
+import com.fullcycle.catalogo.infrastructure.kafka.models.connect.Operation;
+import org.springframework.kafka.support.Acknowledgment;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Decodes Debezium envelopes of the Admin {@code categories} table straight from
+ * the record bytes into a {@link CategoryChange}, with a streaming parser instead
+ * of a Jackson tree.
+ * <p>
+ * The {@code source} block and every field of the {@code before} image but its
+ * id are skipped without being materialised; of the {@code schema} block only
+ * the logical type of each row field is kept, it gives timestamps their scale.
+ * Envelopes with and without the JsonConverter schema wrapper are accepted.
+ */
+public final class CategoryEnvelopeDecoder {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private static final String SCHEMA = "schema";
+    private static final String PAYLOAD = "payload";
+    private static final String BEFORE = "before";
+    private static final String AFTER = "after";
+    private static final String OP = "op";
+
+    private static final String TIMESTAMP = "io.debezium.time.Timestamp";
+    private static final String MICRO_TIMESTAMP = "io.debezium.time.MicroTimestamp";
+    private static final String NANO_TIMESTAMP = "io.debezium.time.NanoTimestamp";
+
+    private CategoryEnvelopeDecoder() {
+    }
+
+    /**
+     * Returns {@code null} for the Kafka tombstones Debezium emits after a
+     * delete. An envelope without the row image its operation needs is invalid
+     * and throws, like malformed JSON.
+     */
+    public static CategoryChange decode(final byte[] aValue, final Acknowledgment anAck) throws IOException {
+        final var anEnvelope = read(aValue);
+        return anEnvelope != null ? anEnvelope.toChange(anAck) : null;
+    }
+
+    /**
+     * Decodes rows emitted during the connector's snapshot phase, {@code op = r}.
+     * Returns {@code null} for anything else, which marks the end of the
+     * snapshot on that partition.
+     */
+    public static CategoryChange decodeSnapshot(final byte[] aValue, final Acknowledgment anAck) throws IOException {
+        final var anEnvelope = read(aValue);
+        return anEnvelope != null && Operation.READ == anEnvelope.operation ? anEnvelope.toChange(anAck) : null;
+    }
+
+    private static Envelope read(final byte[] aValue) throws IOException {
+        if (aValue == null) {
+            return null;
+        }
+        try (final var parser = JSON_FACTORY.createParser(aValue)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Debezium envelope must be a JSON object");
+            }
+            final var anEnvelope = new Envelope();
+            readEnvelope(parser, anEnvelope);
+            return anEnvelope;
+        }
+    }
+
+    private static void readEnvelope(final JsonParser parser, final Envelope anEnvelope) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final var aField = parser.currentName();
+            final var aToken = parser.nextToken();
+            switch (aField) {
+                case SCHEMA -> {
+                    if (aToken == JsonToken.START_OBJECT) {
+                        anEnvelope.logicalTypes = readSchema(parser);
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+                case PAYLOAD -> {
+                    if (aToken == JsonToken.START_OBJECT) {
+                        readEnvelope(parser, anEnvelope);
+                    }
+                }
+                case BEFORE -> anEnvelope.beforeId = readId(parser, aToken);
+                case AFTER -> anEnvelope.after = readRow(parser, aToken);
+                case OP -> anEnvelope.operation = Operation.of(parser.getText());
+                default -> parser.skipChildren();
+            }
+        }
+    }
+
+    /**
+     * Maps each field of the row images to its logical type name, the
+     * {@code before} and {@code after} structs share the table's value schema.
+     */
+    private static Map<String, String> readSchema(final JsonParser parser) throws IOException {
+        final var logicalTypes = new HashMap<String, String>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final var aField = parser.currentName();
+            final var aToken = parser.nextToken();
+            if (!"fields".equals(aField) || aToken != JsonToken.START_ARRAY) {
+                parser.skipChildren();
+                continue;
+            }
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                String aStruct = null;
+                Map<String, String> aStructTypes = Map.of();
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    final var aKey = parser.currentName();
+                    final var aValue = parser.nextToken();
+                    if ("field".equals(aKey)) {
+                        aStruct = parser.getValueAsString();
+                    } else if ("fields".equals(aKey) && aValue == JsonToken.START_ARRAY) {
+                        aStructTypes = readFieldTypes(parser);
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+                if (BEFORE.equals(aStruct) || AFTER.equals(aStruct)) {
+                    logicalTypes.putAll(aStructTypes);
+                }
+            }
+        }
+        return logicalTypes;
+    }
+
+    private static Map<String, String> readFieldTypes(final JsonParser parser) throws IOException {
+        final var fieldTypes = new HashMap<String, String>();
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            String aField = null;
+            String aName = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                final var aKey = parser.currentName();
+                parser.nextToken();
+                switch (aKey) {
+                    case "field" -> aField = parser.getValueAsString();
+                    case "name" -> aName = parser.getValueAsString();
+                    default -> parser.skipChildren();
+                }
+            }
+            if (aField != null && aName != null) {
+                fieldTypes.put(aField, aName);
+            }
+        }
+        return fieldTypes;
+    }
+
+    private static String readId(final JsonParser parser, final JsonToken aToken) throws IOException {
+        if (aToken != JsonToken.START_OBJECT) {
+            return null;
+        }
+        String anId = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final var aField = parser.currentName();
+            parser.nextToken();
+            if ("id".equals(aField)) {
+                anId = parser.getValueAsString();
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return anId;
+    }
+
+    /**
+     * Timestamps are kept as read: the schema giving their scale may follow the
+     * payload.
+     */
+    private static Row readRow(final JsonParser parser, final JsonToken aToken) throws IOException {
+        if (aToken != JsonToken.START_OBJECT) {
+            return null;
+        }
+        final var aRow = new Row();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final var aField = parser.currentName();
+            final var aValue = parser.nextToken();
+            switch (aField) {
+                case "id" -> aRow.id = parser.getValueAsString();
+                case "name" -> aRow.name = parser.getValueAsString();
+                case "description" -> aRow.description = parser.getValueAsString();
+                case "active" -> aRow.active = readActive(parser, aValue);
+                case "created_at" -> aRow.createdAt = readTimestamp(parser, aValue);
+                case "updated_at" -> aRow.updatedAt = readTimestamp(parser, aValue);
+                case "deleted_at" -> aRow.deletedAt = readTimestamp(parser, aValue);
+                default -> parser.skipChildren();
+            }
+        }
+        return aRow;
+    }
+
+    /**
+     * MySQL {@code TINYINT(1)} arrives as a number, {@code BOOLEAN} converters emit booleans.
+     * Anything else is left {@code null} and the row rejected: guessing would
+     * publish a category the Admin may have deactivated.
+     */
+    private static Boolean readActive(final JsonParser parser, final JsonToken aToken) throws IOException {
+        return switch (aToken) {
+            case VALUE_TRUE -> true;
+            case VALUE_FALSE -> false;
+            case VALUE_NUMBER_INT -> parser.getIntValue() != 0;
+            default -> null;
+        };
+    }
+
+    /**
+     * Numbers are epoch based, in the unit of their logical type; strings are
+     * ISO-8601, as {@code io.debezium.time.ZonedTimestamp} emits them.
+     */
+    private static Object readTimestamp(final JsonParser parser, final JsonToken aToken) throws IOException {
+        return switch (aToken) {
+            case VALUE_NUMBER_INT -> parser.getLongValue();
+            case VALUE_STRING -> Instant.parse(parser.getText());
+            default -> null;
+        };
+    }
+
+    /**
+     * Categories keep millisecond precision. Without a schema the columns are
+     * taken for what the Admin declares them, {@code DATETIME(6)}, which
+     * Debezium emits as {@code io.debezium.time.MicroTimestamp}.
+     */
+    private static Instant toInstant(
+            final String aField,
+            final Object aValue,
+            final Map<String, String> logicalTypes) throws IOException {
+        if (!(aValue instanceof Long anEpochValue)) {
+            return (Instant) aValue;
+        }
+        final var aLogicalType = logicalTypes != null ? logicalTypes.get(aField) : MICRO_TIMESTAMP;
+        if (TIMESTAMP.equals(aLogicalType)) {
+            return Instant.ofEpochMilli(anEpochValue);
+        }
+        if (MICRO_TIMESTAMP.equals(aLogicalType)) {
+            return Instant.ofEpochMilli(Math.floorDiv(anEpochValue, 1_000L));
+        }
+        if (NANO_TIMESTAMP.equals(aLogicalType)) {
+            return Instant.ofEpochMilli(Math.floorDiv(anEpochValue, 1_000_000L));
+        }
+        throw new IOException("Debezium field %s is not a timestamp, its logical type is %s"
+                .formatted(aField, aLogicalType));
+    }
+
+    private static final class Row {
+
+        private String id;
+        private String name;
+        private String description;
+        private Boolean active;
+        private Object createdAt;
+        private Object updatedAt;
+        private Object deletedAt;
+
+        private Category toCategory(final Map<String, String> logicalTypes) throws IOException {
+            if (active == null) {
+                throw new IOException("Debezium row %s has no active flag".formatted(id));
+            }
+            return Category.with(
+                    id,
+                    name,
+                    description,
+                    active ? ActivationStatus.ACTIVE : ActivationStatus.INACTIVE,
+                    toInstant("created_at", createdAt, logicalTypes),
+                    toInstant("updated_at", updatedAt, logicalTypes),
+                    toInstant("deleted_at", deletedAt, logicalTypes)
+            );
+        }
+    }
+
+    private static final class Envelope {
+
+        private String beforeId;
+        private Row after;
+        private Operation operation;
+        private Map<String, String> logicalTypes;
+
+        private CategoryChange toChange(final Acknowledgment anAck) throws IOException {
+            if (Operation.isDelete(operation)) {
+                if (beforeId == null) {
+                    throw new IOException("Debezium delete envelope has no before image id");
+                }
+                return CategoryChange.delete(beforeId, anAck);
+            }
+            if (after == null || after.id == null) {
+                throw new IOException("Debezium %s envelope has no after image"
+                        .formatted(operation != null ? operation.op() : "unknown"));
+            }
+            return CategoryChange.upsert(after.toCategory(logicalTypes), anAck);
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package com.fullcycle.catalogo.infrastructure.kafka;
+
+import com.fullcycle.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.catalogo.domain.exceptions.InternalErrorException;
+import com.fullcycle.catalogo.infrastructure.configuration.properties.CategoryBulkProperties;
+import com.fullcycle.catalogo.infrastructure.configuration.properties.CategoryLanesProperties;
+import com.fullcycle.catalogo.infrastructure.configuration.properties.CategoryRetryProperties;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToLongFunction;
+import java.util.stream.IntStream;
+
+/**
+ * Fans category changes out to a fixed set of lanes keyed by category id. Every
+ * lane owns one {@link CategoryBulkWriter} and a single virtual thread, so changes
+ * to the same id are written in order while independent ids are indexed in
+ * parallel.
+ * <p>
+ * Lanes acknowledge changes as they are flushed, out of order across lanes; the
+ * listener container only commits the contiguous acknowledged range.
+ */
+public class CategoryLanes implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(CategoryLanes.class);
+
+    private static final String OCCUPANCY_METRIC = "catalogo.cdc.categories.lane.occupancy";
+    private static final String ACTIVE_LANES_METRIC = "catalogo.cdc.categories.lanes.active";
+    private static final String RECEIVED_METRIC = "catalogo.cdc.categories.received";
+    private static final String COALESCED_METRIC = "catalogo.cdc.categories.coalesced";
+    private static final String COALESCING_RATIO_METRIC = "catalogo.cdc.categories.coalescing.ratio";
+    private static final String RETRIED_METRIC = "catalogo.cdc.categories.retried";
+    private static final String DEAD_LETTERED_METRIC = "catalogo.cdc.categories.dead.lettered";
+    private static final String SKIPPED_METRIC = "catalogo.cdc.categories.skipped";
+    private static final String LAG_METRIC = "catalogo.cdc.categories.lag";
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(10);
+
+    private final List<Lane> lanes;
+    private final Timer lag;
+
+    public CategoryLanes(
+            final CategoryGateway categoryGateway,
+            final CategoryDeadLetterPublisher deadLetterPublisher,
+            final CategoryBackpressure backpressure,
+            final CategoryBulkProperties bulkProperties,
+            final CategoryRetryProperties retryProperties,
+            final CategoryLanesProperties lanesProperties,
+            final MeterRegistry meterRegistry) {
+        // Lanes spend nearly all their time blocked on Elasticsearch round trips, so
+        // each runs on a virtual thread; the bulk writer flushes under a lock that
+        // lets it unmount from its carrier meanwhile
+        final var threadFactory = Thread.ofVirtual().name("category-lane-", 0).factory();
+        this.lanes = IntStream.range(0, lanesProperties.getCount())
+                .mapToObj(index -> new Lane(
+                        new CategoryBulkWriter(categoryGateway, bulkProperties, retryProperties, deadLetterPublisher, backpressure),
+                        lanesProperties.getCapacity()))
+                .toList();
+        this.lanes.forEach(lane -> lane.start(threadFactory));
+
+        for (int index = 0; index < this.lanes.size(); index++) {
+            Gauge.builder(OCCUPANCY_METRIC, this.lanes.get(index), Lane::occupancy)
+                    .description("Category changes queued or buffered in a lane")
+                    .tag("lane", String.valueOf(index))
+                    .register(meterRegistry);
+        }
+        Gauge.builder(ACTIVE_LANES_METRIC, this, CategoryLanes::activeLanes)
+                .description("Lanes holding at least one category change")
+                .register(meterRegistry);
+        FunctionCounter.builder(RECEIVED_METRIC, this, it -> it.sum(CategoryBulkWriter::receivedCount))
+                .description("Category changes handed to the bulk writers")
+                .register(meterRegistry);
+        FunctionCounter.builder(COALESCED_METRIC, this, it -> it.sum(CategoryBulkWriter::coalescedCount))
+                .description("Category changes superseded by a later change to the same id before being written")
+                .register(meterRegistry);
+        Gauge.builder(COALESCING_RATIO_METRIC, this, CategoryLanes::coalescingRatio)
+                .description("Share of received category changes that were coalesced away")
+                .register(meterRegistry);
+        FunctionCounter.builder(SKIPPED_METRIC, this, CategoryLanes::skippedCount)
+                .description("Stale category changes rejected by a newer indexed version")
+                .register(meterRegistry);
+        FunctionCounter.builder(RETRIED_METRIC, this, it -> it.sum(CategoryBulkWriter::retriedCount))
+                .description("Category changes sent to the retry topic after Elasticsearch rejected them")
+                .register(meterRegistry);
+        FunctionCounter.builder(DEAD_LETTERED_METRIC, this, it -> it.sum(CategoryBulkWriter::deadLetteredCount))
+                .description("Category changes sent to the dead-letter topic")
+                .register(meterRegistry);
+        this.lag = Timer.builder(LAG_METRIC)
+                .description("Time from the change being written to Kafka until it was indexed")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Blocks while the target lane is full, which in turn holds the consumer thread
+     * back instead of buffering without bound.
+     */
+    public void dispatch(final CategoryChange aChange, final long aTimestamp) {
+        final var aLane = this.lanes.get(Math.floorMod(aChange.id().hashCode(), this.lanes.size()));
+        final var measured = aChange.withAck(() -> {
+            aChange.acknowledge();
+            this.lag.record(Duration.ofMillis(Math.max(0, System.currentTimeMillis() - aTimestamp)));
+        });
+        try {
+            aLane.queue.put(measured);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw InternalErrorException.with("Interrupted while dispatching category change", e);
+        }
+    }
+
+    public void forgetRetries() {
+        this.lanes.forEach(lane -> lane.writer.forgetRetries());
+    }
+
+    public int activeLanes() {
+        return (int) this.lanes.stream()
+                .filter(lane -> lane.occupancy() > 0)
+                .count();
+    }
+
+    public long skippedCount() {
+        return sum(CategoryBulkWriter::skippedCount);
+    }
+
+    public double coalescingRatio() {
+        final var received = sum(CategoryBulkWriter::receivedCount);
+        return received == 0 ? 0.0 : (double) sum(CategoryBulkWriter::coalescedCount) / received;
+    }
+
+    private long sum(final ToLongFunction<CategoryBulkWriter> aCounter) {
+        return this.lanes.stream()
+                .mapToLong(lane -> aCounter.applyAsLong(lane.writer))
+                .sum();
+    }
+
+    @Override
+    public void close() {
+        this.lanes.forEach(Lane::stop);
+        this.lanes.forEach(Lane::awaitTermination);
+    }
+
+    private static class Lane implements Runnable {
+
+        private final CategoryBulkWriter writer;
+        private final BlockingQueue<CategoryChange> queue;
+        private final long pollTimeoutNanos;
+        private volatile boolean running = true;
+        private Thread thread;
+
+        private Lane(final CategoryBulkWriter writer, final int capacity) {
+            this.writer = writer;
+            this.queue = new ArrayBlockingQueue<>(capacity);
+            this.pollTimeoutNanos = Math.max(TimeUnit.MILLISECONDS.toNanos(1), writer.lingerNanos() / 2);
+        }
+
+        @Override
+        public void run() {
+            while (this.running || !this.queue.isEmpty()) {
+                try {
+                    final var aChange = this.queue.poll(this.pollTimeoutNanos, TimeUnit.NANOSECONDS);
+                    if (aChange != null) {
+                        this.writer.add(aChange);
+                    }
+                    this.writer.flushIfLingering();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                } catch (final Exception e) {
+                    log.error("Unexpected failure while writing category changes", e);
+                }
+            }
+            this.writer.close();
+        }
+
+        private int occupancy() {
+            return this.queue.size() + this.writer.pendingCount();
+        }
+
+        private void start(final ThreadFactory threadFactory) {
+            this.thread = threadFactory.newThread(this);
+            this.thread.start();
+        }
+
+        private void stop() {
+            this.running = false;
+        }
+
+        private void awaitTermination() {
+            try {
+                this.thread.join(SHUTDOWN_TIMEOUT.toMillis());
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.fullcycle.catalogo.infrastructure.kafka;
+
+import com.fullcycle.catalogo.domain.utils.InstantUtils;
+import com.fullcycle.catalogo.infrastructure.configuration.json.Json;
+import com.fullcycle.catalogo.infrastructure.kafka.models.CategoryDeadLetter;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.event.ListenerContainerIdleEvent;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Hands category changes to the lanes and pauses the container while
+ * {@link CategoryBackpressure} reports Elasticsearch as overloaded, so the
+ * backlog stays in Kafka rather than in memory.
+ * <p>
+ * Records that cannot be decoded, or lack the row image their operation needs,
+ * go to the dead-letter topic with their raw value.
+ * <p>
+ * Changes Elasticsearch rejected come back from the retry topic once due, and
+ * are dispatched like any other change with the attempts they already took.
+ */
+@Component
+public class CategoryListener {
+
+    private static final Logger log = LoggerFactory.getLogger(CategoryListener.class);
+
+    private final CategoryLanes categoryLanes;
+    private final CategoryBackpressure categoryBackpressure;
+    private final CategoryDeadLetterPublisher deadLetterPublisher;
+    private final CategoryRetryAcknowledgments retryAcknowledgments;
+    private final KafkaListenerEndpointRegistry listenerRegistry;
+    private final String listenerId;
+
+    public CategoryListener(
+            final CategoryLanes categoryLanes,
+            final CategoryBackpressure categoryBackpressure,
+            final CategoryDeadLetterPublisher deadLetterPublisher,
+            final CategoryRetryAcknowledgments retryAcknowledgments,
+            final KafkaListenerEndpointRegistry listenerRegistry,
+            @Value("${kafka.consumers.categories.id}") final String listenerId) {
+        this.categoryLanes = Objects.requireNonNull(categoryLanes);
+        this.categoryBackpressure = Objects.requireNonNull(categoryBackpressure);
+        this.deadLetterPublisher = Objects.requireNonNull(deadLetterPublisher);
+        this.retryAcknowledgments = Objects.requireNonNull(retryAcknowledgments);
+        this.listenerRegistry = Objects.requireNonNull(listenerRegistry);
+        this.listenerId = Objects.requireNonNull(listenerId);
+    }
+
+    @KafkaListener(
+            concurrency = "${kafka.consumers.categories.concurrency}",
+            containerFactory = "kafkaListenerFactory",
+            topics = "${kafka.consumers.categories.topics}",
+            groupId = "${kafka.consumers.categories.group-id}",
+            id = "${kafka.consumers.categories.id}",
+            autoStartup = "${kafka.consumers.categories.auto-startup}",
+            properties = {
+                    "auto.offset.reset=${kafka.consumers.categories.auto-offset-reset}",
+                    "value.deserializer=org.apache.kafka.common.serialization.ByteArrayDeserializer"
+            }
+    )
+    public void onMessage(final ConsumerRecord<String, byte[]> aRecord, final Acknowledgment ack) {
+        final CategoryChange aChange;
+        try {
+            aChange = CategoryEnvelopeDecoder.decode(aRecord.value(), ack);
+        } catch (final Exception e) {
+            deadLetter(aRecord, ack, e);
+            return;
+        }
+        // Tombstones emitted by Debezium right after a delete event decode to null
+        if (aChange == null) {
+            ack.acknowledge();
+            return;
+        }
+        this.categoryLanes.dispatch(aChange, aRecord.timestamp());
+        if (this.categoryBackpressure.isOverloaded()) {
+            pause();
+        }
+    }
+
+    /**
+     * A change not due yet is negatively acknowledged until it is: the container
+     * seeks back to it and pauses its partitions for the remaining backoff, still
+     * polling meanwhile, so the consumer keeps its group membership. Retries are
+     * published in the order they fail, the ones behind it are seldom due sooner.
+     * Only this container waits, the CDC topic keeps flowing.
+     */
+    @KafkaListener(
+            concurrency = "${kafka.consumers.category-retries.concurrency}",
+            containerFactory = "categoryRetryListenerFactory",
+            topics = "${kafka.consumers.categories.retry.retry-topic}",
+            groupId = "${kafka.consumers.categories.group-id}",
+            id = "${kafka.consumers.category-retries.id}",
+            autoStartup = "${kafka.consumers.category-retries.auto-startup}",
+            properties = {
+                    "auto.offset.reset=earliest",
+                    "value.deserializer=org.apache.kafka.common.serialization.ByteArrayDeserializer"
+            }
+    )
+    public void onRetry(final ConsumerRecord<String, byte[]> aRecord, final Acknowledgment ack) {
+        final CategoryDeadLetter aDeadLetter;
+        try {
+            aDeadLetter = Json.readValue(new String(aRecord.value(), StandardCharsets.UTF_8), CategoryDeadLetter.class);
+        } catch (final Exception e) {
+            deadLetter(aRecord, this.retryAcknowledgments.track(aRecord, ack), e);
+            return;
+        }
+        if (aDeadLetter.retryAt() != null) {
+            final var aDelay = Duration.between(InstantUtils.now(), aDeadLetter.retryAt());
+            if (aDelay.isPositive()) {
+                ack.nack(aDelay);
+                return;
+            }
+        }
+        final var aTracked = this.retryAcknowledgments.track(aRecord, ack);
+        final CategoryChange aChange;
+        try {
+            aChange = aDeadLetter.toChange(aTracked);
+        } catch (final Exception e) {
+            deadLetter(aRecord, aTracked, e);
+            return;
+        }
+        this.categoryLanes.dispatch(aChange, aRecord.timestamp());
+    }
+
+    @EventListener
+    public void onIdle(final ListenerContainerIdleEvent anEvent) {
+        if (anEvent.getListenerId().startsWith(this.listenerId)
+                && anEvent.isPaused()
+                && !this.categoryBackpressure.isOverloaded()) {
+            resume();
+        }
+    }
+
+    /**
+     * Takes effect once the records of the current poll were delivered; every
+     * assigned partition is paused, the consumer keeps its group membership.
+     */
+    private void pause() {
+        final var aContainer = this.listenerRegistry.getListenerContainer(this.listenerId);
+        if (aContainer != null && !aContainer.isPauseRequested()) {
+            log.warn("Pausing category consumption until Elasticsearch recovers");
+            aContainer.pause();
+        }
+    }
+
+    private void resume() {
+        final var aContainer = this.listenerRegistry.getListenerContainer(this.listenerId);
+        if (aContainer != null && aContainer.isPauseRequested()) {
+            log.info("Resuming category consumption");
+            aContainer.resume();
+        }
+    }
+
+    /**
+     * The record is acknowledged once the dead-letter topic has it, like a change
+     * the bulk writer gave up on, so it is neither lost nor blocking the partition.
+     */
+    private void deadLetter(final ConsumerRecord<String, byte[]> aRecord, final Acknowledgment ack, final Exception anError) {
+        log.error("Sending undecodable category message at {}-{}@{} to the dead-letter topic",
+                aRecord.topic(), aRecord.partition(), aRecord.offset(), anError);
+        this.deadLetterPublisher.publishUndecodable(aRecord, anError)
+                .thenRun(ack::acknowledge);
+    }
+}
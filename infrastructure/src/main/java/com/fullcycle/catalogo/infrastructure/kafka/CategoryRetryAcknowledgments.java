@@ -0,0 +1,74 @@
+package com.fullcycle.catalogo.infrastructure.kafka;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.kafka.support.Acknowledgment;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Acknowledges the retries of a partition in offset order. Lanes acknowledge
+ * them as they flush, out of order across lanes, and the retry container
+ * commits the last offset acknowledged: it cannot use async acks, which do not
+ * allow {@link Acknowledgment#nack}. A retry is only passed on once every
+ * earlier one of its partition was, so no commit skips a retry still in flight.
+ */
+public class CategoryRetryAcknowledgments {
+
+    private final Map<TopicPartition, NavigableMap<Long, Pending>> pending = new HashMap<>();
+
+    /**
+     * Returns the acknowledgment to hand the record's change, in place of the
+     * container's.
+     */
+    public synchronized Acknowledgment track(final ConsumerRecord<?, ?> aRecord, final Acknowledgment ack) {
+        final var aPartition = new TopicPartition(aRecord.topic(), aRecord.partition());
+        final var anOffset = aRecord.offset();
+        final var aPending = new Pending(ack);
+        this.pending.computeIfAbsent(aPartition, it -> new TreeMap<>()).put(anOffset, aPending);
+        return () -> done(aPartition, anOffset, aPending);
+    }
+
+    /**
+     * Forgets the partitions no longer assigned: their retries are delivered
+     * again to the new owner, acknowledging them here would commit for it.
+     */
+    public synchronized void revoke(final Collection<TopicPartition> aPartitions) {
+        aPartitions.forEach(this.pending::remove);
+    }
+
+    public synchronized int pendingCount() {
+        return this.pending.values().stream().mapToInt(Map::size).sum();
+    }
+
+    private void done(final TopicPartition aPartition, final long anOffset, final Pending aPending) {
+        Acknowledgment aContiguous = null;
+        synchronized (this) {
+            final var offsets = this.pending.get(aPartition);
+            if (offsets == null || offsets.get(anOffset) != aPending) {
+                return;
+            }
+            aPending.done = true;
+            while (!offsets.isEmpty() && offsets.firstEntry().getValue().done) {
+                aContiguous = offsets.pollFirstEntry().getValue().ack;
+            }
+        }
+        if (aContiguous != null) {
+            aContiguous.acknowledge();
+        }
+    }
+
+    private static final class Pending {
+
+        private final Acknowledgment ack;
+        private boolean done;
+
+        private Pending(final Acknowledgment ack) {
+            this.ack = ack;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.fullcycle.catalogo.infrastructure.kafka.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fullcycle.catalogo.domain.category.ActivationStatus;
+import com.fullcycle.catalogo.domain.category.Category;
+import com.fullcycle.catalogo.infrastructure.kafka.CategoryChange;
+import org.springframework.kafka.support.Acknowledgment;
+
+import java.time.Instant;
+
+/**
+ * A category change that could not be indexed, as published to the dead-letter
+ * topic. Upserts carry the full category so the message can be replayed as is.
+ * <p>
+ * The same message goes to the retry topic for a change Elasticsearch rejected,
+ * with the time it is due for another attempt as {@code retry_at}.
+ * <p>
+ * Records that could not even be decoded carry their raw value as
+ * {@code payload} and the offset they were read from as {@code source}.
+ */
+public record CategoryDeadLetter(
+        @JsonProperty("id") String id,
+        @JsonProperty("action") String action,
+        @JsonProperty("name") String name,
+        @JsonProperty("description") String description,
+        @JsonProperty("active") Boolean active,
+        @JsonProperty("created_at") Instant createdAt,
+        @JsonProperty("updated_at") Instant updatedAt,
+        @JsonProperty("deleted_at") Instant deletedAt,
+        @JsonProperty("attempts") int attempts,
+        @JsonProperty("reason") String reason,
+        @JsonProperty("source") String source,
+        @JsonProperty("payload") String payload,
+        @JsonProperty("retry_at") Instant retryAt
+) {
+
+    private static final String UPSERT = "upsert";
+    private static final String DELETE = "delete";
+    private static final String UNDECODABLE = "undecodable";
+
+    public static CategoryDeadLetter from(final CategoryChange aChange, final int attempts, final String aReason) {
+        return of(aChange, attempts, aReason, null);
+    }
+
+    public static CategoryDeadLetter retry(
+            final CategoryChange aChange,
+            final int attempts,
+            final String aReason,
+            final Instant aRetryAt) {
+        return of(aChange, attempts, aReason, aRetryAt);
+    }
+
+    public static CategoryDeadLetter undecodable(
+            final String anId,
+            final String aSource,
+            final String aPayload,
+            final String aReason) {
+        return new CategoryDeadLetter(
+                anId, UNDECODABLE, null, null, null, null, null, null, 1, aReason, aSource, aPayload, null);
+    }
+
+    /**
+     * Rebuilds the change this message was published for, with the attempts
+     * already made.
+     */
+    public CategoryChange toChange(final Acknowledgment anAck) {
+        if (DELETE.equals(action)) {
+            return CategoryChange.delete(id, anAck).withAttempts(attempts);
+        }
+        if (!UPSERT.equals(action)) {
+            throw new IllegalArgumentException("A %s message holds no category change".formatted(action));
+        }
+        final var aCategory = Category.with(
+                id,
+                name,
+                description,
+                Boolean.FALSE.equals(active) ? ActivationStatus.INACTIVE : ActivationStatus.ACTIVE,
+                createdAt,
+                updatedAt,
+                deletedAt
+        );
+        return CategoryChange.upsert(aCategory, anAck).withAttempts(attempts);
+    }
+
+    private static CategoryDeadLetter of(
+            final CategoryChange aChange,
+            final int attempts,
+            final String aReason,
+            final Instant aRetryAt) {
+        if (aChange.isDelete()) {
+            return new CategoryDeadLetter(
+                    aChange.id(), DELETE, null, null, null, null, null, null, attempts, aReason, null, null, aRetryAt);
+        }
+        final var aCategory = aChange.category();
+        return new CategoryDeadLetter(
+                aCategory.id(),
+                UPSERT,
+                aCategory.name(),
+                aCategory.description(),
+                ActivationStatus.ACTIVE.equals(aCategory.activationStatus()),
+                aCategory.createdAt(),
+                aCategory.updatedAt(),
+                aCategory.deletedAt(),
+                attempts,
+                aReason,
+                null,
+                null,
+                aRetryAt
+        );
+    }
+}
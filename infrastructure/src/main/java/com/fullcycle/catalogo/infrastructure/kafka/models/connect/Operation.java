@@ -0,0 +1,37 @@
+package com.fullcycle.catalogo.infrastructure.kafka.models.connect;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+public enum Operation {
+
+    CREATE("c"),
+    UPDATE("u"),
+    DELETE("d"),
+    READ("r");
+
+    private final String op;
+
+    Operation(final String op) {
+        this.op = op;
+    }
+
+    @JsonCreator
+    public static Operation of(final String anOp) {
+        for (final var operation : values()) {
+            if (operation.op.equalsIgnoreCase(anOp)) {
+                return operation;
+            }
+        }
+        return null;
+    }
+
+    public static boolean isDelete(final Operation anOperation) {
+        return DELETE == anOperation;
+    }
+
+    @JsonValue
+    public String op() {
+        return op;
+    }
+}
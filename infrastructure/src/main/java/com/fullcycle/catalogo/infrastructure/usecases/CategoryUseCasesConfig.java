@@ -1,9 +1,18 @@
 package com.fullcycle.catalogo.infrastructure.usecases;
 
+import com.fullcycle.catalogo.application.category.delete.DeleteCategoriesUseCase;
 import com.fullcycle.catalogo.application.category.delete.DeleteCategoryUseCase;
+import com.fullcycle.catalogo.application.category.get.GetCategoriesByIdUseCase;
 import com.fullcycle.catalogo.application.category.list.ListCategoryUseCase;
+import com.fullcycle.catalogo.application.category.save.SaveCategoriesUseCase;
 import com.fullcycle.catalogo.application.category.save.SaveCategoryUseCase;
 import com.fullcycle.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.catalogo.infrastructure.category.CachedListCategoryUseCase;
+import com.fullcycle.catalogo.infrastructure.category.CategoryGeneration;
+import com.fullcycle.catalogo.infrastructure.configuration.properties.CategoryListingCacheProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -24,12 +33,35 @@ public class CategoryUseCasesConfig {
     }
 
     @Bean
-    ListCategoryUseCase listCategoryUseCase() {
-        return new ListCategoryUseCase(categoryGateway);
+    DeleteCategoriesUseCase deleteCategoriesUseCase() {
+        return new DeleteCategoriesUseCase(categoryGateway);
+    }
+
+    @Bean
+    GetCategoriesByIdUseCase getCategoriesByIdUseCase() {
+        return new GetCategoriesByIdUseCase(categoryGateway);
+    }
+
+    @Bean
+    ListCategoryUseCase listCategoryUseCase(
+            final CategoryGeneration categoryGeneration,
+            final CategoryListingCacheProperties categoryListingCacheProperties,
+            final ObjectProvider<MeterRegistry> meterRegistry) {
+        return new CachedListCategoryUseCase(
+                categoryGateway,
+                categoryGeneration,
+                categoryListingCacheProperties,
+                meterRegistry.getIfAvailable(SimpleMeterRegistry::new)
+        );
     }
 
     @Bean
     SaveCategoryUseCase saveCategoryUseCase() {
         return new SaveCategoryUseCase(categoryGateway);
     }
+
+    @Bean
+    SaveCategoriesUseCase saveCategoriesUseCase() {
+        return new SaveCategoriesUseCase(categoryGateway);
+    }
 }
@@ -0,0 +1,49 @@
+package com.fullcycle.catalogo.infrastructure.usecases;
+
+import com.fullcycle.catalogo.application.category.ReactiveCategoryGateway;
+import com.fullcycle.catalogo.application.category.delete.ReactiveDeleteCategoriesUseCase;
+import com.fullcycle.catalogo.application.category.get.ReactiveGetCategoriesByIdUseCase;
+import com.fullcycle.catalogo.application.category.list.ReactiveListCategoryUseCase;
+import com.fullcycle.catalogo.application.category.save.ReactiveSaveCategoriesUseCase;
+import com.fullcycle.catalogo.application.category.save.ReactiveSaveCategoryUseCase;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import java.util.Objects;
+
+@Configuration
+@Profile("reactive")
+public class ReactiveCategoryUseCasesConfig {
+
+    private final ReactiveCategoryGateway categoryGateway;
+
+    public ReactiveCategoryUseCasesConfig(final ReactiveCategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Bean
+    ReactiveDeleteCategoriesUseCase reactiveDeleteCategoriesUseCase() {
+        return new ReactiveDeleteCategoriesUseCase(categoryGateway);
+    }
+
+    @Bean
+    ReactiveGetCategoriesByIdUseCase reactiveGetCategoriesByIdUseCase() {
+        return new ReactiveGetCategoriesByIdUseCase(categoryGateway);
+    }
+
+    @Bean
+    ReactiveListCategoryUseCase reactiveListCategoryUseCase() {
+        return new ReactiveListCategoryUseCase(categoryGateway);
+    }
+
+    @Bean
+    ReactiveSaveCategoryUseCase reactiveSaveCategoryUseCase() {
+        return new ReactiveSaveCategoryUseCase(categoryGateway);
+    }
+
+    @Bean
+    ReactiveSaveCategoriesUseCase reactiveSaveCategoriesUseCase() {
+        return new ReactiveSaveCategoriesUseCase(categoryGateway);
+    }
+}
@@ -0,0 +1,60 @@
+package com.fullcycle.catalogo.infrastructure.utils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public final class ThreadUtils {
+
+    private ThreadUtils() {
+    }
+
+    /**
+     * Daemon threads named after {@code aPrefix} and a sequence number, so
+     * background work never holds the JVM open and is easy to spot in a dump.
+     */
+    public static ThreadFactory daemonThreadFactory(final String aPrefix) {
+        final var counter = new AtomicInteger();
+        return runnable -> {
+            final var thread = new Thread(runnable, aPrefix + counter.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Waits up to {@code aTimeout} for a first element, then gathers what else
+     * arrives within {@code aWindow} of it, up to {@code aMaxBatch} elements in
+     * all. A zero window only takes what is already queued. Returns an empty list
+     * when nothing arrived in time.
+     */
+    public static <T> List<T> pollBatch(
+            final BlockingQueue<T> aQueue,
+            final int aMaxBatch,
+            final Duration aTimeout,
+            final Duration aWindow) throws InterruptedException {
+        final var aFirst = aQueue.poll(aTimeout.toNanos(), TimeUnit.NANOSECONDS);
+        if (aFirst == null) {
+            return List.of();
+        }
+        final var batch = new ArrayList<T>(aMaxBatch);
+        batch.add(aFirst);
+        if (aWindow.isZero()) {
+            aQueue.drainTo(batch, aMaxBatch - 1);
+            return batch;
+        }
+        final var deadline = System.nanoTime() + aWindow.toNanos();
+        while (batch.size() < aMaxBatch) {
+            final var aNext = aQueue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+            if (aNext == null) {
+                break;
+            }
+            batch.add(aNext);
+        }
+        return batch;
+    }
+}
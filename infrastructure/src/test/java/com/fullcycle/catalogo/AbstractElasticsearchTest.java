@@ -1,5 +1,6 @@
 package com.fullcycle.catalogo;
 
+import com.fullcycle.catalogo.infrastructure.configuration.ElasticsearchConfig;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Tag;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -7,6 +8,7 @@ import org.springframework.boot.test.autoconfigure.data.elasticsearch.DataElasti
 import org.springframework.boot.testcontainers.context.ImportTestcontainers;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.FilterType;
+import org.springframework.context.annotation.Import;
 import org.springframework.data.elasticsearch.repository.ElasticsearchRepository;
 import org.springframework.test.context.ActiveProfiles;
 import org.testcontainers.junit.jupiter.Testcontainers;
@@ -18,10 +20,11 @@ import java.util.Collection;
         basePackages = "com.fullcycle.catalogo",
         useDefaultFilters = false,
         includeFilters = {
-                @ComponentScan.Filter(type = FilterType.REGEX, pattern = ".*ElasticsearchGateway")
+                @ComponentScan.Filter(type = FilterType.REGEX, pattern = ".*Elasticsearch(Gateway|Index)")
         }
 )
 @DataElasticsearchTest
+@Import(ElasticsearchConfig.class)
 @ImportTestcontainers(ElasticsearchTestContainer.class)
 @Tag("integrationTest")
 @Testcontainers
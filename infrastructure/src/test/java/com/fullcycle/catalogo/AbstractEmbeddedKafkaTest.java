@@ -0,0 +1,64 @@
+package com.fullcycle.catalogo;
+
+import com.fullcycle.catalogo.domain.utils.IdUtils;
+import com.fullcycle.catalogo.infrastructure.configuration.KafkaConfig;
+import com.fullcycle.catalogo.infrastructure.kafka.CategoryListener;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.junit.jupiter.api.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.kafka.KafkaAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.KafkaTestUtils;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+
+@ActiveProfiles("test-integration")
+@EmbeddedKafka(partitions = 1, topics = {
+        AbstractEmbeddedKafkaTest.CATEGORY_TOPIC,
+        AbstractEmbeddedKafkaTest.RETRY_TOPIC,
+        AbstractEmbeddedKafkaTest.DEAD_LETTER_TOPIC
+})
+@ImportAutoConfiguration(KafkaAutoConfiguration.class)
+@SpringBootTest(
+        classes = {KafkaConfig.class, CategoryListener.class},
+        properties = {
+                "kafka.bootstrap-servers=${spring.embedded.kafka.brokers}",
+                "kafka.consumers.categories.auto-startup=true",
+                "kafka.consumers.categories.topics=" + AbstractEmbeddedKafkaTest.CATEGORY_TOPIC
+        }
+)
+@Tag("integrationTest")
+public abstract class AbstractEmbeddedKafkaTest {
+
+    public static final String CATEGORY_TOPIC = "adm_videos_mysql.adm_videos.categories";
+    public static final String RETRY_TOPIC = "adm_videos_mysql.adm_videos.categories.retry";
+    public static final String DEAD_LETTER_TOPIC = "adm_videos_mysql.adm_videos.categories.dlt";
+
+    @Autowired
+    protected KafkaTemplate<String, String> producer;
+
+    @Autowired
+    protected EmbeddedKafkaBroker broker;
+
+    /**
+     * Waits for the next message on the dead-letter topic, read from the start
+     * by a group of its own.
+     */
+    protected ConsumerRecord<String, String> nextDeadLetter() {
+        final var consumerProps = KafkaTestUtils.consumerProps("dead-letters-" + IdUtils.uuid(), "false", broker);
+        consumerProps.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        try (final var consumer = new DefaultKafkaConsumerFactory<>(
+                consumerProps, new StringDeserializer(), new StringDeserializer()).createConsumer()) {
+            broker.consumeFromAnEmbeddedTopic(consumer, DEAD_LETTER_TOPIC);
+            return KafkaTestUtils.getSingleRecord(consumer, DEAD_LETTER_TOPIC, Duration.ofSeconds(10));
+        }
+    }
+}
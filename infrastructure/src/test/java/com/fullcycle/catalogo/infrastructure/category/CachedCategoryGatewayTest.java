@@ -0,0 +1,297 @@
+package com.fullcycle.catalogo.infrastructure.category;
+
+import com.fullcycle.catalogo.domain.bulk.BulkItem;
+import com.fullcycle.catalogo.domain.bulk.BulkResult;
+import com.fullcycle.catalogo.domain.category.Category;
+import com.fullcycle.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.catalogo.domain.category.Fixture;
+import com.fullcycle.catalogo.domain.consistency.WriteConsistency;
+import com.fullcycle.catalogo.domain.validation.Error;
+import com.fullcycle.catalogo.infrastructure.configuration.properties.CategoryCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@Tag("unitTest")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+public class CachedCategoryGatewayTest {
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CategoryGeneration generation = new CategoryGeneration(Duration.ZERO);
+
+    private CachedCategoryGateway cachedGateway;
+
+    @BeforeEach
+    void setUp() {
+        final var cacheProperties = new CategoryCacheProperties();
+        cacheProperties.setMaxSize(2);
+        cacheProperties.setTtl(Duration.ofMinutes(10));
+        this.cachedGateway = new CachedCategoryGateway(categoryGateway, generation, cacheProperties, meterRegistry);
+    }
+
+    @Nested
+    @DisplayName("Find by id")
+    class FindById {
+
+        @Test
+        void Given_a_category_read_before_When_calls_findById_again_Then_should_serve_it_from_memory() {
+            // Given
+            final var aulas = Fixture.Categories.aulas();
+            when(categoryGateway.findById(aulas.id())).thenReturn(Optional.of(aulas));
+
+            // When
+            cachedGateway.findById(aulas.id());
+            final var actualCategory = cachedGateway.findById(aulas.id());
+
+            // Then
+            assertEquals(aulas.id(), actualCategory.orElseThrow().id());
+            verify(categoryGateway, times(1)).findById(aulas.id());
+            assertEquals(0.5, meterRegistry.get("catalogo.cache.categories.hit.ratio").gauge().value());
+            assertEquals(1, meterRegistry.get("catalogo.cache.categories.load").timer().count());
+        }
+
+        @Test
+        void Given_a_missing_category_When_calls_findById_again_Then_should_remember_the_miss() {
+            // Given
+            final var anId = "123";
+            when(categoryGateway.findById(anId)).thenReturn(Optional.empty());
+
+            // When
+            cachedGateway.findById(anId);
+            final var actualCategory = cachedGateway.findById(anId);
+
+            // Then
+            assertTrue(actualCategory.isEmpty());
+            verify(categoryGateway, times(1)).findById(anId);
+        }
+
+        @Test
+        void Given_more_categories_than_the_max_size_When_calls_findById_Then_should_evict_the_eldest() {
+            // Given
+            final var categories = List.of(Fixture.Categories.aulas(), Fixture.Categories.lives(), Fixture.Categories.talks());
+            categories.forEach(aCategory -> when(categoryGateway.findById(aCategory.id())).thenReturn(Optional.of(aCategory)));
+
+            // When
+            categories.forEach(aCategory -> cachedGateway.findById(aCategory.id()));
+
+            // Then
+            assertEquals(1, meterRegistry.get("catalogo.cache.categories.evictions").functionCounter().count());
+            assertEquals(2, meterRegistry.get("catalogo.cache.categories.size").gauge().value());
+        }
+    }
+
+    @Nested
+    @DisplayName("Find all by ids")
+    class FindAllByIds {
+
+        @Test
+        void Given_a_category_read_before_When_calls_findAllByIds_Then_should_only_read_the_others() {
+            // Given
+            final var aulas = Fixture.Categories.aulas();
+            final var lives = Fixture.Categories.lives();
+            when(categoryGateway.findById(aulas.id())).thenReturn(Optional.of(aulas));
+            when(categoryGateway.findAllByIds(Set.of(lives.id(), "123"))).thenReturn(List.of(lives));
+            cachedGateway.findById(aulas.id());
+
+            // When
+            final var actualCategories = cachedGateway.findAllByIds(List.of(aulas.id(), lives.id(), "123"));
+
+            // Then
+            assertEquals(List.of(aulas.id(), lives.id()), actualCategories.stream().map(Category::id).toList());
+            verify(categoryGateway, times(1)).findAllByIds(Set.of(lives.id(), "123"));
+            assertEquals(2, meterRegistry.get("catalogo.cache.categories.load").timer().count());
+        }
+
+        @Test
+        void Given_categories_read_in_a_batch_When_calls_findById_Then_should_serve_them_from_memory() {
+            // Given
+            final var aulas = Fixture.Categories.aulas();
+            when(categoryGateway.findAllByIds(Set.of(aulas.id(), "123"))).thenReturn(List.of(aulas));
+            cachedGateway.findAllByIds(List.of(aulas.id(), "123"));
+
+            // When
+            final var actualCategory = cachedGateway.findById(aulas.id());
+            final var actualMissing = cachedGateway.findById("123");
+
+            // Then
+            assertEquals(aulas.id(), actualCategory.orElseThrow().id());
+            assertTrue(actualMissing.isEmpty());
+            verify(categoryGateway, never()).findById(any());
+        }
+
+        @Test
+        void Given_only_cached_categories_When_calls_findAllByIds_Then_should_not_read_them() {
+            // Given
+            final var aulas = Fixture.Categories.aulas();
+            when(categoryGateway.findById(aulas.id())).thenReturn(Optional.of(aulas));
+            cachedGateway.findById(aulas.id());
+
+            // When
+            final var actualCategories = cachedGateway.findAllByIds(List.of(aulas.id()));
+
+            // Then
+            assertEquals(1, actualCategories.size());
+            verify(categoryGateway, never()).findAllByIds(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("Invalidation")
+    class Invalidation {
+
+        @Test
+        void Given_a_cached_category_When_saves_it_Then_should_read_it_again() {
+            // Given
+            final var aulas = Fixture.Categories.aulas();
+            final var anEdit = edited(aulas);
+            when(categoryGateway.findById(aulas.id())).thenReturn(Optional.of(aulas), Optional.of(anEdit));
+            cachedGateway.findById(aulas.id());
+            final var aStamp = generation.stamp();
+
+            // When
+            cachedGateway.save(anEdit, WriteConsistency.SYNC);
+            final var actualCategory = cachedGateway.findById(aulas.id());
+
+            // Then
+            assertEquals(anEdit.name(), actualCategory.orElseThrow().name());
+            assertFalse(generation.isCurrent(aStamp));
+            assertTrue(generation.isServable(aStamp));
+        }
+
+        @Test
+        void Given_a_listing_stamp_When_saves_with_wait_for_Then_should_not_serve_results_read_before() {
+            // Given
+            final var aulas = Fixture.Categories.aulas();
+            final var anEdit = edited(aulas);
+            final var aStamp = generation.stamp();
+
+            // When
+            cachedGateway.save(anEdit, WriteConsistency.WAIT_FOR);
+
+            // Then
+            assertFalse(generation.isServable(aStamp));
+            assertTrue(generation.isServable(generation.stamp()));
+        }
+
+        @Test
+        void Given_a_listing_stamp_When_saves_without_a_consistency_Then_should_not_serve_results_read_before() {
+            // Given
+            final var aulas = Fixture.Categories.aulas();
+            final var anEdit = edited(aulas);
+            final var aStamp = generation.stamp();
+
+            // When
+            cachedGateway.save(anEdit);
+
+            // Then
+            assertFalse(generation.isServable(aStamp));
+            assertTrue(generation.isServable(generation.stamp()));
+        }
+
+        @Test
+        void Given_a_cached_category_When_deletes_it_Then_should_report_it_missing() {
+            // Given
+            final var aulas = Fixture.Categories.aulas();
+            when(categoryGateway.findById(aulas.id())).thenReturn(Optional.of(aulas), Optional.empty());
+            cachedGateway.findById(aulas.id());
+
+            // When
+            cachedGateway.deleteById(aulas.id());
+            final var actualCategory = cachedGateway.findById(aulas.id());
+
+            // Then
+            assertTrue(actualCategory.isEmpty());
+        }
+
+        @Test
+        void Given_a_bulk_with_a_failed_item_When_saves_all_Then_should_only_drop_the_applied_ones() {
+            // Given
+            final var aulas = Fixture.Categories.aulas();
+            final var lives = Fixture.Categories.lives();
+            when(categoryGateway.findById(aulas.id())).thenReturn(Optional.of(aulas));
+            when(categoryGateway.findById(lives.id())).thenReturn(Optional.of(lives));
+            cachedGateway.findById(aulas.id());
+            cachedGateway.findById(lives.id());
+            when(categoryGateway.saveAll(anyList())).thenReturn(BulkResult.of(List.of(
+                    BulkItem.succeeded(aulas.id()),
+                    BulkItem.failed(lives.id(), new Error("mapper_parsing_exception")))));
+
+            // When
+            cachedGateway.saveAll(List.of(edited(aulas), edited(lives)));
+            cachedGateway.findById(aulas.id());
+            cachedGateway.findById(lives.id());
+
+            // Then
+            verify(categoryGateway, times(2)).findById(aulas.id());
+            verify(categoryGateway, times(1)).findById(lives.id());
+        }
+
+        @Test
+        void Given_a_cdc_change_ahead_of_the_index_When_calls_findById_Then_should_not_cache_the_stale_category() {
+            // Given
+            final var aulas = Fixture.Categories.aulas();
+            final var anEdit = edited(aulas);
+            when(categoryGateway.findById(aulas.id()))
+                    .thenReturn(Optional.of(aulas), Optional.of(aulas), Optional.of(anEdit));
+
+            // When
+            cachedGateway.changed(anEdit);
+            final var aStaleRead = cachedGateway.findById(aulas.id());
+            final var aStillStaleRead = cachedGateway.findById(aulas.id());
+            cachedGateway.findById(aulas.id());
+
+            // Then
+            assertEquals(aulas.name(), aStaleRead.orElseThrow().name());
+            assertEquals(aulas.name(), aStillStaleRead.orElseThrow().name());
+            verify(categoryGateway, times(3)).findById(aulas.id());
+            assertEquals(anEdit.name(), cachedGateway.findById(aulas.id()).orElseThrow().name());
+            verify(categoryGateway, times(3)).findById(aulas.id());
+        }
+
+        @Test
+        void Given_a_cdc_delete_ahead_of_the_index_When_calls_findById_Then_should_not_cache_the_deleted_category() {
+            // Given
+            final var aulas = Fixture.Categories.aulas();
+            when(categoryGateway.findById(aulas.id())).thenReturn(Optional.of(aulas), Optional.empty());
+
+            // When
+            cachedGateway.deleted(aulas.id());
+            final var aStaleRead = cachedGateway.findById(aulas.id());
+            final var aFreshRead = cachedGateway.findById(aulas.id());
+            cachedGateway.findById(aulas.id());
+
+            // Then
+            assertTrue(aStaleRead.isPresent());
+            assertTrue(aFreshRead.isEmpty());
+            verify(categoryGateway, times(2)).findById(aulas.id());
+        }
+    }
+
+    private static Category edited(final Category aCategory) {
+        return Category.with(
+                aCategory.id(),
+                aCategory.name() + " editada",
+                aCategory.description(),
+                aCategory.activationStatus(),
+                aCategory.createdAt(),
+                aCategory.updatedAt().plus(1, ChronoUnit.SECONDS),
+                aCategory.deletedAt()
+        );
+    }
+}
@@ -0,0 +1,163 @@
+package com.fullcycle.catalogo.infrastructure.category;
+
+import com.fullcycle.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.catalogo.domain.category.CategoryView;
+import com.fullcycle.catalogo.domain.category.Fixture;
+import com.fullcycle.catalogo.domain.pagination.Pagination;
+import com.fullcycle.catalogo.infrastructure.configuration.properties.CategoryListingCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@Tag("unitTest")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+public class CachedListCategoryUseCaseTest {
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CategoryGeneration generation = new CategoryGeneration(Duration.ZERO);
+
+    private CachedListCategoryUseCase useCase;
+
+    @AfterEach
+    void tearDown() {
+        if (useCase != null) {
+            useCase.close();
+        }
+    }
+
+    @Nested
+    @DisplayName("Fresh listings")
+    class FreshListings {
+
+        @Test
+        void Given_two_spellings_of_the_same_listing_When_calls_execute_Then_should_search_only_once() {
+            // Given
+            useCase = useCase(Duration.ofMinutes(1));
+            when(categoryGateway.findAll(any())).thenReturn(aPage("Aulas"));
+
+            // When
+            useCase.execute(new CategorySearchQuery(0, 10, " Aulas ", null, "ASC"));
+            final var actualOutput = useCase.execute(new CategorySearchQuery(0, 10, "aulas", "name", "asc"));
+
+            // Then
+            assertEquals("Aulas", actualOutput.data().get(0).name());
+            final var captor = ArgumentCaptor.forClass(CategorySearchQuery.class);
+            verify(categoryGateway, times(1)).findAll(captor.capture());
+            assertEquals("aulas", captor.getValue().terms());
+            assertEquals(1, meterRegistry.get("catalogo.cache.categories.listings.gets").tag("result", "fresh").counter().count());
+        }
+
+        @Test
+        void Given_a_cursor_When_calls_execute_Then_should_always_search() {
+            // Given
+            useCase = useCase(Duration.ofMinutes(1));
+            when(categoryGateway.findAll(any())).thenReturn(aPage("Aulas"));
+            final var aQuery = new CategorySearchQuery(0, 10, "aulas", "name", "asc", "eyJwaXQiOm51bGx9");
+
+            // When
+            useCase.execute(aQuery);
+            useCase.execute(aQuery);
+
+            // Then
+            verify(categoryGateway, times(2)).findAll(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("Stale listings")
+    class StaleListings {
+
+        @Test
+        void Given_a_listing_past_its_fresh_period_When_calls_execute_Then_should_serve_it_and_read_it_again_in_the_background() {
+            // Given
+            useCase = useCase(Duration.ZERO);
+            when(categoryGateway.findAll(any())).thenReturn(aPage("Aulas"), aPage("Aulas editada"));
+            final var aQuery = new CategorySearchQuery(0, 10, "aulas", "name", "asc");
+            useCase.execute(aQuery);
+
+            // When
+            final var actualOutput = useCase.execute(aQuery);
+
+            // Then
+            assertEquals("Aulas", actualOutput.data().get(0).name());
+            verify(categoryGateway, timeout(5_000).times(2)).findAll(any());
+            await(() -> "Aulas editada".equals(useCase.execute(aQuery).data().get(0).name()));
+        }
+
+        @Test
+        void Given_a_category_write_after_the_read_When_calls_execute_Then_should_read_it_again_in_the_background() {
+            // Given
+            useCase = useCase(Duration.ofMinutes(1));
+            when(categoryGateway.findAll(any())).thenReturn(aPage("Aulas"), aPage("Aulas editada"));
+            final var aQuery = new CategorySearchQuery(0, 10, "aulas", "name", "asc");
+            useCase.execute(aQuery);
+
+            // When
+            generation.bump();
+            final var actualOutput = useCase.execute(aQuery);
+
+            // Then
+            assertEquals("Aulas", actualOutput.data().get(0).name());
+            verify(categoryGateway, timeout(5_000).times(2)).findAll(any());
+            assertEquals(1, meterRegistry.get("catalogo.cache.categories.listings.gets").tag("result", "stale").counter().count());
+        }
+
+        @Test
+        void Given_a_searchable_write_after_the_read_When_calls_execute_Then_should_read_it_again_before_answering() {
+            // Given
+            useCase = useCase(Duration.ofMinutes(1));
+            when(categoryGateway.findAll(any())).thenReturn(aPage("Aulas"), aPage("Aulas editada"));
+            final var aQuery = new CategorySearchQuery(0, 10, "aulas", "name", "asc");
+            useCase.execute(aQuery);
+
+            // When
+            generation.bumpSearchable();
+            final var actualOutput = useCase.execute(aQuery);
+
+            // Then
+            assertEquals("Aulas editada", actualOutput.data().get(0).name());
+            verify(categoryGateway, times(2)).findAll(any());
+            assertEquals(0, meterRegistry.get("catalogo.cache.categories.listings.gets").tag("result", "stale").counter().count());
+            assertEquals(2, meterRegistry.get("catalogo.cache.categories.listings.gets").tag("result", "miss").counter().count());
+        }
+    }
+
+    private CachedListCategoryUseCase useCase(final Duration freshFor) {
+        final var cacheProperties = new CategoryListingCacheProperties();
+        cacheProperties.setMaxSize(100);
+        cacheProperties.setFreshFor(freshFor);
+        cacheProperties.setStaleFor(Duration.ofMinutes(1));
+        cacheProperties.setWriteSettle(Duration.ZERO);
+        return new CachedListCategoryUseCase(categoryGateway, generation, cacheProperties, meterRegistry);
+    }
+
+    private static Pagination<CategoryView> aPage(final String aName) {
+        final var aulas = Fixture.Categories.aulas();
+        return new Pagination<>(0, 10, 1, List.of(new CategoryView(
+                aulas.id(), aName, aulas.description(), null, null, null, null)));
+    }
+
+    private static void await(final BooleanSupplier aCondition) {
+        final var aDeadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!aCondition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < aDeadline);
+            Thread.onSpinWait();
+        }
+    }
+}
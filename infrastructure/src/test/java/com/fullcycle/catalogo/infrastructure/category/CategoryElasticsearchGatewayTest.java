@@ -1,19 +1,42 @@
 package com.fullcycle.catalogo.infrastructure.category;
 
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.mapping.Property;
+import co.elastic.clients.elasticsearch._types.mapping.TypeMapping;
 import com.fullcycle.catalogo.AbstractElasticsearchTest;
+import com.fullcycle.catalogo.domain.bulk.BulkItem;
 import com.fullcycle.catalogo.domain.category.ActivationStatus;
 import com.fullcycle.catalogo.domain.category.Category;
+import com.fullcycle.catalogo.domain.category.CategoryField;
+import com.fullcycle.catalogo.domain.category.CategoryFilter;
 import com.fullcycle.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.catalogo.domain.category.CategoryView;
 import com.fullcycle.catalogo.domain.category.Fixture;
+import com.fullcycle.catalogo.domain.consistency.WriteConsistency;
+import com.fullcycle.catalogo.domain.exceptions.ConflictException;
+import com.fullcycle.catalogo.domain.exceptions.DomainException;
+import com.fullcycle.catalogo.domain.pagination.TotalCount;
+import com.fullcycle.catalogo.domain.pagination.TotalRelation;
+import com.fullcycle.catalogo.domain.utils.IdUtils;
+import com.fullcycle.catalogo.domain.utils.InstantUtils;
 import com.fullcycle.catalogo.infrastructure.category.persistence.CategoryDocument;
 import com.fullcycle.catalogo.infrastructure.category.persistence.CategoryRepository;
+import com.fullcycle.catalogo.infrastructure.configuration.properties.CategoryIndexProperties;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.function.Executable;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.springframework.beans.factory.annotation.Autowired;
-
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -26,6 +49,21 @@ public class CategoryElasticsearchGatewayTest extends AbstractElasticsearchTest
     @Autowired
     private CategoryRepository categoryRepository;
 
+    @Autowired
+    private CategoryElasticsearchIndex categoryIndex;
+
+    @Autowired
+    private CategorySearchDispatcher searchDispatcher;
+
+    @Autowired
+    private CategoryIndexProperties indexProperties;
+
+    @Autowired
+    private ElasticsearchClient elasticsearchClient;
+
+    @Autowired
+    private ElasticsearchOperations elasticsearchOperations;
+
     @Test
     public void testInjection() {
         assertNotNull(categoryRepository);
@@ -57,6 +95,195 @@ public class CategoryElasticsearchGatewayTest extends AbstractElasticsearchTest
         }
     }
 
+    @Nested
+    @DisplayName("Save with a write consistency")
+    class SaveWithAWriteConsistency {
+
+        @Test
+        void Given_wait_for_When_calls_save_category_Then_should_be_searchable_on_return() {
+            // Given
+            final var aCategory = aCategory("Novidades", InstantUtils.now());
+
+            // When
+            categoryElasticsearchGateway.save(aCategory, WriteConsistency.WAIT_FOR);
+
+            // Then
+            final var actualResult = categoryElasticsearchGateway.findAll(
+                    new CategorySearchQuery(0, 10, "novidades", "name", "asc"));
+            assertEquals(List.of(aCategory.id()), actualResult.data().stream().map(CategoryView::id).toList());
+        }
+
+        @Test
+        void Given_no_consistency_When_calls_save_category_Then_should_be_searchable_on_return() {
+            // Given
+            final var aCategory = aCategory("Novidades", InstantUtils.now());
+
+            // When
+            categoryElasticsearchGateway.save(aCategory);
+
+            // Then
+            final var actualResult = categoryElasticsearchGateway.findAll(
+                    new CategorySearchQuery(0, 10, "novidades", "name", "asc"));
+            assertEquals(List.of(aCategory.id()), actualResult.data().stream().map(CategoryView::id).toList());
+        }
+
+        @Test
+        void Given_sync_When_calls_save_category_Then_should_be_readable_by_id_on_return() {
+            // Given
+            final var aCategory = aCategory("Novidades", InstantUtils.now());
+
+            // When
+            categoryElasticsearchGateway.save(aCategory, WriteConsistency.SYNC);
+
+            // Then
+            assertEquals(aCategory.name(), categoryElasticsearchGateway.findById(aCategory.id()).orElseThrow().name());
+        }
+    }
+
+    @Nested
+    @DisplayName("Save all with valid categories")
+    class SaveAllWithValidCategories {
+
+        @Test
+        void Given_valid_categories_When_calls_save_all_Then_should_persist_them_in_bulk() {
+            // Given
+            final var categories = List.of(
+                    aCategory("Aulas", InstantUtils.now()),
+                    aCategory("Lives", InstantUtils.now()),
+                    aCategory("Talks", InstantUtils.now())
+            );
+            final var expectedCount = 3;
+
+            // When
+            final var actualResult = categoryElasticsearchGateway.saveAll(categories);
+
+            // Then
+            assertFalse(actualResult.hasFailures());
+            assertEquals(expectedCount, actualResult.items().size());
+
+            categories.forEach(aCategory -> {
+                final var persistedCategory = categoryRepository.findById(aCategory.id()).orElseThrow();
+                assertEquals(aCategory.name(), persistedCategory.getName());
+                assertEquals(aCategory.description(), persistedCategory.getDescription());
+                assertEquals(isActive(aCategory), persistedCategory.isActive());
+                assertEquals(aCategory.createdAt(), persistedCategory.getCreatedAt());
+                assertEquals(aCategory.updatedAt(), persistedCategory.getUpdatedAt());
+                assertEquals(aCategory.deletedAt(), persistedCategory.getDeletedAt());
+            });
+        }
+
+        @Test
+        void Given_an_empty_list_When_calls_save_all_Then_should_return_empty_result() {
+            // When
+            final var actualResult = categoryElasticsearchGateway.saveAll(List.of());
+
+            // Then
+            assertTrue(actualResult.items().isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("Save with stale category")
+    class SaveWithStaleCategory {
+
+        @Test
+        void Given_a_newer_indexed_category_When_calls_save_with_an_older_one_Then_should_throw_a_conflict_and_keep_the_newer() {
+            // Given
+            final var newer = aCategory("Aulas", InstantUtils.now());
+            final var older = Category.with(
+                    newer.id(),
+                    "Aulas antigas",
+                    newer.description(),
+                    newer.activationStatus(),
+                    newer.createdAt(),
+                    newer.updatedAt().minus(1, ChronoUnit.MINUTES)
+            );
+
+            categoryElasticsearchGateway.save(newer);
+
+            // When
+            final var actualError = assertThrows(ConflictException.class, () -> categoryElasticsearchGateway.save(older));
+
+            // Then
+            assertTrue(actualError.getMessage().contains(newer.id()));
+
+            final var persistedCategory = categoryRepository.findById(newer.id()).orElseThrow();
+            assertEquals(newer.name(), persistedCategory.getName());
+            assertEquals(newer.updatedAt(), persistedCategory.getUpdatedAt());
+        }
+
+        @Test
+        void Given_stale_categories_When_calls_save_all_Then_should_skip_them_without_failures() {
+            // Given
+            final var newer = aCategory("Lives", InstantUtils.now());
+            final var older = Category.with(
+                    newer.id(),
+                    "Lives antigas",
+                    newer.description(),
+                    newer.activationStatus(),
+                    newer.createdAt(),
+                    newer.updatedAt().minus(1, ChronoUnit.MINUTES)
+            );
+            final var talks = aCategory("Talks", InstantUtils.now());
+
+            categoryElasticsearchGateway.saveAll(List.of(newer));
+
+            // When
+            final var actualResult = categoryElasticsearchGateway.saveAll(List.of(older, newer, talks));
+
+            // Then
+            assertFalse(actualResult.hasFailures());
+            assertEquals(2, actualResult.skipped().size());
+            assertTrue(actualResult.skipped().stream().allMatch(item -> newer.id().equals(item.id())));
+
+            final var persistedCategory = categoryRepository.findById(newer.id()).orElseThrow();
+            assertEquals(newer.name(), persistedCategory.getName());
+            assertTrue(categoryRepository.existsById(talks.id()));
+        }
+    }
+
+    @Nested
+    @DisplayName("Delete all with valid identifiers")
+    class DeleteAllWithValidIdentifiers {
+
+        @Test
+        void Given_valid_identifiers_When_calls_delete_all_Then_should_delete_them_in_bulk() {
+            // Given
+            final var aulas = Fixture.Categories.aulas();
+            final var lives = Fixture.Categories.lives();
+
+            mockCategories();
+
+            final var expectedIds = List.of(aulas.id(), lives.id(), "an-invalid-identifier");
+
+            // When
+            final var actualResult = categoryElasticsearchGateway.deleteAllById(expectedIds);
+
+            // Then
+            assertFalse(actualResult.hasFailures());
+            assertFalse(categoryRepository.existsById(aulas.id()));
+            assertFalse(categoryRepository.existsById(lives.id()));
+            assertTrue(categoryRepository.existsById(Fixture.Categories.talks().id()));
+        }
+
+        @Test
+        void Given_a_category_updated_after_the_delete_When_calls_delete_all_Then_should_report_it_as_failed_and_keep_it() {
+            // Given
+            final var aNewer = aCategory("Aulas", InstantUtils.now().plus(1, ChronoUnit.MINUTES));
+            categoryElasticsearchGateway.saveAll(List.of(aNewer));
+
+            // When
+            final var actualResult = categoryElasticsearchGateway.deleteAllById(List.of(aNewer.id()));
+
+            // Then
+            assertTrue(actualResult.hasFailures());
+            assertEquals(List.of(aNewer.id()), actualResult.failures().stream().map(BulkItem::id).toList());
+            assertTrue(actualResult.failures().get(0).isFailed());
+            assertTrue(actualResult.skipped().isEmpty());
+            assertTrue(categoryRepository.existsById(aNewer.id()));
+        }
+    }
+
     @Nested
     @DisplayName("Delete with valid identifier")
     class DeleteWithValidIdentifier {
@@ -79,6 +306,40 @@ public class CategoryElasticsearchGatewayTest extends AbstractElasticsearchTest
             // Then
             assertFalse(categoryRepository.existsById(expectedId));
         }
+
+        @Test
+        void Given_a_deleted_category_When_calls_save_all_with_a_copy_made_before_the_delete_Then_should_not_bring_it_back() {
+            // Given
+            final var aCopy = aCategory("Aulas", InstantUtils.now().minus(1, ChronoUnit.SECONDS));
+            categoryElasticsearchGateway.saveAll(List.of(aCopy));
+            categoryElasticsearchGateway.deleteById(aCopy.id());
+
+            // When
+            final var actualResult = categoryElasticsearchGateway.saveAll(List.of(aCopy));
+
+            // Then
+            assertFalse(actualResult.hasFailures());
+            assertEquals(List.of(aCopy.id()), actualResult.skipped().stream().map(BulkItem::id).toList());
+            assertFalse(categoryRepository.existsById(aCopy.id()));
+        }
+
+        @Test
+        void Given_a_category_updated_after_the_delete_When_calls_delete_category_Then_should_throw_a_conflict_and_keep_it() {
+            // Given
+            final var aNewer = aCategory("Aulas", InstantUtils.now().plus(1, ChronoUnit.MINUTES));
+            categoryElasticsearchGateway.saveAll(List.of(aNewer));
+
+            final var expectedErrorMessage = "Category %s was not deleted, it was updated at or after the delete"
+                    .formatted(aNewer.id());
+
+            // When
+            final var actualError = assertThrows(
+                    ConflictException.class, () -> categoryElasticsearchGateway.deleteById(aNewer.id()));
+
+            // Then
+            assertEquals(expectedErrorMessage, actualError.getErrors().get(0).message());
+            assertTrue(categoryRepository.existsById(aNewer.id()));
+        }
     }
 
     @Nested
@@ -144,6 +405,43 @@ public class CategoryElasticsearchGatewayTest extends AbstractElasticsearchTest
         }
     }
 
+    @Nested
+    @DisplayName("Get many with valid identifiers")
+    class GetManyWithValidIdentifiers {
+
+        @Test
+        void Given_valid_identifiers_When_calls_find_all_by_ids_Then_should_retrieve_the_existing_ones() {
+            // Given
+            final var aulas = Fixture.Categories.aulas();
+            final var talks = Fixture.Categories.talks();
+
+            categoryRepository.save(CategoryDocument.from(aulas));
+            categoryRepository.save(CategoryDocument.from(talks));
+
+            // When
+            final var actualOutput = categoryElasticsearchGateway.findAllByIds(List.of(aulas.id(), talks.id(), "an-invalid-id"));
+
+            // Then
+            assertEquals(2, actualOutput.size());
+            final var actualTalks = actualOutput.stream()
+                    .filter(aCategory -> talks.id().equals(aCategory.id()))
+                    .findFirst()
+                    .orElseThrow();
+            assertEquals(talks.name(), actualTalks.name());
+            assertEquals(talks.deletedAt(), actualTalks.deletedAt());
+            assertTrue(actualOutput.stream().anyMatch(aCategory -> aulas.id().equals(aCategory.id())));
+        }
+
+        @Test
+        void Given_no_identifiers_When_calls_find_all_by_ids_Then_should_return_empty() {
+            // When
+            final var actualOutput = categoryElasticsearchGateway.findAllByIds(List.of());
+
+            // Then
+            assertTrue(actualOutput.isEmpty());
+        }
+    }
+
     @Nested
     @DisplayName("List categories with a valid query")
     class ListWithAValidQuery {
@@ -176,6 +474,8 @@ public class CategoryElasticsearchGatewayTest extends AbstractElasticsearchTest
         @CsvSource({
                 "aul,0,10,1,1,Aulas",
                 "liv,0,10,1,1,Lives",
+                "gravado,0,10,1,1,Aulas",
+                "ao viv,0,10,2,2,Lives",
         })
         void Given_valid_terms_When_calls_findAll_Then_should_return_filtered(
                 final String expectedTerms,
@@ -301,10 +601,276 @@ public class CategoryElasticsearchGatewayTest extends AbstractElasticsearchTest
         }
     }
 
+    @Nested
+    @DisplayName("List categories with a cursor")
+    class ListWithACursor {
+
+        @Test
+        void Given_a_first_page_When_follows_its_cursors_Then_should_read_every_category_once_in_order() {
+            // Given
+            mockCategories();
+
+            final var expectedNames = List.of("Aulas", "Lives", "Talks");
+            final var expectedPerPage = 1;
+            final var firstPage = categoryElasticsearchGateway.findAll(
+                    new CategorySearchQuery(0, expectedPerPage, "", "name", "asc"));
+
+            // When
+            final var actualNames = new ArrayList<String>();
+            firstPage.data().forEach(aCategory -> actualNames.add(aCategory.name()));
+            var aCursor = firstPage.meta().nextCursor();
+            while (aCursor != null) {
+                final var aPage = categoryElasticsearchGateway.findAll(
+                        new CategorySearchQuery(0, expectedPerPage, "", "name", "asc", aCursor));
+                aPage.data().forEach(aCategory -> actualNames.add(aCategory.name()));
+                aCursor = aPage.meta().nextCursor();
+            }
+
+            // Then
+            assertEquals(expectedNames, actualNames);
+        }
+
+        @Test
+        void Given_a_cursor_When_categories_are_written_meanwhile_Then_should_keep_reading_the_same_point_in_time() {
+            // Given
+            mockCategories();
+
+            final var firstPage = categoryElasticsearchGateway.findAll(
+                    new CategorySearchQuery(0, 1, "", "name", "asc"));
+            final var secondPage = categoryElasticsearchGateway.findAll(
+                    new CategorySearchQuery(0, 1, "", "name", "asc", firstPage.meta().nextCursor()));
+
+            // When
+            categoryElasticsearchGateway.save(aCategory("Novidades", InstantUtils.now()));
+            final var actualPage = categoryElasticsearchGateway.findAll(
+                    new CategorySearchQuery(0, 2, "", "name", "asc", secondPage.meta().nextCursor()));
+
+            // Then
+            assertEquals(List.of("Talks"), actualPage.data().stream().map(CategoryView::name).toList());
+            assertNull(actualPage.meta().nextCursor());
+        }
+
+        @Test
+        void Given_an_invalid_cursor_When_calls_findAll_Then_should_throw_domain_exception() {
+            // Given
+            final var expectedErrorMessage = "'cursor' is invalid";
+
+            // When
+            final var actualError = assertThrows(DomainException.class, () -> categoryElasticsearchGateway.findAll(
+                    new CategorySearchQuery(0, 10, "", "name", "asc", "not-a-cursor")));
+
+            // Then
+            assertEquals(expectedErrorMessage, actualError.getErrors().get(0).message());
+        }
+    }
+
+    @Nested
+    @DisplayName("List categories on a legacy mapping")
+    class ListOnALegacyMapping {
+
+        private CategoryElasticsearchGateway legacyGateway;
+
+        /**
+         * An index created before aliases were introduced holds the alias name,
+         * with {@code id} mapped dynamically as text and a keyword sub-field.
+         */
+        @BeforeEach
+        void createLegacyIndex() throws IOException {
+            final var anAlias = categoryIndex.alias();
+            final var anIndices = List.copyOf(elasticsearchClient.indices().get(g -> g.index(anAlias + "_v*")).result().keySet());
+            elasticsearchClient.indices().delete(d -> d.index(anIndices));
+            final var properties = new HashMap<>(TypeMapping.of(m -> m.withJson(new StringReader(
+                    elasticsearchOperations.indexOps(CategoryDocument.class).createMapping().toJson()))).properties());
+            properties.put("id", Property.of(p -> p.text(t -> t
+                    .fields("keyword", f -> f.keyword(k -> k.ignoreAbove(256))))));
+            elasticsearchClient.indices().create(c -> c.index(anAlias).mappings(m -> m.properties(properties)));
+
+            final var aLegacyIndex = new CategoryElasticsearchIndex(elasticsearchClient, elasticsearchOperations, indexProperties);
+            aLegacyIndex.afterPropertiesSet();
+            this.legacyGateway = new CategoryElasticsearchGateway(
+                    categoryRepository, elasticsearchOperations, elasticsearchClient, aLegacyIndex, indexProperties, searchDispatcher);
+        }
+
+        @AfterEach
+        void restoreAlias() throws IOException {
+            elasticsearchClient.indices().delete(d -> d.index(categoryIndex.alias()));
+            new CategoryElasticsearchIndex(elasticsearchClient, elasticsearchOperations, indexProperties).afterPropertiesSet();
+        }
+
+        @Test
+        void Given_ids_mapped_as_text_When_follows_the_cursors_of_tied_categories_Then_should_read_every_one_once() {
+            // Given
+            final var expectedIds = Set.of(
+                    categoryRepository.save(CategoryDocument.from(aCategory("Aulas", InstantUtils.now()))).getId(),
+                    categoryRepository.save(CategoryDocument.from(aCategory("Aulas", InstantUtils.now()))).getId(),
+                    categoryRepository.save(CategoryDocument.from(aCategory("Aulas", InstantUtils.now()))).getId());
+
+            final var firstPage = legacyGateway.findAll(new CategorySearchQuery(0, 1, "", "name", "asc"));
+
+            // When
+            final var actualIds = new ArrayList<String>();
+            firstPage.data().forEach(aCategory -> actualIds.add(aCategory.id()));
+            var aCursor = firstPage.meta().nextCursor();
+            while (aCursor != null) {
+                final var aPage = legacyGateway.findAll(new CategorySearchQuery(0, 1, "", "name", "asc", aCursor));
+                aPage.data().forEach(aCategory -> actualIds.add(aCategory.id()));
+                aCursor = aPage.meta().nextCursor();
+            }
+
+            // Then
+            assertEquals(3, actualIds.size());
+            assertEquals(expectedIds, Set.copyOf(actualIds));
+        }
+    }
+
+    @Nested
+    @DisplayName("List categories with a projection")
+    class ListWithAProjection {
+
+        @Test
+        void Given_a_projected_query_When_calls_findAll_Then_should_read_only_its_fields() {
+            // Given
+            mockCategories();
+
+            final var aulas = Fixture.Categories.aulas();
+            final var aQuery = new CategorySearchQuery(0, 1, "", "name", "asc")
+                    .withFields(Set.of(CategoryField.ID, CategoryField.NAME));
+
+            // When
+            final var actualResult = categoryElasticsearchGateway.findAll(aQuery);
+
+            // Then
+            final var actualView = actualResult.data().get(0);
+            assertEquals(aulas.id(), actualView.id());
+            assertEquals(aulas.name(), actualView.name());
+            assertNull(actualView.description());
+            assertNull(actualView.activationStatus());
+            assertNull(actualView.createdAt());
+            assertNull(actualView.updatedAt());
+        }
+
+        @Test
+        void Given_a_query_without_fields_When_calls_findAll_Then_should_read_whole_categories() {
+            // Given
+            mockCategories();
+
+            final var expectedView = CategoryView.from(Fixture.Categories.aulas());
+            final var aQuery = new CategorySearchQuery(0, 1, "", "name", "asc");
+
+            // When
+            final var actualResult = categoryElasticsearchGateway.findAll(aQuery);
+
+            // Then
+            assertEquals(expectedView, actualResult.data().get(0));
+        }
+    }
+
+    @Nested
+    @DisplayName("List categories with a total count")
+    class ListWithATotalCount {
+
+        @ParameterizedTest
+        @CsvSource({
+                "EXACT,0,3,EXACT",
+                "CAPPED,1,1,AT_LEAST",
+                "CAPPED,10,3,EXACT",
+                "NONE,0,0,NONE",
+        })
+        void Given_a_total_count_When_calls_findAll_Then_should_count_as_far_as_asked(
+                final TotalCount.Mode aMode,
+                final int aThreshold,
+                final long expectedTotal,
+                final TotalRelation expectedRelation
+        ) {
+            // Given
+            mockCategories();
+
+            final var expectedItemsCount = 3;
+            final var aQuery = new CategorySearchQuery(0, 10, "", "name", "asc")
+                    .withTotalCount(new TotalCount(aMode, aThreshold));
+
+            // When
+            final var actualResult = categoryElasticsearchGateway.findAll(aQuery);
+
+            // Then
+            assertEquals(expectedItemsCount, actualResult.data().size());
+            assertEquals(expectedTotal, actualResult.meta().total());
+            assertEquals(expectedRelation, actualResult.meta().totalRelation());
+        }
+    }
+
+    @Nested
+    @DisplayName("List categories with a filter")
+    class ListWithAFilter {
+
+        @ParameterizedTest
+        @CsvSource({
+                "true,,Aulas;Lives",
+                "false,,Talks",
+                ",false,Aulas;Lives",
+                ",true,Talks",
+                "true,true,",
+        })
+        void Given_active_and_deleted_filters_When_calls_findAll_Then_should_return_only_matching(
+                final Boolean anActive,
+                final Boolean aDeleted,
+                final String expectedNames
+        ) {
+            // Given
+            mockCategories();
+
+            final var aQuery = new CategorySearchQuery(0, 10, "", "name", "asc")
+                    .withFilter(new CategoryFilter(anActive, aDeleted, null, null));
+
+            // When
+            final var actualResult = categoryElasticsearchGateway.findAll(aQuery);
+
+            // Then
+            final var actualNames = actualResult.data().stream().map(CategoryView::name).toList();
+            assertEquals(expectedNames == null ? List.of() : List.of(expectedNames.split(";")), actualNames);
+            assertEquals(actualNames.size(), actualResult.meta().total());
+        }
+
+        @Test
+        void Given_a_creation_range_When_calls_findAll_Then_should_return_categories_created_within_it() {
+            // Given
+            final var aStart = InstantUtils.now().minus(10, ChronoUnit.DAYS);
+            final var expectedName = "Lives";
+            categoryElasticsearchGateway.save(aCategory("Aulas", aStart), WriteConsistency.WAIT_FOR);
+            categoryElasticsearchGateway.save(aCategory(expectedName, aStart.plus(1, ChronoUnit.DAYS)), WriteConsistency.WAIT_FOR);
+            categoryElasticsearchGateway.save(aCategory("Talks", aStart.plus(2, ChronoUnit.DAYS)), WriteConsistency.WAIT_FOR);
+
+            final var aQuery = new CategorySearchQuery(0, 10, "", "name", "asc")
+                    .withFilter(new CategoryFilter(null, null,
+                            aStart.plus(1, ChronoUnit.DAYS), aStart.plus(2, ChronoUnit.DAYS)));
+
+            // When
+            final var actualResult = categoryElasticsearchGateway.findAll(aQuery);
+
+            // Then
+            assertEquals(List.of(expectedName), actualResult.data().stream().map(CategoryView::name).toList());
+        }
+    }
+
     private boolean isActive(final Category aCategory) {
         return ActivationStatus.ACTIVE.equals(aCategory.activationStatus());
     }
 
+    /**
+     * Writes are versioned by updated_at and Elasticsearch remembers versions of
+     * deleted documents for a while, so each test indexes its own ids.
+     */
+    private static Category aCategory(final String aName, final Instant anUpdatedAt) {
+        return Category.with(
+                IdUtils.uuid(),
+                aName,
+                "Conteúdo",
+                ActivationStatus.ACTIVE,
+                anUpdatedAt,
+                anUpdatedAt
+        );
+    }
+
     private void mockCategories() {
         categoryRepository.save(CategoryDocument.from(Fixture.Categories.aulas()));
         categoryRepository.save(CategoryDocument.from(Fixture.Categories.talks()));
@@ -0,0 +1,205 @@
+package com.fullcycle.catalogo.infrastructure.category;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import com.fullcycle.catalogo.AbstractElasticsearchTest;
+import com.fullcycle.catalogo.domain.category.ActivationStatus;
+import com.fullcycle.catalogo.domain.category.Category;
+import com.fullcycle.catalogo.domain.exceptions.InternalErrorException;
+import com.fullcycle.catalogo.domain.utils.IdUtils;
+import com.fullcycle.catalogo.domain.utils.InstantUtils;
+import com.fullcycle.catalogo.infrastructure.category.persistence.CategoryRepository;
+import com.fullcycle.catalogo.infrastructure.configuration.properties.CategoryIndexProperties;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+public class CategoryElasticsearchIndexTest extends AbstractElasticsearchTest {
+
+    @Autowired
+    private CategoryElasticsearchIndex categoryIndex;
+
+    @Autowired
+    private CategoryElasticsearchGateway categoryElasticsearchGateway;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private ElasticsearchClient elasticsearchClient;
+
+    @Autowired
+    private ElasticsearchOperations elasticsearchOperations;
+
+    @Autowired
+    private CategoryIndexProperties indexProperties;
+
+    @Nested
+    @DisplayName("Reindex")
+    class Reindex {
+
+        @Test
+        void Given_indexed_categories_When_calls_reindex_Then_should_swap_the_alias_to_a_complete_index() throws IOException {
+            // Given
+            final var categories = List.of(
+                    aCategory("Aulas", InstantUtils.now()),
+                    aCategory("Lives", InstantUtils.now()),
+                    aCategory("Talks", InstantUtils.now())
+            );
+            categoryElasticsearchGateway.saveAll(categories);
+
+            // When
+            final var actualIndex = categoryIndex.reindex();
+
+            // Then
+            assertEquals(Set.of(actualIndex), indicesBehindAlias());
+            assertEquals(3, elasticsearchClient.count(c -> c.index(actualIndex)).count());
+            categories.forEach(aCategory ->
+                    assertEquals(aCategory.name(), categoryRepository.findById(aCategory.id()).orElseThrow().getName()));
+        }
+
+        @Test
+        void Given_a_reindexed_category_When_calls_save_with_an_older_one_Then_should_keep_the_newer() {
+            // Given
+            final var newer = aCategory("Aulas", InstantUtils.now());
+            final var older = Category.with(
+                    newer.id(),
+                    "Aulas antigas",
+                    newer.description(),
+                    newer.activationStatus(),
+                    newer.createdAt(),
+                    newer.updatedAt().minus(1, ChronoUnit.MINUTES)
+            );
+            categoryElasticsearchGateway.save(newer);
+
+            // When
+            categoryIndex.reindex();
+            final var actualResult = categoryElasticsearchGateway.saveAll(List.of(older));
+
+            // Then
+            assertFalse(actualResult.hasFailures());
+            assertEquals(1, actualResult.skipped().size());
+            assertEquals(newer.name(), categoryRepository.findById(newer.id()).orElseThrow().getName());
+        }
+
+        @Test
+        void Given_bulk_load_mode_When_reindex_is_done_Then_should_restore_replicas_and_refreshes() throws IOException {
+            // When
+            final var actualIndex = categoryIndex.reindex();
+
+            // Then
+            final var actualSettings = elasticsearchClient.indices().getSettings(g -> g.index(actualIndex))
+                    .result().get(actualIndex).settings().index();
+            assertEquals("1", actualSettings.numberOfReplicas());
+            assertEquals("1000ms", actualSettings.refreshInterval().time());
+        }
+
+        @Test
+        void Given_a_reindex_run_by_another_instance_When_writes_Then_should_write_to_the_index_being_built_too() throws Exception {
+            // Given
+            final var anotherInstance = new CategoryElasticsearchIndex(elasticsearchClient, elasticsearchOperations, indexProperties);
+            final var aBuildingAlias = categoryIndex.alias() + "_building";
+            final var aReindex = CompletableFuture.supplyAsync(categoryIndex::reindex);
+            final var deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+            while (!elasticsearchClient.indices().existsAlias(e -> e.name(aBuildingAlias)).value()) {
+                assertTrue(System.nanoTime() < deadline, "The reindex never published the index being built");
+                Thread.sleep(10);
+            }
+
+            // When
+            final var actualTargets = anotherInstance.write(targets -> targets);
+
+            // Then
+            final var expectedIndex = aReindex.join();
+            assertEquals(List.of(categoryIndex.alias(), expectedIndex), actualTargets);
+            assertFalse(elasticsearchClient.indices().existsAlias(e -> e.name(aBuildingAlias)).value());
+        }
+
+        @Test
+        void Given_consecutive_reindexes_When_done_Then_should_keep_only_the_previous_index() throws IOException {
+            // Given
+            final var aFirst = categoryIndex.reindex();
+
+            // When
+            final var aSecond = categoryIndex.reindex();
+            final var aThird = categoryIndex.reindex();
+
+            // Then
+            assertEquals(Set.of(aThird), indicesBehindAlias());
+            assertTrue(elasticsearchClient.indices().exists(e -> e.index(aSecond)).value());
+            assertFalse(elasticsearchClient.indices().exists(e -> e.index(aFirst)).value());
+        }
+    }
+
+    @Nested
+    @DisplayName("Partial reindex")
+    class PartialReindex {
+
+        private static final String TEMPLATE = "categories-rejecting-extra";
+
+        @AfterEach
+        void tearDown() throws IOException {
+            elasticsearchClient.indices().deleteIndexTemplate(d -> d.name(TEMPLATE));
+        }
+
+        @Test
+        void Given_a_document_the_new_index_rejects_When_calls_reindex_Then_should_fail_and_keep_the_live_index() throws IOException {
+            // Given
+            final var aulas = aCategory("Aulas", InstantUtils.now());
+            categoryElasticsearchGateway.saveAll(List.of(aulas));
+            final var anId = IdUtils.uuid();
+            elasticsearchClient.index(i -> i
+                    .index(categoryIndex.alias())
+                    .id(anId)
+                    .document(Map.of("id", anId, "name", "Lives", "extra", "not a number")));
+            // Only indices created from now on, the one being built, map it as a number
+            elasticsearchClient.indices().putIndexTemplate(t -> t
+                    .name(TEMPLATE)
+                    .indexPatterns(categoryIndex.alias() + "_v*")
+                    .priority(500)
+                    .template(it -> it.mappings(m -> m.properties("extra", p -> p.long_(l -> l)))));
+            final var expectedIndices = indicesBehindAlias();
+            final var expectedVersions = versionedIndices();
+
+            // When
+            final var actualException = assertThrows(InternalErrorException.class, categoryIndex::reindex);
+
+            // Then
+            assertTrue(actualException.getMessage().contains(anId));
+            assertEquals(expectedIndices, indicesBehindAlias());
+            assertFalse(elasticsearchClient.indices().existsAlias(e -> e.name(categoryIndex.alias() + "_building")).value());
+            assertEquals(expectedVersions, versionedIndices());
+            assertEquals(aulas.name(), categoryRepository.findById(aulas.id()).orElseThrow().getName());
+        }
+    }
+
+    private Set<String> indicesBehindAlias() throws IOException {
+        return elasticsearchClient.indices().getAlias(g -> g.name(categoryIndex.alias())).result().keySet();
+    }
+
+    private Set<String> versionedIndices() throws IOException {
+        return elasticsearchClient.indices().get(g -> g.index(categoryIndex.alias() + "_v*")).result().keySet();
+    }
+
+    private static Category aCategory(final String aName, final Instant anUpdatedAt) {
+        return Category.with(
+                IdUtils.uuid(),
+                aName,
+                "Conteúdo",
+                ActivationStatus.ACTIVE,
+                anUpdatedAt,
+                anUpdatedAt
+        );
+    }
+}
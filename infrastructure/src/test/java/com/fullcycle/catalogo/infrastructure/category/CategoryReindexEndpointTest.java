@@ -0,0 +1,128 @@
+package com.fullcycle.catalogo.infrastructure.category;
+
+import com.fullcycle.catalogo.domain.exceptions.InternalErrorException;
+import com.fullcycle.catalogo.infrastructure.category.CategoryReindexEndpoint.ReindexStatus;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@Tag("unitTest")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+public class CategoryReindexEndpointTest {
+
+    private static final String ALIAS = "categories";
+
+    @Mock
+    private CategoryElasticsearchIndex categoryIndex;
+
+    private CategoryReindexEndpoint endpoint;
+
+    @BeforeEach
+    void setUp() {
+        endpoint = new CategoryReindexEndpoint(categoryIndex);
+    }
+
+    @Test
+    void Given_no_reindex_running_When_calls_reindex_Then_should_accept_it_and_rebuild_in_the_background() throws Exception {
+        // Given
+        final var release = new CountDownLatch(1);
+        final var rebuildThread = new AtomicReference<Thread>();
+        when(categoryIndex.alias()).thenReturn(ALIAS);
+        when(categoryIndex.reindex()).thenAnswer(invocation -> {
+            rebuildThread.set(Thread.currentThread());
+            release.await(10, TimeUnit.SECONDS);
+            return "categories_v2";
+        });
+
+        // When
+        final var actualResponse = endpoint.reindex();
+
+        // Then
+        assertEquals(202, actualResponse.getStatus());
+        assertEquals(ALIAS, actualResponse.getBody().alias());
+        assertEquals(ReindexStatus.RUNNING, actualResponse.getBody().status());
+        assertNotNull(actualResponse.getBody().startedAt());
+
+        release.countDown();
+        final var actualStatus = awaitFinished();
+        assertEquals(ReindexStatus.SUCCEEDED, actualStatus.status());
+        assertEquals("categories_v2", actualStatus.index());
+        assertNotNull(actualStatus.finishedAt());
+        assertNotSame(Thread.currentThread(), rebuildThread.get());
+    }
+
+    @Test
+    void Given_a_reindex_running_When_calls_reindex_Then_should_answer_a_conflict_with_the_running_one() throws Exception {
+        // Given
+        final var release = new CountDownLatch(1);
+        when(categoryIndex.alias()).thenReturn(ALIAS);
+        when(categoryIndex.reindex()).thenAnswer(invocation -> {
+            release.await(10, TimeUnit.SECONDS);
+            return "categories_v2";
+        });
+        final var aRunning = endpoint.reindex().getBody();
+
+        // When
+        final var actualResponse = endpoint.reindex();
+
+        // Then
+        assertEquals(409, actualResponse.getStatus());
+        assertEquals(aRunning, actualResponse.getBody());
+
+        release.countDown();
+        awaitFinished();
+        verify(categoryIndex, times(1)).reindex();
+    }
+
+    @Test
+    void Given_a_failed_reindex_When_calls_status_Then_should_report_its_error_and_allow_another_run() throws Exception {
+        // Given
+        when(categoryIndex.alias()).thenReturn(ALIAS);
+        when(categoryIndex.reindex())
+                .thenThrow(InternalErrorException.with("Reindex of categories has failed", null))
+                .thenReturn("categories_v3");
+
+        // When
+        endpoint.reindex();
+        final var actualStatus = awaitFinished();
+
+        // Then
+        assertEquals(ReindexStatus.FAILED, actualStatus.status());
+        assertEquals("Reindex of categories has failed", actualStatus.error());
+        assertNull(actualStatus.index());
+
+        assertEquals(202, endpoint.reindex().getStatus());
+        assertEquals("categories_v3", awaitFinished().index());
+    }
+
+    @Test
+    void Given_no_reindex_ever_ran_When_calls_status_Then_should_answer_not_found() {
+        // When
+        final var actualResponse = endpoint.status();
+
+        // Then
+        assertEquals(404, actualResponse.getStatus());
+        assertNull(actualResponse.getBody());
+    }
+
+    private CategoryReindexEndpoint.ReindexOutput awaitFinished() throws InterruptedException {
+        final var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (System.nanoTime() < deadline) {
+            final var aStatus = endpoint.status().getBody();
+            if (aStatus != null && aStatus.status() != ReindexStatus.RUNNING) {
+                return aStatus;
+            }
+            Thread.sleep(10);
+        }
+        return fail("The reindex did not finish in time");
+    }
+}
@@ -0,0 +1,154 @@
+package com.fullcycle.catalogo.infrastructure.category;
+
+import co.elastic.clients.elasticsearch._types.query_dsl.Query;
+import com.fullcycle.catalogo.infrastructure.category.persistence.CategoryDocument;
+import com.fullcycle.catalogo.infrastructure.configuration.properties.CategoryMultiSearchProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHits;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@Tag("unitTest")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+public class CategorySearchDispatcherTest {
+
+    private static final int MAX_BATCH = 8;
+
+    @Mock
+    private ElasticsearchOperations elasticsearchOperations;
+
+    private CategorySearchDispatcher dispatcher;
+
+    @AfterEach
+    void tearDown() {
+        if (dispatcher != null) {
+            dispatcher.close();
+        }
+    }
+
+    @Nested
+    @DisplayName("Batched searches")
+    class BatchedSearches {
+
+        @Test
+        void Given_concurrent_searches_When_calls_search_Then_should_send_one_msearch_and_split_the_responses() {
+            // Given
+            dispatcher = dispatcher(true);
+            final var queries = queries(MAX_BATCH);
+            final var expectedHits = hitsFor(queries);
+            when(elasticsearchOperations.multiSearch(anyList(), eq(CategoryDocument.class))).thenAnswer(invocation ->
+                    invocation.<List<NativeQuery>>getArgument(0).stream().map(expectedHits::get).toList());
+
+            // When
+            final var actualHits = searchConcurrently(queries);
+
+            // Then
+            for (int i = 0; i < queries.size(); i++) {
+                assertSame(expectedHits.get(queries.get(i)), actualHits.get(i));
+            }
+            verify(elasticsearchOperations, times(1)).multiSearch(anyList(), eq(CategoryDocument.class));
+            verify(elasticsearchOperations, never()).search(any(NativeQuery.class), eq(CategoryDocument.class));
+        }
+
+        @Test
+        void Given_a_failing_msearch_When_calls_search_Then_should_send_the_searches_one_by_one() {
+            // Given
+            dispatcher = dispatcher(true);
+            final var queries = queries(MAX_BATCH);
+            final var expectedHits = hitsFor(queries);
+            when(elasticsearchOperations.multiSearch(anyList(), eq(CategoryDocument.class)))
+                    .thenThrow(new IllegalStateException("search_phase_execution_exception"));
+            when(elasticsearchOperations.search(any(NativeQuery.class), eq(CategoryDocument.class)))
+                    .thenAnswer(invocation -> expectedHits.get(invocation.<NativeQuery>getArgument(0)));
+
+            // When
+            final var actualHits = searchConcurrently(queries);
+
+            // Then
+            for (int i = 0; i < queries.size(); i++) {
+                assertSame(expectedHits.get(queries.get(i)), actualHits.get(i));
+            }
+            verify(elasticsearchOperations, times(MAX_BATCH)).search(any(NativeQuery.class), eq(CategoryDocument.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("Disabled batching")
+    class DisabledBatching {
+
+        @Test
+        void Given_msearch_disabled_When_calls_search_Then_should_send_the_search_right_away() {
+            // Given
+            dispatcher = dispatcher(false);
+            final var aQuery = queries(1).get(0);
+            final var expectedHits = hitsFor(List.of(aQuery)).get(aQuery);
+            when(elasticsearchOperations.search(aQuery, CategoryDocument.class)).thenReturn(expectedHits);
+
+            // When
+            final var actualHits = dispatcher.search(aQuery);
+
+            // Then
+            assertSame(expectedHits, actualHits);
+            verify(elasticsearchOperations, never()).multiSearch(anyList(), any(Class.class));
+        }
+    }
+
+    /**
+     * The window is long enough for the whole batch to gather; it is sent as soon
+     * as it is full.
+     */
+    private CategorySearchDispatcher dispatcher(final boolean isEnabled) {
+        final var multiSearchProperties = new CategoryMultiSearchProperties();
+        multiSearchProperties.setEnabled(isEnabled);
+        multiSearchProperties.setWindow(Duration.ofSeconds(10));
+        multiSearchProperties.setMaxBatch(MAX_BATCH);
+        multiSearchProperties.setConcurrency(2);
+        return new CategorySearchDispatcher(elasticsearchOperations, multiSearchProperties, new SimpleMeterRegistry());
+    }
+
+    private List<SearchHits<CategoryDocument>> searchConcurrently(final List<NativeQuery> queries) {
+        final var executor = Executors.newFixedThreadPool(queries.size());
+        try {
+            return queries.stream()
+                    .map(aQuery -> CompletableFuture.supplyAsync(() -> dispatcher.search(aQuery), executor))
+                    .toList()
+                    .stream()
+                    .map(CompletableFuture::join)
+                    .toList();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static List<NativeQuery> queries(final int aCount) {
+        return IntStream.range(0, aCount)
+                .mapToObj(i -> NativeQuery.builder()
+                        .withQuery(Query.of(q -> q.term(t -> t.field("name").value("aulas " + i))))
+                        .build())
+                .toList();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<NativeQuery, SearchHits<CategoryDocument>> hitsFor(final List<NativeQuery> queries) {
+        return queries.stream()
+                .collect(Collectors.toMap(Function.identity(), aQuery -> (SearchHits<CategoryDocument>) mock(SearchHits.class)));
+    }
+}
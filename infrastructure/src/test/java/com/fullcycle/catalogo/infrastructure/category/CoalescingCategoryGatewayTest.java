@@ -0,0 +1,193 @@
+package com.fullcycle.catalogo.infrastructure.category;
+
+import com.fullcycle.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.catalogo.domain.category.CategoryView;
+import com.fullcycle.catalogo.domain.category.Fixture;
+import com.fullcycle.catalogo.domain.exceptions.InternalErrorException;
+import com.fullcycle.catalogo.domain.pagination.Pagination;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.BooleanSupplier;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@Tag("unitTest")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+public class CoalescingCategoryGatewayTest {
+
+    private static final int CALLERS = 64;
+    private static final int ROUNDS = 20;
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private CoalescingCategoryGateway coalescingGateway;
+
+    @BeforeEach
+    void setUp() {
+        this.coalescingGateway = new CoalescingCategoryGateway(categoryGateway, meterRegistry);
+    }
+
+    @Nested
+    @DisplayName("Equal searches")
+    class EqualSearches {
+
+        @ParameterizedTest
+        @ValueSource(strings = {"platform", "virtual"})
+        void Given_concurrent_equal_searches_When_calls_findAll_Then_should_search_once_and_share_the_page(final String threads) {
+            final var executor = executorOf(threads);
+            try {
+                for (int round = 0; round < ROUNDS; round++) {
+                    // Given
+                    final var aQuery = new CategorySearchQuery(round, 10, "aulas", "name", "asc");
+                    final var expectedPage = aPage();
+                    final var release = new CountDownLatch(1);
+                    when(categoryGateway.findAll(aQuery)).thenAnswer(invocation -> {
+                        release.await();
+                        return expectedPage;
+                    });
+                    final var coalescedBefore = coalescedCount();
+
+                    // When
+                    final var callers = IntStream.range(0, CALLERS)
+                            .mapToObj(i -> CompletableFuture.supplyAsync(() -> coalescingGateway.findAll(aQuery), executor))
+                            .toList();
+                    await(() -> coalescedCount() - coalescedBefore == CALLERS - 1);
+                    release.countDown();
+
+                    // Then
+                    callers.forEach(aCaller -> assertSame(expectedPage, aCaller.join()));
+                    verify(categoryGateway, times(1)).findAll(aQuery);
+                }
+                assertEquals(0, meterRegistry.get("catalogo.search.categories.in.flight").gauge().value());
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
+        @Test
+        void Given_a_failing_search_When_calls_findAll_concurrently_Then_should_fail_every_caller() {
+            final var executor = executorOf("platform");
+            try {
+                // Given
+                final var aQuery = new CategorySearchQuery(0, 10, "aulas", "name", "asc");
+                final var expectedError = InternalErrorException.with("Elasticsearch is unavailable", null);
+                final var release = new CountDownLatch(1);
+                when(categoryGateway.findAll(aQuery)).thenAnswer(invocation -> {
+                    release.await();
+                    throw expectedError;
+                });
+
+                // When
+                final var callers = IntStream.range(0, CALLERS)
+                        .mapToObj(i -> CompletableFuture.supplyAsync(() -> coalescingGateway.findAll(aQuery), executor))
+                        .toList();
+                await(() -> coalescedCount() == CALLERS - 1);
+                release.countDown();
+
+                // Then
+                callers.forEach(aCaller -> {
+                    final var actualError = assertThrows(CompletionException.class, aCaller::join);
+                    assertSame(expectedError, actualError.getCause());
+                });
+                verify(categoryGateway, times(1)).findAll(aQuery);
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
+        @Test
+        void Given_a_search_that_already_returned_When_calls_findAll_again_Then_should_search_again() {
+            // Given
+            final var aQuery = new CategorySearchQuery(0, 10, "aulas", "name", "asc");
+            when(categoryGateway.findAll(aQuery)).thenReturn(aPage());
+
+            // When
+            coalescingGateway.findAll(aQuery);
+            coalescingGateway.findAll(aQuery);
+
+            // Then
+            verify(categoryGateway, times(2)).findAll(aQuery);
+            assertEquals(0, coalescedCount());
+        }
+    }
+
+    @Nested
+    @DisplayName("Different searches")
+    class DifferentSearches {
+
+        @Test
+        void Given_concurrent_different_searches_When_calls_findAll_Then_should_run_each_of_them() {
+            final var executor = executorOf("platform");
+            try {
+                // Given
+                final var release = new CountDownLatch(1);
+                final var started = new CountDownLatch(2);
+                when(categoryGateway.findAll(any())).thenAnswer(invocation -> {
+                    started.countDown();
+                    release.await();
+                    return aPage();
+                });
+
+                // When
+                final var aulas = CompletableFuture.supplyAsync(
+                        () -> coalescingGateway.findAll(new CategorySearchQuery(0, 10, "aulas", "name", "asc")), executor);
+                final var lives = CompletableFuture.supplyAsync(
+                        () -> coalescingGateway.findAll(new CategorySearchQuery(0, 10, "lives", "name", "asc")), executor);
+                await(() -> started.getCount() == 0);
+                release.countDown();
+
+                // Then
+                assertNotSame(aulas.join(), lives.join());
+                verify(categoryGateway, times(2)).findAll(any());
+                assertEquals(0, coalescedCount());
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    private double coalescedCount() {
+        return meterRegistry.get("catalogo.search.categories.coalesced").counter().count();
+    }
+
+    private static ExecutorService executorOf(final String threads) {
+        if ("virtual".equals(threads)) {
+            return Executors.newVirtualThreadPerTaskExecutor();
+        }
+        return Executors.newCachedThreadPool();
+    }
+
+    private static Pagination<CategoryView> aPage() {
+        final var aulas = Fixture.Categories.aulas();
+        return new Pagination<>(0, 10, 1, List.of(CategoryView.from(aulas)));
+    }
+
+    private static void await(final BooleanSupplier aCondition) {
+        final var aDeadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (!aCondition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < aDeadline);
+            Thread.onSpinWait();
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.fullcycle.catalogo.infrastructure.category;
+
+import com.fullcycle.catalogo.AbstractElasticsearchTest;
+import com.fullcycle.catalogo.domain.category.ActivationStatus;
+import com.fullcycle.catalogo.domain.category.Category;
+import com.fullcycle.catalogo.domain.category.CategorySearchQuery;
+import com.fullcycle.catalogo.domain.category.CategoryView;
+import com.fullcycle.catalogo.domain.category.Fixture;
+import com.fullcycle.catalogo.domain.consistency.WriteConsistency;
+import com.fullcycle.catalogo.domain.utils.IdUtils;
+import com.fullcycle.catalogo.domain.utils.InstantUtils;
+import com.fullcycle.catalogo.infrastructure.category.persistence.CategoryDocument;
+import com.fullcycle.catalogo.infrastructure.category.persistence.CategoryRepository;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ActiveProfiles("reactive")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+public class ReactiveCategoryElasticsearchGatewayTest extends AbstractElasticsearchTest {
+
+    @Autowired
+    private ReactiveCategoryElasticsearchGateway reactiveCategoryGateway;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Nested
+    @DisplayName("Save with a write consistency")
+    class SaveWithAWriteConsistency {
+
+        @Test
+        void Given_wait_for_When_calls_save_category_Then_should_be_searchable_once_it_completes() {
+            // Given
+            final var aCategory = Category.with(
+                    IdUtils.uuid(), "Novidades", "Conteúdo", ActivationStatus.ACTIVE, InstantUtils.now(), InstantUtils.now());
+
+            // When
+            reactiveCategoryGateway.save(aCategory, WriteConsistency.WAIT_FOR).block();
+
+            // Then
+            final var actualPage = reactiveCategoryGateway.findAll(
+                    new CategorySearchQuery(0, 10, "Novidades", "name", "asc")).block();
+            assertEquals(List.of(aCategory.id()), actualPage.data().stream().map(CategoryView::id).toList());
+        }
+    }
+
+    @Nested
+    @DisplayName("Get with valid identifiers")
+    class GetWithValidIdentifiers {
+
+        @Test
+        void Given_a_valid_identifier_When_calls_find_by_id_Then_should_retrieve_it() {
+            // Given
+            final var aulas = Fixture.Categories.aulas();
+            categoryRepository.save(CategoryDocument.from(aulas));
+
+            // When
+            final var actualOutput = reactiveCategoryGateway.findById(aulas.id()).block();
+
+            // Then
+            assertEquals(aulas.id(), actualOutput.id());
+            assertEquals(aulas.name(), actualOutput.name());
+        }
+
+        @Test
+        void Given_an_invalid_identifier_When_calls_find_by_id_Then_should_complete_empty() {
+            // When
+            final var actualOutput = reactiveCategoryGateway.findById("an-invalid-id").blockOptional();
+
+            // Then
+            assertTrue(actualOutput.isEmpty());
+        }
+
+        @Test
+        void Given_valid_identifiers_When_calls_find_all_by_ids_Then_should_retrieve_the_existing_ones() {
+            // Given
+            final var aulas = Fixture.Categories.aulas();
+            final var talks = Fixture.Categories.talks();
+            categoryRepository.save(CategoryDocument.from(aulas));
+            categoryRepository.save(CategoryDocument.from(talks));
+
+            // When
+            final var actualOutput = reactiveCategoryGateway.findAllByIds(List.of(aulas.id(), talks.id(), "an-invalid-id"))
+                    .map(Category::id)
+                    .collectList()
+                    .block();
+
+            // Then
+            assertEquals(2, actualOutput.size());
+            assertTrue(actualOutput.containsAll(List.of(aulas.id(), talks.id())));
+        }
+    }
+
+    @Nested
+    @DisplayName("List categories with a cursor")
+    class ListWithACursor {
+
+        @Test
+        void Given_a_first_page_When_follows_its_cursors_Then_should_read_every_category_once_in_order() {
+            // Given
+            categoryRepository.save(CategoryDocument.from(Fixture.Categories.aulas()));
+            categoryRepository.save(CategoryDocument.from(Fixture.Categories.talks()));
+            categoryRepository.save(CategoryDocument.from(Fixture.Categories.lives()));
+
+            final var expectedNames = List.of("Aulas", "Lives", "Talks");
+            final var firstPage = reactiveCategoryGateway.findAll(
+                    new CategorySearchQuery(0, 1, "", "name", "asc")).block();
+
+            // When
+            final var actualNames = new ArrayList<String>();
+            firstPage.data().forEach(aCategory -> actualNames.add(aCategory.name()));
+            var aCursor = firstPage.meta().nextCursor();
+            while (aCursor != null) {
+                final var aPage = reactiveCategoryGateway.findAll(
+                        new CategorySearchQuery(0, 1, "", "name", "asc", aCursor)).block();
+                aPage.data().forEach(aCategory -> actualNames.add(aCategory.name()));
+                aCursor = aPage.meta().nextCursor();
+            }
+
+            // Then
+            assertEquals(expectedNames, actualNames);
+        }
+    }
+}
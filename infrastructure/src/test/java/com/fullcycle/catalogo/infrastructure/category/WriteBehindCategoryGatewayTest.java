@@ -0,0 +1,240 @@
+package com.fullcycle.catalogo.infrastructure.category;
+
+import com.fullcycle.catalogo.domain.bulk.BulkItem;
+import com.fullcycle.catalogo.domain.bulk.BulkResult;
+import com.fullcycle.catalogo.domain.category.Category;
+import com.fullcycle.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.catalogo.domain.category.Fixture;
+import com.fullcycle.catalogo.domain.consistency.WriteConsistency;
+import com.fullcycle.catalogo.domain.validation.Error;
+import com.fullcycle.catalogo.infrastructure.configuration.properties.CategoryWriteBehindProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@Tag("unitTest")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+public class WriteBehindCategoryGatewayTest {
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private WriteBehindCategoryGateway writeBehindGateway;
+
+    @AfterEach
+    void tearDown() {
+        if (writeBehindGateway != null) {
+            writeBehindGateway.close();
+        }
+    }
+
+    @Nested
+    @DisplayName("Asynchronous saves")
+    class AsynchronousSaves {
+
+        @Test
+        @SuppressWarnings("unchecked")
+        void Given_async_saves_When_the_writer_is_busy_Then_should_acknowledge_them_and_send_them_in_one_bulk() throws InterruptedException {
+            // Given
+            writeBehindGateway = writeBehindGateway(10);
+            final var aulas = Fixture.Categories.aulas();
+            final var lives = Fixture.Categories.lives();
+            final var talks = Fixture.Categories.talks();
+            final var started = new CountDownLatch(1);
+            final var release = new CountDownLatch(1);
+            when(categoryGateway.saveAll(anyList())).thenAnswer(invocation -> {
+                started.countDown();
+                release.await();
+                return succeeded(invocation.getArgument(0));
+            });
+
+            // When
+            final var actualOutput = writeBehindGateway.save(aulas, WriteConsistency.ASYNC);
+            assertTrue(started.await(10, TimeUnit.SECONDS));
+            writeBehindGateway.save(lives, WriteConsistency.ASYNC);
+            writeBehindGateway.save(talks, WriteConsistency.ASYNC);
+            release.countDown();
+
+            // Then
+            assertSame(aulas, actualOutput);
+            await(() -> queued() == 0 && meterRegistry.get("catalogo.write.categories.batch.size").summary().count() == 2);
+            verify(categoryGateway, timeout(10_000)).saveAll(List.of(aulas));
+            verify(categoryGateway, timeout(10_000)).saveAll(List.of(lives, talks));
+            verify(categoryGateway, never()).save(any(Category.class), any());
+        }
+
+        @Test
+        void Given_a_full_queue_When_calls_save_async_Then_should_save_synchronously() throws InterruptedException {
+            // Given
+            writeBehindGateway = writeBehindGateway(1);
+            final var aulas = Fixture.Categories.aulas();
+            final var lives = Fixture.Categories.lives();
+            final var talks = Fixture.Categories.talks();
+            final var started = new CountDownLatch(1);
+            final var release = new CountDownLatch(1);
+            when(categoryGateway.saveAll(anyList())).thenAnswer(invocation -> {
+                started.countDown();
+                release.await();
+                return succeeded(invocation.getArgument(0));
+            });
+            when(categoryGateway.save(talks, WriteConsistency.ASYNC)).thenReturn(talks);
+
+            // When
+            writeBehindGateway.save(aulas, WriteConsistency.ASYNC);
+            assertTrue(started.await(10, TimeUnit.SECONDS));
+            writeBehindGateway.save(lives, WriteConsistency.ASYNC);
+            writeBehindGateway.save(talks, WriteConsistency.ASYNC);
+            release.countDown();
+
+            // Then
+            verify(categoryGateway, times(1)).save(talks, WriteConsistency.ASYNC);
+            verify(categoryGateway, timeout(10_000)).saveAll(List.of(lives));
+        }
+
+        @Test
+        void Given_a_failed_item_When_the_bulk_returns_Then_should_count_it() {
+            // Given
+            writeBehindGateway = writeBehindGateway(10);
+            final var aulas = Fixture.Categories.aulas();
+            when(categoryGateway.saveAll(anyList())).thenReturn(BulkResult.of(List.of(
+                    BulkItem.failed(aulas.id(), new Error("mapper_parsing_exception")))));
+
+            // When
+            writeBehindGateway.save(aulas, WriteConsistency.ASYNC);
+
+            // Then
+            await(() -> meterRegistry.get("catalogo.write.categories.async.failures").counter().count() == 1);
+        }
+    }
+
+    @Nested
+    @DisplayName("Other consistencies")
+    class OtherConsistencies {
+
+        @Test
+        void Given_wait_for_When_calls_save_Then_should_save_through_the_gateway() {
+            // Given
+            writeBehindGateway = writeBehindGateway(10);
+            final var aulas = Fixture.Categories.aulas();
+            when(categoryGateway.save(aulas, WriteConsistency.WAIT_FOR)).thenReturn(aulas);
+
+            // When
+            final var actualOutput = writeBehindGateway.save(aulas, WriteConsistency.WAIT_FOR);
+
+            // Then
+            assertSame(aulas, actualOutput);
+            verify(categoryGateway, never()).saveAll(anyList());
+        }
+    }
+
+    @Nested
+    @DisplayName("Deletes and close")
+    class DeletesAndClose {
+
+        @Test
+        @SuppressWarnings("unchecked")
+        void Given_queued_saves_When_deleted_and_closed_Then_should_drop_the_deleted_and_write_the_rest() throws Exception {
+            // Given
+            writeBehindGateway = writeBehindGateway(10);
+            final var aulas = Fixture.Categories.aulas();
+            final var lives = Fixture.Categories.lives();
+            final var talks = Fixture.Categories.talks();
+            final var started = new CountDownLatch(1);
+            final var release = new CountDownLatch(1);
+            when(categoryGateway.saveAll(anyList())).thenAnswer(invocation -> {
+                started.countDown();
+                release.await();
+                return succeeded(invocation.getArgument(0));
+            });
+
+            writeBehindGateway.save(aulas, WriteConsistency.ASYNC);
+            assertTrue(started.await(10, TimeUnit.SECONDS));
+            writeBehindGateway.save(lives, WriteConsistency.ASYNC);
+            writeBehindGateway.save(talks, WriteConsistency.ASYNC);
+
+            // When
+            final var aDelete = CompletableFuture.runAsync(() -> writeBehindGateway.deleteById(lives.id()));
+            await(() -> queued() == 1);
+            release.countDown();
+            aDelete.get(10, TimeUnit.SECONDS);
+            writeBehindGateway.close();
+
+            // Then
+            verify(categoryGateway, times(1)).deleteById(lives.id());
+            verify(categoryGateway, times(1)).saveAll(List.of(talks));
+            verify(categoryGateway, never()).saveAll(List.of(lives, talks));
+            assertEquals(0, queued());
+        }
+
+        @Test
+        void Given_a_save_already_drained_When_deleted_Then_should_delete_once_the_batch_is_sent() throws Exception {
+            // Given
+            writeBehindGateway = writeBehindGateway(10);
+            final var aulas = Fixture.Categories.aulas();
+            final var started = new CountDownLatch(1);
+            final var release = new CountDownLatch(1);
+            when(categoryGateway.saveAll(anyList())).thenAnswer(invocation -> {
+                started.countDown();
+                release.await();
+                return succeeded(invocation.getArgument(0));
+            });
+
+            writeBehindGateway.save(aulas, WriteConsistency.ASYNC);
+            assertTrue(started.await(10, TimeUnit.SECONDS));
+            assertEquals(0, queued());
+
+            // When
+            final var aDelete = CompletableFuture.runAsync(() -> writeBehindGateway.deleteById(aulas.id()));
+
+            // Then
+            verify(categoryGateway, after(200).never()).deleteById(aulas.id());
+            assertFalse(aDelete.isDone());
+
+            release.countDown();
+            aDelete.get(10, TimeUnit.SECONDS);
+
+            final var inOrder = inOrder(categoryGateway);
+            inOrder.verify(categoryGateway).saveAll(List.of(aulas));
+            inOrder.verify(categoryGateway).deleteById(aulas.id());
+        }
+    }
+
+    private WriteBehindCategoryGateway writeBehindGateway(final int aCapacity) {
+        final var writeBehindProperties = new CategoryWriteBehindProperties();
+        writeBehindProperties.setCapacity(aCapacity);
+        writeBehindProperties.setMaxBatch(10);
+        return new WriteBehindCategoryGateway(categoryGateway, writeBehindProperties, meterRegistry);
+    }
+
+    private double queued() {
+        return meterRegistry.get("catalogo.write.categories.queued").gauge().value();
+    }
+
+    private static BulkResult succeeded(final List<Category> aCategories) {
+        return BulkResult.of(aCategories.stream().map(aCategory -> BulkItem.succeeded(aCategory.id())).toList());
+    }
+
+    private static void await(final BooleanSupplier aCondition) {
+        final var aDeadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (!aCondition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < aDeadline);
+            Thread.onSpinWait();
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.fullcycle.catalogo.infrastructure.configuration;
+
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.data.elasticsearch.ElasticsearchRepositoriesAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ActiveProfiles("test-integration")
+@AutoConfigureMockMvc
+@EnableAutoConfiguration(exclude = {
+        ElasticsearchRepositoriesAutoConfiguration.class
+})
+@SpringBootTest(classes = SecurityConfig.class)
+@Tag("integrationTest")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+public class SecurityConfigTest {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Nested
+    @DisplayName("Actuator")
+    class Actuator {
+
+        @Test
+        void Given_no_credentials_When_calls_the_readiness_probe_Then_should_answer_it() throws Exception {
+            mvc.perform(get("/actuator/health/readiness"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.status").value("UP"));
+        }
+
+        @Test
+        void Given_no_credentials_When_calls_the_liveness_probe_Then_should_answer_it() throws Exception {
+            mvc.perform(get("/actuator/health/liveness"))
+                    .andExpect(status().isOk());
+        }
+
+        @Test
+        void Given_no_credentials_When_calls_another_endpoint_Then_should_return_unauthorized() throws Exception {
+            mvc.perform(get("/actuator/metrics"))
+                    .andExpect(status().isUnauthorized());
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.fullcycle.catalogo.infrastructure.configuration;
+
+import io.undertow.servlet.api.DeploymentInfo;
+import org.junit.jupiter.api.*;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.context.ConfigurationPropertiesAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.boot.web.embedded.undertow.UndertowDeploymentInfoCustomizer;
+import org.springframework.graphql.data.method.annotation.support.AnnotatedControllerConfigurer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("unitTest")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+public class WebThreadsConfigTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(ConfigurationPropertiesAutoConfiguration.class))
+            .withUserConfiguration(WebThreadsConfig.class)
+            .withBean(AnnotatedControllerConfigurer.class);
+
+    @Nested
+    @DisplayName("Virtual threads")
+    class VirtualThreads {
+
+        @Test
+        void Given_virtual_threads_When_starts_Then_should_run_requests_and_graphql_on_them() {
+            contextRunner.withPropertyValues("web.threads.virtual=true").run(context -> {
+                // Given
+                final var deploymentInfo = new DeploymentInfo();
+
+                // When
+                context.getBean(UndertowDeploymentInfoCustomizer.class).customize(deploymentInfo);
+
+                // Then
+                assertNotNull(deploymentInfo.getExecutor());
+                assertNotNull(deploymentInfo.getAsyncExecutor());
+                assertTrue(context.containsBean("virtualThreadsGraphQlExecutor"));
+                assertNotNull(ReflectionTestUtils.getField(context.getBean(AnnotatedControllerConfigurer.class), "executor"));
+            });
+        }
+    }
+
+    @Nested
+    @DisplayName("Platform threads")
+    class PlatformThreads {
+
+        @Test
+        void Given_no_virtual_threads_When_starts_Then_should_leave_requests_and_graphql_as_they_are() {
+            contextRunner.run(context -> {
+                // Given
+                final var deploymentInfo = new DeploymentInfo();
+
+                // When
+                context.getBean(UndertowDeploymentInfoCustomizer.class).customize(deploymentInfo);
+
+                // Then
+                assertNull(deploymentInfo.getExecutor());
+                assertNull(deploymentInfo.getAsyncExecutor());
+                assertFalse(context.containsBean("virtualThreadsGraphQlExecutor"));
+                assertNull(ReflectionTestUtils.getField(context.getBean(AnnotatedControllerConfigurer.class), "executor"));
+            });
+        }
+    }
+}
@@ -1,29 +1,46 @@
 package com.fullcycle.catalogo.infrastructure.graphql;
 
+import com.fullcycle.catalogo.application.bulk.BulkItemOutput;
+import com.fullcycle.catalogo.application.category.delete.DeleteCategoriesUseCase;
+import com.fullcycle.catalogo.application.category.get.GetCategoriesByIdUseCase;
+import com.fullcycle.catalogo.application.category.get.GetCategoryOutput;
 import com.fullcycle.catalogo.application.category.list.ListCategoryOutput;
 import com.fullcycle.catalogo.application.category.list.ListCategoryUseCase;
+import com.fullcycle.catalogo.application.category.save.SaveCategoriesUseCase;
+import com.fullcycle.catalogo.application.category.save.SaveCategoryCommand;
 import com.fullcycle.catalogo.application.category.save.SaveCategoryUseCase;
+import com.fullcycle.catalogo.domain.bulk.BulkStatus;
 import com.fullcycle.catalogo.domain.category.ActivationStatus;
 import com.fullcycle.catalogo.domain.category.Category;
+import com.fullcycle.catalogo.domain.category.CategoryField;
+import com.fullcycle.catalogo.domain.category.CategoryFilter;
 import com.fullcycle.catalogo.domain.category.CategorySearchQuery;
 import com.fullcycle.catalogo.domain.category.Fixture;
+import com.fullcycle.catalogo.domain.consistency.WriteConsistency;
+import com.fullcycle.catalogo.domain.exceptions.ConflictException;
 import com.fullcycle.catalogo.domain.pagination.Pagination;
+import com.fullcycle.catalogo.domain.pagination.TotalCount;
 import com.fullcycle.catalogo.domain.utils.IdUtils;
 import com.fullcycle.catalogo.domain.utils.InstantUtils;
+import com.fullcycle.catalogo.domain.validation.Error;
 import com.fullcycle.catalogo.GraphQLControllerTest;
 import org.junit.jupiter.api.*;
 import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.graphql.execution.ErrorType;
 import org.springframework.graphql.test.tester.GraphQlTester;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.AdditionalAnswers.returnsFirstArg;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
@@ -36,6 +53,15 @@ public class CategoryGraphQLControllerTest {
     @MockBean
     private SaveCategoryUseCase saveCategoryUseCase;
 
+    @MockBean
+    private SaveCategoriesUseCase saveCategoriesUseCase;
+
+    @MockBean
+    private DeleteCategoriesUseCase deleteCategoriesUseCase;
+
+    @MockBean
+    private GetCategoriesByIdUseCase getCategoriesByIdUseCase;
+
     @Autowired
     private GraphQlTester graphql;
 
@@ -66,6 +92,7 @@ public class CategoryGraphQLControllerTest {
                         categories {
                             id
                             name
+                            description
                         }
                     }
                     """;
@@ -115,6 +142,7 @@ public class CategoryGraphQLControllerTest {
                         categories(search: $search, page: $page, perPage: $perPage, sort: $sort, direction: $direction) {
                           id
                           name
+                          description
                         }
                     }
                     """;
@@ -148,6 +176,314 @@ public class CategoryGraphQLControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("Page categories with a cursor")
+    class PageCategoriesWithACursor {
+
+        @Test
+        void Given_a_cursor_When_calls_categories_page_Then_should_pass_it_and_return_the_next_one() {
+            // Given
+            final var expectedCategories =
+                    List.of(ListCategoryOutput.from(Fixture.Categories.lives()));
+
+            final var expectedPerPage = 1;
+            final var expectedCursor = "eyJhZnRlciI6WyJBdWxhcyJdfQ";
+            final var expectedNextCursor = "eyJhZnRlciI6WyJMaXZlcyJdfQ";
+
+            when(listCategoryUseCase.execute(any()))
+                    .thenReturn(new Pagination<>(0, expectedPerPage, 3, expectedNextCursor, expectedCategories));
+
+            final var query = """
+                    query CategoriesPage($perPage: Int, $after: String) {
+                        categoriesPage(perPage: $perPage, after: $after) {
+                            meta {
+                                nextCursor
+                            }
+                            data {
+                                id
+                                name
+                                description
+                            }
+                        }
+                    }
+                    """;
+
+            // When
+            final var res = graphql.document(query)
+                    .variable("perPage", expectedPerPage)
+                    .variable("after", expectedCursor)
+                    .execute();
+            final var actualCategories = res.path("categoriesPage.data")
+                    .entityList(ListCategoryOutput.class)
+                    .get();
+            final var actualNextCursor = res.path("categoriesPage.meta.nextCursor")
+                    .entity(String.class)
+                    .get();
+
+            // Then
+            assertEquals(expectedCategories, actualCategories);
+            assertEquals(expectedNextCursor, actualNextCursor);
+
+            final var captor = ArgumentCaptor.forClass(CategorySearchQuery.class);
+            verify(listCategoryUseCase, times(1)).execute(captor.capture());
+            final CategorySearchQuery actualQuery = captor.getValue();
+
+            assertEquals(expectedPerPage, actualQuery.perPage());
+            assertEquals(expectedCursor, actualQuery.cursor());
+        }
+    }
+
+    @Nested
+    @DisplayName("Push the selected fields down")
+    class PushTheSelectedFieldsDown {
+
+        @Test
+        void Given_only_ids_selected_When_calls_categories_Then_should_read_only_ids() {
+            // Given
+            final var expectedFields = Set.of(CategoryField.ID);
+
+            when(listCategoryUseCase.execute(any()))
+                    .thenReturn(new Pagination<>(0, 10, 0, List.of()));
+
+            final var query = """
+                    {
+                        categories {
+                            id
+                        }
+                    }
+                    """;
+
+            // When
+            graphql.document(query).execute();
+
+            // Then
+            final var captor = ArgumentCaptor.forClass(CategorySearchQuery.class);
+            verify(listCategoryUseCase, times(1)).execute(captor.capture());
+            assertEquals(expectedFields, captor.getValue().fields());
+        }
+
+        @Test
+        void Given_names_selected_in_a_page_When_calls_categories_page_Then_should_read_ids_and_names() {
+            // Given
+            final var expectedFields = Set.of(CategoryField.ID, CategoryField.NAME);
+
+            when(listCategoryUseCase.execute(any()))
+                    .thenReturn(new Pagination<>(0, 10, 0, List.of()));
+
+            final var query = """
+                    {
+                        categoriesPage {
+                            meta {
+                                nextCursor
+                            }
+                            data {
+                                name
+                            }
+                        }
+                    }
+                    """;
+
+            // When
+            graphql.document(query).execute();
+
+            // Then
+            final var captor = ArgumentCaptor.forClass(CategorySearchQuery.class);
+            verify(listCategoryUseCase, times(1)).execute(captor.capture());
+            assertEquals(expectedFields, captor.getValue().fields());
+        }
+    }
+
+    @Nested
+    @DisplayName("Count only when the total is selected")
+    class CountOnlyWhenTheTotalIsSelected {
+
+        @Test
+        void Given_no_total_selected_When_calls_categories_page_Then_should_not_count() {
+            // Given
+            when(listCategoryUseCase.execute(any()))
+                    .thenReturn(new Pagination<>(0, 10, 0, List.of()));
+
+            final var query = """
+                    {
+                        categoriesPage {
+                            data {
+                                id
+                            }
+                        }
+                    }
+                    """;
+
+            // When
+            graphql.document(query).execute();
+
+            // Then
+            final var captor = ArgumentCaptor.forClass(CategorySearchQuery.class);
+            verify(listCategoryUseCase, times(1)).execute(captor.capture());
+            assertEquals(TotalCount.none(), captor.getValue().totalCount());
+        }
+
+        @Test
+        void Given_the_total_selected_When_calls_categories_page_Then_should_count_exactly() {
+            // Given
+            final var expectedTotal = 42;
+
+            when(listCategoryUseCase.execute(any()))
+                    .thenReturn(new Pagination<>(0, 10, expectedTotal, List.of()));
+
+            final var query = """
+                    {
+                        categoriesPage {
+                            meta {
+                                total
+                                totalRelation
+                            }
+                        }
+                    }
+                    """;
+
+            // When
+            final var res = graphql.document(query).execute();
+
+            // Then
+            res.path("categoriesPage.meta.total").entity(Integer.class).isEqualTo(expectedTotal);
+            res.path("categoriesPage.meta.totalRelation").entity(String.class).isEqualTo("EXACT");
+
+            final var captor = ArgumentCaptor.forClass(CategorySearchQuery.class);
+            verify(listCategoryUseCase, times(1)).execute(captor.capture());
+            assertEquals(TotalCount.exact(), captor.getValue().totalCount());
+        }
+
+        @Test
+        void Given_the_total_selected_and_a_cap_When_calls_categories_page_Then_should_count_up_to_it() {
+            // Given
+            final var expectedCap = 1000;
+
+            when(listCategoryUseCase.execute(any()))
+                    .thenReturn(new Pagination<>(0, 10, 0, List.of()));
+
+            final var query = """
+                    query CategoriesPage($countUpTo: Int) {
+                        categoriesPage(countUpTo: $countUpTo) {
+                            meta {
+                                total
+                            }
+                        }
+                    }
+                    """;
+
+            // When
+            graphql.document(query)
+                    .variable("countUpTo", expectedCap)
+                    .execute();
+
+            // Then
+            final var captor = ArgumentCaptor.forClass(CategorySearchQuery.class);
+            verify(listCategoryUseCase, times(1)).execute(captor.capture());
+            assertEquals(TotalCount.upTo(expectedCap), captor.getValue().totalCount());
+        }
+    }
+
+    @Nested
+    @DisplayName("Filter categories")
+    class FilterCategories {
+
+        @Test
+        void Given_a_filter_When_calls_categories_Then_should_pass_it_down() {
+            // Given
+            final var expectedFrom = InstantUtils.now().minusSeconds(3600);
+            final var expectedFilter = new CategoryFilter(true, false, expectedFrom, null);
+
+            when(listCategoryUseCase.execute(any()))
+                    .thenReturn(new Pagination<>(0, 10, 0, List.of()));
+
+            final var query = """
+                    query FilteredCategories($filter: CategoryFilterInput) {
+                        categories(filter: $filter) {
+                            id
+                        }
+                    }
+                    """;
+
+            // When
+            graphql.document(query)
+                    .variable("filter", Map.of(
+                            "active", true,
+                            "deleted", false,
+                            "createdFrom", expectedFrom.toString()))
+                    .execute();
+
+            // Then
+            final var captor = ArgumentCaptor.forClass(CategorySearchQuery.class);
+            verify(listCategoryUseCase, times(1)).execute(captor.capture());
+            assertEquals(expectedFilter, captor.getValue().filter());
+        }
+
+        @Test
+        void Given_no_filter_When_calls_categories_Then_should_not_filter() {
+            // Given
+            when(listCategoryUseCase.execute(any()))
+                    .thenReturn(new Pagination<>(0, 10, 0, List.of()));
+
+            final var query = """
+                    {
+                        categories {
+                            id
+                        }
+                    }
+                    """;
+
+            // When
+            graphql.document(query).execute();
+
+            // Then
+            final var captor = ArgumentCaptor.forClass(CategorySearchQuery.class);
+            verify(listCategoryUseCase, times(1)).execute(captor.capture());
+            assertTrue(captor.getValue().filter().isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("Get categories by id")
+    class GetCategoriesById {
+
+        @Test
+        @SuppressWarnings("unchecked")
+        void Given_many_categories_asked_by_id_When_calls_category_Then_should_look_them_up_at_once() {
+            // Given
+            final var aulas = Fixture.Categories.aulas();
+            final var lives = Fixture.Categories.lives();
+
+            when(getCategoriesByIdUseCase.execute(any()))
+                    .thenReturn(List.of(GetCategoryOutput.from(aulas), GetCategoryOutput.from(lives)));
+
+            final var query = """
+                    query Categories($aulas: ID!, $lives: ID!, $missing: ID!) {
+                        aulas: category(id: $aulas) { id name }
+                        lives: category(id: $lives) { id name }
+                        again: category(id: $aulas) { id }
+                        missing: category(id: $missing) { id }
+                    }
+                    """;
+
+            // When
+            final var res = graphql.document(query)
+                    .variable("aulas", aulas.id())
+                    .variable("lives", lives.id())
+                    .variable("missing", "123")
+                    .execute();
+
+            // Then
+            res.path("aulas.name").entity(String.class).isEqualTo(aulas.name())
+                    .path("lives.name").entity(String.class).isEqualTo(lives.name())
+                    .path("again.id").entity(String.class).isEqualTo(aulas.id())
+                    .path("missing").valueIsNull();
+
+            final var captor = ArgumentCaptor.forClass(Collection.class);
+            verify(getCategoriesByIdUseCase, times(1)).execute(captor.capture());
+            assertEquals(Set.of(aulas.id(), lives.id(), "123"), Set.copyOf(captor.getValue()));
+        }
+    }
+
     @Nested
     @DisplayName("Save with a valid input")
     class SaveWithValidInput {
@@ -184,7 +520,7 @@ public class CategoryGraphQLControllerTest {
                     }
                     """;
 
-            doAnswer(returnsFirstArg()).when(saveCategoryUseCase).execute(any());
+            doAnswer(returnsFirstArg()).when(saveCategoryUseCase).execute(any(), any());
 
             // when
             graphql.document(query)
@@ -195,7 +531,7 @@ public class CategoryGraphQLControllerTest {
                             .path("category.description").entity(String.class).isEqualTo(expectedDescription);
             // then
             final var captor = ArgumentCaptor.forClass(Category.class);
-            verify(saveCategoryUseCase, times(1)).execute(captor.capture());
+            verify(saveCategoryUseCase, times(1)).execute(captor.capture(), eq(WriteConsistency.SYNC));
             final Category actualCategory = captor.getValue();
 
             assertEquals(expectedId, actualCategory.id());
@@ -208,4 +544,171 @@ public class CategoryGraphQLControllerTest {
             assertEquals(expectedDeletedAt, actualCategory.deletedAt().toString());
         }
     }
+
+    @Nested
+    @DisplayName("Save with a write consistency")
+    class SaveWithAWriteConsistency {
+
+        @Test
+        void Given_wait_for_When_calls_save_category_mutation_Then_should_pass_it_down() {
+            // Given
+            final var aulas = Fixture.Categories.aulas();
+            final var input = Map.of(
+                    "id", aulas.id(),
+                    "name", aulas.name(),
+                    "active", true,
+                    "createdAt", aulas.createdAt().toString(),
+                    "updatedAt", aulas.updatedAt().toString()
+            );
+
+            final var query = """
+                    mutation SaveCategory($input: CategoryInput!) {
+                        category: saveCategory(input: $input, consistency: WAIT_FOR) {
+                            id
+                        }
+                    }
+                    """;
+
+            doAnswer(returnsFirstArg()).when(saveCategoryUseCase).execute(any(), any());
+
+            // When
+            graphql.document(query)
+                    .variable("input", input)
+                    .execute()
+                    .path("category.id").entity(String.class).isEqualTo(aulas.id());
+
+            // Then
+            verify(saveCategoryUseCase, times(1)).execute(any(), eq(WriteConsistency.WAIT_FOR));
+        }
+    }
+
+    @Nested
+    @DisplayName("Save with a stale category")
+    class SaveWithAStaleCategory {
+
+        @Test
+        void Given_a_newer_indexed_category_When_calls_save_category_mutation_Then_should_return_the_conflict() {
+            // Given
+            final var aulas = Fixture.Categories.aulas();
+            final var input = Map.of(
+                    "id", aulas.id(),
+                    "name", aulas.name(),
+                    "active", true,
+                    "createdAt", aulas.createdAt().toString(),
+                    "updatedAt", aulas.updatedAt().toString()
+            );
+            final var expectedMessage = "Category %s was not saved, version %s is not newer than the indexed one"
+                    .formatted(aulas.id(), aulas.updatedAt());
+
+            final var query = """
+                    mutation SaveCategory($input: CategoryInput!) {
+                        category: saveCategory(input: $input) {
+                            id
+                        }
+                    }
+                    """;
+
+            doThrow(ConflictException.with(new Error(expectedMessage)))
+                    .when(saveCategoryUseCase).execute(any(), any());
+
+            // When
+            graphql.document(query)
+                    .variable("input", input)
+                    .execute()
+                    .errors()
+                    .expect(anError -> ErrorType.BAD_REQUEST.equals(anError.getErrorType())
+                            && expectedMessage.equals(anError.getMessage()))
+                    .verify();
+        }
+    }
+
+    @Nested
+    @DisplayName("Save and delete many")
+    class SaveAndDeleteMany {
+
+        @Test
+        @SuppressWarnings("unchecked")
+        void Given_many_inputs_When_calls_save_categories_mutation_Then_should_save_them_at_once_and_return_every_outcome() {
+            // Given
+            final var aulas = Fixture.Categories.aulas();
+            final var expectedNow = InstantUtils.now().toString();
+            final var anInput = Map.of(
+                    "id", aulas.id(),
+                    "name", aulas.name(),
+                    "active", true,
+                    "createdAt", expectedNow,
+                    "updatedAt", expectedNow
+            );
+            final var anInvalidInput = Map.of(
+                    "id", "123",
+                    "name", " ",
+                    "active", true,
+                    "createdAt", expectedNow,
+                    "updatedAt", expectedNow
+            );
+
+            when(saveCategoriesUseCase.execute(any())).thenReturn(List.of(
+                    new BulkItemOutput(aulas.id(), BulkStatus.SUCCEEDED, List.of()),
+                    new BulkItemOutput("123", BulkStatus.FAILED, List.of("'name' should not be empty"))
+            ));
+
+            final var query = """
+                    mutation SaveCategories($input: [CategoryInput!]!) {
+                        items: saveCategories(input: $input) {
+                            id
+                            status
+                            errors
+                        }
+                    }
+                    """;
+
+            // When
+            graphql.document(query)
+                    .variable("input", List.of(anInput, anInvalidInput))
+                    .execute()
+                    .path("items[0].status").entity(String.class).isEqualTo("SUCCEEDED")
+                    .path("items[1].id").entity(String.class).isEqualTo("123")
+                    .path("items[1].errors[0]").entity(String.class).isEqualTo("'name' should not be empty");
+
+            // Then
+            final ArgumentCaptor<List<SaveCategoryCommand>> captor = ArgumentCaptor.forClass(List.class);
+            verify(saveCategoriesUseCase, times(1)).execute(captor.capture());
+            final var actualCommands = captor.getValue();
+
+            assertEquals(2, actualCommands.size());
+            assertEquals(aulas.id(), actualCommands.get(0).id());
+            assertEquals(expectedNow, actualCommands.get(0).createdAt().toString());
+            assertEquals(" ", actualCommands.get(1).name());
+        }
+
+        @Test
+        void Given_many_ids_When_calls_delete_categories_mutation_Then_should_delete_them_at_once() {
+            // Given
+            final var expectedIds = List.of(Fixture.Categories.aulas().id(), Fixture.Categories.lives().id());
+
+            when(deleteCategoriesUseCase.execute(expectedIds)).thenReturn(List.of(
+                    new BulkItemOutput(expectedIds.get(0), BulkStatus.SUCCEEDED, List.of()),
+                    new BulkItemOutput(expectedIds.get(1), BulkStatus.REJECTED, List.of("es_rejected_execution_exception"))
+            ));
+
+            final var query = """
+                    mutation DeleteCategories($ids: [ID!]!) {
+                        items: deleteCategories(ids: $ids) {
+                            id
+                            status
+                        }
+                    }
+                    """;
+
+            // When
+            graphql.document(query)
+                    .variable("ids", expectedIds)
+                    .execute()
+                    .path("items[0].status").entity(String.class).isEqualTo("SUCCEEDED")
+                    .path("items[1].status").entity(String.class).isEqualTo("REJECTED");
+
+            // Then
+            verify(deleteCategoriesUseCase, times(1)).execute(expectedIds);
+        }
+    }
 }
@@ -0,0 +1,143 @@
+package com.fullcycle.catalogo.infrastructure.kafka;
+
+import com.fullcycle.catalogo.infrastructure.configuration.properties.CategoryBackpressureProperties;
+import com.fullcycle.catalogo.infrastructure.configuration.properties.CategoryBulkProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.*;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("unitTest")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+public class CategoryBackpressureTest {
+
+    private static final long FAST = Duration.ofMillis(20).toNanos();
+    private static final long SLOW = Duration.ofMillis(400).toNanos();
+    private static final long TIMING_OUT = Duration.ofMillis(1500).toNanos();
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Nested
+    @DisplayName("Batch sizing")
+    class BatchSizing {
+
+        @Test
+        void Given_slow_round_trips_When_reported_Then_should_halve_the_batch_down_to_min_actions() {
+            // Given
+            final var backpressure = backpressure(Duration.ofSeconds(1));
+
+            // When
+            backpressure.onBulk(SLOW, 1000, 0);
+            final var afterOne = backpressure.batchLimit();
+            for (int i = 0; i < 10; i++) {
+                backpressure.onBulk(SLOW, 1000, 0);
+            }
+
+            // Then
+            assertEquals(500, afterOne);
+            assertEquals(50, backpressure.batchLimit());
+        }
+
+        @Test
+        void Given_rejections_under_target_latency_When_reported_Then_should_shrink_the_batch() {
+            // Given
+            final var backpressure = backpressure(Duration.ofSeconds(1));
+
+            // When
+            backpressure.onBulk(FAST, 1000, 1);
+
+            // Then
+            assertEquals(500, backpressure.batchLimit());
+        }
+
+        @Test
+        void Given_fast_round_trips_after_a_slowdown_When_reported_Then_should_grow_back_to_max_actions() {
+            // Given
+            final var backpressure = backpressure(Duration.ofSeconds(1));
+            backpressure.onBulk(SLOW, 1000, 0);
+            backpressure.onBulk(SLOW, 500, 0);
+
+            // When
+            backpressure.onBulk(FAST, 250, 0);
+            final var afterOne = backpressure.batchLimit();
+            for (int i = 0; i < 20; i++) {
+                backpressure.onBulk(FAST, 1000, 0);
+            }
+
+            // Then
+            assertEquals(350, afterOne);
+            assertEquals(1000, backpressure.batchLimit());
+            assertEquals(1000.0, meterRegistry.get("catalogo.cdc.categories.bulk.limit").gauge().value());
+        }
+    }
+
+    @Nested
+    @DisplayName("Overload detection")
+    class OverloadDetection {
+
+        @Test
+        void Given_latency_at_the_socket_timeout_When_reported_Then_should_be_overloaded_until_back_under_target() {
+            // Given
+            final var backpressure = backpressure(Duration.ofSeconds(1));
+
+            // When
+            backpressure.onBulk(TIMING_OUT, 50, 0);
+
+            // Then
+            assertTrue(backpressure.isOverloaded());
+            assertEquals(1.0, meterRegistry.get("catalogo.cdc.categories.overloaded").gauge().value());
+
+            backpressure.onBulk(FAST, 50, 0);
+            assertTrue(backpressure.isOverloaded(), "should hold until the smoothed latency is under target");
+
+            for (int i = 0; i < 20; i++) {
+                backpressure.onBulk(FAST, 50, 0);
+            }
+            assertFalse(backpressure.isOverloaded());
+        }
+
+        @Test
+        void Given_a_high_rejection_rate_When_reported_Then_should_be_overloaded() {
+            // Given
+            final var backpressure = backpressure(Duration.ofSeconds(1));
+
+            // When
+            backpressure.onBulk(FAST, 100, 30);
+
+            // Then
+            assertTrue(backpressure.isOverloaded());
+        }
+
+        @Test
+        void Given_no_round_trip_for_a_whole_ceiling_When_overloaded_Then_should_let_traffic_probe_again() throws InterruptedException {
+            // Given
+            final var backpressure = backpressure(Duration.ofMillis(100));
+            backpressure.onBulk(TIMING_OUT, 50, 0);
+            assertTrue(backpressure.isOverloaded());
+
+            // When
+            Thread.sleep(150);
+
+            // Then
+            assertFalse(backpressure.isOverloaded());
+        }
+    }
+
+    private CategoryBackpressure backpressure(final Duration aCeiling) {
+        final var bulkProperties = new CategoryBulkProperties();
+        bulkProperties.setMaxActions(1000);
+        bulkProperties.setMaxBytes(Long.MAX_VALUE);
+        bulkProperties.setLinger(Duration.ofMillis(50));
+
+        final var backpressureProperties = new CategoryBackpressureProperties();
+        backpressureProperties.setTargetLatency(aCeiling.dividedBy(4));
+        backpressureProperties.setLatencyCeiling(aCeiling);
+        backpressureProperties.setMinActions(50);
+        backpressureProperties.setMaxRejectionRate(0.1);
+        backpressureProperties.setProbeInterval(Duration.ofMillis(250));
+
+        return new CategoryBackpressure(bulkProperties, backpressureProperties, meterRegistry);
+    }
+}
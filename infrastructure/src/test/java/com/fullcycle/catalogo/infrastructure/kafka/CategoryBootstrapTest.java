@@ -0,0 +1,417 @@
+package com.fullcycle.catalogo.infrastructure.kafka;
+
+import com.fullcycle.catalogo.domain.bulk.BulkItem;
+import com.fullcycle.catalogo.domain.bulk.BulkResult;
+import com.fullcycle.catalogo.domain.category.ActivationStatus;
+import com.fullcycle.catalogo.domain.category.Category;
+import com.fullcycle.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.catalogo.domain.utils.IdUtils;
+import com.fullcycle.catalogo.domain.utils.InstantUtils;
+import com.fullcycle.catalogo.infrastructure.configuration.properties.CategoryBootstrapProperties;
+import com.fullcycle.catalogo.infrastructure.configuration.properties.CategoryBulkProperties;
+import com.fullcycle.catalogo.infrastructure.configuration.properties.CategoryRetryProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.AlterConsumerGroupOffsetsResult;
+import org.apache.kafka.clients.admin.ListConsumerGroupOffsetsResult;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.UnknownMemberIdException;
+import org.apache.kafka.common.internals.KafkaFutureImpl;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.listener.MessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@Tag("unitTest")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+public class CategoryBootstrapTest {
+
+    private static final String TOPIC = "adm_videos_mysql.adm_videos.categories";
+    private static final String GROUP_ID = "catalogo-service";
+    private static final String LISTENER_ID = "kafka-listener-categories";
+    private static final TopicPartition FIRST = new TopicPartition(TOPIC, 0);
+    private static final TopicPartition SECOND = new TopicPartition(TOPIC, 1);
+
+    @Mock
+    private ConsumerFactory<Object, Object> consumerFactory;
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @Mock
+    private CategoryDeadLetterPublisher deadLetterPublisher;
+
+    @Mock
+    private KafkaListenerEndpointRegistry listenerRegistry;
+
+    @Mock
+    private MessageListenerContainer listenerContainer;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private final List<ConsumerRecord<Object, Object>> records = new ArrayList<>();
+    @Mock
+    private Admin admin;
+
+    private final MockConsumer<Object, Object> discovery = aConsumer();
+
+    @Nested
+    @DisplayName("Fresh consumer group")
+    class FreshConsumerGroup {
+
+        @Test
+        void Given_a_snapshot_on_every_partition_When_starts_Then_should_index_the_rows_and_hand_over_after_them() {
+            // Given
+            when(categoryGateway.saveAll(anyList())).thenAnswer(invocation -> BulkResult.of(
+                    invocation.<List<Category>>getArgument(0).stream().map(aCategory -> BulkItem.succeeded(aCategory.id())).toList()));
+            stubConsumers();
+            stubFreshGroup();
+
+            final var snapshot = List.of(aCategory("Aulas"), aCategory("Lives"), aCategory("Talks"), aCategory("Shorts"), aCategory("Cursos"));
+            final var anEdit = aCategory("Aulas ao vivo");
+            aRecord(FIRST, 0, DebeziumMessages.upsert("r", snapshot.get(0)));
+            aRecord(FIRST, 1, DebeziumMessages.upsert("r", snapshot.get(1)));
+            aRecord(FIRST, 2, DebeziumMessages.upsert("r", snapshot.get(2)));
+            aRecord(FIRST, 3, DebeziumMessages.upsert("u", anEdit));
+            aRecord(SECOND, 0, DebeziumMessages.upsert("r", snapshot.get(3)));
+            aRecord(SECOND, 1, DebeziumMessages.upsert("r", snapshot.get(4)));
+
+            // When
+            bootstrap(true).start();
+
+            // Then
+            verify(admin, timeout(5_000)).alterConsumerGroupOffsets(GROUP_ID, Map.of(FIRST, new OffsetAndMetadata(3), SECOND, new OffsetAndMetadata(2)));
+
+            @SuppressWarnings("unchecked") final ArgumentCaptor<List<Category>> captor = ArgumentCaptor.forClass(List.class);
+            verify(categoryGateway, atLeastOnce()).saveAll(captor.capture());
+            final var actualIds = captor.getAllValues().stream().flatMap(Collection::stream).map(Category::id).toList();
+            assertEquals(snapshot.size(), actualIds.size());
+            assertTrue(actualIds.containsAll(snapshot.stream().map(Category::id).toList()));
+            assertFalse(actualIds.contains(anEdit.id()));
+        }
+
+        @Test
+        void Given_empty_partitions_When_starts_Then_should_hand_over_at_the_beginning() {
+            // Given
+            stubConsumers();
+            stubFreshGroup();
+
+            // When
+            bootstrap(true).start();
+
+            // Then
+            verify(admin, timeout(5_000)).alterConsumerGroupOffsets(GROUP_ID, Map.of(FIRST, new OffsetAndMetadata(0), SECOND, new OffsetAndMetadata(0)));
+            verify(categoryGateway, never()).saveAll(anyList());
+        }
+
+        @Test
+        void Given_an_undecodable_row_When_starts_Then_should_dead_letter_it_before_handing_over_after_it() {
+            // Given
+            when(categoryGateway.saveAll(anyList())).thenAnswer(invocation -> BulkResult.of(
+                    invocation.<List<Category>>getArgument(0).stream().map(aCategory -> BulkItem.succeeded(aCategory.id())).toList()));
+            doReturn(CompletableFuture.completedFuture(null))
+                    .when(deadLetterPublisher).publishUndecodable(any(), any());
+            stubConsumers();
+            stubFreshGroup();
+
+            final var aulas = aCategory("Aulas");
+            aRecord(FIRST, 0, "not a debezium envelope");
+            aRecord(FIRST, 1, DebeziumMessages.upsert("r", aulas));
+
+            // When
+            bootstrap(true).start();
+
+            // Then
+            verify(admin, timeout(5_000)).alterConsumerGroupOffsets(GROUP_ID, Map.of(FIRST, new OffsetAndMetadata(2), SECOND, new OffsetAndMetadata(0)));
+            verify(deadLetterPublisher).publishUndecodable(argThat(aRecord -> aRecord.offset() == 0), any());
+            verify(categoryGateway).saveAll(List.of(aulas));
+        }
+    }
+
+    @Nested
+    @DisplayName("Concurrent bootstraps")
+    class ConcurrentBootstraps {
+
+        @Test
+        void Given_a_group_seeded_by_another_instance_meanwhile_When_hands_over_Then_should_keep_its_offsets() {
+            // Given
+            stubListener();
+            stubConsumers();
+            stubAdmin(Map.of(FIRST, new OffsetAndMetadata(7), SECOND, new OffsetAndMetadata(4)));
+
+            // When
+            bootstrap(true).start();
+
+            // Then
+            verify(listenerContainer, timeout(5_000)).start();
+            verify(admin, never()).alterConsumerGroupOffsets(anyString(), anyMap());
+        }
+
+        @Test
+        void Given_a_group_with_members_When_hands_over_Then_should_leave_their_offsets_and_start_the_listener() {
+            // Given
+            stubListener();
+            stubConsumers();
+            stubAdmin(Map.of());
+            final var aRejection = new KafkaFutureImpl<Void>();
+            aRejection.completeExceptionally(new UnknownMemberIdException("The group is not empty"));
+            stubSeeding(aRejection);
+
+            // When
+            bootstrap(true).start();
+
+            // Then
+            verify(listenerContainer, timeout(5_000)).start();
+            verify(eventPublisher, timeout(5_000)).publishEvent(readiness(ReadinessState.ACCEPTING_TRAFFIC));
+        }
+    }
+
+    @Nested
+    @DisplayName("Startup")
+    class Startup {
+
+        @Test
+        void Given_a_fresh_group_When_starts_Then_should_refuse_traffic_and_hold_the_listener_back_until_handed_over() {
+            // Given
+            final var aHandoverStarted = new CountDownLatch(1);
+            final var aRelease = new CountDownLatch(1);
+            stubListener();
+            stubConsumers();
+            stubFreshGroup();
+            final var aBootstrap = bootstrap(true, () -> {
+                aHandoverStarted.countDown();
+                try {
+                    aRelease.await();
+                } catch (final InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+                return admin;
+            });
+
+            // When
+            aBootstrap.start();
+
+            // Then
+            verify(listenerContainer).setAutoStartup(false);
+            verify(eventPublisher).publishEvent(readiness(ReadinessState.REFUSING_TRAFFIC));
+
+            // Startup itself reports the application ready meanwhile
+            assertTrue(aHandoverStarted.await(5, TimeUnit.SECONDS));
+            aBootstrap.onApplicationEvent(new AvailabilityChangeEvent<>(this, ReadinessState.ACCEPTING_TRAFFIC));
+            verify(eventPublisher, times(2)).publishEvent(readiness(ReadinessState.REFUSING_TRAFFIC));
+            verify(listenerContainer, never()).start();
+
+            aRelease.countDown();
+            verify(eventPublisher, timeout(5_000)).publishEvent(readiness(ReadinessState.ACCEPTING_TRAFFIC));
+            final var inOrder = inOrder(admin, listenerContainer, eventPublisher);
+            inOrder.verify(admin).alterConsumerGroupOffsets(eq(GROUP_ID), anyMap());
+            inOrder.verify(listenerContainer).start();
+            inOrder.verify(eventPublisher).publishEvent(readiness(ReadinessState.ACCEPTING_TRAFFIC));
+        }
+
+        @Test
+        void Given_an_unreachable_broker_When_starts_Then_should_leave_it_to_the_listener_instead_of_failing() {
+            // Given
+            stubListener();
+            when(consumerFactory.createConsumer(anyString(), anyString(), anyString(), any(Properties.class)))
+                    .thenThrow(new IllegalStateException("Broker unavailable"));
+
+            // When
+            bootstrap(true).start();
+
+            // Then
+            verify(listenerContainer, timeout(5_000)).start();
+            verify(eventPublisher, timeout(5_000)).publishEvent(readiness(ReadinessState.ACCEPTING_TRAFFIC));
+            verifyNoInteractions(categoryGateway);
+        }
+    }
+
+    @Nested
+    @DisplayName("Skipped bootstrap")
+    class SkippedBootstrap {
+
+        @Test
+        void Given_a_group_with_committed_offsets_When_starts_Then_should_leave_it_to_the_listener() {
+            // Given
+            discovery.commitSync(Map.of(FIRST, new OffsetAndMetadata(42)));
+            when(consumerFactory.createConsumer(eq(GROUP_ID), anyString(), eq("-discovery"), any(Properties.class)))
+                    .thenReturn(discovery);
+            stubListener();
+
+            // When
+            bootstrap(true).start();
+
+            // Then
+            verify(listenerContainer, timeout(5_000)).start();
+            verify(consumerFactory, times(1)).createConsumer(anyString(), anyString(), anyString(), any(Properties.class));
+            verifyNoInteractions(categoryGateway);
+        }
+
+        @Test
+        void Given_bootstrap_disabled_When_starts_Then_should_not_read_the_topic() {
+            // When
+            bootstrap(false).start();
+
+            // Then
+            verifyNoInteractions(consumerFactory, categoryGateway, listenerRegistry, eventPublisher);
+        }
+    }
+
+    private CategoryBootstrap bootstrap(final boolean isEnabled) {
+        return bootstrap(isEnabled, () -> admin);
+    }
+
+    private CategoryBootstrap bootstrap(final boolean isEnabled, final Supplier<Admin> adminFactory) {
+        final var bootstrapProperties = new CategoryBootstrapProperties();
+        bootstrapProperties.setEnabled(isEnabled);
+        bootstrapProperties.setConcurrency(2);
+        bootstrapProperties.setPollTimeout(Duration.ofMillis(10));
+        bootstrapProperties.setDrainTimeout(Duration.ofSeconds(5));
+
+        final var bulkProperties = new CategoryBulkProperties();
+        bulkProperties.setMaxActions(1000);
+        bulkProperties.setMaxBytes(Long.MAX_VALUE);
+        bulkProperties.setLinger(Duration.ofMillis(50));
+
+        final var retryProperties = new CategoryRetryProperties();
+        retryProperties.setMaxAttempts(3);
+        retryProperties.setInitialInterval(Duration.ofMillis(1));
+        retryProperties.setMaxInterval(Duration.ofMillis(10));
+
+        return new CategoryBootstrap(
+                consumerFactory,
+                adminFactory,
+                () -> new CategoryBulkWriter(
+                        categoryGateway,
+                        bulkProperties,
+                        retryProperties,
+                        deadLetterPublisher,
+                        new CategoryBackpressure(bulkProperties, CategoryBulkWriterTest.relaxedBackpressure(), new SimpleMeterRegistry())
+                ),
+                deadLetterPublisher,
+                listenerRegistry,
+                eventPublisher,
+                bootstrapProperties,
+                GROUP_ID,
+                List.of(TOPIC),
+                LISTENER_ID
+        );
+    }
+
+    private void stubListener() {
+        when(listenerRegistry.getListenerContainer(LISTENER_ID)).thenReturn(listenerContainer);
+        when(listenerContainer.isAutoStartup()).thenReturn(true);
+    }
+
+    /**
+     * The group still has no offsets when the bootstrap hands over, and takes
+     * the ones seeded.
+     */
+    private void stubFreshGroup() {
+        stubAdmin(Map.of());
+        stubSeeding(KafkaFuture.completedFuture(null));
+    }
+
+    /**
+     * The group has {@code committed} offsets when the bootstrap hands over.
+     */
+    private void stubAdmin(final Map<TopicPartition, OffsetAndMetadata> committed) {
+        final var aListed = mock(ListConsumerGroupOffsetsResult.class);
+        when(aListed.partitionsToOffsetAndMetadata()).thenReturn(KafkaFuture.completedFuture(committed));
+        when(admin.listConsumerGroupOffsets(GROUP_ID)).thenReturn(aListed);
+    }
+
+    private void stubSeeding(final KafkaFuture<Void> aResult) {
+        final var anAltered = mock(AlterConsumerGroupOffsetsResult.class);
+        when(anAltered.all()).thenReturn(aResult);
+        when(admin.alterConsumerGroupOffsets(eq(GROUP_ID), anyMap())).thenReturn(anAltered);
+    }
+
+    private static ApplicationEvent readiness(final ReadinessState aState) {
+        return argThat(anEvent -> anEvent instanceof AvailabilityChangeEvent<?> aChange && aChange.getState() == aState);
+    }
+
+    /**
+     * Every loader gets its own consumer, which only serves the records of the
+     * partitions it was assigned.
+     */
+    private void stubConsumers() {
+        when(consumerFactory.createConsumer(eq(GROUP_ID), anyString(), anyString(), any(Properties.class)))
+                .thenAnswer(invocation -> switch (invocation.<String>getArgument(2)) {
+                    case "-discovery" -> discovery;
+                    default -> {
+                        final var aLoader = aConsumer();
+                        aLoader.schedulePollTask(() -> records.stream()
+                                .filter(aRecord -> aLoader.assignment().contains(new TopicPartition(aRecord.topic(), aRecord.partition())))
+                                .forEach(aLoader::addRecord));
+                        yield aLoader;
+                    }
+                });
+    }
+
+    private MockConsumer<Object, Object> aConsumer() {
+        final var aConsumer = new MockConsumer<Object, Object>(OffsetResetStrategy.EARLIEST);
+        aConsumer.updatePartitions(TOPIC, List.of(
+                new PartitionInfo(TOPIC, 0, null, null, null),
+                new PartitionInfo(TOPIC, 1, null, null, null)));
+        aConsumer.updateBeginningOffsets(Map.of(FIRST, 0L, SECOND, 0L));
+        aConsumer.updateEndOffsets(Map.of(
+                FIRST, endOffset(FIRST),
+                SECOND, endOffset(SECOND)));
+        return aConsumer;
+    }
+
+    private long endOffset(final TopicPartition aPartition) {
+        return this.records.stream()
+                .filter(aRecord -> aRecord.partition() == aPartition.partition())
+                .count();
+    }
+
+    private void aRecord(final TopicPartition aPartition, final long anOffset, final String aMessage) {
+        this.records.add(new ConsumerRecord<>(TOPIC, aPartition.partition(), anOffset, null,
+                aMessage.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static Category aCategory(final String aName) {
+        return Category.with(
+                IdUtils.uuid(),
+                aName,
+                "Conteúdo",
+                ActivationStatus.ACTIVE,
+                InstantUtils.now(),
+                InstantUtils.now()
+        );
+    }
+}
@@ -0,0 +1,592 @@
+package com.fullcycle.catalogo.infrastructure.kafka;
+
+import com.fullcycle.catalogo.domain.bulk.BulkItem;
+import com.fullcycle.catalogo.domain.bulk.BulkResult;
+import com.fullcycle.catalogo.domain.category.ActivationStatus;
+import com.fullcycle.catalogo.domain.category.Category;
+import com.fullcycle.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.catalogo.domain.utils.IdUtils;
+import com.fullcycle.catalogo.domain.utils.InstantUtils;
+import com.fullcycle.catalogo.domain.validation.Error;
+import com.fullcycle.catalogo.infrastructure.configuration.properties.CategoryBackpressureProperties;
+import com.fullcycle.catalogo.infrastructure.configuration.properties.CategoryBulkProperties;
+import com.fullcycle.catalogo.infrastructure.configuration.properties.CategoryRetryProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.support.Acknowledgment;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@Tag("unitTest")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+public class CategoryBulkWriterTest {
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @Mock
+    private CategoryDeadLetterPublisher deadLetterPublisher;
+
+    @Mock
+    private Acknowledgment ack;
+
+    @Nested
+    @DisplayName("Flush on thresholds")
+    class FlushOnThresholds {
+
+        @Test
+        void Given_more_changes_than_max_actions_When_adds_them_Then_should_flush_full_batches() {
+            // Given
+            when(categoryGateway.saveAll(anyList())).thenAnswer(succeeded());
+
+            try (final var aWriter = writer(properties(10, Long.MAX_VALUE, Duration.ofHours(1)))) {
+                // When
+                IntStream.range(0, 25).forEach(i -> aWriter.add(CategoryChange.upsert(aCategory(), ack)));
+
+                // Then
+                verify(categoryGateway, times(2)).saveAll(argThat(categories -> categories.size() == 10));
+                verify(ack, times(20)).acknowledge();
+
+                aWriter.flush();
+                verify(categoryGateway, times(1)).saveAll(argThat(categories -> categories.size() == 5));
+                verify(ack, times(25)).acknowledge();
+            }
+        }
+
+        @Test
+        void Given_changes_over_max_bytes_When_adds_them_Then_should_flush_before_max_actions() {
+            // Given
+            when(categoryGateway.saveAll(anyList())).thenAnswer(succeeded());
+            final var aChange = CategoryChange.upsert(aCategory(), ack);
+
+            try (final var aWriter = writer(properties(1000, aChange.size() * 4L, Duration.ofHours(1)))) {
+                // When
+                IntStream.range(0, 4).forEach(i -> aWriter.add(CategoryChange.upsert(aCategory(), ack)));
+
+                // Then
+                verify(categoryGateway, times(1)).saveAll(argThat(categories -> categories.size() == 4));
+            }
+        }
+
+        @Test
+        void Given_pending_changes_When_linger_elapses_Then_should_flush_them() throws InterruptedException {
+            // Given
+            when(categoryGateway.saveAll(anyList())).thenAnswer(succeeded());
+
+            try (final var aWriter = writer(properties(1000, Long.MAX_VALUE, Duration.ofMillis(20)))) {
+                IntStream.range(0, 3).forEach(i -> aWriter.add(CategoryChange.upsert(aCategory(), ack)));
+
+                aWriter.flushIfLingering();
+                verify(categoryGateway, never()).saveAll(anyList());
+                assertEquals(3, aWriter.pendingCount());
+
+                // When
+                Thread.sleep(30);
+                aWriter.flushIfLingering();
+
+                // Then
+                verify(categoryGateway, times(1)).saveAll(argThat(categories -> categories.size() == 3));
+                verify(ack, times(3)).acknowledge();
+                assertEquals(0, aWriter.pendingCount());
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Coalescing")
+    class Coalescing {
+
+        @Test
+        void Given_a_burst_of_edits_to_the_same_id_When_flushes_Then_should_write_only_the_last_one() {
+            // Given
+            when(categoryGateway.saveAll(anyList())).thenAnswer(succeeded());
+
+            final var anId = IdUtils.uuid();
+            final var aFirstEdit = aCategory(anId, "Aulas");
+            final var aLastEdit = aCategory(anId, "Aulas gravadas");
+            final var anotherCategory = aCategory();
+
+            try (final var aWriter = writer(properties(1000, Long.MAX_VALUE, Duration.ofHours(1)))) {
+                // When
+                aWriter.add(CategoryChange.upsert(aFirstEdit, ack));
+                aWriter.add(CategoryChange.upsert(anotherCategory, ack));
+                aWriter.add(CategoryChange.upsert(aCategory(anId, "Aulas ao vivo"), ack));
+                aWriter.add(CategoryChange.upsert(aLastEdit, ack));
+                aWriter.flush();
+
+                // Then
+                verify(categoryGateway, times(1)).saveAll(List.of(aLastEdit, anotherCategory));
+                verify(ack, times(4)).acknowledge();
+                assertEquals(4, aWriter.receivedCount());
+                assertEquals(2, aWriter.coalescedCount());
+            }
+        }
+
+        @Test
+        void Given_a_long_burst_of_edits_to_a_hot_id_When_flushes_Then_should_acknowledge_every_one_of_them() {
+            // Given
+            when(categoryGateway.saveAll(anyList())).thenAnswer(succeeded());
+
+            final var anId = IdUtils.uuid();
+            final var edits = 200_000;
+            final var acked = new AtomicInteger();
+
+            try (final var aWriter = writer(properties(1000, Long.MAX_VALUE, Duration.ofHours(1)))) {
+                // When
+                IntStream.range(0, edits)
+                        .forEach(i -> aWriter.add(CategoryChange.upsert(aCategory(anId, "Aulas " + i), acked::incrementAndGet)));
+                aWriter.flush();
+
+                // Then
+                verify(categoryGateway, times(1)).saveAll(argThat(aBatch -> aBatch.size() == 1
+                        && aBatch.get(0).name().equals("Aulas " + (edits - 1))));
+                assertEquals(edits, acked.get());
+                assertEquals(edits - 1, aWriter.coalescedCount());
+            }
+        }
+
+        @Test
+        void Given_a_delete_after_pending_upserts_When_flushes_Then_the_delete_should_supersede_them() {
+            // Given
+            when(categoryGateway.deleteAllById(anyList())).thenAnswer(invocation -> BulkResult.of(
+                    invocation.<List<String>>getArgument(0).stream().map(BulkItem::succeeded).toList()));
+
+            final var aCategory = aCategory();
+            final var upsertAck = mock(Acknowledgment.class);
+            final var deleteAck = mock(Acknowledgment.class);
+
+            try (final var aWriter = writer(properties(1000, Long.MAX_VALUE, Duration.ofHours(1)))) {
+                // When
+                aWriter.add(CategoryChange.upsert(aCategory, upsertAck));
+                aWriter.add(CategoryChange.delete(aCategory.id(), deleteAck));
+                aWriter.flush();
+
+                // Then
+                verify(categoryGateway, never()).saveAll(anyList());
+                verify(categoryGateway, times(1)).deleteAllById(List.of(aCategory.id()));
+                final var inOrder = inOrder(upsertAck, deleteAck);
+                inOrder.verify(upsertAck).acknowledge();
+                inOrder.verify(deleteAck).acknowledge();
+            }
+        }
+
+        @Test
+        void Given_upserts_and_deletes_of_distinct_ids_When_flushes_Then_should_need_one_round_trip_per_action() {
+            // Given
+            when(categoryGateway.saveAll(anyList())).thenAnswer(succeeded());
+            when(categoryGateway.deleteAllById(anyList())).thenAnswer(invocation -> BulkResult.of(
+                    invocation.<List<String>>getArgument(0).stream().map(BulkItem::succeeded).toList()));
+
+            try (final var aWriter = writer(properties(1000, Long.MAX_VALUE, Duration.ofHours(1)))) {
+                // When
+                IntStream.range(0, 10).forEach(i -> aWriter.add(i % 2 == 0
+                        ? CategoryChange.upsert(aCategory(), ack)
+                        : CategoryChange.delete(IdUtils.uuid(), ack)));
+                aWriter.flush();
+
+                // Then
+                verify(categoryGateway, times(1)).saveAll(argThat(categories -> categories.size() == 5));
+                verify(categoryGateway, times(1)).deleteAllById(argThat(ids -> ids.size() == 5));
+                verify(ack, times(10)).acknowledge();
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Failures")
+    class Failures {
+
+        @Test
+        void Given_a_rejected_item_When_flushes_Then_should_send_only_that_item_to_the_retry_topic_and_acknowledge_it() {
+            // Given
+            final var aRejected = aCategory();
+            final var anAccepted = aCategory();
+            final var rejectedAck = mock(Acknowledgment.class);
+
+            when(categoryGateway.saveAll(anyList())).thenReturn(BulkResult.of(List.of(
+                    BulkItem.rejected(aRejected.id(), new Error("es_rejected_execution_exception")),
+                    BulkItem.succeeded(anAccepted.id()))));
+            doReturn(CompletableFuture.completedFuture(null))
+                    .when(deadLetterPublisher).publishRetry(any(), anyInt(), anyString(), any());
+
+            try (final var aWriter = writer(properties(1000, Long.MAX_VALUE, Duration.ofHours(1)), retry(5, Duration.ofHours(1)))) {
+                aWriter.add(CategoryChange.upsert(aRejected, rejectedAck));
+                aWriter.add(CategoryChange.upsert(anAccepted, ack));
+                final var before = InstantUtils.now();
+
+                // When
+                aWriter.flush();
+
+                // Then
+                verify(deadLetterPublisher, times(1)).publishRetry(
+                        argThat(aChange -> aChange.id().equals(aRejected.id())),
+                        eq(1),
+                        eq("es_rejected_execution_exception"),
+                        argThat(aRetryAt -> aRetryAt.isAfter(before.plus(Duration.ofMinutes(29)))));
+                verify(rejectedAck, times(1)).acknowledge();
+                verify(ack, times(1)).acknowledge();
+                assertEquals(1, aWriter.retriedCount());
+                assertEquals(0, aWriter.pendingCount());
+            }
+        }
+
+        @Test
+        void Given_an_unavailable_cluster_When_flushes_Then_should_send_the_whole_batch_to_the_retry_topic() {
+            // Given
+            when(categoryGateway.saveAll(anyList())).thenThrow(new IllegalStateException("Connection refused"));
+            doReturn(CompletableFuture.completedFuture(null))
+                    .when(deadLetterPublisher).publishRetry(any(), anyInt(), anyString(), any());
+
+            try (final var aWriter = writer(properties(1000, Long.MAX_VALUE, Duration.ofMillis(0)), retry(5, Duration.ofHours(1)))) {
+                aWriter.add(CategoryChange.upsert(aCategory(), ack));
+                aWriter.add(CategoryChange.upsert(aCategory(), ack));
+
+                // When
+                aWriter.flush();
+                aWriter.flushIfLingering();
+                aWriter.flush();
+
+                // Then
+                verify(categoryGateway, times(1)).saveAll(anyList());
+                verify(deadLetterPublisher, times(2)).publishRetry(any(), eq(1), eq("Connection refused"), any());
+                verify(ack, times(2)).acknowledge();
+                assertEquals(0, aWriter.pendingCount());
+            }
+        }
+
+        @Test
+        void Given_the_retry_topic_has_not_got_the_item_yet_When_flushes_Then_should_not_acknowledge_it() {
+            // Given
+            final var aRejected = aCategory();
+            final var aPublished = new CompletableFuture<>();
+
+            when(categoryGateway.saveAll(anyList())).thenReturn(BulkResult.of(List.of(
+                    BulkItem.rejected(aRejected.id(), new Error("es_rejected_execution_exception")))));
+            doReturn(aPublished).when(deadLetterPublisher).publishRetry(any(), anyInt(), anyString(), any());
+
+            try (final var aWriter = writer(properties(1000, Long.MAX_VALUE, Duration.ofHours(1)))) {
+                aWriter.add(CategoryChange.upsert(aRejected, ack));
+
+                // When
+                aWriter.flush();
+
+                // Then
+                verify(ack, never()).acknowledge();
+
+                aPublished.complete(null);
+                verify(ack, times(1)).acknowledge();
+            }
+        }
+
+        @Test
+        void Given_a_retry_When_a_newer_change_was_read_meanwhile_Then_should_write_the_newer_one_only() {
+            // Given
+            final var anId = IdUtils.uuid();
+            final var anOlder = aCategory(anId, "Aulas");
+            final var aNewer = aCategory(anId, "Aulas gravadas");
+            final var retryAck = mock(Acknowledgment.class);
+
+            when(categoryGateway.saveAll(anyList()))
+                    .thenReturn(BulkResult.of(List.of(BulkItem.rejected(anId, new Error("es_rejected_execution_exception")))))
+                    .thenAnswer(succeeded());
+            doReturn(CompletableFuture.completedFuture(null))
+                    .when(deadLetterPublisher).publishRetry(any(), anyInt(), anyString(), any());
+
+            try (final var aWriter = writer(properties(1000, Long.MAX_VALUE, Duration.ofHours(1)), retry(5, Duration.ofHours(1)))) {
+                aWriter.add(CategoryChange.upsert(anOlder, mock(Acknowledgment.class)));
+                aWriter.flush();
+                aWriter.add(CategoryChange.upsert(aNewer, ack));
+
+                // When
+                aWriter.add(CategoryChange.upsert(anOlder, retryAck).withAttempts(1));
+                aWriter.flush();
+
+                // Then
+                verify(categoryGateway, times(1)).saveAll(List.of(aNewer));
+                verify(retryAck, times(1)).acknowledge();
+                verify(ack, times(1)).acknowledge();
+                assertEquals(1, aWriter.coalescedCount());
+            }
+        }
+
+        @Test
+        void Given_a_retry_of_a_revoked_partition_When_it_comes_back_after_forgetting_retries_Then_should_write_it() {
+            // Given
+            final var anId = IdUtils.uuid();
+            final var anOlder = aCategory(anId, "Aulas");
+            final var aNewer = aCategory(anId, "Aulas gravadas");
+            final var retryAck = mock(Acknowledgment.class);
+
+            when(categoryGateway.saveAll(anyList()))
+                    .thenReturn(BulkResult.of(List.of(BulkItem.rejected(anId, new Error("es_rejected_execution_exception")))))
+                    .thenAnswer(succeeded());
+            doReturn(CompletableFuture.completedFuture(null))
+                    .when(deadLetterPublisher).publishRetry(any(), anyInt(), anyString(), any());
+
+            try (final var aWriter = writer(properties(1000, Long.MAX_VALUE, Duration.ofHours(1)), retry(5, Duration.ofHours(1)))) {
+                aWriter.add(CategoryChange.upsert(anOlder, mock(Acknowledgment.class)));
+                aWriter.flush();
+                aWriter.add(CategoryChange.upsert(aNewer, ack));
+                aWriter.flush();
+
+                // When
+                aWriter.forgetRetries();
+                aWriter.add(CategoryChange.upsert(anOlder, retryAck).withAttempts(1));
+                aWriter.flush();
+
+                // Then
+                verify(categoryGateway, times(2)).saveAll(List.of(anOlder));
+                verify(retryAck, times(1)).acknowledge();
+                assertEquals(0, aWriter.coalescedCount());
+            }
+        }
+
+        @Test
+        void Given_a_retry_When_a_newer_change_is_pending_Then_should_write_the_newer_one_and_acknowledge_both() {
+            // Given
+            final var anId = IdUtils.uuid();
+            final var anOlder = aCategory(anId, "Aulas");
+            final var aNewer = aCategory(anId, "Aulas gravadas");
+            final var retryAck = mock(Acknowledgment.class);
+
+            when(categoryGateway.saveAll(anyList())).thenAnswer(succeeded());
+
+            try (final var aWriter = writer(properties(1000, Long.MAX_VALUE, Duration.ofHours(1)))) {
+                aWriter.add(CategoryChange.upsert(aNewer, ack));
+
+                // When
+                aWriter.add(CategoryChange.upsert(anOlder, retryAck).withAttempts(1));
+                aWriter.flush();
+
+                // Then
+                verify(categoryGateway, times(1)).saveAll(List.of(aNewer));
+                final var inOrder = inOrder(retryAck, ack);
+                inOrder.verify(retryAck).acknowledge();
+                inOrder.verify(ack).acknowledge();
+                assertEquals(0, aWriter.pendingCount());
+            }
+        }
+
+        @Test
+        void Given_a_retry_rejected_once_more_at_max_attempts_When_flushes_Then_should_dead_letter_and_acknowledge_it() {
+            // Given
+            final var aRejected = aCategory();
+            final var expectedReason = "es_rejected_execution_exception";
+
+            when(categoryGateway.saveAll(anyList())).thenReturn(BulkResult.of(List.of(
+                    BulkItem.rejected(aRejected.id(), new Error(expectedReason)))));
+            doReturn(CompletableFuture.completedFuture(null))
+                    .when(deadLetterPublisher).publish(any(), anyInt(), anyString());
+
+            try (final var aWriter = writer(properties(1000, Long.MAX_VALUE, Duration.ofHours(1)), retry(3, Duration.ofMillis(1)))) {
+                aWriter.add(CategoryChange.upsert(aRejected, ack).withAttempts(2));
+
+                // When
+                aWriter.flush();
+
+                // Then
+                verify(deadLetterPublisher, times(1))
+                        .publish(argThat(aChange -> aChange.id().equals(aRejected.id())), eq(3), eq(expectedReason));
+                verify(deadLetterPublisher, never()).publishRetry(any(), anyInt(), anyString(), any());
+                verify(ack, times(1)).acknowledge();
+                assertEquals(1, aWriter.deadLetteredCount());
+            }
+        }
+
+        @Test
+        void Given_a_permanently_failed_item_When_flushes_Then_should_dead_letter_it_without_retrying() {
+            // Given
+            final var aBroken = aCategory();
+            final var anAccepted = aCategory();
+            final var brokenAck = mock(Acknowledgment.class);
+
+            when(categoryGateway.saveAll(anyList())).thenReturn(BulkResult.of(List.of(
+                    BulkItem.failed(aBroken.id(), new Error("mapper_parsing_exception")),
+                    BulkItem.succeeded(anAccepted.id()))));
+            doReturn(CompletableFuture.completedFuture(null))
+                    .when(deadLetterPublisher).publish(any(), anyInt(), anyString());
+
+            try (final var aWriter = writer(properties(1000, Long.MAX_VALUE, Duration.ofHours(1)))) {
+                aWriter.add(CategoryChange.upsert(aBroken, brokenAck));
+                aWriter.add(CategoryChange.upsert(anAccepted, ack));
+
+                // When
+                aWriter.flush();
+
+                // Then
+                verify(deadLetterPublisher, times(1))
+                        .publish(argThat(aChange -> aChange.id().equals(aBroken.id())), eq(1), eq("mapper_parsing_exception"));
+                verify(brokenAck, times(1)).acknowledge();
+                verify(ack, times(1)).acknowledge();
+                assertEquals(0, aWriter.retriedCount());
+                assertEquals(0, aWriter.pendingCount());
+            }
+        }
+
+        @Test
+        void Given_a_stale_item_When_flushes_Then_should_acknowledge_and_count_it_as_skipped() {
+            // Given
+            final var aStale = aCategory();
+            final var anAccepted = aCategory();
+
+            when(categoryGateway.saveAll(anyList()))
+                    .thenReturn(BulkResult.of(List.of(
+                            BulkItem.skipped(aStale.id(), new Error("version_conflict_engine_exception")),
+                            BulkItem.succeeded(anAccepted.id()))));
+
+            try (final var aWriter = writer(properties(1000, Long.MAX_VALUE, Duration.ofHours(1)))) {
+                aWriter.add(CategoryChange.upsert(aStale, ack));
+                aWriter.add(CategoryChange.upsert(anAccepted, ack));
+
+                // When
+                aWriter.flush();
+
+                // Then
+                verify(ack, times(2)).acknowledge();
+                assertEquals(1, aWriter.skippedCount());
+                assertEquals(0, aWriter.pendingCount());
+
+                aWriter.flush();
+                verify(categoryGateway, times(1)).saveAll(anyList());
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Locking")
+    class Locking {
+
+        @Test
+        void Given_a_flush_in_progress_When_writes_to_elasticsearch_Then_should_not_hold_the_writer_monitor() {
+            // Given
+            final var holdsMonitor = new AtomicBoolean(true);
+
+            try (final var aWriter = writer(properties(1000, Long.MAX_VALUE, Duration.ofHours(1)))) {
+                when(categoryGateway.saveAll(anyList())).thenAnswer(invocation -> {
+                    holdsMonitor.set(Thread.holdsLock(aWriter));
+                    return succeeded().answer(invocation);
+                });
+                aWriter.add(CategoryChange.upsert(aCategory(), ack));
+
+                // When
+                aWriter.flush();
+
+                // Then
+                assertFalse(holdsMonitor.get());
+                verify(ack, times(1)).acknowledge();
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Catch-up throughput")
+    class CatchUpThroughput {
+
+        @Test
+        void Given_a_catch_up_backlog_When_writes_in_bulk_Then_should_need_ten_times_fewer_round_trips() {
+            // Given
+            final var backlog = 5_000;
+            final var roundTrips = new AtomicInteger();
+            when(categoryGateway.saveAll(anyList())).thenAnswer(invocation -> {
+                roundTrips.incrementAndGet();
+                return succeeded().answer(invocation);
+            });
+
+            // When
+            try (final var perDocument = writer(properties(1, Long.MAX_VALUE, Duration.ofHours(1)))) {
+                IntStream.range(0, backlog).forEach(i -> perDocument.add(CategoryChange.upsert(aCategory(), ack)));
+            }
+            final var perDocumentRoundTrips = roundTrips.getAndSet(0);
+
+            try (final var bulk = writer(properties(1000, 5 * 1024 * 1024, Duration.ofHours(1)))) {
+                IntStream.range(0, backlog).forEach(i -> bulk.add(CategoryChange.upsert(aCategory(), ack)));
+            }
+            final var bulkRoundTrips = roundTrips.get();
+
+            // Then
+            assertEquals(backlog, perDocumentRoundTrips);
+            assertTrue(perDocumentRoundTrips >= 10 * bulkRoundTrips,
+                    "expected at least 10x fewer round trips, got %d vs %d".formatted(perDocumentRoundTrips, bulkRoundTrips));
+            verify(ack, times(2 * backlog)).acknowledge();
+        }
+    }
+
+    private static org.mockito.stubbing.Answer<BulkResult> succeeded() {
+        return invocation -> BulkResult.of(invocation.<List<Category>>getArgument(0).stream()
+                .map(aCategory -> BulkItem.succeeded(aCategory.id()))
+                .toList());
+    }
+
+    private CategoryBulkWriter writer(final CategoryBulkProperties properties) {
+        return writer(properties, retry(3, Duration.ofMillis(1)));
+    }
+
+    private CategoryBulkWriter writer(final CategoryBulkProperties properties, final CategoryRetryProperties retryProperties) {
+        return new CategoryBulkWriter(
+                categoryGateway,
+                properties,
+                retryProperties,
+                deadLetterPublisher,
+                new CategoryBackpressure(properties, relaxedBackpressure(), new SimpleMeterRegistry())
+        );
+    }
+
+    /**
+     * Never shrinks batches nor reports an overload, so thresholds stay as configured.
+     */
+    static CategoryBackpressureProperties relaxedBackpressure() {
+        final var properties = new CategoryBackpressureProperties();
+        properties.setTargetLatency(Duration.ofHours(1));
+        properties.setLatencyCeiling(Duration.ofHours(2));
+        properties.setMinActions(1);
+        properties.setMaxRejectionRate(1.1);
+        properties.setProbeInterval(Duration.ofMillis(250));
+        return properties;
+    }
+
+    private static CategoryRetryProperties retry(final int maxAttempts, final Duration initialInterval) {
+        final var properties = new CategoryRetryProperties();
+        properties.setMaxAttempts(maxAttempts);
+        properties.setInitialInterval(initialInterval);
+        properties.setMaxInterval(initialInterval.multipliedBy(10));
+        return properties;
+    }
+
+    private static CategoryBulkProperties properties(final int maxActions, final long maxBytes, final Duration linger) {
+        final var properties = new CategoryBulkProperties();
+        properties.setMaxActions(maxActions);
+        properties.setMaxBytes(maxBytes);
+        properties.setLinger(linger);
+        return properties;
+    }
+
+    private static Category aCategory() {
+        return aCategory(IdUtils.uuid(), "Aulas");
+    }
+
+    private static Category aCategory(final String anId, final String aName) {
+        return Category.with(
+                anId,
+                aName,
+                "Conteúdo gravado",
+                ActivationStatus.ACTIVE,
+                InstantUtils.now(),
+                InstantUtils.now()
+        );
+    }
+}
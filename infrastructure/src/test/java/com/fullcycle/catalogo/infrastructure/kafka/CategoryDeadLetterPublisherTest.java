@@ -0,0 +1,123 @@
+package com.fullcycle.catalogo.infrastructure.kafka;
+
+import com.fullcycle.catalogo.domain.category.ActivationStatus;
+import com.fullcycle.catalogo.domain.category.Category;
+import com.fullcycle.catalogo.domain.utils.IdUtils;
+import com.fullcycle.catalogo.domain.utils.InstantUtils;
+import com.fullcycle.catalogo.infrastructure.configuration.properties.CategoryRetryProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.Acknowledgment;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@Tag("unitTest")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+public class CategoryDeadLetterPublisherTest {
+
+    private static final String RETRY_TOPIC = "adm_videos_mysql.adm_videos.categories.retry";
+    private static final String DEAD_LETTER_TOPIC = "adm_videos_mysql.adm_videos.categories.dlt";
+
+    @Mock
+    private KafkaTemplate<String, String> kafkaTemplate;
+
+    @Mock
+    private Acknowledgment ack;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Nested
+    @DisplayName("Failed sends")
+    class FailedSends {
+
+        @Test
+        void Given_a_failed_send_When_publishes_Then_should_send_again_until_the_broker_has_it() throws Exception {
+            // Given
+            final var aChange = CategoryChange.upsert(aCategory(), ack);
+
+            doReturn(CompletableFuture.failedFuture(new IllegalStateException("Broker unavailable")))
+                    .doThrow(new IllegalStateException("Metadata not available"))
+                    .doReturn(CompletableFuture.completedFuture(null))
+                    .when(kafkaTemplate).send(anyString(), anyString(), anyString());
+
+            // When
+            final var actualFuture = publisher().publish(aChange, 5, "es_rejected_execution_exception");
+
+            // Then
+            actualFuture.get(5, TimeUnit.SECONDS);
+            verify(kafkaTemplate, times(3)).send(eq(DEAD_LETTER_TOPIC), eq(aChange.id()), anyString());
+        }
+    }
+
+    @Nested
+    @DisplayName("Pending sends")
+    class PendingSends {
+
+        @Test
+        void Given_as_many_sends_pending_as_allowed_When_publishes_Then_should_refuse_it_without_sending() {
+            // Given
+            final var aBrokerAck = new CompletableFuture<>();
+            final var aPending = CategoryChange.upsert(aCategory(), ack);
+            final var aRefused = CategoryChange.upsert(aCategory(), ack);
+
+            doReturn(aBrokerAck).when(kafkaTemplate).send(anyString(), anyString(), anyString());
+
+            final var publisher = publisher(1);
+            final var aPendingFuture = publisher.publish(aPending, 5, "es_rejected_execution_exception");
+
+            // When
+            final var actualFuture = publisher.publish(aRefused, 5, "es_rejected_execution_exception");
+
+            // Then
+            assertTrue(actualFuture.isCompletedExceptionally());
+            verify(kafkaTemplate, never()).send(anyString(), eq(aRefused.id()), anyString());
+            assertEquals(1, publisher.pendingSends());
+            assertEquals(1.0, meterRegistry.get("catalogo.cdc.categories.dead.letters.refused").counter().count());
+            assertEquals(1.0, meterRegistry.get("catalogo.cdc.categories.dead.letters.pending").gauge().value());
+
+            // When
+            aBrokerAck.complete(null);
+
+            // Then
+            assertTrue(aPendingFuture.isDone());
+            assertEquals(0, publisher.pendingSends());
+        }
+    }
+
+    private CategoryDeadLetterPublisher publisher() {
+        return publisher(100);
+    }
+
+    private CategoryDeadLetterPublisher publisher(final int maxPendingSends) {
+        final var properties = new CategoryRetryProperties();
+        properties.setMaxAttempts(5);
+        properties.setInitialInterval(Duration.ofMillis(1));
+        properties.setMaxInterval(Duration.ofMillis(10));
+        properties.setRetryTopic(RETRY_TOPIC);
+        properties.setDeadLetterTopic(DEAD_LETTER_TOPIC);
+        properties.setMaxPendingSends(maxPendingSends);
+        return new CategoryDeadLetterPublisher(kafkaTemplate, properties, meterRegistry);
+    }
+
+    private static Category aCategory() {
+        return Category.with(
+                IdUtils.uuid(),
+                "Aulas",
+                "Conteúdo gravado",
+                ActivationStatus.ACTIVE,
+                InstantUtils.now(),
+                InstantUtils.now()
+        );
+    }
+}
@@ -0,0 +1,273 @@
+package com.fullcycle.catalogo.infrastructure.kafka;
+
+import com.fullcycle.catalogo.domain.category.ActivationStatus;
+import com.fullcycle.catalogo.domain.category.Category;
+import com.fullcycle.catalogo.domain.category.Fixture;
+import org.junit.jupiter.api.*;
+import org.springframework.kafka.support.Acknowledgment;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+@Tag("unitTest")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+public class CategoryEnvelopeDecoderTest {
+
+    private final Acknowledgment ack = mock(Acknowledgment.class);
+
+    @Nested
+    @DisplayName("Decode upserts")
+    class DecodeUpserts {
+
+        @Test
+        void Given_a_create_envelope_When_decodes_Then_should_build_the_category() throws Exception {
+            // Given
+            final var aulas = Fixture.Categories.aulas();
+
+            // When
+            final var actualChange = CategoryEnvelopeDecoder.decode(bytes(DebeziumMessages.upsert("c", aulas)), ack);
+
+            // Then
+            assertFalse(actualChange.isDelete());
+            assertEquals(aulas.id(), actualChange.id());
+            assertSameCategory(aulas, actualChange.category());
+            assertEquals(List.of(ack), actualChange.acks());
+        }
+
+        @Test
+        void Given_an_update_envelope_When_decodes_Then_should_use_the_after_image() throws Exception {
+            // Given
+            final var talks = Fixture.Categories.talks();
+            final var aBefore = Category.with(
+                    talks.id(),
+                    "Old talks",
+                    null,
+                    ActivationStatus.ACTIVE,
+                    talks.createdAt(),
+                    talks.createdAt()
+            );
+
+            // When
+            final var actualChange = CategoryEnvelopeDecoder.decode(bytes(DebeziumMessages.update(aBefore, talks)), ack);
+
+            // Then
+            assertSameCategory(talks, actualChange.category());
+            assertEquals(ActivationStatus.INACTIVE, actualChange.category().activationStatus());
+            assertNotNull(actualChange.category().deletedAt());
+        }
+
+        @Test
+        void Given_an_envelope_without_schema_When_decodes_Then_should_build_the_category() throws Exception {
+            // Given
+            final var aMessage = """
+                    {"before":null,"after":{"id":"123","name":"Lives","description":null,"active":true,\
+                    "created_at":1694131200123456,"updated_at":1694131200999999,"deleted_at":null},\
+                    "source":{"connector":"mysql"},"op":"r","ts_ms":1694131200123}""";
+
+            // When
+            final var actualCategory = CategoryEnvelopeDecoder.decode(bytes(aMessage), ack).category();
+
+            // Then
+            assertEquals("123", actualCategory.id());
+            assertEquals("Lives", actualCategory.name());
+            assertNull(actualCategory.description());
+            assertEquals(ActivationStatus.ACTIVE, actualCategory.activationStatus());
+            assertEquals(Instant.parse("2023-09-08T00:00:00.123Z"), actualCategory.createdAt());
+            assertEquals(Instant.parse("2023-09-08T00:00:00.999Z"), actualCategory.updatedAt());
+            assertNull(actualCategory.deletedAt());
+        }
+    }
+
+    @Nested
+    @DisplayName("Decode timestamps")
+    class DecodeTimestamps {
+
+        private static final Instant EXPECTED_INSTANT = Instant.parse("2023-09-08T00:00:00.123Z");
+
+        @Test
+        void Given_a_timestamp_column_When_decodes_Then_should_read_epoch_millis() throws Exception {
+            // When
+            final var actualCategory = CategoryEnvelopeDecoder.decode(
+                    bytes(anEnvelopeOf("io.debezium.time.Timestamp", 1694131200123L)), ack).category();
+
+            // Then
+            assertEquals(EXPECTED_INSTANT, actualCategory.createdAt());
+        }
+
+        @Test
+        void Given_a_micro_timestamp_column_When_decodes_Then_should_read_epoch_micros() throws Exception {
+            // When
+            final var actualCategory = CategoryEnvelopeDecoder.decode(
+                    bytes(anEnvelopeOf("io.debezium.time.MicroTimestamp", 1694131200123456L)), ack).category();
+
+            // Then
+            assertEquals(EXPECTED_INSTANT, actualCategory.createdAt());
+        }
+
+        @Test
+        void Given_a_nano_timestamp_column_When_decodes_Then_should_read_epoch_nanos() throws Exception {
+            // When
+            final var actualCategory = CategoryEnvelopeDecoder.decode(
+                    bytes(anEnvelopeOf("io.debezium.time.NanoTimestamp", 1694131200123456789L)), ack).category();
+
+            // Then
+            assertEquals(EXPECTED_INSTANT, actualCategory.createdAt());
+        }
+
+        @Test
+        void Given_a_schema_after_the_payload_When_decodes_Then_should_still_use_its_logical_types() throws Exception {
+            // Given
+            final var aMessage = """
+                    {"payload":%s,"schema":%s}"""
+                    .formatted(aPayloadOf(1694131200123L), aSchemaOf("io.debezium.time.Timestamp"));
+
+            // When
+            final var actualCategory = CategoryEnvelopeDecoder.decode(bytes(aMessage), ack).category();
+
+            // Then
+            assertEquals(EXPECTED_INSTANT, actualCategory.createdAt());
+        }
+
+        @Test
+        void Given_a_number_without_timestamp_logical_type_When_decodes_Then_should_throw() {
+            // Given
+            final var aMessage = anEnvelopeOf("io.debezium.time.Date", 19608L);
+
+            // Then
+            assertThrows(IOException.class, () -> CategoryEnvelopeDecoder.decode(bytes(aMessage), ack));
+        }
+
+        private static String anEnvelopeOf(final String aLogicalType, final long aCreatedAt) {
+            return """
+                    {"schema":%s,"payload":%s}""".formatted(aSchemaOf(aLogicalType), aPayloadOf(aCreatedAt));
+        }
+
+        private static String aSchemaOf(final String aLogicalType) {
+            return """
+                    {"type":"struct","fields":[\
+                    {"type":"struct","fields":[{"type":"string","optional":false,"field":"id"},\
+                    {"type":"int64","optional":false,"name":"%1$s","version":1,"field":"created_at"},\
+                    {"type":"int64","optional":false,"name":"%1$s","version":1,"field":"updated_at"}],\
+                    "optional":true,"name":"adm_videos_mysql.adm_videos.categories.Value","field":"after"},\
+                    {"type":"string","optional":false,"field":"op"}],\
+                    "optional":false,"name":"adm_videos_mysql.adm_videos.categories.Envelope"}"""
+                    .formatted(aLogicalType);
+        }
+
+        private static String aPayloadOf(final long aCreatedAt) {
+            return """
+                    {"before":null,"after":{"id":"123","name":"Lives","description":null,"active":1,\
+                    "created_at":%1$d,"updated_at":%1$d,"deleted_at":null},"op":"c"}"""
+                    .formatted(aCreatedAt);
+        }
+    }
+
+    @Nested
+    @DisplayName("Decode deletes")
+    class DecodeDeletes {
+
+        @Test
+        void Given_a_delete_envelope_When_decodes_Then_should_use_the_before_id() throws Exception {
+            // Given
+            final var aulas = Fixture.Categories.aulas();
+
+            // When
+            final var actualChange = CategoryEnvelopeDecoder.decode(bytes(DebeziumMessages.delete(aulas)), ack);
+
+            // Then
+            assertTrue(actualChange.isDelete());
+            assertEquals(aulas.id(), actualChange.id());
+        }
+
+        @Test
+        void Given_a_tombstone_When_decodes_Then_should_return_null() throws Exception {
+            // When
+            final var actualChange = CategoryEnvelopeDecoder.decode(null, ack);
+
+            // Then
+            assertNull(actualChange);
+        }
+    }
+
+    @Nested
+    @DisplayName("Decode snapshots")
+    class DecodeSnapshots {
+
+        @Test
+        void Given_a_snapshot_envelope_When_decodes_snapshot_Then_should_build_the_category() throws Exception {
+            // Given
+            final var lives = Fixture.Categories.lives();
+
+            // When
+            final var actualChange = CategoryEnvelopeDecoder.decodeSnapshot(bytes(DebeziumMessages.upsert("r", lives)), ack);
+
+            // Then
+            assertEquals(lives.id(), actualChange.id());
+            assertSameCategory(lives, actualChange.category());
+        }
+
+        @Test
+        void Given_a_change_envelope_When_decodes_snapshot_Then_should_return_null() throws Exception {
+            // Given
+            final var lives = Fixture.Categories.lives();
+
+            // When
+            final var actualUpsert = CategoryEnvelopeDecoder.decodeSnapshot(bytes(DebeziumMessages.upsert("c", lives)), ack);
+            final var actualDelete = CategoryEnvelopeDecoder.decodeSnapshot(bytes(DebeziumMessages.delete(lives)), ack);
+
+            // Then
+            assertNull(actualUpsert);
+            assertNull(actualDelete);
+        }
+    }
+
+    @Test
+    void Given_malformed_json_When_decodes_Then_should_throw() {
+        assertThrows(Exception.class, () -> CategoryEnvelopeDecoder.decode(bytes("[1, 2"), ack));
+    }
+
+    @Test
+    void Given_an_envelope_without_its_row_image_When_decodes_Then_should_throw() {
+        // Given
+        final var aCreate = "{\"payload\":{\"before\":null,\"after\":null,\"op\":\"c\"}}";
+        final var aDelete = "{\"payload\":{\"before\":null,\"after\":null,\"op\":\"d\"}}";
+
+        // Then
+        assertThrows(IOException.class, () -> CategoryEnvelopeDecoder.decode(bytes(aCreate), ack));
+        assertThrows(IOException.class, () -> CategoryEnvelopeDecoder.decode(bytes(aDelete), ack));
+    }
+
+    @Test
+    void Given_a_row_without_its_active_flag_When_decodes_Then_should_throw() {
+        // Given
+        final var aMissing = """
+                {"before":null,"after":{"id":"123","name":"Lives","description":null,\
+                "created_at":1694131200123456,"updated_at":1694131200123456,"deleted_at":null},"op":"c"}""";
+        final var aNull = """
+                {"before":null,"after":{"id":"123","name":"Lives","description":null,"active":null,\
+                "created_at":1694131200123456,"updated_at":1694131200123456,"deleted_at":null},"op":"c"}""";
+
+        // Then
+        assertThrows(IOException.class, () -> CategoryEnvelopeDecoder.decode(bytes(aMissing), ack));
+        assertThrows(IOException.class, () -> CategoryEnvelopeDecoder.decode(bytes(aNull), ack));
+    }
+
+    private static byte[] bytes(final String aMessage) {
+        return aMessage.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static void assertSameCategory(final Category expected, final Category actual) {
+        assertEquals(expected.id(), actual.id());
+        assertEquals(expected.name(), actual.name());
+        assertEquals(expected.description(), actual.description());
+        assertEquals(expected.activationStatus(), actual.activationStatus());
+        assertEquals(expected.createdAt(), actual.createdAt());
+        assertEquals(expected.updatedAt(), actual.updatedAt());
+        assertEquals(expected.deletedAt(), actual.deletedAt());
+    }
+}
@@ -0,0 +1,211 @@
+package com.fullcycle.catalogo.infrastructure.kafka;
+
+import com.fullcycle.catalogo.domain.bulk.BulkItem;
+import com.fullcycle.catalogo.domain.bulk.BulkResult;
+import com.fullcycle.catalogo.domain.category.ActivationStatus;
+import com.fullcycle.catalogo.domain.category.Category;
+import com.fullcycle.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.catalogo.domain.utils.IdUtils;
+import com.fullcycle.catalogo.domain.utils.InstantUtils;
+import com.fullcycle.catalogo.infrastructure.configuration.properties.CategoryBulkProperties;
+import com.fullcycle.catalogo.infrastructure.configuration.properties.CategoryLanesProperties;
+import com.fullcycle.catalogo.infrastructure.configuration.properties.CategoryRetryProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@Tag("unitTest")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+public class CategoryLanesTest {
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @Mock
+    private CategoryDeadLetterPublisher deadLetterPublisher;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void Given_many_updates_to_the_same_id_When_dispatched_Then_should_index_them_in_order() throws InterruptedException {
+        // Given
+        final var updates = 500;
+        final var anId = IdUtils.uuid();
+        final var indexed = Collections.synchronizedList(new ArrayList<Instant>());
+        final var acked = new CountDownLatch(updates);
+
+        when(categoryGateway.saveAll(anyList())).thenAnswer(invocation -> {
+            final List<Category> categories = invocation.getArgument(0);
+            categories.forEach(it -> indexed.add(it.updatedAt()));
+            return succeeded(categories);
+        });
+
+        try (final var lanes = new CategoryLanes(categoryGateway, deadLetterPublisher, backpressure(bulk(50)), bulk(50), retry(), lanes(4), meterRegistry)) {
+            // When
+            final var start = Instant.parse("2023-09-08T00:00:00Z");
+            for (int i = 0; i < updates; i++) {
+                lanes.dispatch(CategoryChange.upsert(aCategory(anId, start.plusMillis(i)), acked::countDown), 0L);
+            }
+
+            // Then
+            assertTrue(acked.await(10, TimeUnit.SECONDS));
+            for (int i = 1; i < indexed.size(); i++) {
+                assertTrue(indexed.get(i - 1).isBefore(indexed.get(i)), "update %d was indexed out of order".formatted(i));
+            }
+            assertEquals(updates, indexed.get(indexed.size() - 1).toEpochMilli() - start.toEpochMilli() + 1);
+            assertEquals((double) (updates - indexed.size()) / updates, meterRegistry.get("catalogo.cdc.categories.coalescing.ratio")
+                    .gauge()
+                    .value());
+        }
+    }
+
+    @Test
+    void Given_a_slow_id_When_dispatched_with_independent_ids_Then_should_not_hold_them_back() throws InterruptedException {
+        // Given
+        final var lanes = lanes(4);
+        final var aSlowId = IdUtils.uuid();
+        final var slowLane = Math.floorMod(aSlowId.hashCode(), lanes.getCount());
+        final var release = new CountDownLatch(1);
+        final var indexedIds = ConcurrentHashMap.<String>newKeySet();
+        final var othersAcked = new CountDownLatch(lanes.getCount() - 1);
+
+        when(categoryGateway.saveAll(anyList())).thenAnswer(invocation -> {
+            final List<Category> categories = invocation.getArgument(0);
+            if (categories.stream().anyMatch(it -> it.id().equals(aSlowId))) {
+                release.await(10, TimeUnit.SECONDS);
+            }
+            categories.forEach(it -> indexedIds.add(it.id()));
+            return succeeded(categories);
+        });
+
+        try (final var categoryLanes = new CategoryLanes(categoryGateway, deadLetterPublisher, backpressure(bulk(1)), bulk(1), retry(), lanes, meterRegistry)) {
+            // When
+            categoryLanes.dispatch(CategoryChange.upsert(aCategory(aSlowId, InstantUtils.now()), () -> {
+            }), 0L);
+            for (final var anId : idsOutsideLane(slowLane, lanes.getCount())) {
+                categoryLanes.dispatch(CategoryChange.upsert(aCategory(anId, InstantUtils.now()), othersAcked::countDown), 0L);
+            }
+
+            // Then
+            assertTrue(othersAcked.await(5, TimeUnit.SECONDS));
+            assertFalse(indexedIds.contains(aSlowId));
+            assertTrue(categoryLanes.activeLanes() >= 1);
+            assertEquals(1.0, meterRegistry.get("catalogo.cdc.categories.lane.occupancy")
+                    .tag("lane", String.valueOf(slowLane))
+                    .gauge()
+                    .value());
+            release.countDown();
+        }
+    }
+
+    @Test
+    void Given_a_pending_batch_When_linger_elapses_Then_the_lane_should_flush_it() throws InterruptedException {
+        // Given
+        final var acked = new CountDownLatch(3);
+        when(categoryGateway.saveAll(anyList())).thenAnswer(invocation -> succeeded(invocation.getArgument(0)));
+
+        try (final var lanes = new CategoryLanes(categoryGateway, deadLetterPublisher, backpressure(bulk(1000)), bulk(1000), retry(), lanes(1), meterRegistry)) {
+            // When
+            for (int i = 0; i < 3; i++) {
+                lanes.dispatch(CategoryChange.upsert(aCategory(IdUtils.uuid(), InstantUtils.now()), acked::countDown), 0L);
+            }
+
+            // Then
+            assertTrue(acked.await(1, TimeUnit.SECONDS));
+            assertEquals(3, meterRegistry.get("catalogo.cdc.categories.lag").timer().count());
+        }
+    }
+
+    @Test
+    void Given_a_change_When_dispatched_Then_should_write_it_from_a_virtual_thread() throws InterruptedException {
+        // Given
+        final var acked = new CountDownLatch(1);
+        final var writerThreads = ConcurrentHashMap.<Thread>newKeySet();
+        when(categoryGateway.saveAll(anyList())).thenAnswer(invocation -> {
+            writerThreads.add(Thread.currentThread());
+            return succeeded(invocation.getArgument(0));
+        });
+
+        try (final var lanes = new CategoryLanes(categoryGateway, deadLetterPublisher, backpressure(bulk(1)), bulk(1), retry(), lanes(1), meterRegistry)) {
+            // When
+            lanes.dispatch(CategoryChange.upsert(aCategory(IdUtils.uuid(), InstantUtils.now()), acked::countDown), 0L);
+
+            // Then
+            assertTrue(acked.await(5, TimeUnit.SECONDS));
+            final var aThread = writerThreads.iterator().next();
+            assertTrue(aThread.isVirtual());
+            assertTrue(aThread.getName().startsWith("category-lane-"));
+        }
+    }
+
+    private static List<String> idsOutsideLane(final int aLane, final int laneCount) {
+        final Map<Integer, String> idsByLane = new ConcurrentHashMap<>();
+        while (idsByLane.size() < laneCount - 1) {
+            final var anId = IdUtils.uuid();
+            final var lane = Math.floorMod(anId.hashCode(), laneCount);
+            if (lane != aLane) {
+                idsByLane.putIfAbsent(lane, anId);
+            }
+        }
+        return List.copyOf(idsByLane.values());
+    }
+
+    private static BulkResult succeeded(final List<Category> categories) {
+        return BulkResult.of(categories.stream().map(it -> BulkItem.succeeded(it.id())).toList());
+    }
+
+    private static CategoryBulkProperties bulk(final int maxActions) {
+        final var properties = new CategoryBulkProperties();
+        properties.setMaxActions(maxActions);
+        properties.setMaxBytes(Long.MAX_VALUE);
+        properties.setLinger(Duration.ofMillis(20));
+        return properties;
+    }
+
+    private CategoryBackpressure backpressure(final CategoryBulkProperties properties) {
+        return new CategoryBackpressure(properties, CategoryBulkWriterTest.relaxedBackpressure(), meterRegistry);
+    }
+
+    private static CategoryRetryProperties retry() {
+        final var properties = new CategoryRetryProperties();
+        properties.setMaxAttempts(3);
+        properties.setInitialInterval(Duration.ofMillis(10));
+        properties.setMaxInterval(Duration.ofMillis(100));
+        return properties;
+    }
+
+    private static CategoryLanesProperties lanes(final int count) {
+        final var properties = new CategoryLanesProperties();
+        properties.setCount(count);
+        properties.setCapacity(1000);
+        return properties;
+    }
+
+    private static Category aCategory(final String anId, final Instant anUpdatedAt) {
+        return Category.with(
+                anId,
+                "Aulas",
+                "Conteúdo gravado",
+                ActivationStatus.ACTIVE,
+                anUpdatedAt,
+                anUpdatedAt
+        );
+    }
+}
@@ -0,0 +1,203 @@
+package com.fullcycle.catalogo.infrastructure.kafka;
+
+import com.fullcycle.catalogo.AbstractEmbeddedKafkaTest;
+import com.fullcycle.catalogo.domain.bulk.BulkItem;
+import com.fullcycle.catalogo.domain.bulk.BulkResult;
+import com.fullcycle.catalogo.domain.category.Category;
+import com.fullcycle.catalogo.domain.category.CategoryGateway;
+import com.fullcycle.catalogo.domain.category.Fixture;
+import com.fullcycle.catalogo.domain.utils.IdUtils;
+import com.fullcycle.catalogo.domain.utils.InstantUtils;
+import com.fullcycle.catalogo.domain.validation.Error;
+import com.fullcycle.catalogo.infrastructure.configuration.json.Json;
+import com.fullcycle.catalogo.infrastructure.kafka.models.CategoryDeadLetter;
+import org.junit.jupiter.api.*;
+import org.springframework.boot.test.mock.mockito.MockBean;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+public class CategoryListenerTest extends AbstractEmbeddedKafkaTest {
+
+    @MockBean
+    private CategoryGateway categoryGateway;
+
+    @Test
+    void Given_a_catch_up_backlog_When_consumes_debezium_events_Then_should_index_them_in_bulk() throws Exception {
+        // Given
+        final var backlog = 2_000;
+        final var indexed = Collections.synchronizedList(new ArrayList<Category>());
+        final var roundTrips = new AtomicInteger();
+        final var latch = new CountDownLatch(backlog);
+
+        when(categoryGateway.saveAll(anyList())).thenAnswer(invocation -> {
+            final List<Category> categories = invocation.getArgument(0);
+            roundTrips.incrementAndGet();
+            indexed.addAll(categories);
+            categories.forEach(it -> latch.countDown());
+            return BulkResult.of(categories.stream().map(it -> BulkItem.succeeded(it.id())).toList());
+        });
+
+        final var aulas = Fixture.Categories.aulas();
+        final var sentIds = new ArrayList<String>(backlog);
+
+        // When
+        producer.send(CATEGORY_TOPIC, aulas.id(), DebeziumMessages.upsert("c", aulas));
+        sentIds.add(aulas.id());
+        for (int i = 1; i < backlog; i++) {
+            final var aCategory = aSnapshotRow(Fixture.Categories.lives());
+            producer.send(CATEGORY_TOPIC, aCategory.id(), DebeziumMessages.upsert("r", aCategory));
+            sentIds.add(aCategory.id());
+        }
+        producer.flush();
+
+        // Then
+        assertTrue(latch.await(30, TimeUnit.SECONDS));
+        assertTrue(backlog >= 10 * roundTrips.get(),
+                "expected at least 10x fewer round trips than documents, got %d".formatted(roundTrips.get()));
+
+        // Lanes index different ids in parallel, only the order per id is kept
+        final var actualIds = indexed.stream().map(Category::id).collect(Collectors.toSet());
+        assertTrue(actualIds.containsAll(new HashSet<>(sentIds)));
+
+        final var actualAulas = indexed.stream()
+                .filter(it -> it.id().equals(aulas.id()))
+                .findFirst()
+                .orElseThrow();
+        assertEquals(aulas.id(), actualAulas.id());
+        assertEquals(aulas.name(), actualAulas.name());
+        assertEquals(aulas.description(), actualAulas.description());
+        assertEquals(aulas.activationStatus(), actualAulas.activationStatus());
+        assertEquals(aulas.createdAt().truncatedTo(ChronoUnit.MILLIS), actualAulas.createdAt());
+        assertEquals(aulas.updatedAt().truncatedTo(ChronoUnit.MILLIS), actualAulas.updatedAt());
+    }
+
+    @Test
+    void Given_a_delete_event_and_its_tombstone_When_consumes_them_Then_should_delete_in_bulk() {
+        // Given
+        final var talks = Fixture.Categories.talks();
+
+        when(categoryGateway.deleteAllById(anyList())).thenAnswer(invocation -> BulkResult.of(
+                invocation.<List<String>>getArgument(0).stream().map(BulkItem::succeeded).toList()));
+
+        // When
+        producer.send(CATEGORY_TOPIC, talks.id(), DebeziumMessages.delete(talks));
+        producer.send(CATEGORY_TOPIC, talks.id(), null);
+        producer.flush();
+
+        // Then
+        verify(categoryGateway, timeout(10_000).times(1)).deleteAllById(List.of(talks.id()));
+    }
+
+    @Test
+    void Given_an_undecodable_message_When_consumes_it_Then_should_dead_letter_it_and_move_on() {
+        // Given
+        final var lives = Fixture.Categories.lives();
+        final var expectedPayload = "{\"payload\":{\"before\":null,\"after\":null,\"op\":\"c\"}}";
+
+        when(categoryGateway.saveAll(anyList())).thenAnswer(invocation -> BulkResult.of(
+                invocation.<List<Category>>getArgument(0).stream().map(it -> BulkItem.succeeded(it.id())).toList()));
+
+        // When
+        producer.send(CATEGORY_TOPIC, "an-invalid-id", expectedPayload);
+        producer.send(CATEGORY_TOPIC, lives.id(), DebeziumMessages.upsert("c", lives));
+        producer.flush();
+
+        // Then
+        final var actualRecord = nextDeadLetter();
+        final var actualDeadLetter = Json.readValue(actualRecord.value(), CategoryDeadLetter.class);
+        assertEquals("an-invalid-id", actualRecord.key());
+        assertEquals("undecodable", actualDeadLetter.action());
+        assertEquals(expectedPayload, actualDeadLetter.payload());
+        assertTrue(actualDeadLetter.source().startsWith(CATEGORY_TOPIC + "-0@"));
+        assertNotNull(actualDeadLetter.reason());
+        verify(categoryGateway, timeout(10_000)).saveAll(argThat(categories ->
+                categories.stream().anyMatch(it -> it.id().equals(lives.id()))));
+    }
+
+    @Test
+    void Given_a_change_elasticsearch_rejected_When_consumes_it_Then_should_index_it_again_from_the_retry_topic() throws Exception {
+        // Given
+        final var aulas = Fixture.Categories.aulas();
+        final var attempts = new AtomicInteger();
+        final var latch = new CountDownLatch(1);
+
+        when(categoryGateway.saveAll(anyList())).thenAnswer(invocation -> {
+            final List<Category> categories = invocation.getArgument(0);
+            if (attempts.getAndIncrement() == 0) {
+                return BulkResult.of(categories.stream()
+                        .map(it -> BulkItem.rejected(it.id(), new Error("es_rejected_execution_exception")))
+                        .toList());
+            }
+            latch.countDown();
+            return BulkResult.of(categories.stream().map(it -> BulkItem.succeeded(it.id())).toList());
+        });
+
+        // When
+        producer.send(CATEGORY_TOPIC, aulas.id(), DebeziumMessages.upsert("c", aulas));
+        producer.flush();
+
+        // Then
+        assertTrue(latch.await(30, TimeUnit.SECONDS));
+        assertEquals(2, attempts.get());
+        verify(categoryGateway, times(2)).saveAll(argThat(categories ->
+                categories.size() == 1 && categories.get(0).name().equals(aulas.name())));
+    }
+
+    @Test
+    void Given_a_retry_not_due_yet_When_consumes_it_Then_should_index_it_once_due() throws Exception {
+        // Given
+        final var lives = Fixture.Categories.lives();
+        final var aRetryAt = InstantUtils.now().plusSeconds(2);
+        final var indexedAt = new ArrayList<Instant>();
+        final var latch = new CountDownLatch(1);
+
+        when(categoryGateway.saveAll(anyList())).thenAnswer(invocation -> {
+            final List<Category> categories = invocation.getArgument(0);
+            indexedAt.add(InstantUtils.now());
+            latch.countDown();
+            return BulkResult.of(categories.stream().map(it -> BulkItem.succeeded(it.id())).toList());
+        });
+
+        // When
+        final var aRetry = CategoryDeadLetter.retry(
+                CategoryChange.upsert(lives, () -> {}), 2, "es_rejected_execution_exception", aRetryAt);
+        producer.send(RETRY_TOPIC, lives.id(), Json.writeValueAsString(aRetry));
+        producer.flush();
+
+        // Then
+        assertTrue(latch.await(30, TimeUnit.SECONDS));
+        assertFalse(indexedAt.get(0).isBefore(aRetryAt));
+    }
+
+    /**
+     * Snapshot rows have distinct ids; repeating one id would be coalesced away.
+     */
+    private static Category aSnapshotRow(final Category aCategory) {
+        return Category.with(
+                IdUtils.uuid(),
+                aCategory.name(),
+                aCategory.description(),
+                aCategory.activationStatus(),
+                aCategory.createdAt(),
+                aCategory.updatedAt()
+        );
+    }
+}
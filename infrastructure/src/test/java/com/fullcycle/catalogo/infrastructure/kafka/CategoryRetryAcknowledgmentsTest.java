@@ -0,0 +1,94 @@
+package com.fullcycle.catalogo.infrastructure.kafka;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.support.Acknowledgment;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@Tag("unitTest")
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+public class CategoryRetryAcknowledgmentsTest {
+
+    private static final String RETRY_TOPIC = "categories-retry";
+
+    @Mock
+    private Acknowledgment first;
+
+    @Mock
+    private Acknowledgment second;
+
+    @Mock
+    private Acknowledgment third;
+
+    @Test
+    void Given_retries_acknowledged_out_of_order_When_the_earliest_is_done_Then_should_pass_on_only_the_last_contiguous_ack() {
+        // Given
+        final var acks = new CategoryRetryAcknowledgments();
+        final var aFirst = acks.track(aRecord(0, 10), first);
+        final var aSecond = acks.track(aRecord(0, 11), second);
+        final var aThird = acks.track(aRecord(0, 12), third);
+
+        // When
+        aThird.acknowledge();
+        aSecond.acknowledge();
+
+        // Then
+        verifyNoInteractions(first, second, third);
+        assertEquals(3, acks.pendingCount());
+
+        // When
+        aFirst.acknowledge();
+
+        // Then
+        verify(third).acknowledge();
+        verifyNoInteractions(first, second);
+        assertEquals(0, acks.pendingCount());
+    }
+
+    @Test
+    void Given_retries_of_two_partitions_When_one_is_done_Then_should_not_wait_for_the_other_partition() {
+        // Given
+        final var acks = new CategoryRetryAcknowledgments();
+        acks.track(aRecord(0, 10), first);
+        final var aSecond = acks.track(aRecord(1, 3), second);
+
+        // When
+        aSecond.acknowledge();
+
+        // Then
+        verify(second).acknowledge();
+        verifyNoInteractions(first);
+        assertEquals(1, acks.pendingCount());
+    }
+
+    @Test
+    void Given_a_revoked_partition_When_its_retries_are_done_Then_should_not_acknowledge_them() {
+        // Given
+        final var acks = new CategoryRetryAcknowledgments();
+        final var aFirst = acks.track(aRecord(0, 10), first);
+
+        // When
+        acks.revoke(List.of(new TopicPartition(RETRY_TOPIC, 0)));
+        aFirst.acknowledge();
+
+        // Then
+        verifyNoInteractions(first);
+        assertEquals(0, acks.pendingCount());
+    }
+
+    private static ConsumerRecord<String, byte[]> aRecord(final int aPartition, final long anOffset) {
+        return new ConsumerRecord<>(RETRY_TOPIC, aPartition, anOffset, "key", new byte[0]);
+    }
+}
@@ -0,0 +1,71 @@
+package com.fullcycle.catalogo.infrastructure.kafka;
+
+import com.fullcycle.catalogo.domain.category.ActivationStatus;
+import com.fullcycle.catalogo.domain.category.Category;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Builds Debezium MySQL envelopes for the Admin {@code categories} table, as
+ * produced by the Kafka Connect JsonConverter with schemas enabled.
+ */
+public final class DebeziumMessages {
+
+    private static final String SCHEMA = """
+            {"type":"struct","fields":[\
+            {"type":"struct","fields":[{"type":"string","optional":false,"field":"id"},\
+            {"type":"string","optional":false,"field":"name"},{"type":"string","optional":true,"field":"description"},\
+            {"type":"int16","optional":false,"field":"active"},\
+            {"type":"int64","optional":false,"name":"io.debezium.time.MicroTimestamp","version":1,"field":"created_at"},\
+            {"type":"int64","optional":false,"name":"io.debezium.time.MicroTimestamp","version":1,"field":"updated_at"},\
+            {"type":"int64","optional":true,"name":"io.debezium.time.MicroTimestamp","version":1,"field":"deleted_at"}],\
+            "optional":true,"name":"adm_videos_mysql.adm_videos.categories.Value","field":"before"},\
+            {"type":"struct","fields":[],"optional":true,"name":"adm_videos_mysql.adm_videos.categories.Value","field":"after"},\
+            {"type":"string","optional":false,"field":"op"},{"type":"int64","optional":true,"field":"ts_ms"}],\
+            "optional":false,"name":"adm_videos_mysql.adm_videos.categories.Envelope"}""";
+
+    private static final String SOURCE = """
+            {"version":"1.2.2.Final","connector":"mysql","name":"adm_videos_mysql","ts_ms":1694131200000,\
+            "snapshot":"false","db":"adm_videos","table":"categories","server_id":1,"gtid":null,\
+            "file":"mysql-bin.000003","pos":1543,"row":0,"thread":12,"query":null}""";
+
+    private DebeziumMessages() {
+    }
+
+    public static String upsert(final String anOp, final Category aCategory) {
+        return envelope("null", row(aCategory), anOp);
+    }
+
+    public static String update(final Category aBefore, final Category anAfter) {
+        return envelope(row(aBefore), row(anAfter), "u");
+    }
+
+    public static String delete(final Category aCategory) {
+        return envelope(row(aCategory), "null", "d");
+    }
+
+    private static String envelope(final String aBefore, final String anAfter, final String anOp) {
+        return """
+                {"schema":%s,"payload":{"before":%s,"after":%s,"source":%s,"op":"%s","ts_ms":1694131200123,"transaction":null}}"""
+                .formatted(SCHEMA, aBefore, anAfter, SOURCE, anOp);
+    }
+
+    private static String row(final Category aCategory) {
+        return """
+                {"id":"%s","name":"%s","description":%s,"active":%d,"created_at":%d,"updated_at":%d,"deleted_at":%s}"""
+                .formatted(
+                        aCategory.id(),
+                        aCategory.name(),
+                        aCategory.description() != null ? "\"" + aCategory.description() + "\"" : "null",
+                        ActivationStatus.ACTIVE.equals(aCategory.activationStatus()) ? 1 : 0,
+                        micros(aCategory.createdAt()),
+                        micros(aCategory.updatedAt()),
+                        aCategory.deletedAt() != null ? String.valueOf(micros(aCategory.deletedAt())) : "null"
+                );
+    }
+
+    private static long micros(final Instant anInstant) {
+        return ChronoUnit.MICROS.between(Instant.EPOCH, anInstant);
+    }
+}